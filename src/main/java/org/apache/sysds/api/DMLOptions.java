@@ -61,6 +61,7 @@ public class DMLOptions {
 	public ExecMode             execMode      = OptimizerUtils.getDefaultExecutionMode();  // Execution mode standalone, MR, Spark or a hybrid
 	public boolean              gpu           = false;            // Whether to use the GPU
 	public boolean              forceGPU      = false;            // Whether to ignore memory & estimates and always use the GPU
+	public boolean              ooc           = false;            // Whether to stream larger-than-memory operations out-of-core
 	public boolean              debug         = false;            // to go into debug mode to be able to step through a program
 	public String               filePath      = null;             // path to script
 	public String               script        = null;             // the script itself
@@ -105,6 +106,7 @@ public class DMLOptions {
 			", execMode=" + execMode +
 			", gpu=" + gpu +
 			", forceGPU=" + forceGPU +
+			", ooc=" + ooc +
 			", debug=" + debug +
 			", filePath='" + filePath + '\'' +
 			", script='" + script + '\'' +
@@ -180,6 +182,7 @@ public class DMLOptions {
 				}
 			}
 		}
+		dmlOptions.ooc = line.hasOption("ooc");
 		if (line.hasOption("exec")){
 			String execMode = line.getOptionValue("exec");
 			if (execMode != null){
@@ -349,6 +352,9 @@ public class DMLOptions {
 		Option gpuOpt = OptionBuilder.withArgName("force")
 			.withDescription("uses CUDA instructions when reasonable; set <force> option to skip conservative memory estimates and use GPU wherever possible; default off")
 			.hasOptionalArg().create("gpu");
+		Option oocOpt = OptionBuilder
+			.withDescription("executes operations on larger-than-memory binary-block inputs out-of-core (streamed in row panels) instead of spark; default off")
+			.create("ooc");
 		Option debugOpt = OptionBuilder.withDescription("runs in debug mode; default off")
 			.create("debug");
 		Option pythonOpt = OptionBuilder
@@ -401,6 +407,7 @@ public class DMLOptions {
 		options.addOption(explainOpt);
 		options.addOption(execOpt);
 		options.addOption(gpuOpt);
+		options.addOption(oocOpt);
 		options.addOption(debugOpt);
 		options.addOption(lineageOpt);
 		options.addOption(fedOpt);
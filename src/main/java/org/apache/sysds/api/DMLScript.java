@@ -63,6 +63,7 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
 import org.apache.sysds.runtime.codegen.CodegenUtils;
 import org.apache.sysds.runtime.controlprogram.Program;
+import org.apache.sysds.runtime.controlprogram.caching.AsyncWriteManager;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContextFactory;
@@ -78,6 +79,8 @@ import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.LineageCachePolicy;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineagePersistentCache;
+import org.apache.sysds.runtime.matrix.data.LibMatrixSIMD;
 import org.apache.sysds.runtime.privacy.CheckedConstraintsLog;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.HDFSTool;
@@ -141,6 +144,8 @@ public class DMLScript
 	// Set accelerator
 	public static boolean           USE_ACCELERATOR      = DMLOptions.defaultOptions.gpu;
 	public static boolean           FORCE_ACCELERATOR    = DMLOptions.defaultOptions.forceGPU;
+	// Set out-of-core execution of larger-than-memory operations
+	public static boolean           USE_OOC              = DMLOptions.defaultOptions.ooc;
 	// Enable synchronizing GPU after every instruction
 	public static boolean           SYNCHRONIZE_GPU      = true;
 	// Enable eager CUDA free on rmvar
@@ -261,6 +266,7 @@ public class DMLScript
 			JMLC_MEM_STATISTICS   = dmlOptions.memStats;
 			USE_ACCELERATOR       = dmlOptions.gpu;
 			FORCE_ACCELERATOR     = dmlOptions.forceGPU;
+			USE_OOC               = dmlOptions.ooc;
 			EXPLAIN               = dmlOptions.explainType;
 			EXEC_MODE             = dmlOptions.execMode;
 			LINEAGE               = dmlOptions.lineage;
@@ -432,6 +438,10 @@ public class DMLScript
 		
 		//Step 1: parse configuration files & write any configuration specific global variables
 		loadConfiguration(fnameOptConfig);
+		
+		//load reusable entries of the persistent lineage cache (if configured)
+		if( LINEAGE && LINEAGE_REUSE != null && LINEAGE_REUSE.isFullReuse() )
+			LineagePersistentCache.init();
 
 		//Step 2: configure codegen
 		configureCodeGen();
@@ -504,6 +514,7 @@ public class DMLScript
 		GPUContextPool.AVAILABLE_GPUS = dmlconf.getTextValue(DMLConfig.AVAILABLE_GPUS);
 		DMLScript.STATISTICS_MAX_WRAP_LEN = dmlconf.getIntValue(DMLConfig.STATS_MAX_WRAP_LEN);
 		NativeHelper.initialize(dmlconf.getTextValue(DMLConfig.NATIVE_BLAS_DIR), dmlconf.getTextValue(DMLConfig.NATIVE_BLAS).trim());
+		LibMatrixSIMD.setEnabled(dmlconf.getBooleanValue(DMLConfig.CP_SIMD_KERNELS));
 		DMLScript.SYNCHRONIZE_GPU = dmlconf.getBooleanValue(DMLConfig.SYNCHRONIZE_GPU);
 		DMLScript.EAGER_CUDA_FREE = dmlconf.getBooleanValue(DMLConfig.EAGER_CUDA_FREE);
 		DMLScript.PRINT_GPU_MEMORY_INFO = dmlconf.getBooleanValue(DMLConfig.PRINT_GPU_MEMORY_INFO);
@@ -571,6 +582,7 @@ public class DMLScript
 		
 		//0) shutdown prefetch/broadcast thread pool if necessary
 		CommonThreadPool.shutdownAsyncRDDPool();
+		AsyncWriteManager.shutdown();
 
 		//1) cleanup scratch space (everything for current uuid)
 		//(required otherwise export to hdfs would skip assumed unnecessary writes if same name)
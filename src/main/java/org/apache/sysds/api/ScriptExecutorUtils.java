@@ -22,12 +22,15 @@ package org.apache.sysds.api;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.api.mlcontext.ScriptExecutor;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.hops.codegen.SpoofCompiler;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.Program;
+import org.apache.sysds.runtime.controlprogram.caching.AsyncWriteManager;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.cp.Data;
@@ -39,6 +42,7 @@ import org.apache.sysds.runtime.lineage.LineageGPUCacheEviction;
 import org.apache.sysds.utils.Statistics;
 
 public class ScriptExecutorUtils {
+	private static final Log LOG = LogFactory.getLog(ScriptExecutorUtils.class.getName());
 
 	/**
 	 * Execute the runtime program. This involves execution of the program
@@ -75,6 +79,8 @@ public class ScriptExecutorUtils {
 	 */
 	public static void executeRuntimeProgram(Program rtprog, ExecutionContext ec, DMLConfig dmlconf, int statisticsMaxHeavyHitters, Set<String> outputVariables) {
 		Statistics.startRunTimer();
+		Throwable err = null;
+		RuntimeException writeErr = null;
 		try {
 			// run execute (w/ exception handling to ensure proper shutdown)
 			if (DMLScript.USE_ACCELERATOR && ec != null) {
@@ -88,8 +94,20 @@ public class ScriptExecutorUtils {
 			}
 			rtprog.execute(ec);
 		} catch (Throwable e) {
+			err = e;
 			throw e;
 		} finally { // ensure cleanup/shutdown
+			// barrier for pending asynchronous writes (w/o masking prior failures)
+			try {
+				AsyncWriteManager.waitForAllWrites();
+			}
+			catch(RuntimeException ex) {
+				LOG.error("Failed pending asynchronous writes.", ex);
+				if( err != null )
+					err.addSuppressed(ex);
+				else
+					writeErr = ex;
+			}
 			if (DMLScript.USE_ACCELERATOR && !ec.getGPUContexts().isEmpty()) {
 				// -----------------------------------------------------------------
 				// The below code pulls the output variables on the GPU to the host. This is required especially when:
@@ -128,6 +146,8 @@ public class ScriptExecutorUtils {
 			if (DMLScript.LINEAGE_ESTIMATE)
 				System.out.println(LineageEstimatorStatistics.displayLineageEstimates());
 		}
+		if( writeErr != null )
+			throw writeErr;
 	}
 
 }
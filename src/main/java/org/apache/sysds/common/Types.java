@@ -38,7 +38,7 @@ public class Types
 	/**
 	 * Execution type of individual operations.
 	 */
-	public enum ExecType { CP, CP_FILE, SPARK, GPU, FED, INVALID }
+	public enum ExecType { CP, CP_FILE, SPARK, GPU, FED, OOC, INVALID }
 
 	/**
 	 * Data types (tensor, matrix, scalar, frame, object, unknown).
@@ -632,7 +632,9 @@ public class Types
 		BINARY, // binary block representation (dense/sparse/ultra-sparse)
 		FEDERATED, // A federated matrix
 		PROTO,  // protocol buffer representation
-		HDF5; // Hierarchical Data Format (HDF)
+		HDF5,   // Hierarchical Data Format (HDF)
+		PARQUET, // Apache Parquet columnar representation
+		ARROW;  // Apache Arrow IPC file representation (Feather v2)
 		
 		public boolean isIJV() {
 			return this == TEXT || this == MM;
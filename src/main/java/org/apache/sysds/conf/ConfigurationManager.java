@@ -248,6 +248,10 @@ public class ConfigurationManager{
 		return getDMLConfig().getBooleanValue(DMLConfig.USE_SSL_FEDERATED_COMMUNICATION);
 	}
 	
+	public static boolean isFederatedBinaryCodec(){
+		return getDMLConfig().getTextValue(DMLConfig.FEDERATED_CODEC).equalsIgnoreCase("binary");
+	}
+
 	public static boolean isFederatedReadCacheEnabled(){
 		return getDMLConfig().getBooleanValue(DMLConfig.FEDERATED_READCACHE);
 	}
@@ -275,6 +279,19 @@ public class ConfigurationManager{
 			|| OptimizerUtils.ASYNC_CHECKPOINT_SPARK);
 	}
 
+	public static boolean isCSVSinglePassReadEnabled() {
+		return getDMLConfig().getBooleanValue(DMLConfig.CP_CSV_SINGLEPASS);
+	}
+
+	public static boolean isParForWorkStealingEnabled() {
+		return getDMLConfig().getBooleanValue(DMLConfig.PARFOR_WORK_STEALING);
+	}
+
+	public static boolean isAsyncWriteEnabled() {
+		return (getDMLConfig().getBooleanValue(DMLConfig.ASYNC_WRITE)
+			|| OptimizerUtils.ASYNC_WRITE_CP);
+	}
+
 	public static ILinearize.DagLinearization getLinearizationOrder() {
 		if (OptimizerUtils.MAX_PARALLELIZE_ORDER)
 			return ILinearize.DagLinearization.MAX_PARALLELIZE;
@@ -70,12 +70,19 @@ public class DMLConfig
 	public static final String DEFAULT_BLOCK_SIZE   = "sysds.defaultblocksize";
 	public static final String CP_PARALLEL_OPS      = "sysds.cp.parallel.ops";
 	public static final String CP_PARALLEL_IO       = "sysds.cp.parallel.io";
+	public static final String CP_BINARY_CODEC      = "sysds.cp.binary.codec"; // string: block codec of binary writes (none, auto, lz4, snappy, zstd, deflate, fp64xor)
+	public static final String CP_BINARY_MMAP       = "sysds.cp.binary.mmap"; // boolean: block index and memory-mapped reads of local binary-block files
+	public static final String CP_CSV_SINGLEPASS    = "sysds.cp.csv.singlepass"; // boolean: single-pass byte-range reads of csv matrices (w/o quoted fields)
+	public static final String CP_HDF5_CHUNK_SIZE   = "sysds.cp.hdf5.chunksize"; // int: approx. chunk size in bytes of hdf5 writes (0 for contiguous datasets)
+	public static final String CP_HDF5_DEFLATE      = "sysds.cp.hdf5.deflate"; // int: deflate level (with byte shuffle) of chunked hdf5 writes (0 for uncompressed chunks)
+	public static final String CP_SIMD_KERNELS      = "sysds.cp.simd"; // boolean: enable Vector API kernels for dense ops (JDK 17+)
 	public static final String PARALLEL_ENCODE      = "sysds.parallel.encode";  // boolean: enable multi-threaded transformencode and apply
 	public static final String PARALLEL_ENCODE_STAGED = "sysds.parallel.encode.staged";
 	public static final String PARALLEL_ENCODE_APPLY_BLOCKS = "sysds.parallel.encode.applyBlocks";
 	public static final String PARALLEL_ENCODE_BUILD_BLOCKS = "sysds.parallel.encode.buildBlocks";
 	public static final String PARALLEL_ENCODE_NUM_THREADS  = "sysds.parallel.encode.numThreads";
 	public static final String PARALLEL_TOKENIZE = "sysds.parallel.tokenize";
+	public static final String PARFOR_WORK_STEALING = "sysds.parfor.workstealing"; // boolean: per-worker task deques with work stealing in local parfor
 	public static final String PARALLEL_TOKENIZE_NUM_BLOCKS = "sysds.parallel.tokenize.numBlocks";
 	public static final String COMPRESSED_LINALG    = "sysds.compressed.linalg";
 	public static final String COMPRESSED_LOSSY     = "sysds.compressed.lossy";
@@ -87,6 +94,7 @@ public class DMLConfig
 	public static final String COMPRESSED_COST_MODEL= "sysds.compressed.costmodel";
 	public static final String COMPRESSED_TRANSPOSE = "sysds.compressed.transpose";
 	public static final String COMPRESSED_TRANSFORMENCODE = "sysds.compressed.transformencode";
+	public static final String COMPRESSED_ONREAD = "sysds.compressed.onread"; // boolean: compress binary-block and csv matrices while reading
 	public static final String NATIVE_BLAS          = "sysds.native.blas";
 	public static final String NATIVE_BLAS_DIR      = "sysds.native.blas.directory";
 	public static final String DAG_LINEARIZATION    = "sysds.compile.linearization";
@@ -105,6 +113,9 @@ public class DMLConfig
 	public static final String LOCAL_SPARK_NUM_THREADS = "sysds.local.spark.number.threads"; // the number of threads allowed to be used in the local spark configuration, default is * to enable use of all threads.
 	public static final String LINEAGECACHESPILL    = "sysds.lineage.cachespill"; // boolean: whether to spill cache entries to disk
 	public static final String COMPILERASSISTED_RW  = "sysds.lineage.compilerassisted"; // boolean: whether to apply compiler assisted rewrites
+	public static final String LINEAGECACHE_PERSISTDIR = "sysds.lineage.persistdir"; // string: directory of the persistent lineage cache (none to disable)
+	public static final String LINEAGECACHE_PERSISTBUDGET = "sysds.lineage.persistbudget"; // double: size budget of the persistent lineage cache in MB
+	public static final String IOGEN_CACHEDIR       = "sysds.iogen.cachedir"; // string: directory of persisted generated reader properties (none to disable)
 	public static final String BUFFERPOOL_LIMIT     = "sysds.caching.bufferpoollimit"; // max buffer pool size in percentage
 	public static final String MEMORY_MANAGER       = "sysds.caching.memorymanager"; // static or unified memory manager
 	
@@ -123,6 +134,7 @@ public class DMLConfig
 	public static final String FEDERATED_PAR_INST = "sysds.federated.par_inst";
 	public static final String FEDERATED_PAR_CONN = "sysds.federated.par_conn";
 	public static final String FEDERATED_READCACHE = "sysds.federated.readcache";
+	public static final String FEDERATED_CODEC = "sysds.federated.codec"; // binary or java
 	public static final String PRIVACY_CONSTRAINT_MOCK = "sysds.federated.priv_mock";
 	/** Trigger frequency of the collecting and parsing statistics process on registered workers for monitoring in seconds */
 	public static final String FEDERATED_MONITOR_FREQUENCY = "sysds.federated.monitorFreq";
@@ -132,6 +144,7 @@ public class DMLConfig
 	public static final String ASYNC_SPARK_PREFETCH = "sysds.async.prefetch";  // boolean: enable asynchronous prefetching spark intermediates
 	public static final String ASYNC_SPARK_BROADCAST = "sysds.async.broadcast";  // boolean: enable asynchronous broadcasting CP intermediates
 	public static final String ASYNC_SPARK_CHECKPOINT = "sysds.async.checkpoint";  // boolean: enable asynchronous persisting of Spark intermediates
+	public static final String ASYNC_WRITE = "sysds.async.write";  // boolean: enable asynchronous persistent writes of CP matrices and frames
 	//internal config
 	public static final String DEFAULT_SHARED_DIR_PERMISSION = "777"; //for local fs and DFS
 	
@@ -152,8 +165,15 @@ public class DMLConfig
 		_defaultVals.put(DEFAULT_BLOCK_SIZE,     String.valueOf(OptimizerUtils.DEFAULT_BLOCKSIZE) );
 		_defaultVals.put(CP_PARALLEL_OPS,        "true" );
 		_defaultVals.put(CP_PARALLEL_IO,         "true" );
+		_defaultVals.put(CP_BINARY_CODEC,        "none" );
+		_defaultVals.put(CP_BINARY_MMAP,         "false" );
+		_defaultVals.put(CP_CSV_SINGLEPASS,      "false" );
+		_defaultVals.put(CP_HDF5_CHUNK_SIZE,     "0" );
+		_defaultVals.put(CP_HDF5_DEFLATE,        "0" );
+		_defaultVals.put(CP_SIMD_KERNELS,        "false" );
 		_defaultVals.put(PARALLEL_TOKENIZE,      "false");
 		_defaultVals.put(PARALLEL_TOKENIZE_NUM_BLOCKS, "64");
+		_defaultVals.put(PARFOR_WORK_STEALING,   "false" );
 		_defaultVals.put(PARALLEL_ENCODE,        "true" );
 		_defaultVals.put(PARALLEL_ENCODE_STAGED, "false" );
 		_defaultVals.put(PARALLEL_ENCODE_APPLY_BLOCKS, "-1");
@@ -169,6 +189,7 @@ public class DMLConfig
 		_defaultVals.put(COMPRESSED_COST_MODEL,  "AUTO");
 		_defaultVals.put(COMPRESSED_TRANSPOSE,   "auto");
 		_defaultVals.put(COMPRESSED_TRANSFORMENCODE, "false");
+		_defaultVals.put(COMPRESSED_ONREAD,      "false");
 		_defaultVals.put(DAG_LINEARIZATION,      DagLinearization.DEPTH_FIRST.name());
 		_defaultVals.put(CODEGEN,                "false" );
 		_defaultVals.put(CODEGEN_API,            GeneratorAPI.JAVA.name() );
@@ -180,6 +201,9 @@ public class DMLConfig
 		_defaultVals.put(NATIVE_BLAS_DIR,        "none" );
 		_defaultVals.put(LINEAGECACHESPILL,      "true" );
 		_defaultVals.put(COMPILERASSISTED_RW,    "true" );
+		_defaultVals.put(LINEAGECACHE_PERSISTDIR, "none" );
+		_defaultVals.put(LINEAGECACHE_PERSISTBUDGET, "4096" );
+		_defaultVals.put(IOGEN_CACHEDIR,         "none" );
 		_defaultVals.put(BUFFERPOOL_LIMIT,       "15"); // % of total heap
 		_defaultVals.put(MEMORY_MANAGER,         "static"); // static/unified partitioning of heap
 		_defaultVals.put(PRINT_GPU_MEMORY_INFO,  "false" );
@@ -201,11 +225,13 @@ public class DMLConfig
 		_defaultVals.put(FEDERATED_PAR_CONN,     "-1"); // vcores
 		_defaultVals.put(FEDERATED_PAR_INST,     "-1"); // vcores
 		_defaultVals.put(FEDERATED_READCACHE,    "true"); // vcores
+		_defaultVals.put(FEDERATED_CODEC,        "java");
 		_defaultVals.put(FEDERATED_MONITOR_FREQUENCY, "3");
 		_defaultVals.put(PRIVACY_CONSTRAINT_MOCK, null);
 		_defaultVals.put(ASYNC_SPARK_PREFETCH,   "false" );
 		_defaultVals.put(ASYNC_SPARK_BROADCAST,  "false" );
 		_defaultVals.put(ASYNC_SPARK_CHECKPOINT,  "false" );
+		_defaultVals.put(ASYNC_WRITE,            "false" );
 	}
 	
 	public DMLConfig() {
@@ -449,17 +475,18 @@ public class DMLConfig
 	public String getConfigInfo()  {
 		String[] tmpConfig = new String[] { 
 			LOCAL_TMP_DIR,SCRATCH_SPACE,OPTIMIZATION_LEVEL, DEFAULT_BLOCK_SIZE,
-			CP_PARALLEL_OPS, CP_PARALLEL_IO, PARALLEL_ENCODE, NATIVE_BLAS, NATIVE_BLAS_DIR,
+			CP_PARALLEL_OPS, CP_PARALLEL_IO, CP_BINARY_CODEC, CP_BINARY_MMAP, CP_CSV_SINGLEPASS, CP_HDF5_CHUNK_SIZE, CP_HDF5_DEFLATE, CP_SIMD_KERNELS, PARALLEL_ENCODE, PARFOR_WORK_STEALING, NATIVE_BLAS, NATIVE_BLAS_DIR,
 			COMPRESSED_LINALG, COMPRESSED_LOSSY, COMPRESSED_VALID_COMPRESSIONS, COMPRESSED_OVERLAPPING,
 			COMPRESSED_SAMPLING_RATIO, COMPRESSED_SOFT_REFERENCE_COUNT,
-			COMPRESSED_COCODE, COMPRESSED_TRANSPOSE, COMPRESSED_TRANSFORMENCODE, DAG_LINEARIZATION,
+			COMPRESSED_COCODE, COMPRESSED_TRANSPOSE, COMPRESSED_TRANSFORMENCODE, COMPRESSED_ONREAD, DAG_LINEARIZATION,
 			CODEGEN, CODEGEN_API, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
-			STATS_MAX_WRAP_LEN, LINEAGECACHESPILL, COMPILERASSISTED_RW, BUFFERPOOL_LIMIT, MEMORY_MANAGER,
+			STATS_MAX_WRAP_LEN, LINEAGECACHESPILL, COMPILERASSISTED_RW, LINEAGECACHE_PERSISTDIR, LINEAGECACHE_PERSISTBUDGET,
+			IOGEN_CACHEDIR, BUFFERPOOL_LIMIT, MEMORY_MANAGER,
 			PRINT_GPU_MEMORY_INFO, AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, FLOATING_POINT_PRECISION,
 			GPU_EVICTION_POLICY, LOCAL_SPARK_NUM_THREADS, EVICTION_SHADOW_BUFFERSIZE, GPU_MEMORY_ALLOCATOR,
 			GPU_MEMORY_UTILIZATION_FACTOR, USE_SSL_FEDERATED_COMMUNICATION, DEFAULT_FEDERATED_INITIALIZATION_TIMEOUT,
-			FEDERATED_TIMEOUT, FEDERATED_MONITOR_FREQUENCY, ASYNC_SPARK_PREFETCH, ASYNC_SPARK_BROADCAST,
-			ASYNC_SPARK_CHECKPOINT
+			FEDERATED_TIMEOUT, FEDERATED_CODEC, FEDERATED_MONITOR_FREQUENCY, ASYNC_SPARK_PREFETCH, ASYNC_SPARK_BROADCAST,
+			ASYNC_SPARK_CHECKPOINT, ASYNC_WRITE
 		}; 
 		
 		StringBuilder sb = new StringBuilder();
@@ -155,6 +155,24 @@ public class AggBinaryOp extends MultiThreadedHop {
 		}
 	}
 	
+	@Override
+	public boolean isOOCEnabled() {
+		if( !isMatrixMultiply() || !dimsKnown() )
+			return false;
+		Hop input1 = getInput().get(0);
+		Hop input2 = getInput().get(1);
+		if( checkTransposeSelf() == MMTSJType.LEFT ) {
+			//t(X)%*%X: streamed X w/ in-memory output and partial result
+			return isOOCStreamable(input2, 2 * getOutputMemEstimate());
+		}
+		else if( !HopRewriteUtils.isTransposeOperation(input1) && input2.dimsKnown() ) {
+			//X%*%Y: streamed X w/ in-memory Y and streamed output
+			return isOOCStreamable(input1, input2.getOutputMemEstimate()
+				+ OptimizerUtils.estimateSizeExactSparsity(input1.getBlocksize(), getDim2(), 1.0));
+		}
+		return false;
+	}
+
 	/**
 	 * NOTE: overestimated mem in case of transpose-identity matmult, but 3/2 at worst
 	 *       and existing mem estimate advantageous in terms of consistency hops/lops,
@@ -209,6 +227,21 @@ public class AggBinaryOp extends MultiThreadedHop {
 						throw new HopsException(this.printErrorLocation() + "Invalid Matrix Mult Method (" + _method + ") while constructing CP lops.");
 				}
 			}
+			else if( et == ExecType.OOC )
+			{
+				//matrix mult operation selection part 3 (OOC type)
+				_method = (mmtsj == MMTSJType.LEFT) ? MMultMethod.TSMM : MMultMethod.MM;
+				if( _method == MMultMethod.TSMM )
+					constructCPLopsTSMM( mmtsj, et );
+				else {
+					int k = OptimizerUtils.getConstrainedNumThreads(_maxNumThreads);
+					Lop matmult = new MatMultCP(input1.constructLops(), input2.constructLops(),
+						getDataType(), getValueType(), et, k);
+					setOutputDimensions(matmult);
+					setLineNumbers(matmult);
+					setLops(matmult);
+				}
+			}
 			else if( et == ExecType.SPARK ) 
 			{
 				//matrix mult operation selection part 3 (SPARK type)
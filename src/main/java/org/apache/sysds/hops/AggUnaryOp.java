@@ -122,13 +122,13 @@ public class AggUnaryOp extends MultiThreadedHop
 			ExecType et = optFindExecType();
 			Hop input = getInput().get(0);
 			
-			if ( et == ExecType.CP || et == ExecType.GPU || et == ExecType.FED )
+			if ( et == ExecType.CP || et == ExecType.GPU || et == ExecType.FED || et == ExecType.OOC )
 			{
 				Lop agg1 = null; 
-				if( isTernaryAggregateRewriteApplicable() ) {
+				if( et != ExecType.OOC && isTernaryAggregateRewriteApplicable() ) {
 					agg1 = constructLopsTernaryAggregateRewrite(et);
 				}
-				else if( et != ExecType.FED && isUnaryAggregateOuterCPRewriteApplicable() )
+				else if( et != ExecType.FED && et != ExecType.OOC && isUnaryAggregateOuterCPRewriteApplicable() )
 				{
 					BinaryOp binput = (BinaryOp)getInput().get(0);
 					agg1 = new UAggOuterChain( binput.getInput().get(0).constructLops(), 
@@ -493,6 +493,16 @@ public class AggUnaryOp extends MultiThreadedHop
 	public boolean isMultiThreadedOpType() {
 		return true;
 	}
+
+	@Override
+	public boolean isOOCEnabled() {
+		if( !(_op == AggOp.SUM || _op == AggOp.SUM_SQ || _op == AggOp.MIN || _op == AggOp.MAX || _op == AggOp.MEAN)
+			|| !(_direction == Direction.RowCol || _direction == Direction.Row || _direction == Direction.Col)
+			|| isTernaryAggregateRewriteApplicable() || isUnaryAggregateOuterCPRewriteApplicable() )
+			return false;
+		//streamed input w/ in-memory output and partial aggregates
+		return isOOCStreamable(getInput().get(0), 2 * getOutputMemEstimate());
+	}
 	
 	/**
 	 * This will check if there is sufficient memory locally (twice the size of second matrix, for original and sort data), and remotely (size of second matrix (sorted data)).  
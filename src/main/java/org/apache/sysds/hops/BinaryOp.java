@@ -184,6 +184,24 @@ public class BinaryOp extends MultiThreadedHop {
 			}
 		}
 	}
+
+	@Override
+	public boolean isOOCEnabled() {
+		DataType dt1 = getInput().get(0).getDataType();
+		DataType dt2 = getInput().get(1).getDataType();
+		if( !getDataType().isMatrix() || !(dt1.isMatrix() && dt2.isScalar() || dt1.isScalar() && dt2.isMatrix()) )
+			return false;
+		switch(op) {
+			case PLUS:case MINUS:case MULT:case DIV:case POW:
+			case MIN:case MAX:
+			case LESS:case LESSEQUAL:case GREATER:case GREATEREQUAL:
+			case EQUAL:case NOTEQUAL:
+				//cellwise matrix-scalar operation w/ streamed output
+				return isOOCStreamable(getInput().get(dt1.isMatrix() ? 0 : 1), 0);
+			default:
+				return false;
+		}
+	}
 	
 	@Override
 	public boolean isMultiThreadedOpType() {
@@ -280,6 +280,12 @@ public abstract class Hop implements ParseInfo {
 				if(_etypeForced != ExecType.CP && _etypeForced != ExecType.GPU)
 					_etypeForced = ExecType.CP;
 			}
+			else if(OptimizerUtils.isMemoryBasedOptLevel() && DMLScript.USE_OOC && isOOCEnabled()) {
+				// enabled with -exec singlenode -ooc option
+				_etypeForced = findExecTypeByMemEstimate();
+				if(_etypeForced != ExecType.CP && _etypeForced != ExecType.OOC)
+					_etypeForced = ExecType.CP;
+			}
 			else {
 				// enabled with -exec singlenode option
 				_etypeForced = ExecType.CP;
@@ -908,7 +914,9 @@ public abstract class Hop implements ParseInfo {
 				et = ExecType.CP;
 		}
 		else {
-			if( DMLScript.getGlobalExecMode() == ExecMode.HYBRID )
+			if( DMLScript.USE_OOC && isOOCEnabled() )
+				et = ExecType.OOC;
+			else if( DMLScript.getGlobalExecMode() == ExecMode.HYBRID )
 				et = ExecType.SPARK;
 			
 			c = '*';
@@ -1075,6 +1083,37 @@ public abstract class Hop implements ParseInfo {
 	 */
 	public abstract boolean isGPUEnabled();
 
+	/**
+	 * In memory-based optimizer mode (see OptimizerUtils.isMemoryBasedOptLevel()), the exectype
+	 * is determined by checking this method as well as memory budget. If the memory estimate
+	 * exceeds the local memory budget and this method returns true, the operation is executed
+	 * out-of-core (with -ooc option) by streaming the large input in row panels.
+	 * 
+	 * The default is false, and hops that support OOC execution override this method
+	 * to check their specific operations and the memory requirements of the panels.
+	 * 
+	 * @return true if the Hop is eligible for OOC Exectype.
+	 */
+	public boolean isOOCEnabled() {
+		return false;
+	}
+
+	/**
+	 * Checks if the given matrix input can be streamed out-of-core in row panels of
+	 * its blocksize, i.e., if its dimensions are known and the panels in flight plus
+	 * the given additional memory (e.g., small side inputs and outputs) fit into the
+	 * local memory budget.
+	 * 
+	 * @param input matrix input
+	 * @param memAdd additional memory in bytes
+	 * @return true if the input is streamable
+	 */
+	protected static boolean isOOCStreamable(Hop input, double memAdd) {
+		return input.getDataType().isMatrix() && input.dimsKnown() && input.getBlocksize() > 0
+			&& OptimizerUtils.estimateSizeOOCPanels(input.getDim2(), input.getBlocksize(),
+				OptimizerUtils.getSparsity(input)) + memAdd < OptimizerUtils.getLocalMemBudget();
+	}
+
 	/**
 	 * Computes the hop-specific output memory estimate in bytes. Should be 0 if not
 	 * applicable. 
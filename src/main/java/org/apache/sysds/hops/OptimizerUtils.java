@@ -93,6 +93,10 @@ public class OptimizerUtils
 	/** Default blocksize if unspecified or for testing purposes */
 	public static final int DEFAULT_BLOCKSIZE = 1000;
 	
+	/** Number of row panels concurrently in memory during out-of-core operations
+	 * (read, prefetched, processed, and output panel) */
+	public static final int OOC_NUM_PANELS = 4;
+	
 	/** Default frame blocksize */
 	public static final int DEFAULT_FRAME_BLOCKSIZE = 1000;
 	
@@ -293,6 +297,13 @@ public class OptimizerUtils
 	public static boolean ASYNC_BROADCAST_SPARK = false;
 	public static boolean ASYNC_CHECKPOINT_SPARK = false;
 
+	/**
+	 * Enable asynchronous (write-behind) persistent writes of CP matrices and frames,
+	 * which overlaps the write with subsequent instructions until the next read of
+	 * the written file or the end of the program.
+	 */
+	public static boolean ASYNC_WRITE_CP = false;
+
 	/**
 	 * Heuristic-based instruction ordering to maximize inter-operator parallelism.
 	 * Place the Spark operator chains first and trigger them to execute in parallel.
@@ -792,6 +803,21 @@ public class OptimizerUtils
 		return MatrixBlock.estimateSizeInMemory(nrows,ncols,sp);
 	}
 
+	/**
+	 * Estimates the footprint (in bytes) of the row panels that are concurrently
+	 * in memory when streaming a matrix with ncols columns out-of-core, where each
+	 * panel holds blen rows (see OOC_NUM_PANELS).
+	 * 
+	 * @param ncols number of cols
+	 * @param blen number of rows per panel
+	 * @param sp sparsity
+	 * @return memory footprint
+	 */
+	public static long estimateSizeOOCPanels(long ncols, long blen, double sp) 
+	{
+		return OOC_NUM_PANELS * estimateSizeExactSparsity(blen, ncols, sp);
+	}
+
 	/**
 	 * Estimates the footprint (in bytes) for a partitioned in-memory representation of a
 	 * matrix with the given matrix characteristics
@@ -117,6 +117,22 @@ public class UnaryOp extends MultiThreadedHop
 			return false;
 		}
 	}
+
+	@Override
+	public boolean isOOCEnabled() {
+		if( !getDataType().isMatrix() )
+			return false;
+		switch(_op) {
+			case EXP:case SQRT:case LOG:case ABS:
+			case ROUND:case FLOOR:case CEIL:
+			case SIN:case COS:case TAN:
+			case SIGN:case SIGMOID:
+				//cellwise operation w/ streamed output
+				return isOOCStreamable(getInput().get(0), 0);
+			default:
+				return false;
+		}
+	}
 	
 	@Override
 	public boolean isMultiThreadedOpType() {
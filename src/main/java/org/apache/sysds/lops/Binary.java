@@ -107,7 +107,7 @@ public class Binary extends Lop
 			getInputs().get(1).prepInputOperand(input2),
 			prepOutputOperand(output));
 
-		if ( getExecType() == ExecType.CP )
+		if ( getExecType() == ExecType.CP || getExecType() == ExecType.OOC )
 			ret = InstructionUtils.concatOperands(ret, String.valueOf(_numThreads));
 		else if( getExecType() == ExecType.FED )
 			ret = InstructionUtils.concatOperands(ret, String.valueOf(_numThreads), _fedOutput.name());
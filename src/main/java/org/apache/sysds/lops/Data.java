@@ -447,6 +447,12 @@ public class Data extends Lop
 				sb.append( createVarHDF5Helper() );
 			}
 
+			// Format-specific properties
+			if ( oparams.getFormat() == FileFormat.PARQUET ) {
+				sb.append(OPERAND_DELIMITOR);
+				sb.append( createVarParquetHelper() );
+			}
+
 			// Frame-specific properties
 			if( getDataType()==DataType.FRAME ) {
 				Data schema = (Data) getNamedInputLop(DataExpression.SCHEMAPARAM);
@@ -579,4 +585,14 @@ public class Data extends Lop
 		}
 		return sb.toString();
 	}
+
+	private String createVarParquetHelper() {
+		Data columnsLop = _op.isRead() ? (Data) getNamedInputLop(DataExpression.PARQUET_COLUMNS) : null;
+		if( columnsLop == null )
+			return "*";
+		if( columnsLop.isVariable() )
+			throw new LopsException(
+				this.printErrorLocation() + "Parameter " + DataExpression.PARQUET_COLUMNS + " must be a literal for a seq operation.");
+		return columnsLop.getStringValue();
+	}
 }
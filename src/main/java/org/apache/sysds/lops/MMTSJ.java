@@ -93,7 +93,7 @@ public class MMTSJ extends Lop
 		sb.append( _type );
 		
 		//append degree of parallelism for matrix multiplications
-		if( getExecType()==ExecType.CP || getExecType()==ExecType.FED ) {
+		if( getExecType()==ExecType.CP || getExecType()==ExecType.FED || getExecType()==ExecType.OOC ) {
 			sb.append( OPERAND_DELIMITOR );
 			sb.append( _numThreads );
 			if ( getExecType()==ExecType.FED ){
@@ -229,7 +229,7 @@ public class PartialAggregate extends Lop
 
 		if ( getExecType() == ExecType.SPARK )
 			ret = InstructionUtils.concatOperands(ret, _aggtype.name());
-		else if ( getExecType() == ExecType.CP || getExecType() == ExecType.FED ){
+		else if ( getExecType() == ExecType.CP || getExecType() == ExecType.FED || getExecType() == ExecType.OOC ){
 			ret = InstructionUtils.concatOperands(ret, Integer.toString(_numThreads));
 			if ( getOpcode().equalsIgnoreCase("uarimin") || getOpcode().equalsIgnoreCase("uarimax") )
 				ret = InstructionUtils.concatOperands(ret, "1");
@@ -165,7 +165,7 @@ public class Unary extends Lop
 		sb.append(OPERAND_DELIMITOR);
 		sb.append(prepOutputOperand(output));
 
-		if(getExecType() == ExecType.CP || getExecType() == ExecType.FED) {
+		if(getExecType() == ExecType.CP || getExecType() == ExecType.FED || getExecType() == ExecType.OOC) {
 			sb.append(OPERAND_DELIMITOR);
 			sb.append(_numThreads);
 			if(isMultiThreadedOp(operation)) {
@@ -203,7 +203,7 @@ public class Unary extends Lop
 		sb.append( OPERAND_DELIMITOR );
 		sb.append( prepOutputOperand(output));
 		
-		if( getExecType() == ExecType.CP  || getExecType() == ExecType.FED ) {
+		if( getExecType() == ExecType.CP  || getExecType() == ExecType.FED || getExecType() == ExecType.OOC ) {
 			sb.append( OPERAND_DELIMITOR );
 			sb.append(_numThreads);
 		}
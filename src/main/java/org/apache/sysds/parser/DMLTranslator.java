@@ -1060,6 +1060,8 @@ public class DMLTranslator
 						case CSV:
 						case LIBSVM:
 						case HDF5:
+						case PARQUET:
+						case ARROW:
 							// write output in textcell format
 							ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), -1);
 							break;
@@ -100,6 +100,7 @@ public class DataExpression extends DataIdentifier
 	public static final String AUTHORPARAM = "author";
 	public static final String SCHEMAPARAM = "schema";
 	public static final String CREATEDPARAM = "created";
+	public static final String CODECPARAM = "codec";
 
 	public static final String PRIVACY = "privacy";
 	public static final String FINE_GRAINED_PRIVACY = "fine_grained_privacy";
@@ -117,6 +118,9 @@ public class DataExpression extends DataIdentifier
 
 	// Parameter names relevant to reading/writing dataset name/hdf5 files
 	public static final String HDF5_DATASET_NAME = "dataset";
+
+	// Parameter names relevant to reading parquet files (comma-separated column projection)
+	public static final String PARQUET_COLUMNS = "columns";
 	
 	public static final String DELIM_SPARSE = "sparse";  // applicable only for write
 	
@@ -140,7 +144,7 @@ public class DataExpression extends DataIdentifier
 	public static final Set<String> READ_VALID_MTD_PARAM_NAMES =new HashSet<>(
 		Arrays.asList(IO_FILENAME, READROWPARAM, READCOLPARAM, READNNZPARAM,
 			FORMAT_TYPE, ROWBLOCKCOUNTPARAM, COLUMNBLOCKCOUNTPARAM, DATATYPEPARAM,
-			VALUETYPEPARAM, SCHEMAPARAM, DESCRIPTIONPARAM, AUTHORPARAM, CREATEDPARAM,
+			VALUETYPEPARAM, SCHEMAPARAM, DESCRIPTIONPARAM, AUTHORPARAM, CREATEDPARAM, CODECPARAM,
 			// Parameters related to delimited/csv files.
 			DELIM_FILL_VALUE, DELIM_DELIMITER, DELIM_FILL, DELIM_HAS_HEADER_ROW, DELIM_NA_STRINGS,
 			// Parameters related to delimited/libsvm files.
@@ -159,7 +163,9 @@ public class DataExpression extends DataIdentifier
 			// Parameters related to delimited/libsvm files.
 			LIBSVM_INDEX_DELIM,
 			//Parameters related to dataset name/HDF4 files.
-			HDF5_DATASET_NAME));
+			HDF5_DATASET_NAME,
+			// Parameters related to column projection of parquet files.
+			PARQUET_COLUMNS));
 	
 	/* Default Values for delimited (CSV/LIBSVM) files */
 	public static final String  DEFAULT_DELIM_DELIMITER = ",";
@@ -1165,6 +1171,22 @@ public class DataExpression extends DataIdentifier
 			}
 			
 			boolean isHDF5 = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.HDF5.toString()));
+			boolean isParquet = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.PARQUET.toString()));
+			boolean isArrow = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.ARROW.toString()));
+
+			// column projection of parquet files: the number of columns, nnz, and
+			// frame schema of the meta data file refer to all columns
+			if( isParquet && getVarParam(PARQUET_COLUMNS) instanceof StringIdentifier ) {
+				String cols = getVarParam(PARQUET_COLUMNS).toString().trim();
+				if( !cols.isEmpty() && !cols.equals("*") ) {
+					addVarParam(READCOLPARAM, new IntIdentifier(cols.split(",").length, this));
+					removeVarParam(READNNZPARAM, SCHEMAPARAM);
+				}
+			}
+			else if( getVarParam(PARQUET_COLUMNS) != null ) {
+				raiseValidateError("Parameter " + PARQUET_COLUMNS + " is only supported as string literal for format="
+					+ FileFormat.PARQUET.toString().toLowerCase() + ".", conditional, LanguageErrorCodes.INVALID_PARAMETERS);
+			}
 
 			dataTypeString = (getVarParam(DATATYPEPARAM) == null) ? null : getVarParam(DATATYPEPARAM).toString();
 			
@@ -1192,7 +1214,7 @@ public class DataExpression extends DataIdentifier
 				// initialize size of target data identifier to UNKNOWN
 				getOutput().setDimensions(-1, -1);
 				
-				if (!isCSV && !isLIBSVM && !isHDF5 && ConfigurationManager.getCompilerConfig()
+				if (!isCSV && !isLIBSVM && !isHDF5 && !isParquet && !isArrow && ConfigurationManager.getCompilerConfig()
 						.getBool(ConfigType.REJECT_READ_WRITE_UNKNOWNS) //skip check for csv/libsvm format / jmlc api
 					&& (getVarParam(READROWPARAM) == null || getVarParam(READCOLPARAM) == null) ) {
 						raiseValidateError("Missing or incomplete dimension information in read statement: "
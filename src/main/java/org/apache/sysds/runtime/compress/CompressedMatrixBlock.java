@@ -47,13 +47,16 @@ import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
 import org.apache.sysds.runtime.compress.lib.CLALibAppend;
 import org.apache.sysds.runtime.compress.lib.CLALibBinaryCellOp;
 import org.apache.sysds.runtime.compress.lib.CLALibCMOps;
+import org.apache.sysds.runtime.compress.lib.CLALibCTable;
 import org.apache.sysds.runtime.compress.lib.CLALibCompAgg;
 import org.apache.sysds.runtime.compress.lib.CLALibDecompress;
 import org.apache.sysds.runtime.compress.lib.CLALibMMChain;
 import org.apache.sysds.runtime.compress.lib.CLALibMatrixMult;
 import org.apache.sysds.runtime.compress.lib.CLALibRexpand;
+import org.apache.sysds.runtime.compress.lib.CLALibRowUpdate;
 import org.apache.sysds.runtime.compress.lib.CLALibScalar;
 import org.apache.sysds.runtime.compress.lib.CLALibSlice;
+import org.apache.sysds.runtime.compress.lib.CLALibSort;
 import org.apache.sysds.runtime.compress.lib.CLALibSquash;
 import org.apache.sysds.runtime.compress.lib.CLALibTSMM;
 import org.apache.sysds.runtime.compress.lib.CLALibUnary;
@@ -63,6 +66,7 @@ import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyze
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseRow;
+import org.apache.sysds.runtime.functionobjects.IfElse;
 import org.apache.sysds.runtime.functionobjects.MinusMultiply;
 import org.apache.sysds.runtime.functionobjects.PlusMultiply;
 import org.apache.sysds.runtime.functionobjects.TernaryValueFunction.ValueFunctionWithConstant;
@@ -113,6 +117,12 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	 */
 	protected transient SoftReference<MatrixBlock> decompressedVersion;
 
+	/**
+	 * The compression ratio obtained when this block was compressed, used as baseline to decide on recompression after
+	 * incremental updates. NaN if unknown.
+	 */
+	protected transient double compressionRatio = Double.NaN;
+
 	public CompressedMatrixBlock() {
 		super(true);
 		sparse = false;
@@ -471,8 +481,10 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	public MatrixBlock append(MatrixBlock[] that, MatrixBlock ret, boolean cbind) {
 		if(cbind && that.length == 1)
 			return CLALibAppend.append(this, that[0], InfrastructureAnalyzer.getLocalParallelism());
+		else if(!cbind)
+			return CLALibRowUpdate.rbind(this, that, InfrastructureAnalyzer.getLocalParallelism());
 		else {
-			MatrixBlock left = getUncompressed("append list or r-bind not supported in compressed");
+			MatrixBlock left = getUncompressed("append list not supported in compressed");
 			MatrixBlock[] thatUC = new MatrixBlock[that.length];
 			for(int i = 0; i < that.length; i++)
 				thatUC[i] = getUncompressed(that[i]);
@@ -596,6 +608,24 @@ public class CompressedMatrixBlock extends MatrixBlock {
 		overlappingColGroups = overlapping;
 	}
 
+	/**
+	 * Get the compression ratio obtained when this block was compressed.
+	 * 
+	 * @return The compression ratio or NaN if unknown
+	 */
+	public double getCompressionRatio() {
+		return compressionRatio;
+	}
+
+	/**
+	 * Set the compression ratio obtained when this block was compressed.
+	 * 
+	 * @param ratio The compression ratio
+	 */
+	public void setCompressionRatio(double ratio) {
+		compressionRatio = ratio;
+	}
+
 	@Override
 	public MatrixBlock slice(int rl, int ru, int cl, int cu, boolean deep, MatrixBlock ret) {
 		validateSliceArgument(rl, ru, cl, cu);
@@ -726,17 +756,12 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	@Override
 	public MatrixBlock leftIndexingOperations(MatrixBlock rhsMatrix, int rl, int ru, int cl, int cu, MatrixBlock ret,
 		UpdateType update) {
-		printDecompressWarning("leftIndexingOperations");
-		MatrixBlock left = getUncompressed();
-		MatrixBlock right = getUncompressed(rhsMatrix);
-		return left.leftIndexingOperations(right, rl, ru, cl, cu, ret, update);
+		return CLALibRowUpdate.leftIndexing(this, rhsMatrix, rl, ru, cl, cu, InfrastructureAnalyzer.getLocalParallelism());
 	}
 
 	@Override
 	public MatrixBlock leftIndexingOperations(ScalarObject scalar, int rl, int cl, MatrixBlock ret, UpdateType update) {
-		printDecompressWarning("leftIndexingOperations");
-		MatrixBlock tmp = getUncompressed();
-		return tmp.leftIndexingOperations(scalar, rl, cl, ret, update);
+		return CLALibRowUpdate.leftIndexing(this, scalar, rl, cl, InfrastructureAnalyzer.getLocalParallelism());
 	}
 
 	@Override
@@ -765,7 +790,7 @@ public class CompressedMatrixBlock extends MatrixBlock {
 
 	@Override
 	public CM_COV_Object covOperations(COVOperator op, MatrixBlock that) {
-		MatrixBlock right = getUncompressed(that);
+		MatrixBlock right = getUncompressed(that, "covOperations");
 		return getUncompressed("covOperations", op.getNumThreads()).covOperations(op, right);
 	}
 
@@ -777,9 +802,8 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	}
 
 	@Override
-	public MatrixBlock sortOperations(MatrixValue weights, MatrixBlock result) {
-		MatrixBlock right = getUncompressed(weights);
-		return getUncompressed("sortOperations").sortOperations(right, result);
+	public MatrixBlock sortOperations(MatrixValue weights, MatrixBlock result, int k) {
+		return CLALibSort.sortOperations(this, weights, result, k);
 	}
 
 	@Override
@@ -837,9 +861,7 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	@Override
 	public void ctableOperations(Operator op, double scalar, double scalar2, CTableMap resultMap,
 		MatrixBlock resultBlock) {
-		printDecompressWarning("ctableOperations Var 2");
-		MatrixBlock tmp = getUncompressed();
-		tmp.ctableOperations(op, scalar, scalar2, resultMap, resultBlock);
+		CLALibCTable.ctableOperations(this, op, scalar, scalar2, resultMap, resultBlock);
 	}
 
 	@Override
@@ -898,6 +920,13 @@ public class CompressedMatrixBlock extends MatrixBlock {
 
 		ternaryOperationCheck(s1, s2, s3, m, r1, r2, r3, n, c1, c2, c3);
 
+		if(op.fn instanceof IfElse && !s1 && s2 && s3) {
+			// SPECIAL CASE ifelse with compressed mask and scalar branches, evaluated per distinct value
+			ScalarOperator sop = ((IfElse) op.fn).setOp23Constants(d2, d3);
+			sop.setNumThreads(op.getNumThreads());
+			return CLALibScalar.scalarOperations(sop, this, ret);
+		}
+
 		final boolean PM_Or_MM = (op.fn instanceof PlusMultiply || op.fn instanceof MinusMultiply);
 		if(PM_Or_MM && ((s2 && d2 == 0) || (s3 && d3 == 0))) {
 			ret = new CompressedMatrixBlock();
@@ -999,6 +1028,7 @@ public class CompressedMatrixBlock extends MatrixBlock {
 
 	private static void printDecompressWarning(String operation) {
 		LOG.warn("Decompressing because: " + operation);
+		DMLCompressionStatistics.addDecompressFallback(operation);
 	}
 
 	private static void printDecompressWarning(String operation, MatrixBlock m2) {
@@ -1062,6 +1092,7 @@ public class CompressedMatrixBlock extends MatrixBlock {
 			_colGroups.add(cg);
 
 		overlappingColGroups = that.overlappingColGroups;
+		compressionRatio = that.compressionRatio;
 	}
 
 	public SoftReference<MatrixBlock> getSoftReferenceToDecompressed() {
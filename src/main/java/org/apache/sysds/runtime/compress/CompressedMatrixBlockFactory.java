@@ -430,6 +430,7 @@ public class CompressedMatrixBlockFactory {
 		}
 
 		_stats.setColGroupsCounts(res.getColGroups());
+		res.setCompressionRatio(ratio);
 
 		if(compSettings.isInSparkInstruction)
 			res.clearSoftReferenceToDecompressed();
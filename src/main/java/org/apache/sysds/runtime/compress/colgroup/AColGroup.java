@@ -26,6 +26,7 @@ import java.util.Collection;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.compress.colgroup.indexes.ColIndexFactory;
 import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
 import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex.SliceResult;
 import org.apache.sysds.runtime.compress.colgroup.scheme.ICLAScheme;
@@ -530,6 +531,16 @@ public abstract class AColGroup implements Serializable {
 	 */
 	public abstract CM_COV_Object centralMoment(CMOperator op, int nRows);
 
+	/**
+	 * Get the values of the column group with their number of occurrences, e.g., for sorting, quantiles, and
+	 * contingency tables in the compressed domain. The values are returned per tuple and column (row-major), incl. the
+	 * not materialized tuple of zero, default, or reference values. Equal values of different tuples are not merged.
+	 * 
+	 * @param nRows The number of rows contained in the ColumnGroup.
+	 * @return The values (first array) and their counts (second array), or null if not supported.
+	 */
+	public abstract double[][] getValueCounts(int nRows);
+
 	/**
 	 * Expand the column group to multiple columns. (one hot encode the column group)
 	 * 
@@ -578,6 +589,29 @@ public abstract class AColGroup implements Serializable {
 	 */
 	public abstract AColGroup append(AColGroup g);
 
+	/**
+	 * Update a range of rows of this column group, or append rows if the range starts at the end of this column group.
+	 * The given data contains all columns of the matrix, from which the columns of this group are selected.
+	 *
+	 * The default implementation decompresses this column group and encodes it as DDC, subclasses that can extend their
+	 * dictionary and mapping in place should override it.
+	 *
+	 * @param data  The new rows containing all columns of the matrix
+	 * @param rl    The first row to update, equal to nRows to append the rows
+	 * @param nRows The number of rows in this column group
+	 * @return A new column group with max(nRows, rl + data rows) rows
+	 */
+	public AColGroup updateRows(MatrixBlock data, int rl, int nRows) {
+		final int nCol = _colIndexes.size();
+		final IColIndex cols = ColIndexFactory.create(nCol);
+		final MatrixBlock tmp = new MatrixBlock(nRows, nCol, false);
+		tmp.allocateDenseBlock();
+		copyAndSet(cols).decompressToDenseBlock(tmp.getDenseBlock(), 0, nRows);
+		tmp.recomputeNonZeros();
+		return ColGroupDDC.encodeRows(_colIndexes, null, null, 0, tmp, 0, cols)//
+			.updateRows(data, rl, nRows);
+	}
+
 	/**
 	 * Append all column groups in the list provided together in one go allocating the output once.
 	 * 
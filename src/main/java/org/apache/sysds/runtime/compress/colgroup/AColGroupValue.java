@@ -189,6 +189,46 @@ public abstract class AColGroupValue extends ADictBasedColGroup {
 		return _dict.centralMoment(op.fn, getCounts(), nRows);
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		return getValueCounts(nRows, null, null);
+	}
+
+	/**
+	 * Get the values and counts of the column group, where the rows not covered by the counts take the given default
+	 * tuple, and all tuples are shifted by the given reference tuple.
+	 * 
+	 * @param nRows     The number of rows contained in the ColumnGroup.
+	 * @param def       The default tuple, or null for zero
+	 * @param reference The reference tuple, or null for zero
+	 * @return The values (first array) and their counts (second array).
+	 */
+	protected final double[][] getValueCounts(int nRows, double[] def, double[] reference) {
+		final int nCol = _colIndexes.size();
+		final int nVal = getNumValues();
+		final int[] counts = getCounts();
+		long sum = 0;
+		for(int i = 0; i < nVal; i++)
+			sum += counts[i];
+		final int rem = (int) (nRows - sum);
+		final int len = (nVal + (rem > 0 ? 1 : 0)) * nCol;
+		final double[] values = new double[len];
+		final double[] weights = new double[len];
+		for(int i = 0, off = 0; i < nVal; i++) {
+			for(int j = 0; j < nCol; j++, off++) {
+				values[off] = _dict.getValue(i, j, nCol) + (reference != null ? reference[j] : 0);
+				weights[off] = counts[i];
+			}
+		}
+		if(rem > 0) {
+			for(int j = 0, off = nVal * nCol; j < nCol; j++, off++) {
+				values[off] = (def != null) ? def[j] : (reference != null) ? reference[j] : 0;
+				weights[off] = rem;
+			}
+		}
+		return new double[][] {values, weights};
+	}
+
 	@Override
 	public AColGroup rexpandCols(int max, boolean ignore, boolean cast, int nRows) {
 		try {
@@ -21,6 +21,7 @@ package org.apache.sysds.runtime.compress.colgroup;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.apache.sysds.runtime.compress.DMLCompressionException;
 import org.apache.sysds.runtime.compress.colgroup.dictionary.ADictionary;
@@ -495,6 +496,14 @@ public class ColGroupConst extends ADictBasedColGroup {
 		return ret;
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		final int nCol = _colIndexes.size();
+		final double[] weights = new double[nCol];
+		Arrays.fill(weights, nRows);
+		return new double[][] {getValues().clone(), weights};
+	}
+
 	@Override
 	public AColGroup rexpandCols(int max, boolean ignore, boolean cast, int nRows) {
 		ADictionary d = _dict.rexpandCols(max, ignore, cast, _colIndexes.size());
@@ -545,6 +554,11 @@ public class ColGroupConst extends ADictBasedColGroup {
 		return null;
 	}
 
+	@Override
+	public AColGroup updateRows(MatrixBlock data, int rl, int nRows) {
+		return ColGroupDDC.encodeRows(_colIndexes, _dict, null, nRows, data, rl, _colIndexes);
+	}
+
 	@Override
 	public AColGroup appendNInternal(AColGroup[] g) {
 		for(int i = 0; i < g.length; i++)
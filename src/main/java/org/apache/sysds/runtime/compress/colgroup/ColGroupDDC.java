@@ -37,6 +37,9 @@ import org.apache.sysds.runtime.compress.colgroup.offset.AOffsetIterator;
 import org.apache.sysds.runtime.compress.colgroup.scheme.DDCScheme;
 import org.apache.sysds.runtime.compress.colgroup.scheme.ICLAScheme;
 import org.apache.sysds.runtime.compress.cost.ComputationCostEstimator;
+import org.apache.sysds.runtime.compress.utils.DblArray;
+import org.apache.sysds.runtime.compress.utils.DblArrayCountHashMap;
+import org.apache.sysds.runtime.compress.utils.DoubleCountHashMap;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.functionobjects.Builtin;
@@ -516,6 +519,118 @@ public class ColGroupDDC extends APreAgg implements AMapToDataGroup {
 		return null;
 	}
 
+	@Override
+	public AColGroup updateRows(MatrixBlock data, int rl, int nRows) {
+		return encodeRows(_colIndexes, _dict, _data, nRows, data, rl, _colIndexes);
+	}
+
+	/**
+	 * Encode updated or appended rows into a DDC column group, extending the given dictionary with unseen tuples. The
+	 * ids of the existing tuples are maintained if the dictionary contains no duplicates, in which case the existing
+	 * mapping is only re-encoded if the number of distinct tuples exceeds the value range of its type.
+	 *
+	 * @param colIndexes The column indexes of the output column group
+	 * @param dict       The existing dictionary, or null for an all zero column group
+	 * @param map        The existing mapping, or null if all existing rows refer to the first tuple
+	 * @param nRows      The number of existing rows
+	 * @param data       The new rows
+	 * @param rl         The row offset of the new rows, equal to nRows for appending rows
+	 * @param dataCols   The columns of the new rows to encode
+	 * @return A new column group with max(nRows, rl + data rows) rows
+	 */
+	protected static AColGroup encodeRows(IColIndex colIndexes, ADictionary dict, AMapToData map, int nRows,
+		MatrixBlock data, int rl, IColIndex dataCols) {
+		final int nCol = colIndexes.size();
+		final int m = data.getNumRows();
+		final int ru = rl + m;
+		final int nOut = Math.max(nRows, ru);
+		// the zero tuple of all zero groups is only needed if some existing rows are not overwritten
+		final boolean keepRows = nRows > 0 && (rl > 0 || ru < nRows);
+		final int nVals = dict != null ? dict.getNumberOfValues(nCol) : keepRows ? 1 : 0;
+		final int[] ids = new int[nVals + m];
+
+		final ADictionary newDict;
+		final int nUnique;
+		boolean remap = false;
+		if(nCol == 1) {
+			final DoubleCountHashMap hm = new DoubleCountHashMap(nVals + 16);
+			for(int i = 0; i < nVals; i++) {
+				ids[i] = hm.increment(dict != null ? dict.getValue(i) : 0);
+				remap |= ids[i] != i;
+			}
+			final int c = dataCols.get(0);
+			for(int r = 0; r < m; r++)
+				ids[nVals + r] = hm.increment(data.quickGetValue(r, c));
+			nUnique = hm.size();
+			newDict = !remap && nUnique == nVals ? dict : DictionaryFactory.create(hm);
+		}
+		else {
+			final DblArrayCountHashMap hm = new DblArrayCountHashMap(nVals + 16, nCol);
+			final DblArray key = new DblArray(new double[nCol]);
+			final double[] kv = key.getData();
+			long nnz = 0;
+			for(int i = 0; i < nVals; i++) {
+				for(int j = 0; j < nCol; j++)
+					kv[j] = dict != null ? dict.getValue(i, j, nCol) : 0;
+				key.resetHash();
+				ids[i] = hm.increment(key);
+				remap |= ids[i] != i;
+				if(ids[i] == hm.size() - 1)
+					nnz += countNonZeros(kv);
+			}
+			for(int r = 0; r < m; r++) {
+				for(int j = 0; j < nCol; j++)
+					kv[j] = data.quickGetValue(r, dataCols.get(j));
+				key.resetHash();
+				final int size = hm.size();
+				ids[nVals + r] = hm.increment(key);
+				if(ids[nVals + r] == size)
+					nnz += countNonZeros(kv);
+			}
+			nUnique = hm.size();
+			newDict = !remap && nUnique == nVals ? dict : //
+				DictionaryFactory.create(hm, nCol, false, (double) nnz / nUnique / nCol);
+		}
+
+		// row range updates with stable ids: bulk copy of the mapping and only encode the updated rows
+		if(map != null && !remap && ru <= nRows) {
+			final AMapToData ret = map.slice(0, nRows);
+			if(nUnique - 1 <= ret.getUpperBoundValue()) {
+				ret.setUnique(nUnique);
+				for(int r = 0; r < m; r++)
+					ret.set(rl + r, ids[nVals + r]);
+				return create(colIndexes, newDict, ret, null);
+			}
+		}
+
+		// reuse the mapping type if the existing ids are stable and the new ids fit
+		final AMapToData ret;
+		if(map != null && !remap && nUnique - 1 <= map.getUpperBoundValue())
+			ret = MapToFactory.create(nOut, map.getType());
+		else
+			ret = MapToFactory.create(nOut, nUnique);
+		ret.setUnique(nUnique);
+
+		// existing rows (a missing mapping refers to the zero-initialized first tuple)
+		if(map != null) {
+			for(int r = 0; r < rl; r++)
+				ret.set(r, ids[map.getIndex(r)]);
+			for(int r = ru; r < nRows; r++)
+				ret.set(r, ids[map.getIndex(r)]);
+		}
+		for(int r = 0; r < m; r++)
+			ret.set(rl + r, ids[nVals + r]);
+
+		return create(colIndexes, newDict, ret, null);
+	}
+
+	private static int countNonZeros(double[] v) {
+		int nnz = 0;
+		for(double d : v)
+			nnz += d != 0 ? 1 : 0;
+		return nnz;
+	}
+
 	@Override
 	public AColGroup appendNInternal(AColGroup[] g) {
 		for(int i = 1; i < g.length; i++) {
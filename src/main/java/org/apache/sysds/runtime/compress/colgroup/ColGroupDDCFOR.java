@@ -414,6 +414,11 @@ public class ColGroupDDCFOR extends AMorphingMMColGroup {
 		return ret;
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		return getValueCounts(nRows, null, _reference);
+	}
+
 	@Override
 	public double[] getCommon() {
 		return _reference;
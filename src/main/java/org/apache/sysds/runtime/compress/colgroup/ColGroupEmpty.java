@@ -284,6 +284,14 @@ public class ColGroupEmpty extends AColGroupCompressed {
 		return ret;
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		final int nCol = _colIndexes.size();
+		final double[] weights = new double[nCol];
+		Arrays.fill(weights, nRows);
+		return new double[][] {new double[nCol], weights};
+	}
+
 	@Override
 	public AColGroup rexpandCols(int max, boolean ignore, boolean cast, int nRows) {
 		if(!ignore)
@@ -326,6 +334,11 @@ public class ColGroupEmpty extends AColGroupCompressed {
 		return null;
 	}
 
+	@Override
+	public AColGroup updateRows(MatrixBlock data, int rl, int nRows) {
+		return ColGroupDDC.encodeRows(_colIndexes, null, null, nRows, data, rl, _colIndexes);
+	}
+
 	@Override
 	public AColGroup appendNInternal(AColGroup[] g) {
 		for(int i = 0; i < g.length; i++)
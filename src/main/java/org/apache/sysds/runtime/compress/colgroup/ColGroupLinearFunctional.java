@@ -619,6 +619,11 @@ public class ColGroupLinearFunctional extends AColGroupCompressed {
 		throw new NotImplementedException();
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		return null;
+	}
+
 	@Override
 	public AColGroup rexpandCols(int max, boolean ignore, boolean cast, int nRows) {
 		throw new NotImplementedException();
@@ -480,6 +480,11 @@ public class ColGroupSDC extends ASDC implements AMapToDataGroup {
 		return _dict.centralMomentWithDefault(op.fn, getCounts(), _defaultTuple[0], nRows);
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		return getValueCounts(nRows, _defaultTuple, null);
+	}
+
 	@Override
 	public AColGroup rexpandCols(int max, boolean ignore, boolean cast, int nRows) {
 		ADictionary d = _dict.rexpandCols(max, ignore, cast, _colIndexes.size());
@@ -420,6 +420,11 @@ public class ColGroupSDCFOR extends ASDC implements AMapToDataGroup {
 		return _dict.centralMomentWithReference(op.fn, getCounts(), _reference[0], nRows);
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		return getValueCounts(nRows, null, _reference);
+	}
+
 	@Override
 	public double getCost(ComputationCostEstimator e, int nRows) {
 		final int nVals = getNumValues();
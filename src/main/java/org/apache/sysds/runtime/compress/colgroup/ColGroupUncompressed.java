@@ -35,6 +35,7 @@ import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
 import org.apache.sysds.runtime.compress.colgroup.scheme.ICLAScheme;
 import org.apache.sysds.runtime.compress.cost.ComputationCostEstimator;
 import org.apache.sysds.runtime.compress.utils.Util;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
@@ -758,6 +759,12 @@ public class ColGroupUncompressed extends AColGroup {
 		return _data.cmOperations(op);
 	}
 
+	@Override
+	public double[][] getValueCounts(int nRows) {
+		// no value counts without sorting the uncompressed data
+		return null;
+	}
+
 	@Override
 	public AColGroup rexpandCols(int max, boolean ignore, boolean cast, int nRows) {
 		MatrixBlock nd = LibMatrixReorg.rexpand(_data, new MatrixBlock(), max, false, cast, ignore, 1);
@@ -794,6 +801,22 @@ public class ColGroupUncompressed extends AColGroup {
 		return null;
 	}
 
+	@Override
+	public AColGroup updateRows(MatrixBlock data, int rl, int nRows) {
+		final int m = data.getNumRows();
+		final int nCol = _colIndexes.size();
+		final MatrixBlock rows = new MatrixBlock(m, nCol, false);
+		rows.allocateDenseBlock();
+		final DenseBlock db = rows.getDenseBlock();
+		for(int r = 0; r < m; r++)
+			for(int j = 0; j < nCol; j++)
+				db.set(r, j, data.quickGetValue(r, _colIndexes.get(j)));
+		rows.recomputeNonZeros();
+		final MatrixBlock ret = rl == nRows ? _data.append(rows, null, false) : //
+			_data.leftIndexingOperations(rows, rl, rl + m - 1, 0, nCol - 1, null, UpdateType.COPY);
+		return create(ret, _colIndexes);
+	}
+
 	@Override
 	public AColGroup appendNInternal(AColGroup[] g) {
 		return null;
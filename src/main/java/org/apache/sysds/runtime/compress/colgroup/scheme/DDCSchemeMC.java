@@ -87,7 +87,7 @@ public class DDCSchemeMC extends DDCScheme {
 		}
 
 		if(r < nRow)
-			map.increment(emptyRow,  nRow - r - 1);
+			map.increment(emptyRow, nRow - r);
 
 		return this;
 	}
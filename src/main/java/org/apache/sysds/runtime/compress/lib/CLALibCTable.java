@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.functionobjects.CTable;
+import org.apache.sysds.runtime.matrix.data.CTableMap;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+
+/**
+ * Contingency tables in the compressed domain. For ctable(A, v2, w) with scalar v2 and w, the result only depends on
+ * the distinct values of A and their number of occurrences, which are obtained from the column group dictionaries and
+ * counts of the mapping indexes, and aggregated with the weight w times the count per distinct value.
+ */
+public class CLALibCTable {
+
+	/**
+	 * D = ctable(A, v2, w), with compressed A and scalar v2 and w.
+	 *
+	 * @param cmb         The compressed input A
+	 * @param op          The operator
+	 * @param scalar      The scalar v2
+	 * @param scalar2     The scalar weight w
+	 * @param resultMap   The result map (if no result block)
+	 * @param resultBlock The result block, or null
+	 */
+	public static void ctableOperations(CompressedMatrixBlock cmb, Operator op, double scalar, double scalar2,
+		CTableMap resultMap, MatrixBlock resultBlock) {
+		if(cmb.isOverlapping()) {
+			fallback(cmb, "ctableOperations Var 2 on overlapping state", op, scalar, scalar2, resultMap, resultBlock);
+			return;
+		}
+
+		final int nRows = cmb.getNumRows();
+		final List<double[][]> valueCounts = new ArrayList<>();
+		long cells = 0;
+		for(AColGroup g : cmb.getColGroups()) {
+			final double[][] vc = g.getValueCounts(nRows);
+			if(vc == null) {
+				fallback(cmb, "ctableOperations Var 2 not supported by column group", op, scalar, scalar2, resultMap,
+					resultBlock);
+				return;
+			}
+			valueCounts.add(vc);
+			cells += (long) g.getNumCols() * nRows;
+		}
+
+		final CTable ctable = CTable.getCTableFnObject();
+		for(double[][] vc : valueCounts)
+			for(int i = 0; i < vc[0].length; i++)
+				ctable.execute(vc[0][i], scalar, scalar2 * vc[1][i], false, resultMap, resultBlock);
+		// cells not covered by any column group are zero (invalid input, consistent with uncompressed)
+		final long zeros = (long) nRows * cmb.getNumColumns() - cells;
+		if(zeros > 0)
+			ctable.execute(0, scalar, scalar2 * zeros, false, resultMap, resultBlock);
+
+		// maintain nnz (if necessary)
+		if(resultBlock != null)
+			resultBlock.recomputeNonZeros();
+	}
+
+	private static void fallback(CompressedMatrixBlock cmb, String message, Operator op, double scalar,
+		double scalar2, CTableMap resultMap, MatrixBlock resultBlock) {
+		cmb.getUncompressed(message).ctableOperations(op, scalar, scalar2, resultMap, resultBlock);
+	}
+}
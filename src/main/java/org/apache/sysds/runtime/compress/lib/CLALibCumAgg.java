@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.AColGroupValue;
+import org.apache.sysds.runtime.compress.colgroup.ASDCZero;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupEmpty;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.DictionaryFactory;
+import org.apache.sysds.runtime.compress.colgroup.indexes.ColIndexFactory;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.colgroup.offset.AIterator;
+import org.apache.sysds.runtime.compress.utils.DoubleCountHashMap;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.functionobjects.Builtin;
+import org.apache.sysds.runtime.functionobjects.Builtin.BuiltinCode;
+import org.apache.sysds.runtime.matrix.data.LibMatrixAgg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Cumulative aggregates (cumsum, cumprod, cummin, cummax, and cumsumprod) of compressed matrices.
+ *
+ * The compressed matrix is decompressed in blocks of rows, where the offset iterators of sparse column groups are
+ * maintained across blocks, and the cumulative aggregate of each block is computed with the last row of the previous
+ * block as initial aggregate. This avoids the materialization of the uncompressed input. Since the running minimum and
+ * maximum of a column only take values contained in the column, cummin and cummax of non-overlapping inputs are
+ * directly encoded into compressed DDC column groups, while all other aggregates produce a dense or sparse output.
+ */
+public class CLALibCumAgg {
+	private static final Log LOG = LogFactory.getLog(CLALibCumAgg.class.getName());
+
+	/** The maximum number of distinct values per column to encode cummin and cummax outputs compressed */
+	private static final int MAX_DISTINCT_COMPRESSED = 65536;
+
+	private CLALibCumAgg() {
+		// private constructor
+	}
+
+	/**
+	 * Cumulative aggregate of the compressed matrix along the rows.
+	 *
+	 * @param cmb The compressed input matrix
+	 * @param op  The cumulative aggregate unary operator
+	 * @param k   The parallelization degree
+	 * @return The cumulative aggregate, compressed if beneficial
+	 */
+	public static MatrixBlock cumaggregate(CompressedMatrixBlock cmb, UnaryOperator op, int k) {
+		final int nRows = cmb.getNumRows();
+		final int nCol = cmb.getNumColumns();
+		final BuiltinCode code = ((Builtin) op.fn).getBuiltinCode();
+		final int nColOut = code == BuiltinCode.CUMSUMPROD ? 1 : nCol;
+
+		final int[] bounds = (code == BuiltinCode.CUMMIN || code == BuiltinCode.CUMMAX) ? getDistinctBounds(cmb) : null;
+		final MatrixBlock ret = bounds == null ? new MatrixBlock(nRows, nColOut, false) : null;
+		final ColumnEncoder enc = bounds == null ? null : new ColumnEncoder(nRows, bounds);
+		if(ret != null)
+			ret.allocateDenseBlock();
+
+		final List<AColGroup> groups = cmb.getColGroups();
+		final int blkz = Math.max(65536 * 2 / nCol, 64);
+		final MatrixBlock tmp = new MatrixBlock(Math.min(nRows, blkz), nCol, false);
+		tmp.allocateDenseBlock();
+		final MatrixBlock tmpOut = new MatrixBlock(Math.min(nRows, blkz), nColOut, false);
+		final AIterator[] its = new AIterator[groups.size()];
+		for(int i = 0; i < groups.size(); i++)
+			if(groups.get(i) instanceof ASDCZero)
+				its[i] = ((ASDCZero) groups.get(i)).getIterator(0);
+
+		double[] agg = null;
+		for(int rl = 0; rl < nRows; rl += blkz) {
+			final int ru = Math.min(rl + blkz, nRows);
+			tmp.reset(ru - rl, nCol, false);
+			decompressToTemp(groups, tmp, rl, ru, its);
+			tmpOut.reset(ru - rl, nColOut, false);
+			final MatrixBlock res = LibMatrixAgg.cumaggregateUnaryMatrix(tmp, tmpOut, op, agg);
+			if(enc != null)
+				enc.encode(res, rl);
+			else
+				ret.copy(rl, ru - 1, 0, nColOut - 1, res, false);
+			agg = getLastRow(res, agg);
+		}
+
+		if(enc != null)
+			return enc.finish(k);
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+
+	private static void decompressToTemp(List<AColGroup> groups, MatrixBlock tmp, int rl, int ru, AIterator[] its) {
+		final DenseBlock db = tmp.getDenseBlock();
+		for(int i = 0; i < groups.size(); i++) {
+			final AColGroup g = groups.get(i);
+			if(g instanceof ASDCZero)
+				((ASDCZero) g).decompressToDenseBlock(db, rl, ru, -rl, 0, its[i]);
+			else
+				g.decompressToDenseBlock(db, rl, ru, -rl, 0);
+		}
+		// the kernels only need to know that the block is not empty
+		tmp.setNonZeros(ru - rl);
+	}
+
+	private static double[] getLastRow(MatrixBlock res, double[] agg) {
+		final int nCol = res.getNumColumns();
+		final int r = res.getNumRows() - 1;
+		if(agg == null)
+			agg = new double[nCol];
+		for(int j = 0; j < nCol; j++)
+			agg[j] = res.quickGetValue(r, j);
+		return agg;
+	}
+
+	/**
+	 * Get an upper bound of the number of distinct values per column, or null if the cumulative minimum and maximum
+	 * should not be encoded compressed.
+	 */
+	private static int[] getDistinctBounds(CompressedMatrixBlock cmb) {
+		if(cmb.isOverlapping())
+			return null; // values of overlapping groups are added and therefore not bounded
+		final int nRows = cmb.getNumRows();
+		final int[] bounds = new int[cmb.getNumColumns()];
+		for(AColGroup g : cmb.getColGroups()) {
+			final int b;
+			if(g instanceof ColGroupEmpty || g instanceof ColGroupConst)
+				b = 2;
+			else if(g instanceof AColGroupValue)
+				b = Math.min(g.getNumValues() + 1, nRows); // incl. a default or zero value
+			else
+				b = nRows;
+			if(b > MAX_DISTINCT_COMPRESSED)
+				return null;
+			for(int i = 0; i < g.getNumCols(); i++)
+				bounds[g.getColIndices().get(i)] = b;
+		}
+		for(int b : bounds)
+			if(b == 0)
+				return null; // columns not covered by any column group
+		return bounds;
+	}
+
+	/** Encoder of the cumulative aggregate output into single column DDC column groups */
+	private static class ColumnEncoder {
+		private final int _nRows;
+		private final DoubleCountHashMap[] _maps;
+		private final AMapToData[] _data;
+		private final double[] _last;
+		private final int[] _lastId;
+		private long _nnz = 0;
+
+		protected ColumnEncoder(int nRows, int[] bounds) {
+			_nRows = nRows;
+			final int nCol = bounds.length;
+			_maps = new DoubleCountHashMap[nCol];
+			_data = new AMapToData[nCol];
+			_last = new double[nCol];
+			_lastId = new int[nCol];
+			for(int c = 0; c < nCol; c++) {
+				_maps[c] = new DoubleCountHashMap(Math.min(bounds[c], 1024));
+				_data[c] = MapToFactory.create(nRows, bounds[c]);
+				_lastId[c] = -1;
+			}
+		}
+
+		protected void encode(MatrixBlock res, int rl) {
+			final int nRow = res.getNumRows();
+			final int nCol = _maps.length;
+			if(!res.isInSparseFormat() && res.getDenseBlock() != null) {
+				final DenseBlock db = res.getDenseBlock();
+				for(int r = 0; r < nRow; r++) {
+					final double[] vals = db.values(r);
+					final int off = db.pos(r);
+					for(int c = 0; c < nCol; c++)
+						encode(c, rl + r, vals[off + c]);
+				}
+			}
+			else {
+				for(int r = 0; r < nRow; r++)
+					for(int c = 0; c < nCol; c++)
+						encode(c, rl + r, res.quickGetValue(r, c));
+			}
+		}
+
+		private void encode(int c, int r, double v) {
+			// the running minimum and maximum form runs of equal values
+			if(_lastId[c] < 0 || (v != _last[c] && !(Double.isNaN(v) && Double.isNaN(_last[c])))) {
+				_lastId[c] = _maps[c].increment(v);
+				_last[c] = v;
+			}
+			_data[c].set(r, _lastId[c]);
+			_nnz += v != 0 ? 1 : 0;
+		}
+
+		protected MatrixBlock finish(int k) {
+			final int nCol = _maps.length;
+			final List<AColGroup> groups = new ArrayList<>(nCol);
+			for(int c = 0; c < nCol; c++) {
+				_data[c].setUnique(_maps[c].size());
+				groups.add(ColGroupDDC.create(ColIndexFactory.create(new int[] {c}),
+					DictionaryFactory.create(_maps[c]), _data[c], null));
+			}
+			final CompressedMatrixBlock ret = new CompressedMatrixBlock(_nRows, nCol, _nnz, false, groups);
+			final long uncompressedSize = MatrixBlock.estimateSizeInMemory(_nRows, nCol, ret.getSparsity());
+			if(ret.getInMemorySize() >= uncompressedSize) {
+				if(LOG.isDebugEnabled())
+					LOG.debug("Decompressing cumulative aggregate, because the compressed size " + ret.getInMemorySize()
+						+ " is above the uncompressed size " + uncompressedSize);
+				return ret.decompress(k);
+			}
+			return ret;
+		}
+	}
+}
@@ -152,9 +152,11 @@ public class CLALibLeftMultBy {
 		double[] cL = containsLeft ? new double[rl] : null;
 		final List<AColGroup> fLeft = CLALibUtils.filterGroups(leftCG, cL);
 
-		for(int j = 0; j < fLeft.size(); j++)
-			for(int i = 0; i < fRight.size(); i++)
-				fRight.get(i).leftMultByAColGroup(fLeft.get(j), ret, sd);
+		final int nPairs = fLeft.size() * fRight.size();
+		if(k <= 1 || nPairs <= 1)
+			multiplyColGroupPairs(fLeft, fRight, ret, sd, 0, 1);
+		else
+			multiplyColGroupPairsParallel(fLeft, fRight, ret, sd, right.isOverlapping() || left.isOverlapping(), k);
 
 		double[] retV = ret.getDenseBlockValues();
 		if(containsLeft && containsRight)
@@ -169,6 +171,66 @@ public class CLALibLeftMultBy {
 		return ret;
 	}
 
+	/**
+	 * Multiply all pairs of left and right column groups (t(left) %*% right), where each pair multiplies through the
+	 * shared row mappings, i.e., by pre-aggregating the co-occurring dictionary indexes of one side with the mapping of
+	 * the other side and multiplying the dictionaries.
+	 * 
+	 * @param fLeft  The left column groups
+	 * @param fRight The right column groups
+	 * @param ret    The output to add into
+	 * @param sd     The shared dimension (number of rows in both inputs)
+	 * @param off    The offset of the first pair to process
+	 * @param s      The stride of pairs to process
+	 */
+	private static void multiplyColGroupPairs(List<AColGroup> fLeft, List<AColGroup> fRight, MatrixBlock ret, int sd,
+		int off, int s) {
+		final int nR = fRight.size();
+		for(int p = off; p < fLeft.size() * nR; p += s)
+			fRight.get(p % nR).leftMultByAColGroup(fLeft.get(p / nR), ret, sd);
+	}
+
+	private static void multiplyColGroupPairsParallel(List<AColGroup> fLeft, List<AColGroup> fRight,
+		MatrixBlock ret, int sd, boolean overlapping, int k) {
+		final ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			// pairs of non-overlapping groups write disjoint blocks of the output,
+			// otherwise each task aggregates into its own temporary output
+			final int s = Math.min(fLeft.size() * fRight.size(), k);
+			final ArrayList<Callable<MatrixBlock>> tasks = new ArrayList<>(s);
+			for(int off = 0; off < s; off++) {
+				final int o = off;
+				final MatrixBlock tmp = overlapping ? allocateTemp(ret) : ret;
+				tasks.add(() -> {
+					multiplyColGroupPairs(fLeft, fRight, tmp, sd, o, s);
+					return tmp;
+				});
+			}
+
+			final double[] retV = ret.getDenseBlockValues();
+			for(Future<MatrixBlock> future : pool.invokeAll(tasks)) {
+				final MatrixBlock tmp = future.get();
+				if(tmp != ret) {
+					final double[] tmpV = tmp.getDenseBlockValues();
+					for(int i = 0; i < retV.length; i++)
+						retV[i] += tmpV[i];
+				}
+			}
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw new DMLRuntimeException(e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static MatrixBlock allocateTemp(MatrixBlock ret) {
+		final MatrixBlock tmp = new MatrixBlock(ret.getNumRows(), ret.getNumColumns(), false);
+		tmp.allocateDenseBlock();
+		return tmp;
+	}
+
 	private static MatrixBlock LMM(List<AColGroup> colGroups, MatrixBlock that, MatrixBlock ret, int k,
 		boolean overlapping) {
 		final int numColumnsOut = ret.getNumColumns();
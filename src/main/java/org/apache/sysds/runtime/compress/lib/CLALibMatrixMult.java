@@ -93,11 +93,14 @@ public class CLALibMatrixMult {
 		MatrixBlock ret, int k, boolean transposeLeft, boolean transposeRight) {
 		if(!transposeLeft && !transposeRight) {
 			// If both are not transposed, decompress the right hand side. to enable
-			// compressed overlapping output.
+			// compressed overlapping output. (the inputs do not share the row mappings,
+			// and the right hand side has only as many rows as the left has columns)
 			LOG.warn("Matrix decompression from multiplying two compressed matrices.");
-			return matrixMultiply(m1, CompressedMatrixBlock.getUncompressed(m2), ret, k, transposeLeft, transposeRight);
+			return matrixMultiply(m1, CompressedMatrixBlock.getUncompressed(m2, "Right side of compressed MM"), ret, k,
+				transposeLeft, transposeRight);
 		}
 		else if(transposeLeft && !transposeRight) {
+			// multiply through the shared row mappings, in parallel over pairs of column groups
 			if(m1.getNumColumns() > m2.getNumColumns()) {
 				ret = CLALibLeftMultBy.leftMultByMatrixTransposed(m1, m2, ret, k);
 				ReorgOperator r_op = new ReorgOperator(SwapIndex.getSwapIndexFnObject(), k);
@@ -19,7 +19,16 @@
 
 package org.apache.sysds.runtime.compress.lib;
 
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.ADictionary;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlockCSR;
 import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.UtilFunctions;
@@ -28,15 +37,94 @@ public class CLALibRexpand {
 
 	// private static final Log LOG = LogFactory.getLog(CLALibReExpand.class.getName());
 
+	// marker of not yet validated dictionary entries (valid targets are >= -1)
+	private static final int UNCHECKED = -2;
+
 	public static MatrixBlock rexpand(CompressedMatrixBlock in, MatrixBlock ret, double max, boolean rows, boolean cast,
 		boolean ignore, int k) {
 		if(rows)
-			return in.getUncompressed("Rexpand in rows direction (one hot encode)").rexpandOperations(ret, max, rows, cast,
-				ignore, k);
+			return rexpandRows(in, UtilFunctions.toInt(max), cast, ignore);
 		else
 			return rexpandCols(in, max, cast, ignore, k);
 	}
 
+	private static MatrixBlock rexpandRows(CompressedMatrixBlock in, int max, boolean cast, boolean ignore) {
+		LibMatrixReorg.checkRexpand(in, ignore);
+
+		final int nRows = in.getNumRows();
+		if(in.isEmptyBlock(false))
+			return new MatrixBlock(max, nRows, true);
+		else if(in.getNumColumns() != 1 || in.isOverlapping() || in.getColGroups().size() > 1)
+			return LibMatrixReorg.rexpand(in.getUncompressed("Rexpand in rows direction (one hot encode)"),
+				new MatrixBlock(), max, true, cast, ignore, 1);
+
+		// output row per input row (or -1 if not contained in the output)
+		final AColGroup g = in.getColGroups().get(0);
+		final int[] target = new int[nRows];
+		if(g instanceof ColGroupDDC) {
+			// validate and map each referenced distinct value once (on first use), because the
+			// dictionary might contain unreferenced values (e.g., after row slicing)
+			final ColGroupDDC ddc = (ColGroupDDC) g;
+			final ADictionary dict = ddc.getDictionary();
+			final AMapToData map = ddc.getMapToData();
+			final int[] dictTarget = new int[dict.getNumberOfValues(1)];
+			Arrays.fill(dictTarget, UNCHECKED);
+			for(int i = 0; i < nRows; i++) {
+				final int d = map.getIndex(i);
+				if(dictTarget[d] == UNCHECKED)
+					dictTarget[d] = getTarget(dict.getValue(d), max, cast, ignore);
+				target[i] = dictTarget[d];
+			}
+		}
+		else {
+			final MatrixBlock tmp = new MatrixBlock(nRows, 1, false);
+			tmp.allocateDenseBlock();
+			g.decompressToDenseBlock(tmp.getDenseBlock(), 0, nRows);
+			final double[] vals = tmp.getDenseBlockValues();
+			for(int i = 0; i < nRows; i++)
+				target[i] = getTarget(vals[i], max, cast, ignore);
+		}
+
+		// counting sort of the input rows into the output rows, which keeps the columns per row sorted
+		final int[] rowPtr = new int[max + 1];
+		for(int t : target)
+			if(t >= 0)
+				rowPtr[t + 1]++;
+		for(int i = 0; i < max; i++)
+			rowPtr[i + 1] += rowPtr[i];
+		final int nnz = rowPtr[max];
+
+		if(MatrixBlock.evalSparseFormatInMemory(max, nRows, nnz)) {
+			final int[] colIdx = new int[nnz];
+			final double[] values = new double[nnz];
+			Arrays.fill(values, 1);
+			final int[] pos = Arrays.copyOf(rowPtr, max);
+			for(int i = 0; i < nRows; i++)
+				if(target[i] >= 0)
+					colIdx[pos[target[i]]++] = i;
+			return new MatrixBlock(max, nRows, nnz, new SparseBlockCSR(rowPtr, colIdx, values, nnz));
+		}
+		else {
+			final MatrixBlock ret = new MatrixBlock(max, nRows, false);
+			ret.allocateDenseBlock();
+			final DenseBlock db = ret.getDenseBlock();
+			for(int i = 0; i < nRows; i++)
+				if(target[i] >= 0)
+					db.set(target[i], i, 1);
+			ret.setNonZeros(nnz);
+			return ret;
+		}
+	}
+
+	private static int getTarget(double val, int max, boolean cast, boolean ignore) {
+		// analogous to the uncompressed rexpand in rows direction
+		if(cast)
+			val = UtilFunctions.toLong(val);
+		if(!ignore && val <= 0)
+			throw new DMLRuntimeException("Invalid input value <= 0 for ignore=false: " + val);
+		return (val == Math.floor(val) && val >= 1 && val <= max) ? (int) (val - 1) : -1;
+	}
+
 	private static MatrixBlock rexpandCols(CompressedMatrixBlock in, double max, boolean cast, boolean ignore, int k) {
 		return rexpandCols(in, UtilFunctions.toInt(max), cast, ignore, k);
 	}
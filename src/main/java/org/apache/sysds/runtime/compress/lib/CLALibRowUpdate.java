@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.CompressionStatistics;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Incremental row appends (rbind) and row range updates (left indexing) of compressed matrices, which are common inside
+ * loops. Instead of decompressing the entire matrix, only the affected column groups are updated, where the column
+ * groups extend their dictionaries with unseen tuples and only re-encode their mapping if the number of distinct tuples
+ * exceeds the value range of the mapping (see {@link AColGroup#updateRows(MatrixBlock, int, int)}). Since column groups
+ * can be shared between matrix blocks, unaffected column groups are reused and affected column groups are copied.
+ *
+ * After the update, the compression ratio is compared to the ratio obtained when the matrix was compressed, and the
+ * matrix is recompressed if the ratio degraded below {@link #RECOMPRESS_RATIO_DECAY} times the original ratio.
+ */
+public class CLALibRowUpdate {
+	private static final Log LOG = LogFactory.getLog(CLALibRowUpdate.class.getName());
+
+	/** The fraction of the original compression ratio below which an updated matrix is recompressed */
+	public static double RECOMPRESS_RATIO_DECAY = 0.5;
+
+	private CLALibRowUpdate() {
+		// private constructor
+	}
+
+	/**
+	 * Append the rows of the given matrices below the compressed matrix.
+	 *
+	 * @param cmb  The compressed matrix
+	 * @param that The matrices to append
+	 * @param k    The parallelization degree
+	 * @return The combined matrix, compressed if beneficial
+	 */
+	public static MatrixBlock rbind(CompressedMatrixBlock cmb, MatrixBlock[] that, int k) {
+		if(cmb.isOverlapping())
+			return fallbackRbind(cmb, that, "r-bind on overlapping state");
+		for(MatrixBlock mb : that)
+			if(mb.getNumColumns() != cmb.getNumColumns())
+				return fallbackRbind(cmb, that, "r-bind with invalid number of columns");
+
+		final MatrixBlock rows = rbindUncompressed(that);
+		final int nRows = cmb.getNumRows();
+		if(rows.getNumRows() == 0)
+			return new CompressedMatrixBlock(cmb); // no aliasing of the input
+
+		final List<AColGroup> groups = updateRows(cmb.getColGroups(), rows, nRows, nRows, k);
+		final long nnz = cmb.getNonZeros() >= 0 && rows.getNonZeros() >= 0 ? //
+			cmb.getNonZeros() + rows.getNonZeros() : -1;
+		final CompressedMatrixBlock ret = new CompressedMatrixBlock(nRows + rows.getNumRows(), cmb.getNumColumns(), nnz,
+			false, groups);
+		if(nnz < 0)
+			ret.recomputeNonZeros();
+		return finalizeUpdate(cmb, ret, k);
+	}
+
+	/**
+	 * Left indexing of the compressed matrix with a matrix, i.e., A[rl:ru, cl:cu] = rhs.
+	 *
+	 * @param cmb The compressed matrix
+	 * @param rhs The right hand side matrix
+	 * @param rl  The row lower index (inclusive)
+	 * @param ru  The row upper index (inclusive)
+	 * @param cl  The column lower index (inclusive)
+	 * @param cu  The column upper index (inclusive)
+	 * @param k   The parallelization degree
+	 * @return The updated matrix, compressed if beneficial
+	 */
+	public static MatrixBlock leftIndexing(CompressedMatrixBlock cmb, MatrixBlock rhs, int rl, int ru, int cl, int cu,
+		int k) {
+		final int nRows = cmb.getNumRows();
+		final int nCols = cmb.getNumColumns();
+		if(rl < 0 || rl >= nRows || ru < rl || ru >= nRows || cl < 0 || cl >= nCols || cu < cl || cu >= nCols)
+			throw new DMLRuntimeException("Invalid values for matrix indexing: [" + (rl + 1) + ":" + (ru + 1) + ","
+				+ (cl + 1) + ":" + (cu + 1) + "] must be within matrix dimensions [" + nRows + "," + nCols + "].");
+		if((ru - rl + 1) != rhs.getNumRows() || (cu - cl + 1) != rhs.getNumColumns())
+			throw new DMLRuntimeException("Invalid values for matrix indexing: dimensions of the source matrix ["
+				+ rhs.getNumRows() + "x" + rhs.getNumColumns() + "] do not match the shape of the matrix specified by"
+				+ " indices [" + (rl + 1) + ":" + (ru + 1) + ", " + (cl + 1) + ":" + (cu + 1) + "].");
+		if(cmb.isOverlapping())
+			return cmb.getUncompressed("leftIndexingOperations on overlapping state")
+				.leftIndexingOperations(CompressedMatrixBlock.getUncompressed(rhs), rl, ru, cl, cu, null, UpdateType.COPY);
+
+		// decompress only the updated rows and overwrite the indexed columns
+		final List<AColGroup> groups = cmb.getColGroups();
+		final MatrixBlock rows = new MatrixBlock(ru - rl + 1, nCols, false);
+		rows.allocateDenseBlock();
+		for(AColGroup g : groups)
+			g.decompressToDenseBlock(rows.getDenseBlock(), rl, ru + 1, -rl, 0);
+		rows.recomputeNonZeros();
+		final long nnzOld = rows.getNonZeros();
+		rows.leftIndexingOperations(CompressedMatrixBlock.getUncompressed(rhs), 0, ru - rl, cl, cu, rows,
+			UpdateType.INPLACE);
+
+		// update only the column groups that contain indexed columns
+		final List<AColGroup> affected = new ArrayList<>();
+		for(AColGroup g : groups)
+			if(containsColumn(g.getColIndices(), cl, cu))
+				affected.add(g);
+		final List<AColGroup> updated = updateRows(affected, rows, rl, nRows, k);
+		final List<AColGroup> retGroups = new ArrayList<>(groups.size());
+		for(int i = 0, j = 0; i < groups.size(); i++)
+			retGroups.add(j < affected.size() && groups.get(i) == affected.get(j) ? updated.get(j++) : groups.get(i));
+
+		final long nnz = cmb.getNonZeros() >= 0 ? cmb.getNonZeros() - nnzOld + rows.getNonZeros() : -1;
+		final CompressedMatrixBlock ret = new CompressedMatrixBlock(nRows, nCols, nnz, false, retGroups);
+		if(nnz < 0)
+			ret.recomputeNonZeros();
+		return finalizeUpdate(cmb, ret, k);
+	}
+
+	/**
+	 * Left indexing of the compressed matrix with a scalar, i.e., A[rl, cl] = scalar.
+	 *
+	 * @param cmb    The compressed matrix
+	 * @param scalar The scalar value
+	 * @param rl     The row index
+	 * @param cl     The column index
+	 * @param k      The parallelization degree
+	 * @return The updated matrix, compressed if beneficial
+	 */
+	public static MatrixBlock leftIndexing(CompressedMatrixBlock cmb, ScalarObject scalar, int rl, int cl, int k) {
+		final MatrixBlock rhs = new MatrixBlock(1, 1, scalar.getDoubleValue());
+		return leftIndexing(cmb, rhs, rl, rl, cl, cl, k);
+	}
+
+	private static List<AColGroup> updateRows(List<AColGroup> groups, MatrixBlock rows, int rl, int nRows, int k) {
+		final List<AColGroup> ret = new ArrayList<>(groups.size());
+		if(k <= 1 || groups.size() <= 1) {
+			for(AColGroup g : groups)
+				ret.add(g.updateRows(rows, rl, nRows));
+			return ret;
+		}
+
+		final ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			final List<Future<AColGroup>> tasks = new ArrayList<>(groups.size());
+			for(AColGroup g : groups)
+				tasks.add(pool.submit(() -> g.updateRows(rows, rl, nRows)));
+			for(Future<AColGroup> f : tasks)
+				ret.add(f.get());
+			return ret;
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw new DMLRuntimeException(e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static boolean containsColumn(IColIndex cols, int cl, int cu) {
+		for(int i = 0; i < cols.size(); i++)
+			if(cols.get(i) >= cl && cols.get(i) <= cu)
+				return true;
+		return false;
+	}
+
+	private static MatrixBlock finalizeUpdate(CompressedMatrixBlock in, CompressedMatrixBlock ret, int k) {
+		final CompressionStatistics stats = new CompressionStatistics();
+		stats.originalSize = MatrixBlock.estimateSizeInMemory(ret.getNumRows(), ret.getNumColumns(),
+			ret.getSparsity());
+		stats.compressedSize = ret.getInMemorySize();
+		final double ratio = stats.getRatio();
+
+		if(ratio < 1) {
+			final String message = String.format(
+				"Decompressing updated matrix because it had to small compression ratio: %2.3f", ratio);
+			return ret.getUncompressed(message, k);
+		}
+
+		double baseline = in.getCompressionRatio();
+		if(Double.isNaN(baseline))
+			baseline = (double) MatrixBlock.estimateSizeInMemory(in.getNumRows(), in.getNumColumns(),
+				in.getSparsity()) / in.getInMemorySize();
+
+		if(ratio < RECOMPRESS_RATIO_DECAY * baseline) {
+			if(LOG.isDebugEnabled())
+				LOG.debug(String.format("Recompressing updated matrix, compression ratio %2.3f below baseline %2.3f",
+					ratio, baseline));
+			final MatrixBlock re = CompressedMatrixBlockFactory.compress(ret.decompress(k), k).getLeft();
+			if(re instanceof CompressedMatrixBlock)
+				return re;
+		}
+		ret.setCompressionRatio(baseline);
+		return ret;
+	}
+
+	private static MatrixBlock rbindUncompressed(MatrixBlock[] that) {
+		final MatrixBlock first = CompressedMatrixBlock.getUncompressed(that[0]);
+		if(that.length == 1)
+			return first;
+		final MatrixBlock[] rest = new MatrixBlock[that.length - 1];
+		for(int i = 0; i < rest.length; i++)
+			rest[i] = CompressedMatrixBlock.getUncompressed(that[i + 1]);
+		return first.append(rest, null, false);
+	}
+
+	private static MatrixBlock fallbackRbind(CompressedMatrixBlock cmb, MatrixBlock[] that, String message) {
+		final MatrixBlock left = cmb.getUncompressed(message);
+		final MatrixBlock[] thatUC = new MatrixBlock[that.length];
+		for(int i = 0; i < that.length; i++)
+			thatUC[i] = CompressedMatrixBlock.getUncompressed(that[i]);
+		return left.append(thatUC, null, false);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixValue;
+
+/**
+ * Sort operations (e.g., for quantiles, median, and inter-quartile mean) in the compressed domain. Instead of one row
+ * per non-zero value, the sorted output contains one row per distinct value with its number of occurrences as weight,
+ * which is equivalent for all consumers of the sorted (value, weight) representation.
+ */
+public class CLALibSort {
+
+	public static MatrixBlock sortOperations(CompressedMatrixBlock cmb, MatrixValue weights, MatrixBlock result,
+		int k) {
+		if(cmb.getNumColumns() != 1)
+			throw new DMLRuntimeException(
+				"Invalid input dimensions (" + cmb.getNumRows() + "x" + cmb.getNumColumns() + ") to sort operation.");
+		else if(weights != null)
+			return fallback(cmb, "sortOperations with weights", weights, result, k);
+		else if(cmb.isOverlapping())
+			return fallback(cmb, "sortOperations on overlapping state", null, result, k);
+
+		final int nRows = cmb.getNumRows();
+		final List<AColGroup> groups = cmb.getColGroups();
+		if(groups.size() == 1 && groups.get(0) instanceof ColGroupUncompressed)
+			return ((ColGroupUncompressed) groups.get(0)).getData().sortOperations(null, result, k);
+
+		final double[][] vc = groups.isEmpty() ? new double[][] {{0}, {nRows}} : //
+			groups.size() == 1 ? groups.get(0).getValueCounts(nRows) : null;
+		if(vc == null)
+			return fallback(cmb, "sortOperations not supported by column group", null, result, k);
+
+		// merge equal values (incl. the zero value required by the sorted output)
+		final TreeMap<Double, Double> counts = new TreeMap<>();
+		counts.put(0.0, 0.0);
+		for(int i = 0; i < vc[0].length; i++)
+			counts.merge(vc[0][i] == 0 ? 0.0 : vc[0][i], vc[1][i], Double::sum);
+
+		// create sorted output of values and weights
+		if(result == null)
+			result = new MatrixBlock(counts.size(), 2, false);
+		else
+			result.reset(counts.size(), 2, false);
+		result.allocateDenseBlock();
+		final double[] ret = result.getDenseBlockValues();
+		int off = 0;
+		for(Map.Entry<Double, Double> e : counts.entrySet()) {
+			ret[off++] = e.getKey();
+			ret[off++] = e.getValue();
+		}
+		result.recomputeNonZeros();
+		return result;
+	}
+
+	private static MatrixBlock fallback(CompressedMatrixBlock cmb, String message, MatrixValue weights,
+		MatrixBlock result, int k) {
+		final MatrixBlock right = CompressedMatrixBlock.getUncompressed(weights);
+		return cmb.getUncompressed(message, k).sortOperations(right, result, k);
+	}
+}
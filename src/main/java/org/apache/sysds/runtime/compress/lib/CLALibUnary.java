@@ -40,6 +40,10 @@ public class CLALibUnary {
 		// early aborts:
 		if(m.isEmpty())
 			return new MatrixBlock(r, c, 0).unaryOperations(op, result);
+		else if(LibMatrixAgg.isSupportedUnaryOperator(op)) {
+			// e.g., cumsum/cumprod/cummin/cumax/cumsumprod (also valid on overlapping state)
+			return CLALibCumAgg.cumaggregate(m, op, op.getNumThreads());
+		}
 		else if(overlapping) {
 			// when in overlapping state it is guaranteed that there is no infinites, NA, or NANs.
 			if(Builtin.isBuiltinCode(op.fn, BuiltinCode.ISINF, BuiltinCode.ISNA, BuiltinCode.ISNAN))
@@ -52,10 +56,6 @@ public class CLALibUnary {
 		else if(Builtin.isBuiltinCode(op.fn, BuiltinCode.ISINF, BuiltinCode.ISNAN, BuiltinCode.ISNA) &&
 			!m.containsValue(op.getPattern()))
 			return new MatrixBlock(r, c, 0); // avoid unnecessary allocation
-		else if(LibMatrixAgg.isSupportedUnaryOperator(op)) {
-			// e.g., cumsum/cumprod/cummin/cumax/cumsumprod
-			return m.getUncompressed("Unary Op not supported: " + op.fn.getClass().getSimpleName(), op.getNumThreads()).unaryOperations(op, null);
-		}
 		else {
 
 			List<AColGroup> groups = m.getColGroups();
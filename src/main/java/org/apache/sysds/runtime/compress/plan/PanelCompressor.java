@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.compress.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressionSettings;
+import org.apache.sysds.runtime.compress.CompressionSettingsBuilder;
+import org.apache.sysds.runtime.compress.DMLCompressionException;
+import org.apache.sysds.runtime.compress.cocode.CoCoderFactory;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.cost.ACostEstimate;
+import org.apache.sysds.runtime.compress.cost.ComputationCostEstimator;
+import org.apache.sysds.runtime.compress.cost.CostEstimatorFactory;
+import org.apache.sysds.runtime.compress.estim.AComEst;
+import org.apache.sysds.runtime.compress.estim.ComEstFactory;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeInfo;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeInfoColGroup;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Streaming compression of a matrix that is provided as row panels (e.g., while reading a file), which avoids the
+ * materialization of the uncompressed matrix.
+ *
+ * The first panels are buffered until a sample of rows is available, which is used to estimate and co-code the column
+ * groups (see {@link ComEstFactory} and {@link CoCoderFactory}). The resulting plan is then applied to all panels, where
+ * each panel first expands the dictionaries of the plan's schemes and is then encoded into a mapping per column group.
+ * Since the schemes assign stable ids to distinct tuples, the panel mappings are finally combined into DDC column groups
+ * over all rows with the dictionaries of the last encoded panel. If the sample indicates that compression is not
+ * beneficial, the panels are instead copied into an uncompressed matrix block.
+ */
+public class PanelCompressor {
+	private static final Log LOG = LogFactory.getLog(PanelCompressor.class.getName());
+
+	/** The minimum number of rows buffered to create the compression plan */
+	public static int SAMPLE_ROWS = 2048;
+
+	private final int _nRow;
+	private final int _nCol;
+	private final int _k;
+	private final CompressionSettings _cs;
+
+	/** The panels buffered until the compression plan is created (row offset and panel) */
+	private List<Pair<Integer, MatrixBlock>> _buffer = new ArrayList<>();
+	private int _bufferedRows = 0;
+	/** The compression plan, null if not yet created or if compression is aborted */
+	private IPlanEncode _plan = null;
+	/** The encoded panels (row offset and column groups in the order of the plan) */
+	private final List<Pair<Integer, List<AColGroup>>> _encoded = new ArrayList<>();
+	/** The uncompressed output if compression is aborted */
+	private MatrixBlock _uncompressed = null;
+
+	private int _rows = 0;
+	private long _nnz = 0;
+
+	/**
+	 * Create a panel compressor for a matrix of the given dimensions.
+	 *
+	 * @param nRow The number of rows of the matrix
+	 * @param nCol The number of columns of the matrix
+	 * @param k    The parallelization degree used for planning and encoding
+	 */
+	public PanelCompressor(int nRow, int nCol, int k) {
+		_nRow = nRow;
+		_nCol = nCol;
+		_k = k;
+		_cs = new CompressionSettingsBuilder().create();
+	}
+
+	/**
+	 * Add a row panel of the matrix. Panels can be added in any order and from multiple threads, but must not overlap,
+	 * must have the number of non zeros maintained, and must not be modified after they are added.
+	 *
+	 * @param rl    The row offset of the panel in the matrix
+	 * @param panel The panel with all columns of the matrix
+	 */
+	public synchronized void addPanel(int rl, MatrixBlock panel) {
+		if(_buffer == null && _plan == null && _uncompressed == null)
+			throw new DMLCompressionException("Invalid to add panels to finished panel compressor");
+		if(panel.getNumColumns() != _nCol || rl < 0 || rl + panel.getNumRows() > _nRow)
+			throw new DMLCompressionException("Invalid panel [" + rl + ":" + (rl + panel.getNumRows()) + ", "
+				+ panel.getNumColumns() + "] of matrix [" + _nRow + ", " + _nCol + "]");
+
+		_rows += panel.getNumRows();
+		_nnz += panel.getNonZeros();
+		if(_uncompressed != null)
+			copyPanel(rl, panel);
+		else if(_plan != null)
+			encodePanel(rl, panel);
+		else {
+			_buffer.add(new ImmutablePair<>(rl, panel));
+			_bufferedRows += panel.getNumRows();
+			if(_bufferedRows >= SAMPLE_ROWS)
+				createPlan();
+		}
+	}
+
+	/**
+	 * Finish the compression after all panels are added.
+	 *
+	 * @return The compressed matrix block, or an uncompressed matrix block if compression is not beneficial
+	 */
+	public synchronized MatrixBlock finish() {
+		if(_rows != _nRow)
+			throw new DMLCompressionException("Invalid number of rows in added panels: " + _rows + " vs " + _nRow);
+		if(_buffer != null && _buffer.isEmpty()) {
+			_buffer = null;
+			return new MatrixBlock(_nRow, _nCol, true);
+		}
+		else if(_buffer != null)
+			createPlan();
+
+		final MatrixBlock ret = _uncompressed != null ? finishUncompressed() : finishCompressed();
+		_plan = null;
+		_uncompressed = null;
+		_encoded.clear();
+		return ret;
+	}
+
+	private void createPlan() {
+		final MatrixBlock sample = getSample();
+		final ACostEstimate ce = CostEstimatorFactory.create(_cs, null, sample.getNumRows(), _nCol,
+			sample.getSparsity());
+		final double originalCost = ce.getCost(sample);
+
+		// classify and co-code the columns based on the sample (analogous to CompressedMatrixBlockFactory)
+		final AComEst est = ComEstFactory.createEstimator(sample, _cs, _k);
+		CompressedSizeInfo groups = est.computeCompressedSizeInfos(_k);
+		final double scale = (ce instanceof ComputationCostEstimator) ? ((double) _nCol) / 2 : 1;
+		boolean compress = ce.getCost(groups) / scale < originalCost;
+		if(compress && _nCol > 1) {
+			groups = CoCoderFactory.findCoCodesByPartitioning(est, groups, _k, ce, _cs);
+			compress = ce.getCost(groups) <= originalCost;
+		}
+
+		final List<Pair<Integer, MatrixBlock>> buffer = _buffer;
+		_buffer = null;
+		if(compress) {
+			// all groups are encoded as DDC, since the remaining rows can contain unseen tuples
+			final List<CompressedSizeInfoColGroup> info = groups.getInfo();
+			final IColIndex[] cols = new IColIndex[info.size()];
+			final CompressionType[] types = new CompressionType[info.size()];
+			for(int i = 0; i < cols.length; i++) {
+				cols[i] = info.get(i).getColumns();
+				types[i] = CompressionType.DDC;
+			}
+			_plan = CompressionPlanFactory.create(cols, types, _k);
+			for(Pair<Integer, MatrixBlock> p : buffer)
+				encodePanel(p.getKey(), p.getValue());
+		}
+		else {
+			if(LOG.isDebugEnabled())
+				LOG.debug("Aborting compression of panels, because the sample of " + sample.getNumRows()
+					+ " rows looks bad");
+			final double sparsity = sample.getSparsity();
+			_uncompressed = new MatrixBlock(_nRow, _nCol, (long) (sparsity * _nRow * _nCol));
+			_uncompressed.allocateBlock();
+			for(Pair<Integer, MatrixBlock> p : buffer)
+				copyPanel(p.getKey(), p.getValue());
+		}
+	}
+
+	private MatrixBlock getSample() {
+		if(_buffer.size() == 1)
+			return _buffer.get(0).getValue();
+		final MatrixBlock[] panels = new MatrixBlock[_buffer.size() - 1];
+		for(int i = 0; i < panels.length; i++)
+			panels[i] = _buffer.get(i + 1).getValue();
+		return _buffer.get(0).getValue().append(panels, null, false);
+	}
+
+	private void encodePanel(int rl, MatrixBlock panel) {
+		_plan.expandPlan(panel);
+		_encoded.add(new ImmutablePair<>(rl, _plan.encode(panel).getColGroups()));
+	}
+
+	private void copyPanel(int rl, MatrixBlock panel) {
+		_uncompressed.copy(rl, rl + panel.getNumRows() - 1, 0, _nCol - 1, panel, false);
+	}
+
+	private MatrixBlock finishUncompressed() {
+		_uncompressed.setNonZeros(_nnz);
+		_uncompressed.examSparsity();
+		return _uncompressed;
+	}
+
+	private MatrixBlock finishCompressed() {
+		if(_encoded.isEmpty())
+			return new MatrixBlock(_nRow, _nCol, true);
+
+		final int nGroups = _encoded.get(0).getValue().size();
+		final List<AColGroup> groups = new ArrayList<>(nGroups);
+		for(int i = 0; i < nGroups; i++)
+			groups.add(combine(i));
+		final CompressedMatrixBlock ret = new CompressedMatrixBlock(_nRow, _nCol, _nnz, false, groups);
+
+		// fallback to uncompressed if the plan of the sample did not generalize to all rows
+		final double sparsity = (double) _nnz / _nRow / _nCol;
+		final long uncompressedSize = MatrixBlock.estimateSizeInMemory(_nRow, _nCol, sparsity);
+		if(ret.getInMemorySize() >= uncompressedSize) {
+			if(LOG.isDebugEnabled())
+				LOG.debug("Decompressing panels, because the compressed size " + ret.getInMemorySize()
+					+ " is above the uncompressed size " + uncompressedSize);
+			return ret.decompress(_k);
+		}
+		return ret;
+	}
+
+	private AColGroup combine(int g) {
+		// the dictionary of the last encoded panel contains all distinct tuples since the schemes only grow,
+		// and if it is constant or empty, all panels contain the same single tuple.
+		final AColGroup last = _encoded.get(_encoded.size() - 1).getValue().get(g);
+		if(!(last instanceof ColGroupDDC))
+			return last;
+
+		final ColGroupDDC ddc = (ColGroupDDC) last;
+		final AMapToData data = MapToFactory.create(_nRow, ddc.getMapToData().getUnique());
+		for(Pair<Integer, List<AColGroup>> p : _encoded) {
+			final AColGroup pg = p.getValue().get(g);
+			// constant or empty panels only contain the first tuple, which is the zero-initialized id
+			if(pg instanceof ColGroupDDC) {
+				final AMapToData pd = ((ColGroupDDC) pg).getMapToData();
+				final int rl = p.getKey();
+				final int nRow = pd.size();
+				for(int r = 0; r < nRow; r++)
+					data.set(rl + r, pd.getIndex(r));
+			}
+		}
+		return ColGroupDDC.create(ddc.getColIndices(), ddc.getDictionary(), data, null);
+	}
+}
@@ -47,6 +47,7 @@ import org.apache.sysds.runtime.controlprogram.parfor.DataPartitionerLocal;
 import org.apache.sysds.runtime.controlprogram.parfor.DataPartitionerRemoteSpark;
 import org.apache.sysds.runtime.controlprogram.parfor.LocalParWorker;
 import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueueWorkStealing;
 import org.apache.sysds.runtime.controlprogram.parfor.ParForBody;
 import org.apache.sysds.runtime.controlprogram.parfor.RemoteDPParForSpark;
 import org.apache.sysds.runtime.controlprogram.parfor.RemoteParForJobReturn;
@@ -755,7 +756,9 @@ public class ParForProgramBlock extends ForProgramBlock
 		{
 			// Step 1) create task queue and init workers in parallel
 			// (including preparation of update-in-place variables)
-			LocalTaskQueue<Task> queue = new LocalTaskQueue<>();
+			//(work stealing via per-worker task deques, see sysds.parfor.workstealing)
+			LocalTaskQueue<Task> queue = ConfigurationManager.isParForWorkStealingEnabled() ?
+				new LocalTaskQueueWorkStealing<>(_numThreads) : new LocalTaskQueue<>();
 			Thread[] threads         = new Thread[_numThreads];
 			LocalParWorker[] workers = new LocalParWorker[_numThreads];
 			IntStream.range(0, _numThreads).parallel().forEach(i -> {
@@ -803,6 +806,10 @@ public class ParForProgramBlock extends ForProgramBlock
 			for( Thread thread : threads )
 				thread.join();
 			
+			if( DMLScript.STATISTICS && queue instanceof LocalTaskQueueWorkStealing ) {
+				ParForStatistics.incrementWorkStealingLoops();
+				ParForStatistics.incrementQueueSteals(((LocalTaskQueueWorkStealing<Task>)queue).getNumSteals());
+			}
 			if( _monitor ) 
 				StatisticMonitor.putPFStat(_ID, Stat.PARFOR_WAIT_EXEC_T, time.stop());
 			
@@ -1248,7 +1255,7 @@ public class ParForProgramBlock extends ForProgramBlock
 			
 			//create the actual parallel worker
 			ParForBody body = new ParForBody( cpChildBlocks, _resultVars, cpEc );
-			pw = new LocalParWorker( pwID, queue, body, cconf, MAX_RETRYS_ON_ERROR, _monitor );
+			pw = new LocalParWorker( pwID, index, queue, body, cconf, MAX_RETRYS_ON_ERROR, _monitor );
 			pw.setFunctionNames(fnNames);
 		}
 		catch(Exception ex) {
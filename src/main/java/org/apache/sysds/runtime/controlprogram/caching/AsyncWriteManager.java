@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.caching;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Write-behind of persistent writes of matrices and frames. The in-memory block
+ * is pinned in the buffer pool and snapshotted (shallow for immutable blocks, deep
+ * copy for blocks marked for update in-place), after which the pin is released
+ * and the actual write runs on a background thread. Subsequent reads of a file
+ * with pending write, writes to the same file, and the end of the program are
+ * synchronization barriers.
+ * 
+ * Since snapshots are not tracked by the buffer pool, the number of in-flight
+ * writes is bounded by the degree of parallelism and their total size by a
+ * fraction of the buffer pool limit; exceeding either bound waits for the
+ * oldest pending writes, and snapshots larger than this budget are written
+ * synchronously.
+ */
+public class AsyncWriteManager
+{
+	private static final Log LOG = LogFactory.getLog(AsyncWriteManager.class.getName());
+
+	//fraction of the buffer pool limit for in-flight snapshots
+	private static final double MAX_INFLIGHT_FRACTION = 0.25;
+
+	//pending writes by file name (in submission order)
+	private static final Map<String, Future<?>> _pending = new LinkedHashMap<>();
+	private static long _inflightSize = 0;
+	private static ExecutorService _pool = null;
+
+	/**
+	 * Exports the given data object asynchronously, if it is an in-memory
+	 * CP intermediate, and otherwise falls back to a synchronous export.
+	 *
+	 * @param obj matrix or frame object
+	 * @param fName file name
+	 * @param outputFormat output format
+	 * @param formatProperties file format properties
+	 */
+	public static void exportData(CacheableData<?> obj, String fName, String outputFormat,
+		FileFormatProperties formatProperties)
+	{
+		//serialize writes to the same file
+		waitForWrite(fName);
+
+		if( !isAsyncExportable(obj, fName) ) {
+			obj.exportData(fName, outputFormat, formatProperties);
+			return;
+		}
+
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		//pin the block (incl restore if evicted), reserve, snapshot, and unpin
+		CacheBlock<?> cb = obj.acquireRead();
+		long size = cb.getInMemorySize();
+		CacheableData<?> tmp = null;
+		try {
+			if( reserve(size) ) {
+				try {
+					tmp = createSnapshot(obj, cb);
+				}
+				catch(RuntimeException | Error ex) {
+					release(size);
+					throw ex;
+				}
+			}
+		}
+		finally {
+			obj.release();
+		}
+		final CacheableData<?> snapshot = tmp;
+		if( snapshot == null ) {
+			obj.exportData(fName, outputFormat, formatProperties);
+			return;
+		}
+
+		//submit write task to the background pool
+		Future<?> task = getPool().submit(() -> {
+			long t1 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+			try {
+				snapshot.writeMetaData(fName, outputFormat, formatProperties);
+				snapshot.writeBlobToHDFS(fName, outputFormat, -1, formatProperties);
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException("Asynchronous export to " + fName + " failed.", ex);
+			}
+			finally {
+				release(size);
+			}
+			if( DMLScript.STATISTICS )
+				CacheStatistics.incrementAsyncWriteTime(System.nanoTime() - t1);
+		});
+		synchronized( _pending ) {
+			_pending.put(getKey(fName), task);
+		}
+
+		if( DMLScript.STATISTICS ) {
+			CacheStatistics.incrementAsyncWrites();
+			CacheStatistics.incrementExportTime(System.nanoTime() - t0);
+		}
+	}
+
+	/**
+	 * Synchronization barrier for a pending write of the given file, if any.
+	 *
+	 * @param fName file name
+	 */
+	public static void waitForWrite(String fName) {
+		if( fName == null )
+			return;
+		Future<?> task = null;
+		synchronized( _pending ) {
+			if( _pending.isEmpty() )
+				return;
+			task = _pending.remove(getKey(fName));
+		}
+		if( task != null )
+			waitFor(task, fName);
+	}
+
+	/**
+	 * Synchronization barrier for all pending writes (e.g., at the end of
+	 * the program). All pending writes are awaited even if some of them
+	 * failed, and the first failure is thrown with the others suppressed.
+	 */
+	public static void waitForAllWrites() {
+		List<Map.Entry<String, Future<?>>> tasks = null;
+		synchronized( _pending ) {
+			if( _pending.isEmpty() )
+				return;
+			tasks = new ArrayList<>(_pending.entrySet());
+			_pending.clear();
+		}
+		DMLRuntimeException err = null;
+		for( Map.Entry<String, Future<?>> e : tasks ) {
+			try {
+				waitFor(e.getValue(), e.getKey());
+			}
+			catch(DMLRuntimeException ex) {
+				if( err == null )
+					err = ex;
+				else
+					err.addSuppressed(ex);
+			}
+		}
+		if( err != null )
+			throw err;
+	}
+
+	public static int getNumPendingWrites() {
+		synchronized( _pending ) {
+			return _pending.size();
+		}
+	}
+
+	public static void shutdown() {
+		waitForAllWrites();
+		synchronized( _pending ) {
+			if( _pool != null ) {
+				_pool.shutdown();
+				_pool = null;
+			}
+		}
+	}
+
+	private static boolean isAsyncExportable(CacheableData<?> obj, String fName) {
+		//only dirty in-memory intermediates of persistent writes, w/o pending
+		//rdd operations, federated or gpu-resident data (synchronous export)
+		return (obj instanceof MatrixObject || obj instanceof FrameObject)
+			&& obj.isDirty() && !fName.equals(obj.getFileName())
+			&& obj.getRDDHandle() == null && !obj.isFederated()
+			&& !DMLScript.USE_ACCELERATOR;
+	}
+
+	private static CacheableData<?> createSnapshot(CacheableData<?> obj, CacheBlock<?> cb) {
+		if( obj instanceof MatrixObject ) {
+			MatrixObject mo = (MatrixObject) obj;
+			MatrixObject ret = new MatrixObject(mo);
+			//copy-on-write for blocks that might be updated in-place
+			ret._data = mo.getUpdateType().isInPlace() ?
+				new MatrixBlock((MatrixBlock) cb) : (MatrixBlock) cb;
+			return ret;
+		}
+		else {
+			FrameObject ret = new FrameObject((FrameObject) obj);
+			ret._data = (FrameBlock) cb;
+			return ret;
+		}
+	}
+
+	/**
+	 * Reserves the size of a snapshot for the in-flight writes, potentially
+	 * waiting for the oldest pending writes.
+	 *
+	 * @param size in-memory size of the snapshot
+	 * @return false if the snapshot exceeds the budget of in-flight writes
+	 */
+	private static boolean reserve(long size) {
+		long limit = (long) (MAX_INFLIGHT_FRACTION * OptimizerUtils.getBufferPoolLimit());
+		if( size > limit )
+			return false;
+		int maxWrites = InfrastructureAnalyzer.getLocalParallelism();
+		while( true ) {
+			Map.Entry<String, Future<?>> oldest = null;
+			synchronized( _pending ) {
+				//drop completed writes (failures surface at the next barrier)
+				Iterator<Map.Entry<String, Future<?>>> iter = _pending.entrySet().iterator();
+				while( iter.hasNext() ) {
+					Map.Entry<String, Future<?>> e = iter.next();
+					if( e.getValue().isDone() && !hasFailed(e.getValue()) )
+						iter.remove();
+				}
+				if( (_inflightSize + size <= limit && _pending.size() < maxWrites) || _pending.isEmpty() ) {
+					_inflightSize += size;
+					return true;
+				}
+				oldest = _pending.entrySet().iterator().next();
+				_pending.remove(oldest.getKey());
+			}
+			waitFor(oldest.getValue(), oldest.getKey());
+		}
+	}
+
+	private static void release(long size) {
+		synchronized( _pending ) {
+			_inflightSize -= size;
+		}
+	}
+
+	private static boolean hasFailed(Future<?> task) {
+		try {
+			task.get();
+			return false;
+		}
+		catch(Exception ex) {
+			return true;
+		}
+	}
+
+	private static void waitFor(Future<?> task, String fName) {
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		try {
+			task.get();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException("Failed asynchronous write of " + fName + ".", ex);
+		}
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementAsyncWriteWaitTime(System.nanoTime() - t0);
+		if( LOG.isTraceEnabled() )
+			LOG.trace("Completed asynchronous write of " + fName + ".");
+	}
+
+	private static ExecutorService getPool() {
+		synchronized( _pending ) {
+			if( _pool == null ) {
+				//daemon threads to not block the JVM shutdown (e.g., in jmlc)
+				_pool = Executors.newFixedThreadPool(InfrastructureAnalyzer.getLocalParallelism(), r -> {
+					Thread t = new Thread(r, "async-write");
+					t.setDaemon(true);
+					return t;
+				});
+			}
+			return _pool;
+		}
+	}
+
+	private static String getKey(String fName) {
+		//normalize file names (e.g., redundant separators)
+		return new Path(fName).toString();
+	}
+}
@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.LongAdder;
  * This singleton provides basic caching statistics in CP.
  * 
  * 1) Hit statistics for caching (mem, fs, hdfs, total)
+ * 2) Throughput of evictions to and restores from local FS
  * 
  * NOTE: In order to provide accurate statistics in multi-threaded
  * synchronized increments are required. Since those functions are 
@@ -69,6 +70,17 @@ public class CacheStatistics
 	private static final LongAdder _ctimeAcquireM   = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeRelease    = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeExport     = new LongAdder(); //in nano sec
+	
+	//throughput statistics of local FS evictions and restores
+	private static final LongAdder _bytesFSEvict    = new LongAdder();
+	private static final LongAdder _bytesFSRestore  = new LongAdder();
+	private static final LongAdder _ctimeFSEvict    = new LongAdder(); //in nano sec
+	private static final LongAdder _ctimeFSRestore  = new LongAdder(); //in nano sec
+
+	//statistics of asynchronous (write-behind) exports
+	private static final LongAdder _numAsyncWrites  = new LongAdder();
+	private static final LongAdder _ctimeAsyncWrite = new LongAdder(); //in nano sec
+	private static final LongAdder _ctimeAsyncWait  = new LongAdder(); //in nano sec
 
 	public static void reset() {
 		_numHitsMem.reset();
@@ -86,6 +98,15 @@ public class CacheStatistics
 		_ctimeAcquireM.reset();
 		_ctimeRelease.reset();
 		_ctimeExport.reset();
+		
+		_bytesFSEvict.reset();
+		_bytesFSRestore.reset();
+		_ctimeFSEvict.reset();
+		_ctimeFSRestore.reset();
+		
+		_numAsyncWrites.reset();
+		_ctimeAsyncWrite.reset();
+		_ctimeAsyncWait.reset();
 	}
 
 	public static void incrementMemHits() {
@@ -228,6 +249,40 @@ public class CacheStatistics
 		return _ctimeExport.longValue();
 	}
 	
+	public static void incrementFSEviction(long bytes, long delta) {
+		_bytesFSEvict.add(bytes);
+		_ctimeFSEvict.add(delta);
+	}
+	
+	public static long getFSEvictionBytes() {
+		return _bytesFSEvict.longValue();
+	}
+	
+	public static void incrementFSRestore(long bytes, long delta) {
+		_bytesFSRestore.add(bytes);
+		_ctimeFSRestore.add(delta);
+	}
+	
+	public static long getFSRestoreBytes() {
+		return _bytesFSRestore.longValue();
+	}
+	
+	public static void incrementAsyncWrites() {
+		_numAsyncWrites.increment();
+	}
+	
+	public static long getAsyncWrites() {
+		return _numAsyncWrites.longValue();
+	}
+	
+	public static void incrementAsyncWriteTime(long delta) {
+		_ctimeAsyncWrite.add(delta);
+	}
+	
+	public static void incrementAsyncWriteWaitTime(long delta) {
+		_ctimeAsyncWait.add(delta);
+	}
+	
 	public static String displayHits() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numHitsMem.longValue());
@@ -268,4 +323,39 @@ public class CacheStatistics
 		
 		return sb.toString();
 	}
+	
+	public static String displayFSThroughput() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%.1f", getThroughput(_bytesFSEvict, _ctimeFSEvict))); //in MB/s
+		sb.append("/");
+		sb.append(String.format("%.1f", getThroughput(_bytesFSRestore, _ctimeFSRestore))); //in MB/s
+		sb.append(" MB/s (");
+		sb.append(String.format("%.1f", ((double)_bytesFSEvict.longValue())/1024/1024)); //in MB
+		sb.append("/");
+		sb.append(String.format("%.1f", ((double)_bytesFSRestore.longValue())/1024/1024)); //in MB
+		sb.append(" MB)");
+		
+		return sb.toString();
+	}
+	
+	public static String displayAsyncWrites() {
+		//overlap: background write time not spent waiting at barriers
+		long write = _ctimeAsyncWrite.longValue();
+		long wait = _ctimeAsyncWait.longValue();
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numAsyncWrites.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)write)/1000000000)); //in sec
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)wait)/1000000000)); //in sec
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)Math.max(write-wait, 0))/1000000000)); //in sec
+		
+		return sb.toString();
+	}
+	
+	private static double getThroughput(LongAdder bytes, LongAdder time) {
+		long ctime = time.longValue();
+		return (ctime == 0) ? 0 : ((double)bytes.longValue())/1024/1024 / (ctime*1e-9);
+	}
 }
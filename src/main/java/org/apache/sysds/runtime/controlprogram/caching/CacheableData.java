@@ -90,6 +90,7 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
 	public static final boolean CACHING_ASYNC_FILECLEANUP = true;
 	public static final boolean CACHING_ASYNC_SERIALIZE = false;
+	public static final boolean CACHING_EVICTION_RAWDENSE = true; //raw dense FP64 eviction files
 	
 	//NOTE CACHING_ASYNC_SERIALIZE:
 	// The serialization of matrices and frames (ultra-sparse matrices or 
@@ -849,6 +850,10 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		//prevent concurrent modifications
 		if ( !isAvailableToRead() )
 			throw new DMLRuntimeException("MatrixObject not available to read.");
+		
+		//barrier for pending asynchronous writes of the source or target file
+		AsyncWriteManager.waitForWrite(_hdfsFileName);
+		AsyncWriteManager.waitForWrite(fName);
 
 		LOG.trace("Exporting " + this.getDebugName() + " to " + fName + " in format " + outputFormat);
 		
@@ -186,6 +186,8 @@ public class FrameObject extends CacheableData<FrameBlock>
 
 	@Override
 	protected FrameBlock readBlobFromHDFS(String fname, long[] dims) throws IOException {
+		//barrier for pending asynchronous writes
+		AsyncWriteManager.waitForWrite(fname);
 		long clen = dims[1];
 		MetaDataFormat iimd = (MetaDataFormat) _metaData;
 		DataCharacteristics dc = iimd.getDataCharacteristics();
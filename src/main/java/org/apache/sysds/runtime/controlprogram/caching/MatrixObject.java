@@ -422,6 +422,8 @@ public class MatrixObject extends CacheableData<MatrixBlock> {
 
 	@Override
 	protected MatrixBlock readBlobFromHDFS(String fname, long[] dims) throws IOException {
+		//barrier for pending asynchronous writes
+		AsyncWriteManager.waitForWrite(fname);
 		long rlen = dims[0];
 		long clen = dims[1];
 		MetaDataFormat iimd = (MetaDataFormat) _metaData;
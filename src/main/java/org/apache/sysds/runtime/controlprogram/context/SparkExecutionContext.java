@@ -65,6 +65,7 @@ import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.compress.io.CompressUnwrap;
 import org.apache.sysds.runtime.compress.io.CompressedWriteBlock;
 import org.apache.sysds.runtime.controlprogram.Program;
+import org.apache.sysds.runtime.controlprogram.caching.AsyncWriteManager;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
@@ -453,8 +454,9 @@ public class SparkExecutionContext extends ExecutionContext
 		//CASE 3: non-dirty (file exists on HDFS)
 		else
 		{
-			// parallelize hdfs-resident file
+			// parallelize hdfs-resident file (after pending asynchronous writes)
 			// For binary block, these are: SequenceFileInputFormat.class, MatrixIndexes.class, MatrixBlock.class
+			AsyncWriteManager.waitForWrite(mo.getFileName());
 			rdd = sc.hadoopFile( mo.getFileName(), inputInfo.inputFormatClass, inputInfo.keyClass, inputInfo.valueClass);
 			if(fmt == FileFormat.BINARY) 
 				//note: this copy is still required in Spark 1.4 because spark hands out whatever the inputformat
@@ -608,8 +610,9 @@ public class SparkExecutionContext extends ExecutionContext
 		//CASE 3: non-dirty (file exists on HDFS)
 		else
 		{
-			// parallelize hdfs-resident file
+			// parallelize hdfs-resident file (after pending asynchronous writes)
 			// For binary block, these are: SequenceFileInputFormat.class, MatrixIndexes.class, MatrixBlock.class
+			AsyncWriteManager.waitForWrite(fo.getFileName());
 			if(fmt == FileFormat.BINARY) {
 				rdd = sc.hadoopFile( fo.getFileName(), inputInfo2.inputFormatClass, inputInfo2.keyClass, inputInfo2.valueClass);
 				//note: this copy is still required in Spark 1.4 because spark hands out whatever the inputformat
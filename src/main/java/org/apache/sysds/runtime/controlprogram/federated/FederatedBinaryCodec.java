@@ -0,0 +1,565 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.lineage.LineageCache;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineageItem;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlockDataInput;
+import org.apache.sysds.runtime.matrix.data.MatrixBlockDataOutput;
+import org.apache.sysds.runtime.privacy.PrivacyConstraint.PrivacyLevel;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
+
+/**
+ * Binary wire protocol for federated requests and responses, used instead of the
+ * Java serialization of Netty's ObjectEncoder/ObjectDecoder if enabled via
+ * sysds.federated.codec=binary (opt-in, because coordinator and workers need to
+ * agree on the protocol).
+ *
+ * Every message is framed by a 4 byte length, followed by a message type and the
+ * fields of the federated request array or response. Uncompressed matrix blocks
+ * and frame blocks are serialized directly into pooled direct buffers of their
+ * exact serialized size, which are then combined without copying into a composite
+ * buffer together with the small header segments. Primitive values and strings
+ * are written in binary form, and all remaining objects (e.g., scalars, UDFs,
+ * exceptions, compressed blocks) fall back to Java serialization of the individual
+ * object.
+ */
+public class FederatedBinaryCodec
+{
+	//message types
+	private static final byte MSG_REQUESTS = 1;
+	private static final byte MSG_RESPONSE = 2;
+
+	//object types
+	private static final byte OBJ_NULL = 0;
+	private static final byte OBJ_MATRIX = 1;
+	private static final byte OBJ_FRAME = 2;
+	private static final byte OBJ_STRING = 3;
+	private static final byte OBJ_LONG = 4;
+	private static final byte OBJ_INT = 5;
+	private static final byte OBJ_DOUBLE = 6;
+	private static final byte OBJ_BOOLEAN = 7;
+	private static final byte OBJ_JAVA = 8;
+
+	//allow-list of classes deserialized by the java serialization fallback
+	private static final ObjectInputFilter OBJ_JAVA_FILTER = ObjectInputFilter.Config.createFilter(
+		"org.apache.sysds.**;java.lang.**;java.util.**;java.math.*;java.io.*;"
+		+ "org.apache.commons.lang3.tuple.*;!*");
+
+	//initial capacity of header segments
+	private static final int SEGMENT_SIZE = 256;
+
+	private FederatedBinaryCodec() {
+		//prevent instantiation via private constructor
+	}
+
+	public static Encoder encoder() {
+		return new Encoder();
+	}
+
+	public static Decoder decoder() {
+		return new Decoder();
+	}
+
+	/**
+	 * Encoder of federated request arrays and federated responses into
+	 * composite buffers of header segments and serialized cache blocks.
+	 */
+	public static class Encoder extends MessageToMessageEncoder<Object> {
+		@Override
+		public boolean acceptOutboundMessage(Object msg) {
+			return msg instanceof FederatedRequest[] || msg instanceof FederatedResponse;
+		}
+
+		@Override
+		protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+			//reuse of serialized responses via the lineage cache (as in the FederatedResponseEncoder)
+			LineageItem objLI = getReusableLineageItem(msg);
+			if( objLI != null ) {
+				byte[] cachedBytes = LineageCache.reuseSerialization(objLI);
+				if( cachedBytes != null ) {
+					out.add(Unpooled.wrappedBuffer(cachedBytes));
+					return;
+				}
+			}
+			long t0 = (objLI != null) ? System.nanoTime() : 0;
+			ByteBuf buf = encode(ctx.alloc(), msg);
+			if( objLI != null )
+				LineageCache.putSerializedObject(ByteBufUtil.getBytes(buf), objLI, System.nanoTime() - t0);
+			out.add(buf);
+		}
+
+		private static LineageItem getReusableLineageItem(Object msg) {
+			if( ReuseCacheType.isNone() || !(msg instanceof FederatedResponse) )
+				return null;
+			FederatedResponse response = (FederatedResponse) msg;
+			Object[] data = response.getRawData();
+			return (data != null && data.length != 0 && data[0] instanceof CacheBlock<?>) ?
+				response.getLineageItem() : null;
+		}
+
+		public static ByteBuf encode(ByteBufAllocator alloc, Object msg) throws IOException {
+			SegmentWriter w = new SegmentWriter(alloc);
+			try {
+				w.buf().writeInt(0); //frame length, set on completion
+				if( msg instanceof FederatedRequest[] ) {
+					FederatedRequest[] reqs = (FederatedRequest[]) msg;
+					w.buf().writeByte(MSG_REQUESTS);
+					w.buf().writeInt(reqs.length);
+					for( FederatedRequest fr : reqs )
+						writeRequest(w, fr);
+				}
+				else {
+					w.buf().writeByte(MSG_RESPONSE);
+					writeResponse(w, (FederatedResponse) msg);
+				}
+				return w.finish();
+			}
+			catch(IOException | RuntimeException ex) {
+				w.release();
+				throw ex;
+			}
+		}
+	}
+
+	/**
+	 * Decoder of length-framed federated request arrays and federated responses.
+	 * Since the frame length is known upfront, every frame is accumulated into
+	 * a buffer of exact size, which avoids the repeated expansion (and copy) of
+	 * the cumulation buffer for large messages.
+	 */
+	public static class Decoder extends ByteToMessageDecoder {
+		private ByteBuf _frame = null;
+
+		@Override
+		protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+			if( _frame == null ) {
+				if( in.readableBytes() < 4 )
+					return;
+				int len = in.readInt();
+				if( len < 0 )
+					throw new IOException("Invalid federated message length: "+len);
+				_frame = ctx.alloc().ioBuffer(len, len);
+			}
+			_frame.writeBytes(in, Math.min(in.readableBytes(), _frame.writableBytes()));
+			if( !_frame.isWritable() ) {
+				ByteBuf frame = _frame;
+				_frame = null;
+				try {
+					out.add(decodeFrame(frame));
+				}
+				finally {
+					frame.release();
+				}
+			}
+		}
+
+		@Override
+		protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+			if( _frame != null ) {
+				_frame.release();
+				_frame = null;
+			}
+		}
+
+		public static Object decodeFrame(ByteBuf frame) throws IOException {
+			byte type = frame.readByte();
+			if( type == MSG_REQUESTS ) {
+				FederatedRequest[] reqs = new FederatedRequest[frame.readInt()];
+				for( int i=0; i<reqs.length; i++ )
+					reqs[i] = readRequest(frame);
+				return reqs;
+			}
+			else if( type == MSG_RESPONSE )
+				return readResponse(frame);
+			throw new IOException("Invalid federated message type: "+type);
+		}
+	}
+
+	private static void writeRequest(SegmentWriter w, FederatedRequest fr) throws IOException {
+		ByteBuf buf = w.buf();
+		buf.writeByte(fr.getType().ordinal());
+		buf.writeLong(fr.getID());
+		buf.writeLong(fr.getTID());
+		buf.writeLong(fr.getPID());
+		buf.writeBoolean(fr.checkPrivacy());
+		writeString(buf, fr.getLineageTrace());
+		List<Long> checksums = fr.getChecksums();
+		buf.writeInt(checksums != null ? checksums.size() : -1);
+		if( checksums != null )
+			for( Long cs : checksums )
+				buf.writeLong(cs);
+		List<Object> params = fr.getParams();
+		buf.writeInt(params.size());
+		for( Object obj : params )
+			writeObject(w, obj);
+	}
+
+	private static FederatedRequest readRequest(ByteBuf buf) throws IOException {
+		RequestType method = RequestType.values()[buf.readByte()];
+		long id = buf.readLong();
+		long tid = buf.readLong();
+		long pid = buf.readLong();
+		boolean checkPrivacy = buf.readBoolean();
+		String lineageTrace = readString(buf);
+		int ncs = buf.readInt();
+		List<Long> checksums = null;
+		if( ncs >= 0 ) {
+			checksums = new ArrayList<>(ncs);
+			for( int i=0; i<ncs; i++ )
+				checksums.add(buf.readLong());
+		}
+		int nparams = buf.readInt();
+		List<Object> params = new ArrayList<>(nparams);
+		for( int i=0; i<nparams; i++ )
+			params.add(readObject(buf));
+		return new FederatedRequest(method, id, tid, pid,
+			params, checkPrivacy, checksums, lineageTrace);
+	}
+
+	private static void writeResponse(SegmentWriter w, FederatedResponse fr) throws IOException {
+		ByteBuf buf = w.buf();
+		buf.writeByte(fr.getStatus().ordinal());
+		Map<PrivacyLevel,LongAdder> constraints = fr.getCheckedConstraints();
+		buf.writeInt(constraints != null ? constraints.size() : -1);
+		if( constraints != null ) {
+			for( Entry<PrivacyLevel,LongAdder> e : constraints.entrySet() ) {
+				buf.writeByte(e.getKey().ordinal());
+				buf.writeLong(e.getValue().longValue());
+			}
+		}
+		Object[] data = fr.getRawData();
+		buf.writeInt(data != null ? data.length : -1);
+		if( data != null )
+			for( Object obj : data )
+				writeObject(w, obj);
+	}
+
+	private static FederatedResponse readResponse(ByteBuf buf) throws IOException {
+		ResponseType status = ResponseType.values()[buf.readByte()];
+		int nconstraints = buf.readInt();
+		Map<PrivacyLevel,LongAdder> constraints = null;
+		if( nconstraints >= 0 ) {
+			constraints = new EnumMap<>(PrivacyLevel.class);
+			for( int i=0; i<nconstraints; i++ ) {
+				LongAdder cnt = new LongAdder();
+				constraints.put(PrivacyLevel.values()[buf.readByte()], cnt);
+				cnt.add(buf.readLong());
+			}
+		}
+		int ndata = buf.readInt();
+		Object[] data = null;
+		if( ndata >= 0 ) {
+			data = new Object[ndata];
+			for( int i=0; i<ndata; i++ )
+				data[i] = readObject(buf);
+		}
+		FederatedResponse ret = new FederatedResponse(status, data);
+		ret.setCheckedConstraints(constraints);
+		return ret;
+	}
+
+	private static void writeObject(SegmentWriter w, Object obj) throws IOException {
+		ByteBuf buf = w.buf();
+		if( obj == null )
+			buf.writeByte(OBJ_NULL);
+		//exact class checks, as subclasses such as compressed blocks use other formats
+		else if( obj.getClass() == MatrixBlock.class ) {
+			buf.writeByte(OBJ_MATRIX);
+			w.appendBlock((MatrixBlock) obj);
+		}
+		else if( obj.getClass() == FrameBlock.class ) {
+			buf.writeByte(OBJ_FRAME);
+			w.appendBlock((FrameBlock) obj);
+		}
+		else if( obj instanceof String ) {
+			buf.writeByte(OBJ_STRING);
+			writeString(buf, (String) obj);
+		}
+		else if( obj instanceof Long ) {
+			buf.writeByte(OBJ_LONG);
+			buf.writeLong((Long) obj);
+		}
+		else if( obj instanceof Integer ) {
+			buf.writeByte(OBJ_INT);
+			buf.writeInt((Integer) obj);
+		}
+		else if( obj instanceof Double ) {
+			buf.writeByte(OBJ_DOUBLE);
+			buf.writeDouble((Double) obj);
+		}
+		else if( obj instanceof Boolean ) {
+			buf.writeByte(OBJ_BOOLEAN);
+			buf.writeBoolean((Boolean) obj);
+		}
+		else {
+			//fallback: java serialization of the individual object, length-prefixed
+			buf.writeByte(OBJ_JAVA);
+			int lpos = buf.writerIndex();
+			buf.writeInt(0);
+			try(ObjectOutputStream oos = new ObjectOutputStream(new ByteBufOutputStream(buf))) {
+				oos.writeObject(obj);
+			}
+			buf.setInt(lpos, buf.writerIndex() - lpos - 4);
+		}
+	}
+
+	private static Object readObject(ByteBuf buf) throws IOException {
+		byte type = buf.readByte();
+		switch( type ) {
+			case OBJ_NULL:
+				return null;
+			case OBJ_MATRIX: {
+				MatrixBlock mb = new MatrixBlock();
+				mb.readFields(new BlockDataInput(buf));
+				return mb;
+			}
+			case OBJ_FRAME: {
+				FrameBlock fb = new FrameBlock();
+				fb.readFields(new BlockDataInput(buf));
+				return fb;
+			}
+			case OBJ_STRING:
+				return readString(buf);
+			case OBJ_LONG:
+				return buf.readLong();
+			case OBJ_INT:
+				return buf.readInt();
+			case OBJ_DOUBLE:
+				return buf.readDouble();
+			case OBJ_BOOLEAN:
+				return buf.readBoolean();
+			case OBJ_JAVA: {
+				int len = buf.readInt();
+				int end = buf.readerIndex() + len;
+				try(ObjectInputStream ois = new ObjectInputStream(new ByteBufInputStream(buf, len))) {
+					ois.setObjectInputFilter(OBJ_JAVA_FILTER);
+					return ois.readObject();
+				}
+				catch(ClassNotFoundException ex) {
+					throw new IOException("Failed to deserialize federated object.", ex);
+				}
+				finally {
+					buf.readerIndex(end);
+				}
+			}
+			default:
+				throw new IOException("Invalid federated object type: "+type);
+		}
+	}
+
+	private static void writeString(ByteBuf buf, String str) {
+		if( str == null ) {
+			buf.writeInt(-1);
+			return;
+		}
+		byte[] tmp = str.getBytes(StandardCharsets.UTF_8);
+		buf.writeInt(tmp.length);
+		buf.writeBytes(tmp);
+	}
+
+	private static String readString(ByteBuf buf) {
+		int len = buf.readInt();
+		if( len < 0 )
+			return null;
+		String ret = buf.toString(buf.readerIndex(), len, StandardCharsets.UTF_8);
+		buf.skipBytes(len);
+		return ret;
+	}
+
+	/**
+	 * Writer of a message into a sequence of header segments and exactly
+	 * sized block buffers, which are combined into a composite buffer.
+	 */
+	private static class SegmentWriter {
+		private final ByteBufAllocator _alloc;
+		private final CompositeByteBuf _ret;
+		private ByteBuf _cur;
+
+		protected SegmentWriter(ByteBufAllocator alloc) {
+			_alloc = alloc;
+			_ret = alloc.compositeDirectBuffer(Integer.MAX_VALUE);
+			_cur = alloc.ioBuffer(SEGMENT_SIZE);
+		}
+
+		protected ByteBuf buf() {
+			return _cur;
+		}
+
+		protected void appendBlock(CacheBlock<?> cb) throws IOException {
+			long size = cb.getExactSerializedSize();
+			if( size > Integer.MAX_VALUE - _ret.readableBytes() - _cur.readableBytes() )
+				throw new DMLRuntimeException("Federated message exceeds max size of 2GB: "+size);
+			_ret.addComponent(true, _cur);
+			_cur = null;
+			ByteBuf block = _alloc.ioBuffer((int) size);
+			try {
+				cb.write(new BlockDataOutput(block));
+			}
+			catch(IOException | RuntimeException ex) {
+				block.release();
+				throw ex;
+			}
+			_ret.addComponent(true, block);
+			_cur = _alloc.ioBuffer(SEGMENT_SIZE);
+		}
+
+		protected ByteBuf finish() {
+			_ret.addComponent(true, _cur);
+			_cur = null;
+			_ret.setInt(0, _ret.readableBytes() - 4);
+			return _ret;
+		}
+
+		protected void release() {
+			if( _cur != null )
+				_cur.release();
+			_ret.release();
+		}
+	}
+
+	/**
+	 * Data output for cache blocks with bulk writes of dense double arrays.
+	 */
+	private static class BlockDataOutput extends ByteBufOutputStream implements MatrixBlockDataOutput {
+		private final ByteBuf _buf;
+
+		protected BlockDataOutput(ByteBuf buf) {
+			super(buf);
+			_buf = buf;
+		}
+
+		@Override
+		public void writeDoubleArray(int len, double[] varr) throws IOException {
+			_buf.ensureWritable(len * 8);
+			int off = _buf.writerIndex();
+			if( _buf.nioBufferCount() == 1 ) {
+				_buf.nioBuffer(off, len * 8).order(ByteOrder.BIG_ENDIAN)
+					.asDoubleBuffer().put(varr, 0, len);
+				_buf.writerIndex(off + len * 8);
+			}
+			else {
+				for( int i=0; i<len; i++ )
+					_buf.writeDouble(varr[i]);
+			}
+		}
+
+		@Override
+		public void writeSparseRows(int rlen, SparseBlock rows) throws IOException {
+			int lrlen = Math.min(rows.numRows(), rlen);
+			for( int i=0; i<lrlen; i++ ) {
+				if( !rows.isEmpty(i) ) {
+					int apos = rows.pos(i);
+					int alen = rows.size(i);
+					int[] aix = rows.indexes(i);
+					double[] avals = rows.values(i);
+					_buf.writeInt(alen);
+					for( int j=apos; j<apos+alen; j++ ) {
+						_buf.writeInt(aix[j]);
+						_buf.writeDouble(avals[j]);
+					}
+				}
+				else
+					_buf.writeInt(0);
+			}
+			//remaining empty rows
+			for( int i=lrlen; i<rlen; i++ )
+				_buf.writeInt(0);
+		}
+	}
+
+	/**
+	 * Data input for cache blocks with bulk reads of dense double arrays.
+	 */
+	private static class BlockDataInput extends ByteBufInputStream implements MatrixBlockDataInput {
+		private final ByteBuf _buf;
+
+		protected BlockDataInput(ByteBuf buf) {
+			super(buf);
+			_buf = buf;
+		}
+
+		@Override
+		public long readDoubleArray(int len, double[] varr) throws IOException {
+			int off = _buf.readerIndex();
+			if( _buf.nioBufferCount() == 1 ) {
+				_buf.nioBuffer(off, len * 8).order(ByteOrder.BIG_ENDIAN)
+					.asDoubleBuffer().get(varr, 0, len);
+				_buf.readerIndex(off + len * 8);
+			}
+			else {
+				for( int i=0; i<len; i++ )
+					varr[i] = _buf.readDouble();
+			}
+			long nnz = 0;
+			for( int i=0; i<len; i++ )
+				nnz += (varr[i] != 0) ? 1 : 0;
+			return nnz;
+		}
+
+		@Override
+		public long readSparseRows(int rlen, long nnz, SparseBlock rows) throws IOException {
+			long gnnz = 0;
+			for( int i=0; i<rlen; i++ ) {
+				int lnnz = _buf.readInt();
+				if( lnnz > 0 ) {
+					rows.allocate(i, lnnz);
+					for( int j=0; j<lnnz; j++ )
+						rows.append(i, _buf.readInt(), _buf.readDouble());
+					gnnz += lnnz;
+				}
+			}
+			if( gnnz != nnz )
+				throw new IOException("Invalid number of read nnz: "+gnnz+" vs "+nnz);
+			return nnz;
+		}
+	}
+}
@@ -203,6 +203,7 @@ public class FederatedData {
 	private static ChannelInitializer<SocketChannel> createChannel(InetSocketAddress address, DataRequestHandler handler){
 		final int timeout = ConfigurationManager.getFederatedTimeout();
 		final boolean ssl = ConfigurationManager.isFederatedSSL();
+		final boolean binary = ConfigurationManager.isFederatedBinaryCodec();
 
 		return new ChannelInitializer<SocketChannel>() {
 			@Override
@@ -213,7 +214,10 @@ public class FederatedData {
 					cp.addLast(createSSLHandler(ch, address));
 				if(timeout > -1)
 					cp.addLast(new ReadTimeoutHandler(timeout));
-				cp.addLast(FederationUtils.decoder(), new FederatedRequestEncoder(), handler);
+				if(binary)
+					cp.addLast(FederatedBinaryCodec.decoder(), FederatedBinaryCodec.encoder(), handler);
+				else
+					cp.addLast(FederationUtils.decoder(), new FederatedRequestEncoder(), handler);
 			}
 		};
 	}
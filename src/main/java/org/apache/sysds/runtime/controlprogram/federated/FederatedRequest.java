@@ -88,6 +88,23 @@ public class FederatedRequest implements Serializable {
 		setCheckPrivacy();
 	}
 
+	/**
+	 * Constructor for requests decoded by the binary federated codec, which
+	 * restores all fields without counting the request again in the statistics.
+	 */
+	FederatedRequest(RequestType method, long id, long tid, long pid, List<Object> data,
+		boolean checkPrivacy, List<Long> checksums, String lineageTrace)
+	{
+		_method = method;
+		_id = id;
+		_tid = tid;
+		_pid = pid;
+		_data = data;
+		_checkPrivacy = checkPrivacy;
+		_checksums = checksums;
+		_lineageTrace = lineageTrace;
+	}
+
 	public RequestType getType() {
 		return _method;
 	}
@@ -191,6 +208,14 @@ public class FederatedRequest implements Serializable {
 		}
 	}
 
+	List<Object> getParams() {
+		return _data;
+	}
+
+	List<Long> getChecksums() {
+		return _checksums;
+	}
+
 	public String getLineageTrace() {
 		return _lineageTrace;
 	}
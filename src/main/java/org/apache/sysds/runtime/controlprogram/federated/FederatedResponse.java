@@ -93,6 +93,24 @@ public class FederatedResponse implements Serializable {
 		return _data;
 	}
 
+	ResponseType getStatus() {
+		return _status;
+	}
+
+	/**
+	 * Obtains the data objects without checking for errors
+	 * or updating the checked constraints log.
+	 *
+	 * @return data objects, potentially null
+	 */
+	Object[] getRawData() {
+		return _data;
+	}
+
+	Map<PrivacyLevel,LongAdder> getCheckedConstraints() {
+		return checkedConstraints;
+	}
+
 	public long estimateSerializationBufferSize() {
 		long minBufferSize = 312; // general offset for the FederatedResponse object
 		if(_data != null) {
@@ -195,11 +195,15 @@ public class FederatedWorker {
 					if(ssl)
 						cp.addLast(cont2.newHandler(ch.alloc()));
 					cp.addLast("NetworkTrafficCounter", new NetworkTrafficCounter(FederatedStatistics::logWorkerTraffic));
-					cp.addLast("ObjectDecoder",
-						new ObjectDecoder(Integer.MAX_VALUE,
-							ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader())));
-					cp.addLast("ObjectEncoder", new ObjectEncoder());
-					cp.addLast(FederationUtils.decoder(), new FederatedResponseEncoder());
+					if(ConfigurationManager.isFederatedBinaryCodec())
+						cp.addLast(FederatedBinaryCodec.decoder(), FederatedBinaryCodec.encoder());
+					else {
+						cp.addLast("ObjectDecoder",
+							new ObjectDecoder(Integer.MAX_VALUE,
+								ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader())));
+						cp.addLast("ObjectEncoder", new ObjectEncoder());
+						cp.addLast(FederationUtils.decoder(), new FederatedResponseEncoder());
+					}
 					cp.addLast(new FederatedWorkerHandler(_flt, _frc, _fan, networkTimer));
 				}
 			};
@@ -30,6 +30,7 @@ import org.apache.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.Stat;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.StatisticMonitor;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.Timing;
+import org.apache.sysds.utils.stats.ParForStatistics;
 
 /**
  * Instances of this class can be used to execute tasks in parallel. Within each ParWorker 
@@ -45,10 +46,16 @@ public class LocalParWorker extends ParWorker implements Runnable
 	protected final CompilerConfig _cconf;
 	protected final boolean _stopped;
 	protected final int _max_retry;
+	protected final int _workerIx;
 	protected Collection<String> _fnNames = null;
 	
 	public LocalParWorker( long ID, LocalTaskQueue<Task> q, ParForBody body, CompilerConfig cconf, int max_retry, boolean monitor ) {
+		this(ID, 0, q, body, cconf, max_retry, monitor);
+	}
+	
+	public LocalParWorker( long ID, int workerIx, LocalTaskQueue<Task> q, ParForBody body, CompilerConfig cconf, int max_retry, boolean monitor ) {
 		super(ID, body, monitor);
+		_workerIx = workerIx;
 		_taskQueue = q;
 		_cconf = cconf;
 		_stopped   = false;
@@ -94,11 +101,15 @@ public class LocalParWorker extends ParWorker implements Runnable
 		
 		// continuous execution (execute tasks until (1) stopped or (2) no more tasks)
 		Task lTask = null; 
+		long waitTime = 0; //in nano sec
 		try {
 			while( !_stopped ) {
 				//dequeue the next task (abort on NO_MORE_TASKS or error)
 				try {
-					lTask = _taskQueue.dequeueTask();
+					long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+					lTask = _taskQueue.dequeueTask(_workerIx);
+					if( DMLScript.STATISTICS )
+						waitTime += System.nanoTime() - t0;
 					
 					if( lTask == LocalTaskQueue.NO_MORE_TASKS ) // task queue closed (no more tasks)
 						break; //normal end of parallel worker
@@ -137,6 +148,10 @@ public class LocalParWorker extends ParWorker implements Runnable
 			}
 		}
 		finally {
+			//maintain task queue wait time (once per worker to avoid contention)
+			if( DMLScript.STATISTICS )
+				ParForStatistics.incrementQueueWaitTime(waitTime);
+			
 			//cleanup fair scheduler pool for worker thread
 			if( OptimizerUtils.isSparkExecutionMode() && pool != -1 ) {
 				SparkExecutionContext sec = (SparkExecutionContext)_ec;
@@ -96,7 +96,21 @@ public class LocalTaskQueue<T>
 		
 		return t;
 	}
-	
+
+	/**
+	 * Read of the next task for the given worker. Since this FIFO queue
+	 * is shared by all workers, the worker index is ignored.
+	 *
+	 * @param workerIx index of the reading worker
+	 * @return task
+	 * @throws InterruptedException if InterruptedException occurs
+	 */
+	public T dequeueTask( int workerIx )
+		throws InterruptedException
+	{
+		return dequeueTask();
+	}
+
 	/**
 	 * Synchronized (logical) insert of a NO_MORE_TASKS symbol at the end of the FIFO queue in order to
 	 * mark that no more tasks will be inserted into the queue.
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.parfor;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free alternative to the monitor-based {@link LocalTaskQueue} for local parfor workers.
+ * 
+ * Created tasks are distributed round-robin over per-worker deques. Each worker takes tasks from
+ * the head of its own deque (i.e., in the order created by the task partitioner), and once its own
+ * deque is empty, steals tasks from the tail of other workers' deques (i.e., the smallest tasks
+ * for factoring task partitioners). Workers that find all deques empty before the input is closed
+ * back off with a short park, which avoids a shared monitor for both readers and writers.
+ */
+public class LocalTaskQueueWorkStealing<T> extends LocalTaskQueue<T>
+{
+	private static final long PARK_NANOS = 10_000; //10us back-off of idle workers
+	
+	private final ConcurrentLinkedDeque<T>[] _deques;
+	private final AtomicInteger _pos = new AtomicInteger(0);
+	private final LongAdder _steals = new LongAdder();
+	private volatile boolean _closed = false;
+	
+	@SuppressWarnings("unchecked")
+	public LocalTaskQueueWorkStealing(int numWorkers) {
+		_deques = new ConcurrentLinkedDeque[Math.max(numWorkers, 1)];
+		for( int i=0; i<_deques.length; i++ )
+			_deques[i] = new ConcurrentLinkedDeque<>();
+	}
+	
+	/**
+	 * Lock-free insert of a new task to the end of the next worker deque (round-robin).
+	 * In contrast to the FIFO queue, there is no size constraint because the task 
+	 * partitioner output is entirely pre-split over the worker deques.
+	 * 
+	 * @param t task
+	 */
+	@Override
+	public void enqueueTask( T t ) {
+		int ix = Math.floorMod(_pos.getAndIncrement(), _deques.length);
+		_deques[ix].addLast(t);
+	}
+	
+	/**
+	 * Reads a task from an arbitrary deque, which is only used by readers
+	 * that are not associated with a worker deque.
+	 * 
+	 * @return task
+	 */
+	@Override
+	public T dequeueTask() {
+		return dequeueTask(0);
+	}
+	
+	/**
+	 * Lock-free read from the head of the given worker's deque, or steal from the tail
+	 * of another worker's deque if the own deque is empty.
+	 * 
+	 * @param workerIx index of the reading worker
+	 * @return task, or NO_MORE_TASKS if the input is closed and all deques are empty
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T dequeueTask( int workerIx ) {
+		final int n = _deques.length;
+		final int wix = Math.floorMod(workerIx, n);
+		while( true ) {
+			//read closed flag before the scan, all tasks are enqueued before close
+			boolean closed = _closed;
+			T t = _deques[wix].pollFirst();
+			if( t != null )
+				return t;
+			for( int i=1; i<n; i++ ) {
+				t = _deques[(wix + i) % n].pollLast();
+				if( t != null ) {
+					_steals.increment();
+					return t;
+				}
+			}
+			if( closed )
+				return (T) NO_MORE_TASKS;
+			LockSupport.parkNanos(PARK_NANOS); //wait for writers
+		}
+	}
+	
+	@Override
+	public void closeInput() {
+		_closed = true;
+	}
+	
+	/**
+	 * Gets the number of tasks read by a worker from another worker's deque.
+	 * 
+	 * @return number of steals
+	 */
+	public long getNumSteals() {
+		return _steals.longValue();
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("WORK-STEALING TASK QUEUE (deques=");
+		sb.append(_deques.length);
+		sb.append(",close=");
+		sb.append(_closed);
+		sb.append(",steals=");
+		sb.append(getNumSteals());
+		sb.append(")\n");
+		for( int i=0; i<_deques.length; i++ ) {
+			int count = 1;
+			for( T t : _deques[i] ) {
+				sb.append("  DEQUE #");
+				sb.append(i);
+				sb.append(" TASK #");
+				sb.append(count++);
+				sb.append(": ");
+				sb.append(t.toString());
+				sb.append("\n");
+			}
+		}
+		return sb.toString();
+	}
+}
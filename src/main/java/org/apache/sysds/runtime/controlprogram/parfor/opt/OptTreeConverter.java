@@ -460,7 +460,7 @@ public class OptTreeConverter
 			Types.ExecType et = (hop.getExecType()!=null) ? 
 					   hop.getExecType() : Types.ExecType.CP;
 			switch( et ) {
-				case CP:case GPU:
+				case CP:case GPU:case OOC:
 					node.setExecType(ExecType.CP); break;
 				case SPARK:
 					node.setExecType(ExecType.SPARK); break;
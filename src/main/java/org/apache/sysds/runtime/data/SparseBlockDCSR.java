@@ -0,0 +1,867 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.data;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.apache.sysds.runtime.matrix.data.IJV;
+import org.apache.sysds.runtime.util.SortUtils;
+import org.apache.sysds.runtime.util.UtilFunctions;
+import org.apache.sysds.utils.MemoryEstimates;
+
+/**
+ * SparseBlock implementation that realizes a 'doubly-compressed sparse row'
+ * (DCSR, also known as hypersparse) representation, which extends CSR by an
+ * additional array of row indexes for only the non-empty rows. Accordingly, the
+ * row pointers and row indexes are of size #non-empty rows instead of #rows,
+ * which makes this format very memory efficient for ultra-sparse, tall matrices
+ * (e.g., after permutations, selections, or transpose of sparse row vectors),
+ * while still allowing efficient row-major scans over the non-empty rows. Access
+ * to individual rows requires a binary search over the row indexes though.
+ * Similar to CSR, the nnz is limited to Integer.MAX_VALUE.
+ * 
+ */
+public class SparseBlockDCSR extends SparseBlock
+{
+	private static final long serialVersionUID = -1820467193426841395L;
+
+	private int _rlen = -1;
+	private int[] _rindexes = null;  //row index array of non-empty rows (size: >=nnzr)
+	private int[] _rptr = null;      //row pointer array of non-empty rows (size: >=nnzr+1)
+	private int[] _cindexes = null;  //column index array (size: >=nnz)
+	private double[] _values = null; //value array (size: >=nnz)
+	private int _nnzr = 0;           //actual number of non-empty rows
+	private int _size = 0;           //actual number of nnz
+	
+	public SparseBlockDCSR(int rlen) {
+		this(rlen, INIT_CAPACITY);
+	}
+	
+	public SparseBlockDCSR(int rlen, int capacity) {
+		_rlen = rlen;
+		_rindexes = new int[Math.min(rlen, capacity)];
+		_rptr = new int[Math.min(rlen, capacity)+1];
+		_cindexes = new int[capacity];
+		_values = new double[capacity];
+		_nnzr = 0;
+		_size = 0;
+	}
+	
+	/**
+	 * Copy constructor sparse block abstraction. 
+	 * 
+	 * @param sblock sparse block to copy
+	 */
+	public SparseBlockDCSR(SparseBlock sblock)
+	{
+		long size = sblock.size();
+		if( size > Integer.MAX_VALUE )
+			throw new RuntimeException("SparseBlockDCSR supports nnz<=Integer.MAX_VALUE but got "+size);
+		
+		//special case SparseBlockDCSR
+		if( sblock instanceof SparseBlockDCSR ) {
+			SparseBlockDCSR odcsr = (SparseBlockDCSR)sblock;
+			_rlen = odcsr._rlen;
+			_rindexes = Arrays.copyOf(odcsr._rindexes, odcsr._nnzr);
+			_rptr = Arrays.copyOf(odcsr._rptr, odcsr._nnzr+1);
+			_cindexes = Arrays.copyOf(odcsr._cindexes, odcsr._size);
+			_values = Arrays.copyOf(odcsr._values, odcsr._size);
+			_nnzr = odcsr._nnzr;
+			_size = odcsr._size;
+		}
+		//general case SparseBlock
+		else {
+			_rlen = sblock.numRows();
+			int nnzr = 0;
+			for( int i=0; i<_rlen; i++ )
+				nnzr += sblock.isEmpty(i) ? 0 : 1;
+			_rindexes = new int[nnzr];
+			_rptr = new int[nnzr+1];
+			_cindexes = new int[(int)size];
+			_values = new double[(int)size];
+			
+			for( int i=0, pos=0; i<_rlen; i++ ) {
+				if( !sblock.isEmpty(i) ) {
+					int apos = sblock.pos(i);
+					int alen = sblock.size(i);
+					System.arraycopy(sblock.indexes(i), apos, _cindexes, pos, alen);
+					System.arraycopy(sblock.values(i), apos, _values, pos, alen);
+					pos += alen;
+					_rindexes[_nnzr] = i;
+					_rptr[++_nnzr] = pos;
+				}
+			}
+			_size = (int)size;
+		}
+	}
+	
+	/**
+	 * Copy constructor old sparse row representation. 
+	 * 
+	 * @param rows array of sparse rows
+	 * @param nnz number of non-zeros
+	 */
+	public SparseBlockDCSR(SparseRow[] rows, int nnz)
+	{
+		_rlen = rows.length;
+		int nnzr = 0;
+		for( int i=0; i<_rlen; i++ )
+			nnzr += (rows[i] != null && !rows[i].isEmpty()) ? 1 : 0;
+		_rindexes = new int[nnzr];
+		_rptr = new int[nnzr+1];
+		_cindexes = new int[nnz];
+		_values = new double[nnz];
+		
+		for( int i=0, pos=0; i<_rlen; i++ ) {
+			if( rows[i] != null && !rows[i].isEmpty() ) {
+				int alen = rows[i].size();
+				System.arraycopy(rows[i].indexes(), 0, _cindexes, pos, alen);
+				System.arraycopy(rows[i].values(), 0, _values, pos, alen);
+				pos += alen;
+				_rindexes[_nnzr] = i;
+				_rptr[++_nnzr] = pos;
+			}
+		}
+		_size = nnz;
+	}
+	
+	/**
+	 * Copy constructor for COO representation, where the triples are
+	 * sorted by row indexes and column indexes.
+	 * 
+	 * @param rows number of rows
+	 * @param rowInd row indices
+	 * @param colInd column indices
+	 * @param values non zero values
+	 * @param nnz number of non-zeros
+	 */
+	public SparseBlockDCSR(int rows, int[] rowInd, int[] colInd, double[] values, int nnz) {
+		_rlen = rows;
+		int nnzr = 0;
+		for( int i=0; i<nnz; i++ )
+			nnzr += (i==0 || rowInd[i-1]!=rowInd[i]) ? 1 : 0;
+		_rindexes = new int[nnzr];
+		_rptr = new int[nnzr+1];
+		_cindexes = Arrays.copyOf(colInd, nnz);
+		_values = Arrays.copyOf(values, nnz);
+		_size = nnz;
+		
+		//single-pass construction of row indexes and pointers
+		for( int i=0; i<nnz; i++ ) {
+			if( i==0 || rowInd[i-1]!=rowInd[i] ) {
+				_rindexes[_nnzr] = rowInd[i];
+				_rptr[_nnzr++] = i;
+			}
+		}
+		_rptr[_nnzr] = nnz;
+	}
+	
+	/**
+	 * Get the estimated in-memory size of the sparse block in DCSR 
+	 * with the given dimensions w/o accounting for overallocation. 
+	 * 
+	 * @param nrows number of rows
+	 * @param ncols number of columns
+	 * @param sparsity sparsity ratio
+	 * @return memory estimate
+	 */
+	public static long estimateSizeInMemory(long nrows, long ncols, double sparsity) {
+		double lnnz = Math.max(INIT_CAPACITY, Math.ceil(sparsity*nrows*ncols));
+		//expected number of non-empty rows under uniform distribution
+		double lnnzr = Math.min(Math.min(nrows, lnnz),
+			Math.ceil(nrows * (1 - Math.pow(1 - sparsity, ncols))));
+		
+		//32B overhead per array, int/int/int/double arr in nnzr/nnz
+		double size = 16 + 16;  //object + 3 int fields
+		size += MemoryEstimates.intArrayCost((long)lnnzr);   //rindexes array (row indexes)
+		size += MemoryEstimates.intArrayCost((long)lnnzr+1); //rptr array (row pointers)
+		size += MemoryEstimates.intArrayCost((long)lnnz);    //cindexes array (column indexes)
+		size += MemoryEstimates.doubleArrayCost((long)lnnz); //values array (non-zero values)
+		
+		//robustness for long overflows
+		return (long) Math.min(size, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Get the number of non-empty rows, i.e., the number of
+	 * valid entries in the row indexes array.
+	 * 
+	 * @return number of non-empty rows
+	 */
+	public int numNonEmptyRows() {
+		return _nnzr;
+	}
+	
+	///////////////////
+	//SparseBlock implementation
+	
+	@Override
+	public void allocate(int r) {
+		//do nothing everything preallocated
+	}
+	
+	@Override
+	public void allocate(int r, int nnz) {
+		//do nothing everything preallocated
+	}
+	
+	@Override
+	public void allocate(int r, int ennz, int maxnnz) {
+		//do nothing everything preallocated
+	}
+	
+	@Override
+	public void compact(int r) {
+		//do nothing everything preallocated
+	}
+
+	@Override
+	public int numRows() {
+		return _rlen;
+	}
+
+	@Override
+	public boolean isThreadSafe() {
+		return false;
+	}
+	
+	@Override
+	public boolean isContiguous() {
+		return true;
+	}
+	
+	@Override
+	public boolean isAllocated(int r) {
+		return true;
+	}
+
+	@Override
+	public boolean checkValidity(int rlen, int clen, long nnz, boolean strict) {
+		//1. correct meta data
+		if( rlen < 0 || clen < 0 ) {
+			throw new RuntimeException("Invalid block dimensions: "+rlen+" "+clen);
+		}
+
+		//2. correct array lengths
+		if( _size != nnz || _rptr.length < _nnzr+1 || _rindexes.length < _nnzr
+			|| _values.length < nnz || _cindexes.length < nnz ) {
+			throw new RuntimeException("Incorrect array lengths.");
+		}
+
+		//3. strictly increasing row indexes and row pointers (no empty rows)
+		for( int i=0; i<_nnzr; i++ ) {
+			if( _rindexes[i] < 0 || _rindexes[i] >= rlen )
+				throw new RuntimeException("Row index out of bounds: "+_rindexes[i]);
+			if( i>0 && _rindexes[i-1] >= _rindexes[i] )
+				throw new RuntimeException("Wrong sorted order of row indices at: "+i
+					+ ", with row indexes "+_rindexes[i-1]+" >= "+_rindexes[i]);
+			if( _rptr[i] >= _rptr[i+1] )
+				throw new RuntimeException("Row pointers are not increasing at row: "+_rindexes[i]
+					+ ", with pointers "+_rptr[i]+" >= "+_rptr[i+1]);
+		}
+		if( _rptr[0] != 0 || _rptr[_nnzr] != _size )
+			throw new RuntimeException("Invalid row pointer bounds: "+_rptr[0]+" "+_rptr[_nnzr]);
+
+		//4. sorted column indexes per row
+		for( int i=0; i<_nnzr; i++ ) {
+			for( int k=_rptr[i]+1; k<_rptr[i+1]; k++ )
+				if( _cindexes[k-1] >= _cindexes[k] )
+					throw new RuntimeException("Wrong sparse row ordering: "
+						+ k + " "+_cindexes[k-1]+" "+_cindexes[k]);
+		}
+
+		//5. non-existing zero values
+		for( int i=0; i<_size; i++ ) {
+			if( _values[i] == 0 ) {
+				throw new RuntimeException("The values array should not contain zeros."
+					+ " The " + i + "th value is "+_values[i]);
+			}
+		}
+
+		//6. a capacity that is no larger than nnz times resize factor.
+		int capacity = _values.length;
+		if( capacity > nnz*RESIZE_FACTOR1 ) {
+			throw new RuntimeException("Capacity is larger than the nnz times a resize factor."
+				+ " Current size: "+capacity+ ", while Expected size:"+nnz*RESIZE_FACTOR1);
+		}
+
+		return true;
+	}
+
+	@Override 
+	public void reset() {
+		_nnzr = 0;
+		_size = 0;
+	}
+	
+	@Override 
+	public void reset(int ennz, int maxnnz) {
+		_nnzr = 0;
+		_size = 0;
+	}
+	
+	@Override 
+	public void reset(int r, int ennz, int maxnnz) {
+		int ix = rowIndex(r);
+		if( ix < 0 )
+			return;
+		int pos = _rptr[ix];
+		int len = _rptr[ix+1] - pos;
+		
+		//overlapping array copy (shift rhs values left)
+		shiftLeftByN(pos+len, len);
+		decrPtr(ix+1, len);
+		deleteRow(ix);
+	}
+	
+	@Override
+	public long size() {
+		return _size;
+	}
+
+	@Override
+	public int size(int r) {
+		int ix = rowIndex(r);
+		return (ix >= 0) ? _rptr[ix+1] - _rptr[ix] : 0;
+	}
+	
+	@Override
+	public long size(int rl, int ru) {
+		return pos(ru) - pos(rl);
+	}
+	
+	@Override
+	public long size(int rl, int ru, int cl, int cu) {
+		long nnz = 0;
+		for( int ix=rowPos(rl); ix<_nnzr && _rindexes[ix]<ru; ix++ ) {
+			int start = internPosFIndexGTE(ix, cl);
+			int end = internPosFIndexGTE(ix, cu);
+			nnz += (start!=-1) ? ((end!=-1) ? end : _rptr[ix+1]) - start : 0;
+		}
+		return nnz;
+	}
+
+	@Override
+	public boolean isEmpty(int r) {
+		return rowIndex(r) < 0;
+	}
+	
+	@Override
+	public int[] indexes(int r) {
+		return _cindexes;
+	}
+
+	@Override
+	public double[] values(int r) {
+		return _values;
+	}
+
+	@Override
+	public int pos(int r) {
+		return _rptr[rowPos(r)];
+	}
+
+	@Override
+	public boolean set(int r, int c, double v) {
+		int ix = rowIndex(r);
+		
+		//insert new non-empty row if necessary
+		if( ix < 0 ) {
+			if( v==0 ) return false;
+			ix = Math.abs(ix+1);
+			insertRow(ix, r);
+			insert(_rptr[ix], c, v);
+			incrPtr(ix+1, 1);
+			return true; // nnz++
+		}
+		
+		//search for existing col index
+		int pos = _rptr[ix];
+		int len = _rptr[ix+1] - pos;
+		int index = Arrays.binarySearch(_cindexes, pos, pos+len, c);
+		if( index >= 0 ) {
+			//delete/overwrite existing value (on value delete, we shift 
+			//left for (1) correct nnz maintenance, and (2) smaller size)
+			if( v == 0 ) {
+				shiftLeftByN(index+1, 1);
+				decrPtr(ix+1, 1);
+				if( len == 1 )
+					deleteRow(ix);
+				return true; // nnz--
+			}
+			else {
+				_values[index] = v;
+				return false;
+			}
+		}
+		
+		//early abort on zero (if no overwrite)
+		if( v==0 ) return false;
+		
+		//insert new index-value pair
+		insert(Math.abs(index+1), c, v);
+		incrPtr(ix+1, 1);
+		return true; // nnz++
+	}
+	
+	@Override
+	public void set(int r, SparseRow row, boolean deep) {
+		//delete existing values if necessary
+		reset(r, -1, -1);
+		
+		int alen = row.size();
+		if( alen == 0 )
+			return;
+		int[] aix = row.indexes();
+		double[] avals = row.values();
+		
+		//prepare free space (allocate and shift)
+		int ix = Math.abs(rowIndex(r)+1);
+		insertRow(ix, r);
+		int pos = _rptr[ix];
+		shiftRightByN(pos, alen);
+		incrPtr(ix+1, alen);
+		
+		//copy input row into internal representation
+		System.arraycopy(aix, 0, _cindexes, pos, alen);
+		System.arraycopy(avals, 0, _values, pos, alen);
+	}
+	
+	@Override
+	public boolean add(int r, int c, double v) {
+		return set(r, c, get(r, c) + v);
+	}
+
+	@Override
+	public void append(int r, int c, double v) {
+		//early abort on zero 
+		if( v==0 ) return;
+		
+		//fast path for row-major appends (last or new trailing row)
+		if( _nnzr == 0 || _rindexes[_nnzr-1] < r )
+			insertRow(_nnzr, r);
+		if( _rindexes[_nnzr-1] == r ) {
+			insert(_size, c, v);
+			_rptr[_nnzr] = _size;
+			return;
+		}
+		
+		//general case: append to end of existing or new row
+		int ix = rowIndex(r);
+		if( ix < 0 ) {
+			ix = Math.abs(ix+1);
+			insertRow(ix, r);
+		}
+		insert(_rptr[ix+1], c, v);
+		incrPtr(ix+1, 1);
+	}
+
+	@Override
+	public void setIndexRange(int r, int cl, int cu, double[] v, int vix, int vlen) {
+		//delete existing values in range if necessary
+		deleteIndexRange(r, cl, cu);
+		
+		//determine input nnz
+		int lnnz = UtilFunctions.computeNnz(v, vix, vlen);
+		if( lnnz == 0 )
+			return;
+		
+		//prepare free space (allocate and shift)
+		int ix = ensureRow(r);
+		int index = internPosFIndexGT(ix, cl);
+		index = (index>=0) ? index : _rptr[ix+1];
+		shiftRightByN(index, lnnz);
+		incrPtr(ix+1, lnnz);
+		
+		//insert values
+		for( int i=vix; i<vix+vlen; i++ )
+			if( v[i] != 0 ) {
+				_cindexes[ index ] = cl+i-vix;
+				_values[ index ] = v[i];
+				index++;
+			}
+	}
+	
+	@Override
+	public void setIndexRange(int r, int cl, int cu, double[] v, int[] vix, int vpos, int vlen) {
+		//delete existing values in range if necessary
+		deleteIndexRange(r, cl, cu);
+		if( vlen == 0 )
+			return;
+		
+		//prepare free space (allocate and shift)
+		int ix = ensureRow(r);
+		int index = internPosFIndexGT(ix, cl);
+		index = (index>=0) ? index : _rptr[ix+1];
+		shiftRightByN(index, vlen);
+		incrPtr(ix+1, vlen);
+		
+		//insert values
+		for( int i=vpos; i<vpos+vlen; i++ ) {
+			_cindexes[ index ] = cl+vix[i];
+			_values[ index ] = v[i];
+			index++;
+		}
+	}
+
+	@Override
+	public void deleteIndexRange(int r, int cl, int cu) {
+		int ix = rowIndex(r);
+		if( ix < 0 ) //nothing to delete
+			return;
+		int start = internPosFIndexGTE(ix, cl);
+		if( start < 0 ) //nothing to delete 
+			return;
+		int end = internPosFIndexGTE(ix, cu);
+		if( end < 0 ) //delete all remaining
+			end = _rptr[ix+1];
+		
+		//overlapping array copy (shift rhs values left)
+		shiftLeftByN(end, end-start);
+		decrPtr(ix+1, end-start);
+		if( _rptr[ix] == _rptr[ix+1] )
+			deleteRow(ix);
+	}
+
+	@Override
+	public void sort() {
+		for( int ix=0; ix<_nnzr; ix++ ) {
+			int pos = _rptr[ix];
+			int len = _rptr[ix+1] - pos;
+			if( len > 1 && !SortUtils.isSorted(pos, pos+len, _cindexes) )
+				SortUtils.sortByIndex(pos, pos+len, _cindexes, _values);
+		}
+	}
+
+	@Override
+	public void sort(int r) {
+		int pos = pos(r);
+		int len = size(r);
+		
+		if( len<=100 || !SortUtils.isSorted(pos, pos+len, _cindexes) )
+			SortUtils.sortByIndex(pos, pos+len, _cindexes, _values);
+	}
+
+	@Override
+	public double get(int r, int c) {
+		int ix = rowIndex(r);
+		if( ix < 0 )
+			return 0;
+		
+		//search for existing col index in [pos,pos+len)
+		int index = Arrays.binarySearch(_cindexes, _rptr[ix], _rptr[ix+1], c);
+		return (index >= 0) ? _values[index] : 0;
+	}
+	
+	@Override 
+	public SparseRow get(int r) {
+		int pos = pos(r);
+		int len = size(r);
+		
+		SparseRowVector row = new SparseRowVector(len);
+		System.arraycopy(_cindexes, pos, row.indexes(), 0, len);
+		System.arraycopy(_values, pos, row.values(), 0, len);
+		row.setSize(len);
+		
+		return row;
+	}
+
+	@Override
+	public int posFIndexLTE(int r, int c) {
+		int ix = rowIndex(r);
+		if( ix < 0 )
+			return -1;
+		int pos = _rptr[ix];
+		int len = _rptr[ix+1] - pos;
+		
+		//search for existing col index in [pos,pos+len)
+		int index = Arrays.binarySearch(_cindexes, pos, pos+len, c);
+		if( index >= 0 )
+			return index-pos;
+		
+		//search lt col index (see binary search)
+		index = Math.abs( index+1 );
+		return (index-1 >= pos) ? index-1-pos : -1;
+	}
+
+	@Override
+	public int posFIndexGTE(int r, int c) {
+		int ix = rowIndex(r);
+		if( ix < 0 )
+			return -1;
+		int index = internPosFIndexGTE(ix, c);
+		return (index>=0) ? index-_rptr[ix] : -1;
+	}
+	
+	@Override
+	public int posFIndexGT(int r, int c) {
+		int ix = rowIndex(r);
+		if( ix < 0 )
+			return -1;
+		int index = internPosFIndexGT(ix, c);
+		return (index>=0) ? index-_rptr[ix] : -1;
+	}
+
+	@Override
+	public Iterator<IJV> getIterator() {
+		return new SparseBlockDCSRIterator(0, _nnzr);
+	}
+	
+	@Override
+	public Iterator<IJV> getIterator(int ru) {
+		return new SparseBlockDCSRIterator(0, rowPos(ru));
+	}
+
+	@Override
+	public Iterator<IJV> getIterator(int rl, int ru) {
+		return new SparseBlockDCSRIterator(rowPos(rl), rowPos(ru));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("SparseBlockDCSR: rlen=");
+		sb.append(_rlen);
+		sb.append(", nnzr=");
+		sb.append(_nnzr);
+		sb.append(", nnz=");
+		sb.append(_size);
+		sb.append("\n");
+		for( int ix=0; ix<_nnzr; ix++ ) {
+			sb.append("row ");
+			sb.append(_rindexes[ix]);
+			sb.append(": ");
+			for( int j=_rptr[ix]; j<_rptr[ix+1]; j++ ) {
+				sb.append(_cindexes[j]);
+				sb.append(": ");
+				sb.append(_values[j]);
+				sb.append("\t");
+			}
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+	
+	///////////////////////////
+	// private helper methods
+	
+	/**
+	 * Position of the given row in the row indexes array if it exists,
+	 * otherwise -(insertion point)-1 (see Arrays.binarySearch).
+	 */
+	private int rowIndex(int r) {
+		return Arrays.binarySearch(_rindexes, 0, _nnzr, r);
+	}
+	
+	/**
+	 * Get the position of the first non-empty row greater or equal the
+	 * given row in the row indexes array, which allows iterating over
+	 * the non-empty rows of a row range (see {@link #rowIndexes()}).
+	 * 
+	 * @param r row index starting at 0
+	 * @return position in row indexes array, or nnzr if no such row exists
+	 */
+	public int rowPos(int r) {
+		int ix = rowIndex(r);
+		return (ix >= 0) ? ix : Math.abs(ix+1);
+	}
+	
+	private int ensureRow(int r) {
+		int ix = rowIndex(r);
+		if( ix < 0 ) {
+			ix = Math.abs(ix+1);
+			insertRow(ix, r);
+		}
+		return ix;
+	}
+	
+	private void insertRow(int ix, int r) {
+		if( _nnzr == _rindexes.length ) {
+			int newCap = (int)Math.min(Math.max(INIT_CAPACITY,
+				Math.ceil(_rindexes.length * RESIZE_FACTOR1)), Math.max(_rlen, _nnzr+1));
+			_rindexes = Arrays.copyOf(_rindexes, newCap);
+			_rptr = Arrays.copyOf(_rptr, newCap+1);
+		}
+		//overlapping array copy (shift rhs rows right by 1)
+		System.arraycopy(_rindexes, ix, _rindexes, ix+1, _nnzr-ix);
+		System.arraycopy(_rptr, ix, _rptr, ix+1, _nnzr-ix+1);
+		_rindexes[ix] = r;
+		_nnzr++;
+	}
+	
+	private void deleteRow(int ix) {
+		//overlapping array copy (shift rhs rows left by 1),
+		//where the deleted row is empty (equal row pointers)
+		System.arraycopy(_rindexes, ix+1, _rindexes, ix, _nnzr-ix-1);
+		System.arraycopy(_rptr, ix+1, _rptr, ix, _nnzr-ix);
+		_nnzr--;
+	}
+	
+	private int internPosFIndexGTE(int ix, int c) {
+		int pos = _rptr[ix];
+		int len = _rptr[ix+1] - pos;
+		
+		//search for existing col index
+		int index = Arrays.binarySearch(_cindexes, pos, pos+len, c);
+		if( index >= 0 )
+			return index;
+		
+		//search gt col index (see binary search)
+		index = Math.abs( index+1 );
+		return (index < pos+len) ? index : -1;
+	}
+	
+	private int internPosFIndexGT(int ix, int c) {
+		int pos = _rptr[ix];
+		int len = _rptr[ix+1] - pos;
+		
+		//search for existing col index
+		int index = Arrays.binarySearch(_cindexes, pos, pos+len, c);
+		if( index >= 0 )
+			return (index+1 < pos+len) ? index+1 : -1;
+		
+		//search gt col index (see binary search)
+		index = Math.abs( index+1 );
+		return (index < pos+len) ? index : -1;
+	}
+
+	private void resize(int capacity) {
+		//reallocate arrays and copy old values
+		_cindexes = Arrays.copyOf(_cindexes, capacity);
+		_values = Arrays.copyOf(_values, capacity);
+	}
+	
+	private void insert(int ix, int c, double v) {
+		if( _size == _values.length ) {
+			double tmpCap = Math.max(INIT_CAPACITY, Math.ceil(_values.length * RESIZE_FACTOR1));
+			resize((int)Math.min(tmpCap, Integer.MAX_VALUE));
+		}
+		//overlapping array copy (shift rhs values right by 1)
+		System.arraycopy(_cindexes, ix, _cindexes, ix+1, _size-ix);
+		System.arraycopy(_values, ix, _values, ix+1, _size-ix);
+		_cindexes[ix] = c;
+		_values[ix] = v;
+		_size++;
+	}
+	
+	private void shiftRightByN(int ix, int n) {
+		if( _values.length < _size+n )
+			resize(Math.max(_size+n, (int)Math.min(
+				Math.ceil(_values.length * RESIZE_FACTOR1), Integer.MAX_VALUE)));
+		//overlapping array copy (shift rhs values right by n)
+		System.arraycopy(_cindexes, ix, _cindexes, ix+n, _size-ix);
+		System.arraycopy(_values, ix, _values, ix+n, _size-ix);
+		_size += n;
+	}
+	
+	private void shiftLeftByN(int ix, int n) {
+		//overlapping array copy (shift rhs values left by n)
+		System.arraycopy(_cindexes, ix, _cindexes, ix-n, _size-ix);
+		System.arraycopy(_values, ix, _values, ix-n, _size-ix);
+		_size -= n;
+	}
+	
+	private void incrPtr(int ixl, int cnt) {
+		for( int i=ixl; i<=_nnzr; i++ )
+			_rptr[i] += cnt;
+	}
+	
+	private void decrPtr(int ixl, int cnt) {
+		for( int i=ixl; i<=_nnzr; i++ )
+			_rptr[i] -= cnt;
+	}
+	
+	/**
+	 * Custom sparse block DCSR iterator implemented against the 
+	 * SparseBlockDCSR data structure in order to avoid unnecessary
+	 * binary search for row locations and lengths.
+	 * 
+	 */
+	private class SparseBlockDCSRIterator implements Iterator<IJV>
+	{
+		private int _ix = 0;  //current row index position
+		private int _pos = 0; //current nnz position
+		private int _len = 0; //upper nnz position (exclusive)
+		private IJV retijv = new IJV(); //reuse output tuple
+
+		protected SparseBlockDCSRIterator(int ixrl, int ixru) {
+			_ix = ixrl;
+			_pos = _rptr[ixrl];
+			_len = _rptr[ixru];
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return _pos<_len;
+		}
+
+		@Override
+		public IJV next( ) {
+			while( _rptr[_ix+1] <= _pos )
+				_ix++;
+			retijv.set(_rindexes[_ix], _cindexes[_pos], _values[_pos++]);
+			return retijv;
+		}
+
+		@Override
+		public void remove() {
+			throw new RuntimeException("SparseBlockDCSRIterator is unsupported!");
+		}
+	}
+	
+	/**
+	 * Get raw access to underlying array of row indexes
+	 * of the non-empty rows (see {@link #numNonEmptyRows()}).
+	 * 
+	 * @return array of row indexes
+	 */
+	public int[] rowIndexes() {
+		return _rindexes;
+	}
+	
+	/**
+	 * Get raw access to underlying array of row pointers
+	 * of the non-empty rows (see {@link #numNonEmptyRows()}).
+	 * 
+	 * @return array of row pointers
+	 */
+	public int[] rowPointers() {
+		return _rptr;
+	}
+	
+	/** 
+	 * Get raw access to underlying array of column indices
+	 * 
+	 * @return array of column indices
+	 */
+	public int[] indexes() {
+		return _cindexes;
+	}
+	
+	/**
+	 * Get raw access to underlying array of values
+	 * 
+	 * @return array of values
+	 */
+	public double[] values() {
+		return _values;
+	}
+}
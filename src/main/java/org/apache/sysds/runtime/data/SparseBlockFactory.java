@@ -23,6 +23,10 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
 public abstract class SparseBlockFactory
 {
+	//ratio of non-empty rows, below which DCSR is preferred for sparse outputs
+	public static final double DCSR_NONEMPTY_ROW_RATIO = 0.01;
+	//minimum number of rows, for which DCSR is considered for sparse outputs
+	public static final int DCSR_MIN_ROWS = 1024;
 
 	public static SparseBlock createSparseBlock(int rlen) {
 		return createSparseBlock(MatrixBlock.DEFAULT_SPARSEBLOCK, rlen);
@@ -33,6 +37,7 @@ public abstract class SparseBlockFactory
 			case MCSR: return new SparseBlockMCSR(rlen, -1);
 			case CSR: return new SparseBlockCSR(rlen);
 			case COO: return new SparseBlockCOO(rlen);
+			case DCSR: return new SparseBlockDCSR(rlen);
 			default:
 				throw new RuntimeException("Unexpected sparse block type: "+type.toString());
 		}
@@ -60,6 +65,7 @@ public abstract class SparseBlockFactory
 			case MCSR: return new SparseBlockMCSR(sblock);
 			case CSR: return new SparseBlockCSR(sblock);
 			case COO: return new SparseBlockCOO(sblock);
+			case DCSR: return new SparseBlockDCSR(sblock);
 			default:
 				throw new RuntimeException("Unexpected sparse block type: "+type.toString());
 		}
@@ -72,7 +78,8 @@ public abstract class SparseBlockFactory
 	public static SparseBlock.Type getSparseBlockType(SparseBlock sblock) {
 		return (sblock instanceof SparseBlockMCSR) ? SparseBlock.Type.MCSR :
 			(sblock instanceof SparseBlockCSR) ? SparseBlock.Type.CSR : 
-			(sblock instanceof SparseBlockCOO) ? SparseBlock.Type.COO : null;
+			(sblock instanceof SparseBlockCOO) ? SparseBlock.Type.COO :
+			(sblock instanceof SparseBlockDCSR) ? SparseBlock.Type.DCSR : null;
 	}
 
 	public static long estimateSizeSparseInMemory(SparseBlock.Type type, long nrows, long ncols, double sparsity) {
@@ -80,8 +87,24 @@ public abstract class SparseBlockFactory
 			case MCSR: return SparseBlockMCSR.estimateSizeInMemory(nrows, ncols, sparsity);
 			case CSR: return SparseBlockCSR.estimateSizeInMemory(nrows, ncols, sparsity);
 			case COO: return SparseBlockCOO.estimateSizeInMemory(nrows, ncols, sparsity);
+			case DCSR: return SparseBlockDCSR.estimateSizeInMemory(nrows, ncols, sparsity);
 			default:
 				throw new RuntimeException("Unexpected sparse block type: "+type.toString());
 		}
 	}
+	
+	/**
+	 * Indicates if a sparse block with the given number of rows and (an upper
+	 * bound of the) number of non-empty rows is ultra-sparse in terms of rows,
+	 * i.e., tall with a tiny ratio of non-empty rows, for which the DCSR
+	 * representation is preferred over MCSR and CSR.
+	 * 
+	 * @param rlen number of rows
+	 * @param nnzRows number of non-empty rows (or upper bound, e.g., nnz)
+	 * @return true if DCSR is preferred
+	 */
+	public static boolean isUltraSparseRows(long rlen, long nnzRows) {
+		return rlen >= DCSR_MIN_ROWS && rlen <= Integer.MAX_VALUE && nnzRows >= 0
+			&& nnzRows < rlen * DCSR_NONEMPTY_ROW_RATIO;
+	}
 }
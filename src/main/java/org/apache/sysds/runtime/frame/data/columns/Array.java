@@ -44,6 +44,9 @@ public abstract class Array<T> implements Writable {
 	/** A soft reference to a memorization of this arrays mapping, used in transformEncode */
 	protected SoftReference<HashMap<T, Long>> _rcdMapCache = null;
 
+	/** A soft reference to a primitive lookup map derived from the recode map, used in transformApply */
+	protected SoftReference<Object> _rcdLookupCache = null;
+
 	/** The current allocated number of elements in this Array */
 	protected int _size;
 
@@ -75,6 +78,25 @@ public abstract class Array<T> implements Writable {
 		_rcdMapCache = m;
 	}
 
+	/**
+	 * Get the cached primitive lookup map (e.g., DoubleIntHashMap), which is derived
+	 * from the recode map of this (meta data) array and used in transformApply.
+	 * 
+	 * @return The cached lookup map
+	 */
+	public final SoftReference<Object> getLookupCache() {
+		return _rcdLookupCache;
+	}
+
+	/**
+	 * Set the cached primitive lookup map of this Array allocation, to be used in transformApply.
+	 * 
+	 * @param m The lookup map to cache.
+	 */
+	public final void setLookupCache(SoftReference<Object> m) {
+		_rcdLookupCache = m;
+	}
+
 	public HashMap<T, Long> getRecodeMap() {
 		// probe cache for existing map
 		if(REUSE_RECODE_MAPS) {
@@ -26,12 +26,14 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashMap;
 
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.columns.ArrayFactory.FrameArrayType;
 import org.apache.sysds.runtime.frame.data.lib.FrameUtil;
 import org.apache.sysds.runtime.matrix.data.Pair;
+import org.apache.sysds.runtime.util.DoubleIntHashMap;
 import org.apache.sysds.runtime.util.UtilFunctions;
 import org.apache.sysds.utils.MemoryEstimates;
 
@@ -374,6 +376,18 @@ public class DoubleArray extends Array<Double> {
 		return _data[i] != 0.0d;
 	}
 
+	@Override
+	protected HashMap<Double, Long> createRecodeMap() {
+		// collect distinct values w/o boxing, and box only the distinct values
+		DoubleIntHashMap tmp = new DoubleIntHashMap();
+		for(int i = 0; i < _size; i++)
+			tmp.putIfAbsent(_data[i], tmp.size());
+		HashMap<Double, Long> map = new HashMap<>((int) (tmp.size() / 0.75f) + 1);
+		for(int i = 0; i < tmp.size(); i++)
+			map.put(tmp.getKey(i), (long) i);
+		return map;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder(_data.length * 5 + 2);
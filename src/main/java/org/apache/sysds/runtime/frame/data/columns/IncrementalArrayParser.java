@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.lib.FrameUtil;
+
+/**
+ * Streaming parser of a single frame column of unknown value type. The value type is detected incrementally with the
+ * same rules as {@link Array#analyzeValueType()}, and values are parsed directly into a typed array, which is promoted
+ * to a more general type (e.g., INT32 to FP64) whenever a value does not fit the current type. This avoids the
+ * materialization of the column as strings before schema detection and application.
+ *
+ * Promotions are exact for numeric types. Values parsed before a promotion to STRING are kept in their canonical string
+ * representation (e.g., "t" as "true", "1.50" as "1.5"), and columns of only null or empty values are returned as
+ * STRING columns of nulls. Null or empty values in columns of other types are retained by returning the column as an
+ * {@link OptionalArray}, equivalent to applying a detected schema with null marker (see
+ * {@link Array#changeTypeWithNulls(ValueType)}).
+ */
+public class IncrementalArrayParser {
+	private final int _rl;
+	private ValueType _vt = ValueType.UNKNOWN;
+	private Array<?> _data;
+	private BitSet _nulls = null;
+	private int _ru = 0;
+
+	/**
+	 * Creates a parser for rows [rl, rl+nRow) of a column.
+	 *
+	 * @param rl   row offset of the first parsed row
+	 * @param nRow number of rows
+	 */
+	public IncrementalArrayParser(int rl, int nRow) {
+		_rl = rl;
+		// allocate lowest type (bitset) until the first non-null value
+		_data = ArrayFactory.allocateBoolean(nRow);
+	}
+
+	public void set(int r, String val) {
+		final int ix = r - _rl;
+		if(val == null || val.isEmpty()) {
+			setNull(r);
+			return;
+		}
+		if(_vt != ValueType.STRING) {
+			final ValueType vt = getHighest(_vt, FrameUtil.isType(val, _vt), val);
+			if(vt != _vt)
+				promote(vt);
+		}
+		_data.set(ix, val);
+		_ru = Math.max(_ru, ix + 1);
+	}
+
+	public void setNull(int r) {
+		final int ix = r - _rl;
+		if(_nulls == null)
+			_nulls = new BitSet(_data.size());
+		_nulls.set(ix);
+		if(_vt == ValueType.STRING)
+			_data.set(ix, (String) null);
+		_ru = Math.max(_ru, ix + 1);
+	}
+
+	/**
+	 * Get the detected value type, where columns without non-null values are reported as STRING.
+	 *
+	 * @return value type
+	 */
+	public ValueType getValueType() {
+		return _vt == ValueType.UNKNOWN ? ValueType.STRING : _vt;
+	}
+
+	public boolean containsNull() {
+		return _nulls != null;
+	}
+
+	/**
+	 * Get the parsed column of the detected value type, as optional array if it contains nulls.
+	 *
+	 * @return typed column array
+	 */
+	public Array<?> getArray() {
+		if(_vt == ValueType.UNKNOWN)
+			promote(ValueType.STRING);
+		return withNulls();
+	}
+
+	/**
+	 * Combines the parsers of consecutive row partitions (e.g., the splits of a parallel read) into a single column of
+	 * the highest common value type.
+	 *
+	 * @param parts parsers of consecutive row partitions, in order
+	 * @param nRow  total number of rows
+	 * @return typed column array
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static Array<?> combine(List<IncrementalArrayParser> parts, int nRow) {
+		ValueType vt = ValueType.UNKNOWN;
+		for(IncrementalArrayParser p : parts)
+			vt = getHighest(vt, p._vt);
+		vt = (vt == ValueType.UNKNOWN) ? ValueType.STRING : vt;
+		if(parts.size() == 1) {
+			parts.get(0).promote(vt);
+			return parts.get(0).withNulls();
+		}
+		boolean nulls = false;
+		for(IncrementalArrayParser p : parts)
+			nulls |= p.containsNull();
+		Array ret = nulls ? ArrayFactory.allocateOptional(vt, nRow) : ArrayFactory.allocate(vt, nRow);
+		for(IncrementalArrayParser p : parts) {
+			p.promote(vt);
+			final int len = p._data.size();
+			if(len > 0)
+				ret.set(p._rl, p._rl + len - 1, (Array) p.withNulls());
+		}
+		return ret;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Array<?> withNulls() {
+		// string columns retain nulls directly
+		if(_nulls == null || _vt == ValueType.STRING)
+			return _data;
+		final ABooleanArray n = ArrayFactory.allocateBoolean(_data.size());
+		n.fill(true);
+		for(int i = _nulls.nextSetBit(0); i >= 0; i = _nulls.nextSetBit(i + 1))
+			n.set(i, false);
+		return new OptionalArray((Array) _data, n);
+	}
+
+	private void promote(ValueType vt) {
+		if(vt == _vt)
+			return;
+		final int n = _data.size();
+		if(vt == ValueType.STRING) {
+			// convert only already parsed rows, and retain nulls
+			final String[] ret = new String[n];
+			if(_vt != ValueType.UNKNOWN)
+				for(int i = 0; i < _ru; i++)
+					ret[i] = (_nulls != null && _nulls.get(i)) ? null : String.valueOf(_data.get(i));
+			_data = new StringArray(ret);
+		}
+		else if(_vt == ValueType.FP32 && vt == ValueType.FP64) {
+			// exact conversion via the canonical string representation,
+			// which was verified to round-trip during type detection
+			final float[] in = ((FloatArray) _data).get();
+			final double[] ret = new double[n];
+			for(int i = 0; i < _ru; i++)
+				ret[i] = (in[i] == 0) ? 0 : Double.parseDouble(Float.toString(in[i]));
+			_data = new DoubleArray(ret);
+		}
+		else
+			_data = _data.changeType(vt);
+		_vt = vt;
+	}
+
+	private static ValueType getHighest(ValueType state, ValueType c, String val) {
+		// single characters are only retained if all values are single characters
+		if(state == ValueType.CHARACTER)
+			return val.length() == 1 ? state : ValueType.STRING;
+		return getHighest(state, c);
+	}
+
+	private static ValueType getHighest(ValueType state, ValueType c) {
+		if(state == c || c == ValueType.UNKNOWN)
+			return state;
+		else if(state == ValueType.UNKNOWN)
+			return c;
+		else if(state == ValueType.STRING || c == ValueType.STRING)
+			return ValueType.STRING;
+		else if(state == ValueType.CHARACTER || c == ValueType.CHARACTER)
+			return ValueType.STRING;
+		return StringArray.getHighest(state, c);
+	}
+}
@@ -26,11 +26,13 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashMap;
 
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.columns.ArrayFactory.FrameArrayType;
 import org.apache.sysds.runtime.matrix.data.Pair;
+import org.apache.sysds.runtime.util.LongIntHashMap;
 import org.apache.sysds.runtime.util.UtilFunctions;
 import org.apache.sysds.utils.MemoryEstimates;
 
@@ -333,6 +335,18 @@ public class LongArray extends Array<Long> {
 		return _data[i] != 0;
 	}
 
+	@Override
+	protected HashMap<Long, Long> createRecodeMap() {
+		// collect distinct values w/o boxing, and box only the distinct values
+		LongIntHashMap tmp = new LongIntHashMap();
+		for(int i = 0; i < _size; i++)
+			tmp.putIfAbsent(_data[i], tmp.size());
+		HashMap<Long, Long> map = new HashMap<>((int) (tmp.size() / 0.75f) + 1);
+		for(int i = 0; i < tmp.size(); i++)
+			map.put(tmp.getKey(i), (long) i);
+		return map;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder(_data.length * 5 + 2);
@@ -194,7 +194,7 @@ public class StringArray extends Array<String> {
 		return ValueType.STRING;
 	}
 
-	private static final ValueType getHighest(ValueType state, ValueType c) {
+	protected static final ValueType getHighest(ValueType state, ValueType c) {
 
 		switch(state) {
 			case FP32:
@@ -19,14 +19,25 @@
 
 package org.apache.sysds.runtime.functionobjects;
 
+import org.apache.sysds.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+
 public class IfElse extends TernaryValueFunction
 {
 	private static final long serialVersionUID = -8660124936856173978L;
 	
 	private static IfElse singleObj = null;
 
+	private final double _then;
+	private final double _else;
+
 	private IfElse() {
-		// nothing to do here
+		this(1, 0);
+	}
+
+	private IfElse(double thenVal, double elseVal) {
+		_then = thenVal;
+		_else = elseVal;
 	}
 
 	public static IfElse getFnObject() {
@@ -39,4 +50,22 @@ public class IfElse extends TernaryValueFunction
 	public double execute(double in1, double in2, double in3) {
 		return (in1 != 0) ? in2 : in3;
 	}
+
+	/**
+	 * Get a scalar operator for ifelse with constant then and else values,
+	 * which is evaluated on the condition values only (e.g., per distinct value).
+	 * 
+	 * @param thenVal constant value if the condition is true
+	 * @param elseVal constant value if the condition is false
+	 * @return scalar operator
+	 */
+	public ScalarOperator setOp23Constants(double thenVal, double elseVal) {
+		return new RightScalarOperator(new IfElse(thenVal, elseVal), 0);
+	}
+
+	@Override
+	public double execute(double in1, double in2) {
+		// in2 is the dummy constant of the scalar operator
+		return (in1 != 0) ? _then : _else;
+	}
 }
@@ -24,6 +24,7 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.instructions.cp.CPInstruction.CPType;
 import org.apache.sysds.runtime.instructions.fed.FEDInstruction;
 import org.apache.sysds.runtime.instructions.gpu.GPUInstruction.GPUINSTRUCTION_TYPE;
+import org.apache.sysds.runtime.instructions.ooc.OOCInstruction.OOCType;
 import org.apache.sysds.runtime.instructions.spark.SPInstruction.SPType;
 
 public class InstructionParser 
@@ -55,6 +56,11 @@ public class InstructionParser
 				if( fedtype == null )
 					throw new DMLRuntimeException("Unknown FEDERATED instruction: " + str);
 				return FEDInstructionParser.parseSingleInstruction (fedtype, str);
+			case OOC:
+				OOCType ooctype = InstructionUtils.getOOCType(str);
+				if( ooctype == null )
+					throw new DMLRuntimeException("Unknown OOC instruction: " + str);
+				return OOCInstructionParser.parseSingleInstruction (ooctype, str);
 			default:
 				throw new DMLRuntimeException("Unknown execution type in instruction: " + str);
 		}
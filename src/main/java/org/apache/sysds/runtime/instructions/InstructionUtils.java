@@ -90,6 +90,7 @@ import org.apache.sysds.runtime.instructions.cp.CPOperand;
 import org.apache.sysds.runtime.instructions.fed.FEDInstruction.FEDType;
 import org.apache.sysds.runtime.instructions.fed.FEDInstruction.FederatedOutput;
 import org.apache.sysds.runtime.instructions.gpu.GPUInstruction.GPUINSTRUCTION_TYPE;
+import org.apache.sysds.runtime.instructions.ooc.OOCInstruction.OOCType;
 import org.apache.sysds.runtime.instructions.spark.SPInstruction.SPType;
 import org.apache.sysds.runtime.matrix.data.LibCommonsMath;
 import org.apache.sysds.runtime.matrix.operators.AggregateBinaryOperator;
@@ -287,6 +288,10 @@ public class InstructionUtils {
 		return FEDInstructionParser.String2FEDInstructionType.get(getOpCode(str));
 	}
 
+	public static OOCType getOOCType(String str) {
+		return OOCInstructionParser.String2OOCInstructionType.get(getOpCode(str));
+	}
+
 	public static boolean isBuiltinFunction( String opcode ) {
 		Builtin.BuiltinCode bfc = Builtin.String2BuiltinCode.get(opcode);
 		return (bfc != null);
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions;
+
+import java.util.HashMap;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.instructions.ooc.AggregateBinaryOOCInstruction;
+import org.apache.sysds.runtime.instructions.ooc.AggregateUnaryOOCInstruction;
+import org.apache.sysds.runtime.instructions.ooc.BinaryOOCInstruction;
+import org.apache.sysds.runtime.instructions.ooc.OOCInstruction;
+import org.apache.sysds.runtime.instructions.ooc.OOCInstruction.OOCType;
+import org.apache.sysds.runtime.instructions.ooc.TsmmOOCInstruction;
+import org.apache.sysds.runtime.instructions.ooc.UnaryOOCInstruction;
+
+public class OOCInstructionParser extends InstructionParser
+{
+	public static final HashMap<String, OOCType> String2OOCInstructionType;
+	static {
+		String2OOCInstructionType = new HashMap<>();
+
+		// Matrix Multiply Operators
+		String2OOCInstructionType.put( "ba+*"   , OOCType.AggregateBinary);
+		String2OOCInstructionType.put( "tsmm"   , OOCType.Tsmm);
+
+		// Aggregate Unary Operators
+		String2OOCInstructionType.put( "uak+"   , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uark+"  , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uack+"  , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uasqk+" , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uarsqk+", OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uacsqk+", OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uamean" , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uarmean", OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uacmean", OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uamax"  , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uarmax" , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uacmax" , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uamin"  , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uarmin" , OOCType.AggregateUnary);
+		String2OOCInstructionType.put( "uacmin" , OOCType.AggregateUnary);
+
+		// Binary Matrix-Scalar Operators
+		String2OOCInstructionType.put( "+"   , OOCType.Binary);
+		String2OOCInstructionType.put( "-"   , OOCType.Binary);
+		String2OOCInstructionType.put( "*"   , OOCType.Binary);
+		String2OOCInstructionType.put( "/"   , OOCType.Binary);
+		String2OOCInstructionType.put( "^"   , OOCType.Binary);
+		String2OOCInstructionType.put( "^2"  , OOCType.Binary); //special ^ case
+		String2OOCInstructionType.put( "*2"  , OOCType.Binary); //special * case
+		String2OOCInstructionType.put( "max" , OOCType.Binary);
+		String2OOCInstructionType.put( "min" , OOCType.Binary);
+		String2OOCInstructionType.put( "<"   , OOCType.Binary);
+		String2OOCInstructionType.put( "<="  , OOCType.Binary);
+		String2OOCInstructionType.put( ">"   , OOCType.Binary);
+		String2OOCInstructionType.put( ">="  , OOCType.Binary);
+		String2OOCInstructionType.put( "=="  , OOCType.Binary);
+		String2OOCInstructionType.put( "!="  , OOCType.Binary);
+
+		// Unary Builtin Operators
+		String2OOCInstructionType.put( "abs"    , OOCType.Unary);
+		String2OOCInstructionType.put( "exp"    , OOCType.Unary);
+		String2OOCInstructionType.put( "log"    , OOCType.Unary);
+		String2OOCInstructionType.put( "sqrt"   , OOCType.Unary);
+		String2OOCInstructionType.put( "round"  , OOCType.Unary);
+		String2OOCInstructionType.put( "floor"  , OOCType.Unary);
+		String2OOCInstructionType.put( "ceil"   , OOCType.Unary);
+		String2OOCInstructionType.put( "sin"    , OOCType.Unary);
+		String2OOCInstructionType.put( "cos"    , OOCType.Unary);
+		String2OOCInstructionType.put( "tan"    , OOCType.Unary);
+		String2OOCInstructionType.put( "sign"   , OOCType.Unary);
+		String2OOCInstructionType.put( "sigmoid", OOCType.Unary);
+	}
+
+	public static OOCInstruction parseSingleInstruction (String str ) {
+		if ( str == null || str.isEmpty() )
+			return null;
+		OOCType ooctype = InstructionUtils.getOOCType(str);
+		if ( ooctype == null )
+			throw new DMLRuntimeException("Unable derive ooctype for instruction: " + str);
+		OOCInstruction oocinst = parseSingleInstruction(ooctype, str);
+		if ( oocinst == null )
+			throw new DMLRuntimeException("Unable to parse instruction: " + str);
+		return oocinst;
+	}
+
+	public static OOCInstruction parseSingleInstruction ( OOCType ooctype, String str ) {
+		if( str == null || str.isEmpty() )
+			return null;
+		switch(ooctype) {
+			case AggregateBinary:
+				return AggregateBinaryOOCInstruction.parseInstruction(str);
+			case AggregateUnary:
+				return AggregateUnaryOOCInstruction.parseInstruction(str);
+			case Binary:
+				return BinaryOOCInstruction.parseInstruction(str);
+			case Tsmm:
+				return TsmmOOCInstruction.parseInstruction(str);
+			case Unary:
+				return UnaryOOCInstruction.parseInstruction(str);
+			default:
+				throw new DMLRuntimeException("Invalid OOC Instruction Type: " + ooctype );
+		}
+	}
+}
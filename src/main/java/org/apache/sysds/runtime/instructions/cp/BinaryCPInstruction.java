@@ -23,6 +23,7 @@ import org.apache.sysds.common.Types.DataType;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.LibCommonsMath;
 import org.apache.sysds.runtime.matrix.operators.MultiThreadedOperator;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 
@@ -48,6 +49,8 @@ public abstract class BinaryCPInstruction extends ComputationCPInstruction {
 			checkOutputDataType(in1, in2, out);
 		
 		MultiThreadedOperator operator = InstructionUtils.parseBinaryOrBuiltinOperator(opcode, in1, in2);
+		if(operator == null && LibCommonsMath.isSupportedMatrixMatrixOperation(opcode))
+			operator = new MultiThreadedOperator(); //only carries the number of threads (e.g., for solve)
 		if(parts.length == 5 && operator != null)
 			operator.setNumThreads(Integer.parseInt(parts[4]));
 
@@ -26,6 +26,7 @@ import org.apache.sysds.runtime.matrix.data.LibCommonsMath;
 import org.apache.sysds.runtime.matrix.data.LibMatrixBincell;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.MultiThreadedOperator;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 
 public class BinaryMatrixMatrixCPInstruction extends BinaryCPInstruction {
@@ -81,7 +82,8 @@ public class BinaryMatrixMatrixCPInstruction extends BinaryCPInstruction {
 		}
 		else {
 			if(LibCommonsMath.isSupportedMatrixMatrixOperation(getOpcode()) && !compressedLeft && !compressedRight)
-				retBlock = LibCommonsMath.matrixMatrixOperations(inBlock1, inBlock2, getOpcode());
+				retBlock = LibCommonsMath.matrixMatrixOperations(inBlock1, inBlock2, getOpcode(),
+					(_optr instanceof MultiThreadedOperator) ? ((MultiThreadedOperator) _optr).getNumThreads() : 1);
 			else {
 				// Perform computation using input matrices, and produce the result matrix
 				BinaryOperator bop = (BinaryOperator) _optr;
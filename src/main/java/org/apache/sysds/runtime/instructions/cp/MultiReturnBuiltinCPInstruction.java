@@ -25,6 +25,7 @@ import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.sysds.common.Types.DataType;
 import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
@@ -117,7 +118,9 @@ public class MultiReturnBuiltinCPInstruction extends ComputationCPInstruction {
 			throw new DMLRuntimeException("Invalid opcode in MultiReturnBuiltin instruction: " + getOpcode());
 		
 		MatrixBlock in = ec.getMatrixInput(input1.getName());
-		MatrixBlock[] out = LibCommonsMath.multiReturnOperations(in, getOpcode());
+		//no compiled degree of parallelism, use the constrained local parallelism
+		MatrixBlock[] out = LibCommonsMath.multiReturnOperations(in, getOpcode(),
+			OptimizerUtils.getConstrainedNumThreads(-1));
 		ec.releaseMatrixInput(input1.getName());
 		for(int i=0; i < _outputs.size(); i++) {
 			ec.setMatrixOutput(_outputs.get(i).getName(), out[i]);
@@ -28,6 +28,7 @@ import org.apache.sysds.runtime.functionobjects.Builtin;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
 import org.apache.sysds.runtime.matrix.data.LibCommonsMath;
+import org.apache.sysds.runtime.matrix.operators.MultiThreadedOperator;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
@@ -74,10 +75,12 @@ public abstract class UnaryCPInstruction extends ComputationCPInstruction {
 			int k = Integer.parseInt(parts[3]);
 			if(in.getDataType() == DataType.SCALAR)
 				return new UnaryScalarCPInstruction(InstructionUtils.parseUnaryOperator(opcode, k), in, out, opcode, str);
-			else if(in.getDataType() == DataType.MATRIX)
-				return new UnaryMatrixCPInstruction(
-					LibCommonsMath.isSupportedUnaryOperation(opcode) ? null : InstructionUtils.parseUnaryOperator(opcode, k),
-					in, out, opcode, str);
+			else if(in.getDataType() == DataType.MATRIX) {
+				MultiThreadedOperator op = LibCommonsMath.isSupportedUnaryOperation(opcode) ?
+					new MultiThreadedOperator() : InstructionUtils.parseUnaryOperator(opcode, k);
+				op.setNumThreads(k);
+				return new UnaryMatrixCPInstruction(op, in, out, opcode, str);
+			}
 			else if(in.getDataType() == DataType.FRAME)
 				return new UnaryFrameCPInstruction(InstructionUtils.parseUnaryOperator(opcode, k), in, out, opcode, str);
 		}
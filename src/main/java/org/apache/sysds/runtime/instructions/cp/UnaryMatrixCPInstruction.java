@@ -22,6 +22,7 @@ package org.apache.sysds.runtime.instructions.cp;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.matrix.data.LibCommonsMath;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.MultiThreadedOperator;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
@@ -36,7 +37,8 @@ public class UnaryMatrixCPInstruction extends UnaryCPInstruction {
 		MatrixBlock retBlock = null;
 		
 		if(LibCommonsMath.isSupportedUnaryOperation(getOpcode())) {
-			retBlock = LibCommonsMath.unaryOperations(inBlock, getOpcode());
+			int k = (_optr instanceof MultiThreadedOperator) ? ((MultiThreadedOperator) _optr).getNumThreads() : 1;
+			retBlock = LibCommonsMath.unaryOperations(inBlock, getOpcode(), k);
 			ec.releaseMatrixInput(input1.getName());
 		}
 		else {
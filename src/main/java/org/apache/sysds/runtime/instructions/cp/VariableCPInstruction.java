@@ -35,6 +35,7 @@ import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.AsyncWriteManager;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
@@ -50,6 +51,7 @@ import org.apache.sysds.runtime.io.FileFormatProperties;
 import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
 import org.apache.sysds.runtime.io.FileFormatPropertiesHDF5;
 import org.apache.sysds.runtime.io.FileFormatPropertiesLIBSVM;
+import org.apache.sysds.runtime.io.FileFormatPropertiesParquet;
 import org.apache.sysds.runtime.io.ListReader;
 import org.apache.sysds.runtime.io.ListWriter;
 import org.apache.sysds.runtime.io.WriterHDF5;
@@ -405,6 +407,11 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 				if(parts.length < 11 + extSchema)
 					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
 			}
+			else if(fmt.equalsIgnoreCase("parquet")) {
+				// 12 inputs: createvar corresponding to WRITE/READ -- includes properties projected columns
+				if(parts.length != 6 && parts.length != 11 + extSchema && parts.length != 12 + extSchema)
+					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
+			}
 			else {
 				if ( parts.length != 6 && parts.length != 11+extSchema )
 					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
@@ -506,6 +513,13 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 				return new VariableCPInstruction(VariableOperationCode.CreateVariable,
 					in1, in2, in3, iimd, updateType, fmtProperties, schema, opcode, str);
 			}
+			else if(fmt.equalsIgnoreCase("parquet") && parts.length == 12 + extSchema) {
+				// 12 inputs: createvar corresponding to WRITE/READ -- includes properties projected columns
+				FileFormatProperties fmtProperties = FileFormatPropertiesParquet.parse(parts[11]);
+
+				return new VariableCPInstruction(VariableOperationCode.CreateVariable,
+					in1, in2, in3, iimd, updateType, fmtProperties, schema, opcode, str);
+			}
 			else {
 				return new VariableCPInstruction(VariableOperationCode.CreateVariable, in1, in2, in3, iimd, updateType, schema, opcode, str);
 			}
@@ -1031,6 +1045,10 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 			_formatProperties.setDescription(desc);
 		}
 
+		//barrier for pending asynchronous writes of the input file
+		if( getInput1().getDataType().isMatrixOrFrame() )
+			AsyncWriteManager.waitForWrite(ec.getCacheableData(getInput1().getName()).getFileName());
+
 		if( getInput1().getDataType() == DataType.SCALAR ) {
 			HDFSTool.writeScalarToHDFS(ec.getScalarInput(getInput1()), fname);
 		}
@@ -1047,14 +1065,14 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 				// Default behavior (text, binary)
 				MatrixObject mo = ec.getMatrixObject(getInput1().getName());
 				int blen = Integer.parseInt(getInput4().getName());
-				mo.exportData(fname, fmtStr, new FileFormatProperties(blen));
+				exportData(mo, fname, fmtStr, new FileFormatProperties(blen));
 			}
 			// Set privacy constraint of write instruction to the same as that of the input
 			setPrivacyConstraint(ec.getMatrixObject(getInput1().getName()).getPrivacyConstraint());
 		}
 		else if( getInput1().getDataType() == DataType.FRAME ) {
 			FrameObject mo = ec.getFrameObject(getInput1().getName());
-			mo.exportData(fname, fmtStr, _formatProperties);
+			exportData(mo, fname, fmtStr, _formatProperties);
 			setPrivacyConstraint(mo.getPrivacyConstraint());
 		}
 		else if( getInput1().getDataType() == DataType.TENSOR ) {
@@ -1069,6 +1087,22 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 		}
 	}
 
+	/**
+	 * Exports the given matrix or frame, asynchronously if enabled (write-behind
+	 * until the next read of the file or the end of the program).
+	 *
+	 * @param obj matrix or frame object
+	 * @param fname file name
+	 * @param outFmt output format
+	 * @param props file format properties
+	 */
+	private static void exportData(CacheableData<?> obj, String fname, String outFmt, FileFormatProperties props) {
+		if( ConfigurationManager.isAsyncWriteEnabled() )
+			AsyncWriteManager.exportData(obj, fname, outFmt, props);
+		else
+			obj.exportData(fname, outFmt, props);
+	}
+
 	/**
 	 * Handler for SetFileName instruction
 	 * @param ec execution context
@@ -1114,7 +1148,7 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 		if(mo.isDirty()) {
 			// there exist data computed in CP that is not backed up on HDFS
 			// i.e., it is either in-memory or in evicted space
-			mo.exportData(fname, outFmt, _formatProperties);
+			exportData(mo, fname, outFmt, _formatProperties);
 		}
 		else {
 			try {
@@ -1151,7 +1185,7 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 		if(mo.isDirty()) {
 			// there exist data computed in CP that is not backed up on HDFS
 			// i.e., it is either in-memory or in evicted space
-			mo.exportData(fname, outFmt, _formatProperties);
+			exportData(mo, fname, outFmt, _formatProperties);
 		}
 		else {
 			try {
@@ -1179,7 +1213,7 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 		if(mo.isDirty()) {
 			// there exist data computed in CP that is not backed up on HDFS
 			// i.e., it is either in-memory or in evicted space
-			mo.exportData(fname, outFmt, _formatProperties);
+			exportData(mo, fname, outFmt, _formatProperties);
 		}
 		else {
 			try {
@@ -1214,7 +1248,7 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 		if(mo.isDirty()) {
 			// there exist data computed in CP that is not backed up on HDFS
 			// i.e., it is either in-memory or in evicted space
-			mo.exportData(fname, outFmt);
+			exportData(mo, fname, outFmt, null);
 		}
 		else {
 			try {
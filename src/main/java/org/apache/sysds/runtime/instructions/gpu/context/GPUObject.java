@@ -31,6 +31,7 @@ import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCOO;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.matrix.data.LibMatrixCUDA;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -867,6 +868,14 @@ public class GPUObject {
 						GPUStatistics.cudaSparseConversionTime.add(System.nanoTime() - t0);
 					if (DMLScript.STATISTICS)
 						GPUStatistics.cudaSparseConversionCount.increment();
+				} else if (block instanceof SparseBlockDCSR) {
+					if (DMLScript.STATISTICS)
+						t0 = System.nanoTime();
+					csrBlock = new SparseBlockCSR(block);
+					if (DMLScript.STATISTICS)
+						GPUStatistics.cudaSparseConversionTime.add(System.nanoTime() - t0);
+					if (DMLScript.STATISTICS)
+						GPUStatistics.cudaSparseConversionCount.increment();
 				} else {
 					throw new DMLRuntimeException("Unsupported sparse matrix format for CUDA operations");
 				}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.AggregateBinaryOperator;
+
+public class AggregateBinaryOOCInstruction extends ComputationOOCInstruction {
+
+	protected AggregateBinaryOOCInstruction(AggregateBinaryOperator op, CPOperand in1, CPOperand in2,
+		CPOperand out, String opcode, String istr) {
+		super(OOCType.AggregateBinary, op, in1, in2, out, opcode, istr);
+	}
+
+	public static AggregateBinaryOOCInstruction parseInstruction(String str) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		InstructionUtils.checkNumFields(parts, 4);
+		String opcode = parts[0];
+		if( !opcode.equalsIgnoreCase("ba+*") )
+			throw new DMLRuntimeException("Unknown opcode while parsing an AggregateBinaryOOCInstruction: " + str);
+		CPOperand in1 = new CPOperand(parts[1]);
+		CPOperand in2 = new CPOperand(parts[2]);
+		CPOperand out = new CPOperand(parts[3]);
+		int k = Integer.parseInt(parts[4]);
+		return new AggregateBinaryOOCInstruction(
+			InstructionUtils.getMatMultOperator(k), in1, in2, out, opcode, str);
+	}
+
+	@Override
+	public void processInstruction(ExecutionContext ec) {
+		int k = ((AggregateBinaryOperator) _optr).getNumThreads();
+		MatrixObject min = ec.getMatrixObject(input1);
+		MatrixObject mout = ec.getMatrixObject(output);
+		MatrixBlock right = ec.getMatrixInput(input2.getName());
+		if( min.getNumColumns() != right.getNumRows() )
+			throw new DMLRuntimeException("Dimensions do not match for matrix multiplication ("
+				+ min.getNumColumns() + "!=" + right.getNumRows() + ").");
+
+		//X%*%Y = rbind of P%*%Y over all row panels P, streamed to the output file
+		try( OOCPanelWriter writer = new OOCPanelWriter(mout, min.getNumRows(), right.getNumColumns(), min.getBlocksize()) ) {
+			processPanels(ec, input1, writer.getPanelRows(),
+				(rl, panel) -> writer.write(rl, LibMatrixMult.matrixMult(panel, right, k)));
+		}
+		finally {
+			ec.releaseMatrixInput(input2.getName());
+		}
+	}
+}
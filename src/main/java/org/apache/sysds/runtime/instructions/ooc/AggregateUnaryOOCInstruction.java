@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.functionobjects.KahanPlus;
+import org.apache.sysds.runtime.functionobjects.ReduceAll;
+import org.apache.sysds.runtime.functionobjects.ReduceCol;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.KahanObject;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+
+public class AggregateUnaryOOCInstruction extends ComputationOOCInstruction {
+
+	private enum AggCombine {
+		SUM, MEAN, MAX, MIN
+	}
+
+	private final AggCombine _combine;
+
+	protected AggregateUnaryOOCInstruction(AggregateUnaryOperator op, AggCombine combine,
+		CPOperand in, CPOperand out, String opcode, String istr) {
+		super(OOCType.AggregateUnary, op, in, out, opcode, istr);
+		_combine = combine;
+	}
+
+	public static AggregateUnaryOOCInstruction parseInstruction(String str) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		InstructionUtils.checkNumFields(parts, 3);
+		String opcode = parts[0];
+		CPOperand in = new CPOperand(parts[1]);
+		CPOperand out = new CPOperand(parts[2]);
+		AggregateUnaryOperator aop = InstructionUtils
+			.parseBasicAggregateUnaryOperator(opcode, Integer.parseInt(parts[3]));
+		AggCombine combine = opcode.endsWith("k+") ? AggCombine.SUM :
+			opcode.endsWith("mean") ? AggCombine.MEAN : opcode.endsWith("max") ? AggCombine.MAX :
+			opcode.endsWith("min") ? AggCombine.MIN : null;
+		if( combine == null )
+			throw new DMLRuntimeException("Unsupported OOC aggregate unary operation: " + str);
+		return new AggregateUnaryOOCInstruction(aop, combine, in, out, opcode, str);
+	}
+
+	@Override
+	public void processInstruction(ExecutionContext ec) {
+		AggregateUnaryOperator aop = (AggregateUnaryOperator) _optr;
+		MatrixObject min = ec.getMatrixObject(input1);
+		final long rlen = min.getNumRows();
+		final int clen = (int) min.getNumColumns();
+		MatrixBlock ret = null;
+
+		if( aop.indexFn instanceof ReduceCol ) {
+			//row aggregates: final results per row panel
+			MatrixBlock out = new MatrixBlock((int) rlen, 1, false).allocateBlock();
+			processPanels(ec, input1, -1, (rl, panel) -> {
+				MatrixBlock tmp = aggregate(panel, aop);
+				out.copy(rl, rl + tmp.getNumRows() - 1, 0, 0, tmp, false);
+			});
+			out.recomputeNonZeros();
+			ret = out;
+		}
+		else {
+			//full and column aggregates: combine partial aggregates of row panels
+			final int ncol = (aop.indexFn instanceof ReduceAll) ? 1 : clen;
+			final KahanObject[] acc = new KahanObject[ncol];
+			final KahanPlus kplus = KahanPlus.getKahanPlusFnObject();
+			processPanels(ec, input1, -1, (rl, panel) -> {
+				MatrixBlock tmp = aggregate(panel, aop);
+				double w = (double) panel.getNumRows() / rlen;
+				for( int j = 0; j < ncol; j++ ) {
+					double v = tmp.quickGetValue(0, j);
+					if( acc[j] == null )
+						acc[j] = new KahanObject(_combine == AggCombine.MEAN ? v * w : v, 0);
+					else if( _combine == AggCombine.SUM )
+						kplus.execute2(acc[j], v);
+					else if( _combine == AggCombine.MEAN )
+						kplus.execute2(acc[j], v * w);
+					else
+						acc[j]._sum = (_combine == AggCombine.MAX) ?
+							Math.max(acc[j]._sum, v) : Math.min(acc[j]._sum, v);
+				}
+			});
+			ret = new MatrixBlock(1, ncol, false);
+			for( int j = 0; j < ncol; j++ )
+				ret.quickSetValue(0, j, (acc[j] != null) ? acc[j]._sum : 0);
+		}
+
+		if( output.isScalar() )
+			ec.setScalarOutput(output.getName(), new DoubleObject(ret.quickGetValue(0, 0)));
+		else
+			ec.setMatrixOutput(output.getName(), ret);
+	}
+
+	private static MatrixBlock aggregate(MatrixBlock panel, AggregateUnaryOperator aop) {
+		return panel.aggregateUnaryOperations(aop, new MatrixBlock(),
+			panel.getNumRows(), new MatrixIndexes(1, 1), true);
+	}
+}
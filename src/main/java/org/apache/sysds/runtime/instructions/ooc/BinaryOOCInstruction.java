@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.MultiThreadedOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+
+public class BinaryOOCInstruction extends ComputationOOCInstruction {
+
+	protected BinaryOOCInstruction(ScalarOperator op, CPOperand in1, CPOperand in2, CPOperand out, String opcode, String istr) {
+		super(OOCType.Binary, op, in1, in2, out, opcode, istr);
+	}
+
+	public static BinaryOOCInstruction parseInstruction(String str) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		InstructionUtils.checkNumFields(parts, 4);
+		String opcode = parts[0];
+		CPOperand in1 = new CPOperand(parts[1]);
+		CPOperand in2 = new CPOperand(parts[2]);
+		CPOperand out = new CPOperand(parts[3]);
+		if( !(in1.isMatrix() && in2.isScalar() || in1.isScalar() && in2.isMatrix()) )
+			throw new DMLRuntimeException("Unsupported OOC binary operation (only matrix-scalar): " + str);
+		MultiThreadedOperator op = InstructionUtils.parseBinaryOrBuiltinOperator(opcode, in1, in2);
+		op.setNumThreads(Integer.parseInt(parts[4]));
+		return new BinaryOOCInstruction((ScalarOperator) op, in1, in2, out, opcode, str);
+	}
+
+	@Override
+	public void processInstruction(ExecutionContext ec) {
+		CPOperand mat = input1.isMatrix() ? input1 : input2;
+		CPOperand scalar = input1.isMatrix() ? input2 : input1;
+		ScalarOperator sop = ((ScalarOperator) _optr)
+			.setConstant(ec.getScalarInput(scalar).getDoubleValue());
+		MatrixObject min = ec.getMatrixObject(mat);
+		MatrixObject mout = ec.getMatrixObject(output);
+
+		//cellwise operation per row panel, streamed to the output file
+		try( OOCPanelWriter writer = new OOCPanelWriter(mout, min.getNumRows(), min.getNumColumns(), min.getBlocksize()) ) {
+			processPanels(ec, mat, writer.getPanelRows(),
+				(rl, panel) -> writer.write(rl, panel.scalarOperations(sop, new MatrixBlock())));
+		}
+	}
+}
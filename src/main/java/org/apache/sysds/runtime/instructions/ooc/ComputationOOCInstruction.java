@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.lineage.LineageItem;
+import org.apache.sysds.runtime.lineage.LineageItemUtils;
+import org.apache.sysds.runtime.lineage.LineageTraceable;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+
+public abstract class ComputationOOCInstruction extends OOCInstruction implements LineageTraceable {
+
+	public final CPOperand output;
+	public final CPOperand input1, input2;
+
+	protected ComputationOOCInstruction(OOCType type, Operator op,
+		CPOperand in1, CPOperand out, String opcode, String istr) {
+		this(type, op, in1, null, out, opcode, istr);
+	}
+
+	protected ComputationOOCInstruction(OOCType type, Operator op,
+		CPOperand in1, CPOperand in2, CPOperand out, String opcode, String istr) {
+		super(type, op, opcode, istr);
+		input1 = in1;
+		input2 = in2;
+		output = out;
+	}
+
+	public String getOutputVariableName() {
+		return output.getName();
+	}
+
+	/**
+	 * Streams the row panels of the given input through the given panel operation,
+	 * while the next panel is already read (if the input is streamed from a file).
+	 *
+	 * @param ec        execution context
+	 * @param in        matrix input
+	 * @param panelRows number of rows per panel, or -1 for the blocksize of the input
+	 * @param fn        panel operation, called with row offset and panel
+	 */
+	protected static void processPanels(ExecutionContext ec, CPOperand in, int panelRows, PanelFunction fn) {
+		MatrixObject mo = ec.getMatrixObject(in);
+		try( OOCPanelStream stream = OOCPanelStream.open(mo, panelRows) ) {
+			IndexedMatrixValue panel = null;
+			while( (panel = stream.next()) != null ) {
+				long rl = (panel.getIndexes().getRowIndex() - 1) * stream.getPanelRows();
+				fn.apply((int) rl, (MatrixBlock) panel.getValue());
+			}
+		}
+	}
+
+	@Override
+	public Pair<String, LineageItem> getLineageItem(ExecutionContext ec) {
+		return Pair.of(output.getName(), new LineageItem(getOpcode(),
+			LineageItemUtils.getLineage(ec, input1, input2)));
+	}
+
+	@FunctionalInterface
+	protected interface PanelFunction {
+		void apply(int rl, MatrixBlock panel);
+	}
+}
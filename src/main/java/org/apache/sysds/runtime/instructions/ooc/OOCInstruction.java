@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+
+/**
+ * Base class of out-of-core (OOC) instructions, which stream larger-than-memory
+ * matrices in row panels (see {@link OOCPanelStream}) through the local CP kernels.
+ */
+public abstract class OOCInstruction extends Instruction {
+
+	public enum OOCType {
+		AggregateBinary,
+		AggregateUnary,
+		Binary,
+		Tsmm,
+		Unary
+	}
+
+	protected final OOCType _ooctype;
+
+	protected OOCInstruction(OOCType type, Operator op, String opcode, String istr) {
+		super(op);
+		_ooctype = type;
+		instString = istr;
+		instOpcode = opcode;
+	}
+
+	@Override
+	public IType getType() {
+		return IType.OUT_OF_CORE;
+	}
+
+	public OOCType getOOCInstructionType() {
+		return _ooctype;
+	}
+}
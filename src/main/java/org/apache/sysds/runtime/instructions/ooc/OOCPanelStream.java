@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData.CacheStatus;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Stream of the row panels of a matrix, where each panel holds panelRows complete
+ * rows (the last panel might be smaller), and is indexed by its 1-based panel index.
+ * If the matrix is only available as binary-block file (i.e., not in memory and
+ * not dirty), the blocks are read by a background thread that assembles the row
+ * panels and reads ahead a bounded number of panels. Otherwise, the panels are
+ * sliced from the pinned in-memory matrix.
+ *
+ * Panels are emitted once all column blocks have been read, i.e., in file order for
+ * row-major files as written by CP and OOC, and all remaining panels at the end of
+ * the input (e.g., for files with missing empty blocks).
+ */
+public class OOCPanelStream implements AutoCloseable
+{
+	/** Number of row panels that are read ahead of the consuming instruction */
+	public static int PREFETCH_PANELS = 1;
+
+	private static final IndexedMatrixValue EOS = new IndexedMatrixValue();
+
+	private final MatrixObject _mo;
+	private final int _panelRows;
+
+	//in-memory slicing
+	private MatrixBlock _mb = null;
+	private int _nextPanel = 0;
+
+	//file streaming w/ read-ahead
+	private BlockingQueue<IndexedMatrixValue> _queue = null;
+	private ExecutorService _pool = null;
+	private Future<?> _reader = null;
+	private volatile boolean _cancelled = false;
+
+	private OOCPanelStream(MatrixObject mo, int panelRows) {
+		_mo = mo;
+		_panelRows = panelRows;
+	}
+
+	/**
+	 * Opens a panel stream over the given matrix.
+	 *
+	 * @param mo        matrix object
+	 * @param panelRows number of rows per panel, or -1 for the blocksize of the matrix
+	 * @return panel stream
+	 */
+	public static OOCPanelStream open(MatrixObject mo, int panelRows) {
+		DataCharacteristics dc = mo.getDataCharacteristics();
+		int prows = (panelRows > 0) ? panelRows : dc.getBlocksize();
+		OOCPanelStream ret = new OOCPanelStream(mo, prows);
+		if( isStreamable(mo, prows) ) {
+			ret._queue = new ArrayBlockingQueue<>(PREFETCH_PANELS);
+			ret._pool = Executors.newSingleThreadExecutor();
+			ret._reader = ret._pool.submit(() -> ret.readPanels());
+		}
+		else {
+			ret._mb = mo.acquireRead();
+		}
+		return ret;
+	}
+
+	/**
+	 * Indicates if the given matrix can be streamed from its binary-block file with
+	 * panels of the given number of rows (i.e., the blocksize of the file).
+	 *
+	 * @param mo        matrix object
+	 * @param panelRows number of rows per panel
+	 * @return true if streamed from file
+	 */
+	public static boolean isStreamable(MatrixObject mo, int panelRows) {
+		DataCharacteristics dc = mo.getDataCharacteristics();
+		try {
+			return mo.getStatus() == CacheStatus.EMPTY && !mo.isDirty()
+				&& mo.getRDDHandle() == null && !mo.isFederated()
+				&& mo.getMetaData() instanceof MetaDataFormat
+				&& ((MetaDataFormat) mo.getMetaData()).getFileFormat() == FileFormat.BINARY
+				&& dc.dimsKnown() && dc.getBlocksize() == panelRows
+				&& mo.getFileName() != null && HDFSTool.existsFileOnHDFS(mo.getFileName());
+		}
+		catch(Exception ex) {
+			return false;
+		}
+	}
+
+	public int getPanelRows() {
+		return _panelRows;
+	}
+
+	public boolean isStreamed() {
+		return _queue != null;
+	}
+
+	/**
+	 * Obtains the next row panel, blocking until the panel is available.
+	 *
+	 * @return row panel, or null if all panels have been consumed
+	 */
+	public IndexedMatrixValue next() {
+		if( _mb != null ) {
+			int rl = _nextPanel * _panelRows;
+			if( rl >= _mb.getNumRows() )
+				return null;
+			int ru = Math.min(rl + _panelRows, _mb.getNumRows());
+			return new IndexedMatrixValue(new MatrixIndexes(++_nextPanel, 1), _mb.slice(rl, ru - 1));
+		}
+		try {
+			IndexedMatrixValue ret = _queue.take();
+			if( ret == EOS ) {
+				_queue.put(EOS); //idempotent end of stream
+				_reader.get();   //propagate read errors
+				return null;
+			}
+			return ret;
+		}
+		catch(InterruptedException | ExecutionException ex) {
+			throw new DMLRuntimeException("Failed to read row panels of " + _mo.getFileName(), ex);
+		}
+	}
+
+	@Override
+	public void close() {
+		if( _mb != null ) {
+			_mo.release();
+			_mb = null;
+		}
+		if( _pool != null ) {
+			//abort pending reads (e.g., on errors of the consumer) by signaling
+			//cancellation and draining the queue until the reader terminated,
+			//which unblocks the reader without interrupting its file reads
+			_cancelled = true;
+			_pool.shutdown();
+			try {
+				do {
+					_queue.clear();
+				}
+				while( !_pool.awaitTermination(10, TimeUnit.MILLISECONDS) );
+			}
+			catch(InterruptedException ex) {
+				_pool.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+			_queue.clear();
+			_pool = null;
+		}
+	}
+
+	private Void readPanels() throws Exception {
+		DataCharacteristics dc = _mo.getDataCharacteristics();
+		long rlen = dc.getRows();
+		int clen = (int) dc.getCols();
+		int blen = dc.getBlocksize();
+		int ncblks = (int) dc.getNumColBlocks();
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(_mo.getFileName());
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		if( HDFSTool.USE_BINARYBLOCK_SERIALIZATION )
+			HDFSTool.addBinaryBlockSerializationFramework(job);
+
+		//partially assembled panels and their number of read blocks
+		HashMap<Long, MatrixBlock> panels = new HashMap<>();
+		HashMap<Long, Integer> counts = new HashMap<>();
+		MatrixIndexes key = new MatrixIndexes();
+		MatrixBlock value = new MatrixBlock();
+		try {
+			for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) {
+				SequenceFile.Reader reader = new SequenceFile.Reader(job, SequenceFile.Reader.file(lpath));
+				try {
+					while( !_cancelled && reader.next(key, value) ) {
+						long pix = key.getRowIndex();
+						MatrixBlock panel = panels.get(pix);
+						if( panel == null ) {
+							int rows = (int) Math.min(blen, rlen - (pix - 1) * blen);
+							long estnnz = dc.nnzKnown() ?
+								(long) Math.ceil((double) dc.getNonZeros() / rlen * rows) : (long) rows * clen;
+							panel = new MatrixBlock(rows, clen, estnnz);
+							panels.put(pix, panel);
+						}
+						int cl = (int) (key.getColumnIndex() - 1) * blen;
+						if( !value.isEmptyBlock(false) ) {
+							if( panel.isInSparseFormat() )
+								panel.appendToSparse(value, 0, cl);
+							else
+								panel.copy(0, value.getNumRows() - 1, cl, cl + value.getNumColumns() - 1, value, false);
+						}
+						int cnt = counts.merge(pix, 1, Integer::sum);
+						if( cnt == ncblks ) {
+							counts.remove(pix);
+							emitPanel(pix, panels.remove(pix), ncblks > 1);
+						}
+					}
+				}
+				finally {
+					IOUtilFunctions.closeSilently(reader);
+				}
+			}
+			//emit panels w/ missing (empty) blocks
+			for( Long pix : panels.keySet().toArray(new Long[0]) )
+				if( !_cancelled )
+					emitPanel(pix, panels.remove(pix), ncblks > 1);
+		}
+		finally {
+			if( !_cancelled )
+				_queue.put(EOS);
+		}
+		return null;
+	}
+
+	private void emitPanel(long pix, MatrixBlock panel, boolean sort) throws InterruptedException {
+		if( panel.isInSparseFormat() && sort )
+			panel.sortSparseRows();
+		panel.recomputeNonZeros();
+		panel.examSparsity();
+		_queue.put(new IndexedMatrixValue(new MatrixIndexes(pix, 1), panel));
+	}
+}
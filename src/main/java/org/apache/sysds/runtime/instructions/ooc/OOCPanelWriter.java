@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile.Writer;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Writer of row panels into the binary-block file of a matrix object, which allows
+ * OOC instructions to stream larger-than-memory outputs to disk. The blocks are
+ * written in row-major order (including empty blocks), and after closing the writer,
+ * the matrix object is backed by the written file and read on demand by subsequent
+ * instructions (see {@link OOCPanelStream}).
+ */
+public class OOCPanelWriter implements AutoCloseable
+{
+	private final MatrixObject _mo;
+	private final int _blen;
+	private final Writer _writer;
+	private long _nnz = 0;
+
+	/**
+	 * Creates a writer of row panels into the file of the given matrix object.
+	 *
+	 * @param mo   output matrix object
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param blen blocksize and number of rows per panel (e.g., of the streamed input)
+	 */
+	public OOCPanelWriter(MatrixObject mo, long rlen, long clen, int blen) {
+		_mo = mo;
+		_blen = blen > 0 ? blen : ConfigurationManager.getBlocksize();
+		DataCharacteristics dc = mo.getDataCharacteristics();
+		dc.setDimension(rlen, clen);
+		dc.setBlocksize(_blen);
+		try {
+			JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+			HDFSTool.deleteFileIfExistOnHDFS(mo.getFileName());
+			_writer = IOUtilFunctions.getSeqWriter(new Path(mo.getFileName()), job, 1);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to create OOC output " + mo.getFileName(), ex);
+		}
+	}
+
+	public int getPanelRows() {
+		return _blen;
+	}
+
+	/**
+	 * Writes the given row panel, whose number of rows has to be equal to the
+	 * blocksize (except for the last panel).
+	 *
+	 * @param rl    row offset of the panel (0-based)
+	 * @param panel row panel
+	 */
+	public void write(int rl, MatrixBlock panel) {
+		try {
+			int clen = panel.getNumColumns();
+			long rix = rl / _blen + 1;
+			for( int cl = 0; cl < clen; cl += _blen ) {
+				int cu = Math.min(cl + _blen, clen);
+				MatrixBlock block = (cl == 0 && cu == clen) ? panel :
+					panel.slice(0, panel.getNumRows() - 1, cl, cu - 1, new MatrixBlock());
+				_writer.append(new MatrixIndexes(rix, cl / _blen + 1), block);
+			}
+			_nnz += panel.getNonZeros();
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to write OOC output " + _mo.getFileName(), ex);
+		}
+	}
+
+	public long getNonZeros() {
+		return _nnz;
+	}
+
+	/**
+	 * Closes the file, and updates the meta data of the matrix object such that
+	 * it is backed by the written binary-block file.
+	 */
+	@Override
+	public void close() {
+		IOUtilFunctions.closeSilently(_writer);
+		DataCharacteristics dc = _mo.getDataCharacteristics();
+		dc.setNonZeros(_nnz);
+		_mo.setMetaData(new MetaDataFormat(dc, FileFormat.BINARY));
+		_mo.setHDFSFileExists(true);
+		_mo.setDirty(false);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import org.apache.sysds.lops.MMTSJ.MMTSJType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.functionobjects.Plus;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+
+public class TsmmOOCInstruction extends ComputationOOCInstruction {
+
+	private final int _numThreads;
+
+	protected TsmmOOCInstruction(Operator op, CPOperand in, CPOperand out, int k, String opcode, String istr) {
+		super(OOCType.Tsmm, op, in, out, opcode, istr);
+		_numThreads = k;
+	}
+
+	public static TsmmOOCInstruction parseInstruction(String str) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		InstructionUtils.checkNumFields(parts, 4);
+		String opcode = parts[0];
+		CPOperand in = new CPOperand(parts[1]);
+		CPOperand out = new CPOperand(parts[2]);
+		if( MMTSJType.valueOf(parts[3]) != MMTSJType.LEFT )
+			throw new DMLRuntimeException("Unsupported OOC tsmm type (only LEFT): " + str);
+		int k = Integer.parseInt(parts[4]);
+		return new TsmmOOCInstruction(new Operator(true), in, out, k, opcode, str);
+	}
+
+	@Override
+	public void processInstruction(ExecutionContext ec) {
+		MatrixObject min = ec.getMatrixObject(input1);
+		int clen = (int) min.getNumColumns();
+		BinaryOperator plus = new BinaryOperator(Plus.getPlusFnObject());
+
+		//t(X)%*%X = sum of t(P)%*%P over all row panels P
+		MatrixBlock ret = new MatrixBlock(clen, clen, false).allocateBlock();
+		processPanels(ec, input1, -1, (rl, panel) -> ret.binaryOperationsInPlace(plus,
+			panel.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT, _numThreads)));
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+
+		ec.setMatrixOutput(output.getName(), ret);
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.instructions.ooc;
+
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
+
+public class UnaryOOCInstruction extends ComputationOOCInstruction {
+
+	protected UnaryOOCInstruction(UnaryOperator op, CPOperand in, CPOperand out, String opcode, String istr) {
+		super(OOCType.Unary, op, in, out, opcode, istr);
+	}
+
+	public static UnaryOOCInstruction parseInstruction(String str) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		InstructionUtils.checkNumFields(parts, 3, 4);
+		String opcode = parts[0];
+		CPOperand in = new CPOperand(parts[1]);
+		CPOperand out = new CPOperand(parts[2]);
+		int k = Integer.parseInt(parts[3]);
+		return new UnaryOOCInstruction(InstructionUtils.parseUnaryOperator(opcode, k), in, out, opcode, str);
+	}
+
+	@Override
+	public void processInstruction(ExecutionContext ec) {
+		UnaryOperator uop = (UnaryOperator) _optr;
+		MatrixObject min = ec.getMatrixObject(input1);
+		MatrixObject mout = ec.getMatrixObject(output);
+
+		//cellwise operation per row panel, streamed to the output file
+		try( OOCPanelWriter writer = new OOCPanelWriter(mout, min.getNumRows(), min.getNumColumns(), min.getBlocksize()) ) {
+			processPanels(ec, input1, writer.getPanelRows(),
+				(rl, panel) -> writer.write(rl, panel.unaryOperations(uop, new MatrixBlock())));
+		}
+	}
+}
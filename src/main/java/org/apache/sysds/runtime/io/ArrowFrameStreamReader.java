@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+
+/**
+ * Streaming reader for frames in Arrow IPC stream format, which decodes one
+ * record batch at a time into a frame block. This allows consumers to process
+ * (or incrementally append) batches while the producer is still writing.
+ */
+public class ArrowFrameStreamReader implements AutoCloseable {
+	private final BufferAllocator _alloc;
+	private final ArrowReader _reader;
+
+	public ArrowFrameStreamReader(InputStream is) {
+		_alloc = new RootAllocator();
+		_reader = new ArrowStreamReader(is, _alloc);
+	}
+
+	protected ArrowFrameStreamReader(ArrowReader reader) {
+		_alloc = null; // owned by caller
+		_reader = reader;
+	}
+
+	public ValueType[] getSchema() throws IOException {
+		List<Field> fields = _reader.getVectorSchemaRoot().getSchema().getFields();
+		ValueType[] ret = new ValueType[fields.size()];
+		for( int j = 0; j < ret.length; j++ )
+			ret[j] = ArrowUtils.getValueType(fields.get(j));
+		return ret;
+	}
+
+	public String[] getColumnNames() throws IOException {
+		List<Field> fields = _reader.getVectorSchemaRoot().getSchema().getFields();
+		String[] ret = new String[fields.size()];
+		for( int j = 0; j < ret.length; j++ )
+			ret[j] = fields.get(j).getName();
+		return ret;
+	}
+
+	/**
+	 * Reads the next record batch into a new frame block.
+	 *
+	 * @return frame block of the next batch, or null if no batches remain
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock readNextBatch() throws IOException {
+		if( !_reader.loadNextBatch() )
+			return null;
+		return ArrowUtils.readFrameBatch(_reader.getVectorSchemaRoot());
+	}
+
+	/**
+	 * Reads all remaining record batches into a single frame block.
+	 *
+	 * @return frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock readAll() throws IOException {
+		List<FrameBlock> batches = new ArrayList<>();
+		FrameBlock batch = null;
+		while( (batch = readNextBatch()) != null )
+			batches.add(batch);
+		return combine(batches, getSchema(), getColumnNames());
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			_reader.close();
+		}
+		finally {
+			if( _alloc != null )
+				_alloc.close();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected static FrameBlock combine(List<FrameBlock> batches, ValueType[] schema, String[] names) {
+		if( batches.size() == 1 )
+			return batches.get(0);
+		int nrow = 0;
+		for( FrameBlock batch : batches )
+			nrow += batch.getNumRows();
+		FrameBlock ret = new FrameBlock(schema, names);
+		for( int j = 0; j < schema.length; j++ ) {
+			Array<Object> col = (Array<Object>) ArrayFactory.allocate(schema[j], nrow);
+			int rl = 0;
+			for( FrameBlock batch : batches ) {
+				int n = batch.getNumRows();
+				if( n > 0 )
+					col.set(rl, rl + n - 1, (Array<Object>) batch.getColumn(j), 0);
+				rl += n;
+			}
+			ret.setColumn(j, col);
+		}
+		return ret;
+	}
+}
@@ -0,0 +1,455 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.arrow.vector.util.ByteArrayReadableSeekableByteChannel;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.DoubleArray;
+import org.apache.sysds.runtime.frame.data.columns.FloatArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Conversions between Arrow record batches and matrix/frame blocks, shared by
+ * the Arrow IPC (Feather v2) readers and writers and the in-memory exchange with
+ * the Python API. Fixed-width columns without nulls are transferred with a single
+ * bulk copy between the Arrow buffers and the primitive arrays of DenseBlockFP64
+ * and the frame columns.
+ *
+ * Matrices are represented row-major as a single non-nullable FP64 column with
+ * the dimensions in the schema metadata, which allows a zero-copy reshape into
+ * numpy arrays. Arrow tables without these metadata (e.g., written by pandas)
+ * are read as matrices with one column per numeric Arrow column.
+ */
+public class ArrowUtils {
+	// max number of rows per written record batch
+	public static int BATCH_SIZE = 64 * 1024;
+
+	public static final String MATRIX_COLUMN = "data";
+	public static final String META_ROWS = "sysds.rows";
+	public static final String META_COLS = "sysds.cols";
+
+	public static Schema createFrameSchema(ValueType[] schema, String[] names) {
+		List<Field> fields = new ArrayList<>();
+		for( int j = 0; j < schema.length; j++ )
+			fields.add(Field.nullable(names[j], getArrowType(schema[j])));
+		return new Schema(fields);
+	}
+
+	public static Schema createMatrixSchema(long rlen, long clen) {
+		Map<String, String> meta = new HashMap<>();
+		meta.put(META_ROWS, String.valueOf(rlen));
+		meta.put(META_COLS, String.valueOf(clen));
+		return new Schema(List.of(Field.notNullable(MATRIX_COLUMN,
+			new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE))), meta);
+	}
+
+	public static ArrowType getArrowType(ValueType vt) {
+		switch( vt ) {
+			case FP64:    return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+			case FP32:    return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+			case UINT4:
+			case UINT8:
+			case INT32:   return new ArrowType.Int(32, true);
+			case INT64:   return new ArrowType.Int(64, true);
+			case BOOLEAN: return ArrowType.Bool.INSTANCE;
+			default:      return ArrowType.Utf8.INSTANCE;
+		}
+	}
+
+	public static ValueType getValueType(Field field) {
+		ArrowType type = field.getType();
+		switch( type.getTypeID() ) {
+			case FloatingPoint:
+				return (((ArrowType.FloatingPoint) type).getPrecision() == FloatingPointPrecision.DOUBLE) ?
+					ValueType.FP64 : ValueType.FP32;
+			case Int:
+				return (((ArrowType.Int) type).getBitWidth() > 32) ? ValueType.INT64 : ValueType.INT32;
+			case Bool:
+				return ValueType.BOOLEAN;
+			default:
+				return ValueType.STRING;
+		}
+	}
+
+	public static boolean isMatrixSchema(Schema schema) {
+		return schema.getCustomMetadata() != null && schema.getCustomMetadata().containsKey(META_ROWS)
+			&& schema.getFields().size() == 1;
+	}
+
+	////////////////////////
+	// frame conversions
+
+	/**
+	 * Writes the given frame as a sequence of record batches of at most
+	 * BATCH_SIZE rows.
+	 *
+	 * @param src    frame block
+	 * @param root   vector schema root of the frame schema
+	 * @param writer arrow stream or file writer (not started)
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeFrame(FrameBlock src, VectorSchemaRoot root, ArrowWriter writer) throws IOException {
+		writer.start();
+		int nrow = src.getNumRows();
+		for( int rl = 0; rl < nrow || (rl == 0 && nrow == 0); rl += BATCH_SIZE ) {
+			int ru = Math.min(rl + BATCH_SIZE, nrow);
+			for( int j = 0; j < src.getNumColumns(); j++ )
+				writeColumn(src.getColumn(j), src.getSchema()[j], root.getVector(j), rl, ru);
+			root.setRowCount(ru - rl);
+			writer.writeBatch();
+		}
+		writer.end();
+	}
+
+	/**
+	 * Reads the current record batch of the given root into a new frame block.
+	 *
+	 * @param root vector schema root with loaded record batch
+	 * @return frame block
+	 */
+	public static FrameBlock readFrameBatch(VectorSchemaRoot root) {
+		List<Field> fields = root.getSchema().getFields();
+		ValueType[] schema = new ValueType[fields.size()];
+		String[] names = new String[fields.size()];
+		Array<?>[] cols = new Array<?>[fields.size()];
+		int nrow = root.getRowCount();
+		for( int j = 0; j < fields.size(); j++ ) {
+			schema[j] = getValueType(fields.get(j));
+			names[j] = fields.get(j).getName();
+			cols[j] = ArrayFactory.allocate(schema[j], nrow);
+			readColumn(root.getVector(j), cols[j], 0);
+		}
+		FrameBlock ret = new FrameBlock(schema, names);
+		for( int j = 0; j < cols.length; j++ )
+			ret.setColumn(j, cols[j]);
+		return ret;
+	}
+
+	/**
+	 * Reads all remaining record batches into a single frame block.
+	 *
+	 * @param reader arrow stream or file reader
+	 * @return frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public static FrameBlock readFrame(ArrowReader reader) throws IOException {
+		// note: the reader is owned and closed by the caller
+		return new ArrowFrameStreamReader(reader).readAll();
+	}
+
+	private static void writeColumn(Array<?> col, ValueType vt, FieldVector vec, int rl, int ru) {
+		int n = ru - rl;
+		if( col instanceof DoubleArray && vec instanceof Float8Vector ) {
+			((Float8Vector) vec).allocateNew(n);
+			data(vec, n * 8L).asDoubleBuffer().put(((DoubleArray) col).get(), rl, n);
+			setAllValid(vec, n);
+		}
+		else if( col instanceof FloatArray && vec instanceof Float4Vector ) {
+			((Float4Vector) vec).allocateNew(n);
+			data(vec, n * 4L).asFloatBuffer().put(((FloatArray) col).get(), rl, n);
+			setAllValid(vec, n);
+		}
+		else if( col instanceof IntegerArray && vec instanceof IntVector ) {
+			((IntVector) vec).allocateNew(n);
+			data(vec, n * 4L).asIntBuffer().put(((IntegerArray) col).get(), rl, n);
+			setAllValid(vec, n);
+		}
+		else if( col instanceof LongArray && vec instanceof BigIntVector ) {
+			((BigIntVector) vec).allocateNew(n);
+			data(vec, n * 8L).asLongBuffer().put(((LongArray) col).get(), rl, n);
+			setAllValid(vec, n);
+		}
+		else {
+			// generic path for booleans, strings, and optional columns
+			vec.setInitialCapacity(n);
+			vec.allocateNew();
+			for( int i = 0; i < n; i++ ) {
+				Object val = (col != null) ? col.get(rl + i) : null;
+				if( val == null ) {
+					if( vec instanceof BaseFixedWidthVector )
+						((BaseFixedWidthVector) vec).setNull(i);
+					else
+						((BaseVariableWidthVector) vec).setNull(i);
+					continue;
+				}
+				switch( vt ) {
+					case FP64:    ((Float8Vector) vec).setSafe(i, ((Number) val).doubleValue()); break;
+					case FP32:    ((Float4Vector) vec).setSafe(i, ((Number) val).floatValue()); break;
+					case UINT4:
+					case UINT8:
+					case INT32:   ((IntVector) vec).setSafe(i, ((Number) val).intValue()); break;
+					case INT64:   ((BigIntVector) vec).setSafe(i, ((Number) val).longValue()); break;
+					case BOOLEAN: ((BitVector) vec).setSafe(i, ((Boolean) val) ? 1 : 0); break;
+					default:
+						((VarCharVector) vec).setSafe(i, val.toString().getBytes(StandardCharsets.UTF_8));
+				}
+			}
+		}
+		vec.setValueCount(n);
+	}
+
+	protected static void readColumn(FieldVector vec, Array<?> dest, int rl) {
+		int n = vec.getValueCount();
+		boolean nulls = vec.getNullCount() > 0;
+		if( dest instanceof DoubleArray && vec instanceof Float8Vector ) {
+			double[] a = ((DoubleArray) dest).get();
+			data(vec, n * 8L).asDoubleBuffer().get(a, rl, n);
+			for( int i = 0; i < n & nulls; i++ )
+				if( vec.isNull(i) )
+					a[rl + i] = Double.NaN;
+		}
+		else if( dest instanceof FloatArray && vec instanceof Float4Vector ) {
+			float[] a = ((FloatArray) dest).get();
+			data(vec, n * 4L).asFloatBuffer().get(a, rl, n);
+			for( int i = 0; i < n & nulls; i++ )
+				if( vec.isNull(i) )
+					a[rl + i] = Float.NaN;
+		}
+		else if( dest instanceof IntegerArray && vec instanceof IntVector ) {
+			int[] a = ((IntegerArray) dest).get();
+			data(vec, n * 4L).asIntBuffer().get(a, rl, n);
+			for( int i = 0; i < n & nulls; i++ )
+				if( vec.isNull(i) )
+					a[rl + i] = 0;
+		}
+		else if( dest instanceof LongArray && vec instanceof BigIntVector ) {
+			long[] a = ((LongArray) dest).get();
+			data(vec, n * 8L).asLongBuffer().get(a, rl, n);
+			for( int i = 0; i < n & nulls; i++ )
+				if( vec.isNull(i) )
+					a[rl + i] = 0;
+		}
+		else if( vec instanceof BitVector ) {
+			BitVector bvec = (BitVector) vec;
+			for( int i = 0; i < n; i++ )
+				dest.set(rl + i, (!bvec.isNull(i) && bvec.get(i) == 1) ? 1 : 0);
+		}
+		else if( vec instanceof VarCharVector ) {
+			VarCharVector svec = (VarCharVector) vec;
+			for( int i = 0; i < n; i++ )
+				dest.set(rl + i, svec.isNull(i) ? null : new String(svec.get(i), StandardCharsets.UTF_8));
+		}
+		else {
+			// generic path for other arrow types (e.g., int8/int16, dates, large strings)
+			for( int i = 0; i < n; i++ ) {
+				Object val = vec.getObject(i);
+				dest.set(rl + i, (val != null) ? val.toString() : null);
+			}
+		}
+	}
+
+	////////////////////////
+	// matrix conversions
+
+	/**
+	 * Writes the given matrix in row-major order as a sequence of record batches
+	 * of at most BATCH_SIZE rows. Dense blocks are copied row range by row range
+	 * with a single bulk copy per batch.
+	 *
+	 * @param src    matrix block
+	 * @param root   vector schema root of the matrix schema
+	 * @param writer arrow stream or file writer (not started)
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeMatrix(MatrixBlock src, VectorSchemaRoot root, ArrowWriter writer) throws IOException {
+		writer.start();
+		Float8Vector vec = (Float8Vector) root.getVector(0);
+		int nrow = src.getNumRows(), ncol = src.getNumColumns();
+		int blen = Math.max(Math.min(BATCH_SIZE, Integer.MAX_VALUE / 8 / Math.max(ncol, 1)), 1);
+		for( int rl = 0; rl < nrow || (rl == 0 && nrow == 0); rl += blen ) {
+			int ru = Math.min(rl + blen, nrow);
+			int n = (ru - rl) * ncol;
+			vec.allocateNew(n);
+			DoubleBuffer out = data(vec, n * 8L).asDoubleBuffer();
+			if( src.isEmptyBlock(false) || src.isInSparseFormat() ) {
+				// copy row by row via a reused dense row buffer
+				SparseBlock sb = src.getSparseBlock();
+				double[] row = new double[ncol];
+				for( int i = rl; i < ru; i++ ) {
+					boolean empty = (sb == null || sb.isEmpty(i));
+					if( !empty ) {
+						int apos = sb.pos(i), alen = sb.size(i);
+						int[] aix = sb.indexes(i);
+						double[] avals = sb.values(i);
+						for( int k = apos; k < apos + alen; k++ )
+							row[aix[k]] = avals[k];
+					}
+					out.put(row);
+					if( !empty )
+						Arrays.fill(row, 0);
+				}
+			}
+			else {
+				DenseBlock db = src.getDenseBlock();
+				if( db.isContiguous() )
+					out.put(db.values(rl), db.pos(rl), n);
+				else
+					for( int i = rl; i < ru; i++ )
+						out.put(db.values(i), db.pos(i), ncol);
+			}
+			setAllValid(vec, n);
+			root.setRowCount(n);
+			writer.writeBatch();
+		}
+		writer.end();
+	}
+
+	/**
+	 * Reads all remaining record batches into a matrix block. Row-major matrix
+	 * layouts are bulk copied into the dense block, while other tables are read
+	 * with one matrix column per (numeric) arrow column.
+	 *
+	 * @param reader arrow stream or file reader
+	 * @return matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readMatrix(ArrowReader reader) throws IOException {
+		VectorSchemaRoot root = reader.getVectorSchemaRoot();
+		Schema schema = root.getSchema();
+		if( isMatrixSchema(schema) ) {
+			long rlen = Long.parseLong(schema.getCustomMetadata().get(META_ROWS));
+			long clen = Long.parseLong(schema.getCustomMetadata().get(META_COLS));
+			MatrixBlock ret = new MatrixBlock((int) rlen, (int) clen, false);
+			ret.allocateDenseBlock();
+			DenseBlock db = ret.getDenseBlock();
+			long pos = 0;
+			while( reader.loadNextBatch() ) {
+				FieldVector vec = root.getVector(0);
+				int n = vec.getValueCount();
+				if( pos + n > rlen * clen )
+					throw new IOException("Arrow matrix with more values than its dimensions: " + rlen + "x" + clen);
+				DoubleBuffer in = data(vec, n * 8L).asDoubleBuffer();
+				if( db.isContiguous() )
+					in.get(db.values(0), (int) pos, n);
+				else // batches contain whole rows
+					for( int i = (int) (pos / clen); i < (pos + n) / clen; i++ )
+						in.get(db.values(i), db.pos(i), (int) clen);
+				boolean nulls = vec.getNullCount() > 0;
+				for( int i = 0; i < n & nulls; i++ )
+					if( vec.isNull(i) )
+						db.set((int) ((pos + i) / clen), (int) ((pos + i) % clen), Double.NaN);
+				pos += n;
+			}
+			if( pos != rlen * clen )
+				throw new IOException("Arrow matrix with fewer values than its dimensions: " + rlen + "x" + clen);
+			ret.recomputeNonZeros();
+			ret.examSparsity();
+			return ret;
+		}
+
+		// generic tables: one matrix column per arrow column
+		for( Field field : schema.getFields() )
+			if( getValueType(field) == ValueType.STRING )
+				throw new IOException("Unsupported non-numeric arrow column for matrix read: " + field);
+		FrameBlock fb = readFrame(reader);
+		MatrixBlock ret = new MatrixBlock(fb.getNumRows(), fb.getNumColumns(), false);
+		ret.allocateDenseBlock();
+		for( int i = 0; i < fb.getNumRows(); i++ )
+			for( int j = 0; j < fb.getNumColumns(); j++ )
+				ret.quickSetValue(i, j, fb.getColumn(j).getAsDouble(i));
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+
+	////////////////////////
+	// file and buffer handling
+
+	/**
+	 * Opens a seekable channel for reading arrow files, which require random
+	 * access to the footer. Local files are read via file channels, while files
+	 * of other file systems are read into memory.
+	 *
+	 * @param fs   file system
+	 * @param path file path
+	 * @return seekable byte channel
+	 * @throws IOException if IOException occurs
+	 */
+	public static SeekableByteChannel openReadChannel(FileSystem fs, Path path) throws IOException {
+		if( fs instanceof LocalFileSystem )
+			return FileChannel.open(((LocalFileSystem) fs).pathToFile(path).toPath(), StandardOpenOption.READ);
+		long len = fs.getFileStatus(path).getLen();
+		if( len > Integer.MAX_VALUE )
+			throw new IOException("Arrow file " + path + " too large for in-memory read: " + len + " bytes.");
+		byte[] buff = new byte[(int) len];
+		try( FSDataInputStream in = fs.open(path) ) {
+			in.readFully(buff);
+		}
+		return new ByteArrayReadableSeekableByteChannel(buff);
+	}
+
+
+	private static ByteBuffer data(FieldVector vec, long len) {
+		if( len > Integer.MAX_VALUE )
+			throw new DMLRuntimeException("Arrow record batch too large: " + len + " bytes.");
+		ArrowBuf buf = vec.getDataBuffer();
+		return buf.nioBuffer(0, (int) len).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static void setAllValid(FieldVector vec, int n) {
+		int nbytes = (n + 7) / 8;
+		ByteBuffer valid = vec.getValidityBuffer().nioBuffer(0, nbytes);
+		while( valid.hasRemaining() )
+			valid.put((byte) 0xFF);
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+/**
+ * Block codecs for binary-block sequence files (sysds.cp.binary.codec). Blocks are
+ * written as record-compressed sequence files, i.e., every block is compressed
+ * individually and the codec class is recorded in the file header. Hence, readers
+ * (incl. parallel and Spark readers) decompress transparently without any changes.
+ *
+ * With AUTO, the codec is chosen per sequence file (e.g., per part file of parallel
+ * writers) by the measured compression ratio of the first block, where faster codecs
+ * are preferred unless slower codecs compress substantially better.
+ */
+public enum BinaryBlockCodec {
+	NONE(null),
+	LZ4("org.apache.hadoop.io.compress.Lz4Codec"),
+	SNAPPY("org.apache.hadoop.io.compress.SnappyCodec"),
+	ZSTD("org.apache.hadoop.io.compress.ZStandardCodec"),
+	DEFLATE("org.apache.hadoop.io.compress.DefaultCodec"),
+	FP64XOR("org.apache.sysds.runtime.io.FP64XorCodec"),
+	AUTO(null);
+
+	private static final Log LOG = LogFactory.getLog(BinaryBlockCodec.class.getName());
+
+	// minimum compression ratio to use a codec with AUTO
+	public static double MIN_COMPRESSION_RATIO = 1.25;
+	// minimum ratio improvement to prefer a slower codec with AUTO
+	public static double MIN_RATIO_GAIN = 1.1;
+	// candidate codecs of AUTO, ordered by decreasing speed
+	private static final BinaryBlockCodec[] AUTO_CANDIDATES = {LZ4, FP64XOR, ZSTD};
+
+	private final String _className;
+	private Boolean _available = null; // lazily probed
+
+	private BinaryBlockCodec(String className) {
+		_className = className;
+	}
+
+	public static BinaryBlockCodec getConfiguredCodec() {
+		String codec = ConfigurationManager.getDMLConfig().getTextValue(DMLConfig.CP_BINARY_CODEC);
+		if( codec == null || codec.isEmpty() )
+			return NONE;
+		try {
+			return valueOf(codec.trim().toUpperCase());
+		}
+		catch(IllegalArgumentException ex) {
+			throw new DMLRuntimeException("Unsupported binary block codec: " + codec);
+		}
+	}
+
+	/**
+	 * Obtains the compression codec for a new binary-block sequence file, according
+	 * to the configured codec.
+	 *
+	 * @param conf   hadoop configuration
+	 * @param sample sample block for adaptive codec selection, or null
+	 * @return compression codec, or null for uncompressed files
+	 */
+	public static CompressionCodec getCompressionCodec(Configuration conf, Writable sample) {
+		BinaryBlockCodec codec = getConfiguredCodec();
+		if( codec == AUTO )
+			codec = (sample != null) ? selectCodec(conf, sample) : NONE;
+		if( codec == NONE )
+			return null;
+		if( !codec.isAvailable(conf) ) {
+			LOG.warn("Binary block codec " + codec + " not available, falling back to uncompressed writes.");
+			return null;
+		}
+		return codec.createCodec(conf);
+	}
+
+	/**
+	 * Obtains the codecs actually applied to the given binary-block file or directory
+	 * of part files, as recorded in the sequence file headers. This accounts for
+	 * adaptive codec selection and fallbacks to uncompressed writes.
+	 *
+	 * @param path file or directory path
+	 * @param conf hadoop configuration
+	 * @return comma-separated lower-case codec names (incl. none), or null if all
+	 *         files are uncompressed
+	 * @throws IOException if IOException occurs
+	 */
+	public static String getAppliedCodecs(Path path, Configuration conf) throws IOException {
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, conf);
+		if( !fs.exists(path) )
+			return null;
+		Set<String> codecs = new TreeSet<>();
+		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) {
+			SequenceFile.Reader reader = new SequenceFile.Reader(conf, SequenceFile.Reader.file(lpath));
+			try {
+				codecs.add(reader.isCompressed() ?
+					getCodecName(reader.getCompressionCodec()) : NONE.name().toLowerCase());
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+		}
+		codecs.remove(null);
+		if( codecs.isEmpty() || (codecs.size() == 1 && codecs.contains(NONE.name().toLowerCase())) )
+			return null;
+		return String.join(",", codecs);
+	}
+
+	private static String getCodecName(CompressionCodec codec) {
+		if( codec == null )
+			return null;
+		for( BinaryBlockCodec bc : values() )
+			if( codec.getClass().getName().equals(bc._className) )
+				return bc.name().toLowerCase();
+		return codec.getClass().getSimpleName();
+	}
+
+	/**
+	 * Selects the codec with the best compression ratio for the given sample block,
+	 * where a slower codec needs to improve the ratio by MIN_RATIO_GAIN.
+	 *
+	 * @param conf   hadoop configuration
+	 * @param sample sample block
+	 * @return selected codec, NONE if no codec reaches MIN_COMPRESSION_RATIO
+	 */
+	public static BinaryBlockCodec selectCodec(Configuration conf, Writable sample) {
+		try {
+			DataOutputBuffer raw = new DataOutputBuffer();
+			sample.write(raw);
+			BinaryBlockCodec best = NONE;
+			double bestRatio = MIN_COMPRESSION_RATIO;
+			for( BinaryBlockCodec codec : AUTO_CANDIDATES ) {
+				if( !codec.isAvailable(conf) )
+					continue;
+				double ratio = (double) raw.getLength()
+					/ Math.max(compressedSize(codec.createCodec(conf), raw.getData(), raw.getLength()), 1);
+				if( ratio >= bestRatio * ((best == NONE) ? 1 : MIN_RATIO_GAIN) ) {
+					best = codec;
+					bestRatio = ratio;
+				}
+			}
+			if( LOG.isDebugEnabled() )
+				LOG.debug("Selected binary block codec " + best + " (ratio=" + bestRatio + ").");
+			return best;
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
+	public synchronized boolean isAvailable(Configuration conf) {
+		if( _className == null )
+			return false;
+		if( _available == null ) {
+			// probe codec once, as some codecs require native libraries
+			try {
+				compressedSize(createCodec(conf), new byte[64], 64);
+				_available = true;
+			}
+			catch(Throwable ex) {
+				LOG.debug("Binary block codec " + this + " not available: " + ex.getMessage());
+				_available = false;
+			}
+		}
+		return _available;
+	}
+
+	private CompressionCodec createCodec(Configuration conf) {
+		try {
+			return ReflectionUtils.newInstance(
+				Class.forName(_className).asSubclass(CompressionCodec.class), conf);
+		}
+		catch(ClassNotFoundException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
+	private static long compressedSize(CompressionCodec codec, byte[] data, int len) throws IOException {
+		CountingOutputStream count = new CountingOutputStream(OutputStream.nullOutputStream());
+		CompressionOutputStream out = codec.createOutputStream(count);
+		try {
+			out.write(data, 0, len);
+			out.finish();
+			return count.getByteCount();
+		}
+		finally {
+			IOUtilFunctions.closeSilently(out);
+		}
+	}
+}
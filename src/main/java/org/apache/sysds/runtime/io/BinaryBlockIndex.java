@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
+import org.apache.hadoop.io.SequenceFile.Writer;
+import org.apache.hadoop.io.Writable;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+
+/**
+ * Block index of an uncompressed binary-block sequence file on the local file system, which stores the block
+ * indexes and file offsets of all records. The index is written as a side file (ignored by all sequence file
+ * readers) and allows memory-mapped reads without the sequence file reader (see {@link BinaryBlockMappedReader}).
+ * The length, modification time, and sync marker of the data file are recorded to detect stale indexes, where the
+ * sync marker is a random nonce per sequence file writer (the last 16 bytes of the file header), which also detects
+ * rewrites of the same length within the mtime granularity.
+ */
+public class BinaryBlockIndex {
+	private static final int MAGIC = 0x53424249; // SBBI
+	private static final int VERSION = 2;
+	private static final String SUFFIX = ".idx";
+	private static final int SYNC_SIZE = 16;
+
+	private long[] _rix;
+	private long[] _cix;
+	private long[] _offsets;
+	private int _size = 0;
+	private long _flen = -1;
+
+	public BinaryBlockIndex() {
+		this(64);
+	}
+
+	private BinaryBlockIndex(int capacity) {
+		_rix = new long[capacity];
+		_cix = new long[capacity];
+		_offsets = new long[capacity];
+	}
+
+	/**
+	 * Indicates if block indexes should be written for binary-block files on the given file system, which requires
+	 * sysds.cp.binary.mmap and a local file system.
+	 *
+	 * @param fs file system
+	 * @return true if enabled
+	 */
+	public static boolean isEnabled(FileSystem fs) {
+		return ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.CP_BINARY_MMAP)
+			&& (fs instanceof LocalFileSystem || fs instanceof RawLocalFileSystem);
+	}
+
+	/**
+	 * Creates a block index for the given sequence file writer, if enabled and the file is uncompressed.
+	 *
+	 * @param fs     file system
+	 * @param writer sequence file writer
+	 * @return block index or null
+	 */
+	public static BinaryBlockIndex create(FileSystem fs, Writer writer) {
+		return (isEnabled(fs) && writer.getCompressionCodec() == null) ? new BinaryBlockIndex() : null;
+	}
+
+	/**
+	 * Appends the given block to the sequence file and, if an index is given, its offset to the index.
+	 *
+	 * @param writer sequence file writer
+	 * @param index  block index or null
+	 * @param key    block indexes
+	 * @param value  block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void append(Writer writer, BinaryBlockIndex index, MatrixIndexes key, Writable value)
+		throws IOException {
+		if(index != null)
+			index.add(key.getRowIndex(), key.getColumnIndex(), writer.getLength());
+		writer.append(key, value);
+	}
+
+	public void add(long rix, long cix, long offset) {
+		if(_size == _rix.length) {
+			int len = _rix.length * 2;
+			_rix = Arrays.copyOf(_rix, len);
+			_cix = Arrays.copyOf(_cix, len);
+			_offsets = Arrays.copyOf(_offsets, len);
+		}
+		_rix[_size] = rix;
+		_cix[_size] = cix;
+		_offsets[_size] = offset;
+		_size++;
+	}
+
+	public int size() {
+		return _size;
+	}
+
+	public long getRowIndex(int i) {
+		return _rix[i];
+	}
+
+	public long getColumnIndex(int i) {
+		return _cix[i];
+	}
+
+	public long getOffset(int i) {
+		return _offsets[i];
+	}
+
+	/**
+	 * Get the end offset of the i-th record, i.e., the start of the next record or the end of the file.
+	 *
+	 * @param i record position
+	 * @return end offset (exclusive)
+	 */
+	public long getEndOffset(int i) {
+		return (i + 1 < _size) ? _offsets[i + 1] : _flen;
+	}
+
+	/**
+	 * Writes the index of a closed data file.
+	 *
+	 * @param fs   file system
+	 * @param path path of the data file
+	 * @throws IOException if IOException occurs
+	 */
+	public void write(FileSystem fs, Path path) throws IOException {
+		File data = getLocalFile(fs, path);
+		File index = getLocalFile(fs, getIndexPath(path));
+		try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			long flen = data.length();
+			out.writeLong(flen);
+			out.writeLong(data.lastModified());
+			out.write(readSyncMarker(data, (_size > 0) ? _offsets[0] : flen));
+			out.writeInt(_size);
+			for(int i = 0; i < _size; i++) {
+				out.writeLong(_rix[i]);
+				out.writeLong(_cix[i]);
+				out.writeLong(_offsets[i]);
+			}
+		}
+	}
+
+	/**
+	 * Reads the index of the given data file if it exists and matches the data file.
+	 *
+	 * @param fs   file system
+	 * @param path path of the data file
+	 * @return block index or null if not existing or stale
+	 * @throws IOException if IOException occurs
+	 */
+	public static BinaryBlockIndex read(FileSystem fs, Path path) throws IOException {
+		File data = getLocalFile(fs, path);
+		File index = getLocalFile(fs, getIndexPath(path));
+		if(!index.exists())
+			return null;
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index)))) {
+			if(in.readInt() != MAGIC || in.readInt() != VERSION)
+				return null;
+			long flen = in.readLong();
+			long mtime = in.readLong();
+			if(flen != data.length() || mtime != data.lastModified())
+				return null;
+			byte[] sync = new byte[SYNC_SIZE];
+			in.readFully(sync);
+			int size = in.readInt();
+			BinaryBlockIndex ret = new BinaryBlockIndex(Math.max(size, 1));
+			for(int i = 0; i < size; i++)
+				ret.add(in.readLong(), in.readLong(), in.readLong());
+			if(!Arrays.equals(sync, readSyncMarker(data, (size > 0) ? ret._offsets[0] : flen)))
+				return null;
+			ret._flen = flen;
+			return ret;
+		}
+	}
+
+	/**
+	 * Deletes the index of the given data file if it exists.
+	 *
+	 * @param fs   file system
+	 * @param path path of the data file
+	 */
+	public static void delete(FileSystem fs, Path path) {
+		if((fs instanceof LocalFileSystem || fs instanceof RawLocalFileSystem) && path.getParent() != null) {
+			File index = getLocalFile(fs, getIndexPath(path));
+			if(index.exists() && !index.delete())
+				index.deleteOnExit();
+		}
+	}
+
+	private static byte[] readSyncMarker(File data, long hdrLen) throws IOException {
+		// the sync marker is the last part of the sequence file header
+		byte[] ret = new byte[SYNC_SIZE];
+		if(hdrLen < SYNC_SIZE)
+			return ret;
+		try(RandomAccessFile raf = new RandomAccessFile(data, "r")) {
+			raf.seek(hdrLen - SYNC_SIZE);
+			raf.readFully(ret);
+		}
+		return ret;
+	}
+
+	public static Path getIndexPath(Path path) {
+		// underscore prefix to be skipped by sequence file and input format listings
+		return new Path(path.getParent(), "_" + path.getName() + SUFFIX);
+	}
+
+	protected static File getLocalFile(FileSystem fs, Path path) {
+		return new File(fs.makeQualified(path).toUri());
+	}
+}
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock.BlockType;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Memory-mapped reader of binary-block files on the local file system, which bypasses the Hadoop sequence file
+ * reader (incl. checksums, stream copies, and block deserialization into temporary blocks). Using the block index
+ * of each part file (see {@link BinaryBlockIndex}), each file is mapped into memory once (in regions of at most 2GB,
+ * aligned to record boundaries), and the individual records are sliced from these regions and deserialized with bulk
+ * buffer reads directly into the dense output block. Sparse outputs are decoded directly into the arrays of a CSR
+ * block in two passes, where the first pass only counts the non-zeros per row (skipping the values of sparse blocks)
+ * and the second pass fills the rows. Parallel reads partition the blocks by block rows, which allows counting and
+ * filling rows without synchronization.
+ */
+public class BinaryBlockMappedReader {
+	private static final int SYNC_ESCAPE = -1;
+	private static final int SYNC_HASH_SIZE = 16;
+	private static final int KEY_SIZE = 16;
+	private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+	/**
+	 * Reads the given binary-block file into the output block, if all part files have a valid block index.
+	 *
+	 * @param path path of file or directory of part files
+	 * @param fs   file system
+	 * @param dest output matrix block
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param blen block size
+	 * @param k    degree of parallelism
+	 * @return true if read, false if not applicable (e.g., no or stale index)
+	 * @throws IOException if IOException occurs
+	 */
+	public static boolean readMatrix(Path path, FileSystem fs, MatrixBlock dest, long rlen, long clen, int blen, int k)
+		throws IOException
+	{
+		if( !BinaryBlockIndex.isEnabled(fs) )
+			return false;
+
+		//obtain valid block indexes for all part files (otherwise fallback)
+		Path[] files = IOUtilFunctions.getSequenceFilePaths(fs, path);
+		BinaryBlockIndex[] indexes = new BinaryBlockIndex[files.length];
+		for( int i=0; i<files.length; i++ )
+			if( (indexes[i] = BinaryBlockIndex.read(fs, files[i])) == null )
+				return false;
+
+		//map all part files (mappings remain valid after closing the channels)
+		MappedFile[] mfiles = new MappedFile[files.length];
+		for( int i=0; i<files.length; i++ ) {
+			try( FileChannel channel = FileChannel.open(
+				BinaryBlockIndex.getLocalFile(fs, files[i]).toPath(), StandardOpenOption.READ) ) {
+				mfiles[i] = new MappedFile(channel, indexes[i]);
+			}
+		}
+
+		long lnnz = 0;
+		if( dest.isInSparseFormat() ) {
+			//count the non-zeros per row, and allocate the CSR arrays
+			int[] rpos = new int[(int)rlen];
+			readBlocks(mfiles, dest, rpos, null, null, rlen, clen, blen, k);
+			int[] rptr = new int[(int)rlen+1];
+			for( int i=0; i<rlen; i++ ) {
+				if( (long)rptr[i] + rpos[i] > Integer.MAX_VALUE )
+					return false; //too large for CSR
+				rptr[i+1] = rptr[i] + rpos[i];
+			}
+			int nnz = rptr[(int)rlen];
+			int[] cix = new int[nnz];
+			double[] vals = new double[nnz];
+			//fill the rows at the row cursors (initialized with the row pointers)
+			System.arraycopy(rptr, 0, rpos, 0, (int)rlen);
+			lnnz = readBlocks(mfiles, dest, rpos, cix, vals, rlen, clen, blen, k);
+			dest.setSparseBlock(new SparseBlockCSR(rptr, cix, vals, nnz));
+		}
+		else {
+			dest.allocateBlock();
+			lnnz = readBlocks(mfiles, dest, null, null, null, rlen, clen, blen, k);
+		}
+
+		//post-processing (no need to sort if 1 column block since always sorted)
+		dest.setNonZeros(lnnz);
+		if( dest.isInSparseFormat() && clen > blen )
+			dest.sortSparseRows();
+		return true;
+	}
+
+	private static long readBlocks(MappedFile[] mfiles, MatrixBlock dest, int[] rpos, int[] cix, double[] vals,
+		long rlen, long clen, int blen, int k) throws IOException
+	{
+		//read blocks, partitioned by ranges of block rows
+		int nrb = (int)Math.ceil((double)rlen/blen);
+		int numTasks = Math.max(Math.min(k, nrb), 1);
+		if( numTasks == 1 )
+			return new ReadBlocksTask(mfiles, dest, rpos, cix, vals, rlen, clen, blen, 1, nrb).call();
+		ExecutorService pool = CommonThreadPool.get(numTasks);
+		try {
+			ArrayList<ReadBlocksTask> tasks = new ArrayList<>();
+			int tblen = (int)Math.ceil((double)nrb/numTasks);
+			for( int i=0; i<numTasks && i*tblen<nrb; i++ )
+				tasks.add(new ReadBlocksTask(mfiles, dest, rpos, cix, vals,
+					rlen, clen, blen, i*tblen+1, Math.min((i+1)*tblen, nrb)));
+			long lnnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				lnnz += task.get();
+			return lnnz;
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel memory-mapped read of binary block input.", ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static class ReadBlocksTask implements Callable<Long>
+	{
+		private final MappedFile[] _files;
+		private final MatrixBlock _dest;
+		private final int[] _rpos; //sparse: nnz per row (count pass) or row cursors (fill pass)
+		private final int[] _cix; //sparse: CSR column indexes (null in count pass)
+		private final double[] _vals; //sparse: CSR values (null in count pass)
+		private final long _rlen, _clen;
+		private final int _blen;
+		private final long _brl, _bru; //block row range (1-based, inclusive)
+
+		public ReadBlocksTask(MappedFile[] files, MatrixBlock dest, int[] rpos, int[] cix, double[] vals,
+			long rlen, long clen, int blen, long brl, long bru)
+		{
+			_files = files;
+			_dest = dest;
+			_rpos = rpos;
+			_cix = cix;
+			_vals = vals;
+			_rlen = rlen;
+			_clen = clen;
+			_blen = blen;
+			_brl = brl;
+			_bru = bru;
+		}
+
+		@Override
+		public Long call() throws IOException {
+			long lnnz = 0;
+			for( MappedFile file : _files ) {
+				BinaryBlockIndex index = file.getIndex();
+				for( int i=0; i<index.size(); i++ ) {
+					long rix = index.getRowIndex(i);
+					if( rix < _brl || rix > _bru )
+						continue;
+					lnnz += readBlock(file.getRecord(i), rix, index.getColumnIndex(i));
+				}
+			}
+			return lnnz;
+		}
+
+		private long readBlock(ByteBuffer buff, long rix, long cix) throws IOException {
+			//parse sequence file record header (optional sync marker, lengths, key)
+			int len = buff.getInt();
+			if( len == SYNC_ESCAPE ) {
+				buff.position(buff.position() + SYNC_HASH_SIZE);
+				len = buff.getInt();
+			}
+			if( buff.getInt() != KEY_SIZE || buff.getLong() != rix || buff.getLong() != cix )
+				throw new IOException("Invalid block index entry for block ("+rix+","+cix+").");
+
+			//parse block header and bound check
+			int rows = buff.getInt();
+			int cols = buff.getInt();
+			BlockType type = BlockType.values()[buff.get()];
+			int row_offset = (int)(rix-1)*_blen;
+			int col_offset = (int)(cix-1)*_blen;
+			if( row_offset + rows < 0 || row_offset + rows > _rlen || col_offset + cols<0 || col_offset + cols > _clen ) {
+				throw new IOException("Matrix block ["+(row_offset+1)+":"+(row_offset+rows)+","+(col_offset+1)
+					+":"+(col_offset+cols)+"] out of overall matrix range [1:"+_rlen+",1:"+_clen+"].");
+			}
+
+			//deserialize block into output
+			switch( type ) {
+				case EMPTY_BLOCK:
+					return 0;
+				case DENSE_BLOCK:
+					return readDenseBlock(buff, rows, cols, row_offset, col_offset);
+				case SPARSE_BLOCK:
+					//read nnz info (long if required, see MatrixBlock.writeNnzInfo)
+					if( (long)rows * cols > Integer.MAX_VALUE )
+						buff.getLong();
+					else
+						buff.getInt();
+					return readSparseBlock(buff, rows, cols, row_offset, col_offset);
+				case ULTRA_SPARSE_BLOCK:
+					return readUltraSparseBlock(buff, buff.getInt(), cols, row_offset, col_offset);
+				default:
+					throw new IOException("Unsupported block type: "+type);
+			}
+		}
+
+		private long readDenseBlock(ByteBuffer buff, int rows, int cols, int row_offset, int col_offset) {
+			DoubleBuffer dbuff = buff.asDoubleBuffer();
+			long lnnz = 0;
+			if( _rpos != null ) {
+				for( int i=0; i<rows; i++ ) {
+					int r = row_offset + i;
+					for( int j=0; j<cols; j++ ) {
+						double v = dbuff.get();
+						if( v != 0 ) {
+							append(r, col_offset+j, v);
+							lnnz++;
+						}
+					}
+				}
+			}
+			else {
+				DenseBlock a = _dest.getDenseBlock();
+				for( int i=0; i<rows; i++ ) {
+					double[] avals = a.values(row_offset+i);
+					int apos = a.pos(row_offset+i, col_offset);
+					dbuff.get(avals, apos, cols); //bulk read of row segment
+					for( int j=apos; j<apos+cols; j++ )
+						lnnz += (avals[j] != 0) ? 1 : 0;
+				}
+			}
+			return lnnz;
+		}
+
+		private long readSparseBlock(ByteBuffer buff, int rows, int cols, int row_offset, int col_offset) {
+			long lnnz = 0;
+			DenseBlock a = (_rpos == null) ? _dest.getDenseBlock() : null;
+			for( int i=0; i<rows; i++ ) {
+				int r = row_offset + i;
+				int rnnz = buff.getInt();
+				if( _rpos != null && _cix == null ) {
+					//count pass: skip the column index and value pairs
+					_rpos[r] += rnnz;
+					buff.position(buff.position() + rnnz * (Integer.BYTES + Double.BYTES));
+				}
+				else if( _rpos != null ) {
+					int pos = _rpos[r];
+					for( int j=pos; j<pos+rnnz; j++ ) {
+						_cix[j] = col_offset + buff.getInt();
+						_vals[j] = buff.getDouble();
+					}
+					_rpos[r] = pos + rnnz;
+				}
+				else {
+					for( int j=0; j<rnnz; j++ ) {
+						int c = col_offset + buff.getInt();
+						a.set(r, c, buff.getDouble());
+					}
+				}
+				lnnz += rnnz;
+			}
+			return lnnz;
+		}
+
+		private long readUltraSparseBlock(ByteBuffer buff, int nnz, int cols, int row_offset, int col_offset) {
+			DenseBlock a = (_rpos == null) ? _dest.getDenseBlock() : null;
+			for( int i=0; i<nnz; i++ ) {
+				//ijv-triples for blocks, iv-pairs for single-column blocks
+				int r = row_offset + buff.getInt();
+				int c = col_offset + ((cols > 1) ? buff.getInt() : 0);
+				double v = buff.getDouble();
+				if( _rpos != null )
+					append(r, c, v);
+				else
+					a.set(r, c, v);
+			}
+			return nnz;
+		}
+
+		private void append(int r, int c, double v) {
+			if( _cix == null ) //count pass
+				_rpos[r]++;
+			else {
+				int pos = _rpos[r]++;
+				_cix[pos] = c;
+				_vals[pos] = v;
+			}
+		}
+	}
+
+	/**
+	 * Part file mapped into memory regions of at most {@link #MAX_REGION_SIZE} bytes, where each region covers
+	 * a consecutive range of complete records.
+	 */
+	private static class MappedFile
+	{
+		private final BinaryBlockIndex _index;
+		private final ByteBuffer[] _regions;
+		private final long[] _starts; //file offset per region
+		private final int[] _rmap; //region per record
+
+		public MappedFile(FileChannel channel, BinaryBlockIndex index) throws IOException {
+			_index = index;
+			_rmap = new int[index.size()];
+			ArrayList<ByteBuffer> regions = new ArrayList<>();
+			ArrayList<Long> starts = new ArrayList<>();
+			for( int i=0; i<index.size(); ) {
+				long start = index.getOffset(i);
+				int j = i;
+				while( j+1 < index.size() && index.getEndOffset(j+1) - start <= MAX_REGION_SIZE )
+					j++;
+				long len = index.getEndOffset(j) - start;
+				if( len > MAX_REGION_SIZE )
+					throw new IOException("Record of block ("+index.getRowIndex(i)+","
+						+index.getColumnIndex(i)+") exceeds the maximum mapped region size.");
+				Arrays.fill(_rmap, i, j+1, regions.size());
+				regions.add(channel.map(MapMode.READ_ONLY, start, len));
+				starts.add(start);
+				i = j + 1;
+			}
+			_regions = regions.toArray(new ByteBuffer[0]);
+			_starts = new long[starts.size()];
+			for( int i=0; i<_starts.length; i++ )
+				_starts[i] = starts.get(i);
+		}
+
+		public BinaryBlockIndex getIndex() {
+			return _index;
+		}
+
+		public ByteBuffer getRecord(int i) {
+			//view of the shared region with independent position and limit
+			int r = _rmap[i];
+			ByteBuffer ret = _regions[r].duplicate();
+			ret.limit((int)(_index.getEndOffset(i) - _starts[r]));
+			ret.position((int)(_index.getOffset(i) - _starts[r]));
+			return ret;
+		}
+	}
+}
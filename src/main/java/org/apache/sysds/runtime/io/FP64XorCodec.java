@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionInputStream;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.Decompressor;
+
+/**
+ * Lightweight codec for serialized blocks of FP64 values. Every byte is XORed
+ * with the byte eight positions before (i.e., the same byte of the previous
+ * double for aligned dense values), which turns equal sign, exponent and high
+ * mantissa bits of neighboring values into zero runs, followed by a fast
+ * deflate pass. The transform is position-agnostic and hence also applies to
+ * the headers and indexes of sparse blocks.
+ *
+ * The codec is stateless across records and thus intended for record-compressed
+ * sequence files, where the codec class is recorded in the file header and
+ * readers decompress transparently.
+ */
+public class FP64XorCodec implements CompressionCodec {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Override
+	public CompressionOutputStream createOutputStream(OutputStream out) throws IOException {
+		return new XorDeflateOutputStream(out);
+	}
+
+	@Override
+	public CompressionOutputStream createOutputStream(OutputStream out, Compressor compressor) throws IOException {
+		return new XorDeflateOutputStream(out);
+	}
+
+	@Override
+	public Class<? extends Compressor> getCompressorType() {
+		return null;
+	}
+
+	@Override
+	public Compressor createCompressor() {
+		return null;
+	}
+
+	@Override
+	public CompressionInputStream createInputStream(InputStream in) throws IOException {
+		return new XorInflateInputStream(in);
+	}
+
+	@Override
+	public CompressionInputStream createInputStream(InputStream in, Decompressor decompressor) throws IOException {
+		return new XorInflateInputStream(in);
+	}
+
+	@Override
+	public Class<? extends Decompressor> getDecompressorType() {
+		return null;
+	}
+
+	@Override
+	public Decompressor createDecompressor() {
+		return null;
+	}
+
+	@Override
+	public String getDefaultExtension() {
+		return ".fp64xor";
+	}
+
+	private static class XorDeflateOutputStream extends CompressionOutputStream {
+		private final Deflater _def = new Deflater(Deflater.BEST_SPEED);
+		private final byte[] _hist = new byte[8];
+		private final byte[] _in = new byte[BUFFER_SIZE];
+		private final byte[] _out = new byte[BUFFER_SIZE];
+		private int _pos = 0;
+		private int _inLen = 0;
+
+		protected XorDeflateOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if( _inLen == _in.length )
+				deflateInput();
+			int ix = _pos++ & 7;
+			_in[_inLen++] = (byte) (b ^ _hist[ix]);
+			_hist[ix] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			for( int i = off; i < off + len; i++ ) {
+				if( _inLen == _in.length )
+					deflateInput();
+				int ix = _pos++ & 7;
+				_in[_inLen++] = (byte) (b[i] ^ _hist[ix]);
+				_hist[ix] = b[i];
+			}
+		}
+
+		@Override
+		public void finish() throws IOException {
+			deflateInput();
+			_def.finish();
+			while( !_def.finished() ) {
+				int n = _def.deflate(_out);
+				out.write(_out, 0, n);
+			}
+		}
+
+		@Override
+		public void resetState() throws IOException {
+			_def.reset();
+			Arrays.fill(_hist, (byte) 0);
+			_pos = 0;
+			_inLen = 0;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				_def.end();
+			}
+		}
+
+		private void deflateInput() throws IOException {
+			if( _inLen == 0 )
+				return;
+			_def.setInput(_in, 0, _inLen);
+			while( !_def.needsInput() ) {
+				int n = _def.deflate(_out);
+				out.write(_out, 0, n);
+			}
+			_inLen = 0;
+		}
+	}
+
+	private static class XorInflateInputStream extends CompressionInputStream {
+		private final Inflater _inf = new Inflater();
+		private final byte[] _hist = new byte[8];
+		private final byte[] _in = new byte[BUFFER_SIZE];
+		private final byte[] _out = new byte[BUFFER_SIZE];
+		private final byte[] _one = new byte[1];
+		private int _pos = 0;
+		private int _outPos = 0;
+		private int _outLen = 0;
+
+		protected XorInflateInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			return (read(_one, 0, 1) < 0) ? -1 : (_one[0] & 0xFF);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if( len == 0 )
+				return 0;
+			if( _outPos == _outLen && !inflateOutput() )
+				return -1;
+			int n = Math.min(len, _outLen - _outPos);
+			System.arraycopy(_out, _outPos, b, off, n);
+			_outPos += n;
+			return n;
+		}
+
+		@Override
+		public void resetState() throws IOException {
+			_inf.reset();
+			Arrays.fill(_hist, (byte) 0);
+			_pos = 0;
+			_outPos = 0;
+			_outLen = 0;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				_inf.end();
+			}
+		}
+
+		private boolean inflateOutput() throws IOException {
+			try {
+				int n;
+				while( (n = _inf.inflate(_out)) == 0 ) {
+					if( _inf.finished() || _inf.needsDictionary() )
+						return false;
+					if( _inf.needsInput() ) {
+						int m = in.read(_in);
+						if( m < 0 )
+							throw new EOFException("Unexpected end of fp64xor compressed input.");
+						_inf.setInput(_in, 0, m);
+					}
+				}
+				// undo the xor transform
+				for( int i = 0; i < n; i++ ) {
+					int ix = _pos++ & 7;
+					_out[i] ^= _hist[ix];
+					_hist[ix] = _out[i];
+				}
+				_outPos = 0;
+				_outLen = n;
+				return true;
+			}
+			catch(DataFormatException ex) {
+				throw new IOException(ex);
+			}
+		}
+	}
+}
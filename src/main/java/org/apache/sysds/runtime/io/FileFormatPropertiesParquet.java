@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.Serializable;
+
+import org.apache.commons.lang3.StringUtils;
+
+public class FileFormatPropertiesParquet extends FileFormatProperties implements Serializable {
+	private static final long serialVersionUID = -4361379519146219553L;
+
+	// column names to read, or null for all columns
+	private final String[] columns;
+
+	public FileFormatPropertiesParquet() {
+		this.columns = null;
+	}
+
+	public FileFormatPropertiesParquet(String[] columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Parses a comma-separated list of column names, where an empty list or
+	 * "*" refers to all columns.
+	 *
+	 * @param columns comma-separated column names
+	 * @return file format properties
+	 */
+	public static FileFormatPropertiesParquet parse(String columns) {
+		if( columns == null || columns.trim().isEmpty() || columns.trim().equals("*") )
+			return new FileFormatPropertiesParquet();
+		String[] cols = columns.split(",");
+		for( int i = 0; i < cols.length; i++ )
+			cols[i] = cols[i].trim();
+		return new FileFormatPropertiesParquet(cols);
+	}
+
+	public String[] getColumns() {
+		return columns;
+	}
+
+	@Override public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(" columns " + (columns == null ? "*" : StringUtils.join(columns, ",")));
+		return sb.toString();
+	}
+}
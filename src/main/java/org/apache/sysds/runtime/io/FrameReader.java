@@ -22,6 +22,8 @@ package org.apache.sysds.runtime.io;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -31,6 +33,8 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.IncrementalArrayParser;
 import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
@@ -116,6 +120,48 @@ public abstract class FrameReader {
 		return names;
 	}
 
+	/**
+	 * Creates incremental parsers for all columns of unknown value type (e.g., read with schema="UNKNOWN"), whose
+	 * value types are detected while reading instead of a separate detectSchema/applySchema pass over string columns.
+	 * 
+	 * @param schema schema as array of ValueTypes
+	 * @param rl     row offset of the first parsed row
+	 * @param nrow   number of rows
+	 * @return array of parsers (null for columns of known type), or null if all types are known
+	 */
+	protected static IncrementalArrayParser[] createColumnParsers(ValueType[] schema, int rl, int nrow) {
+		IncrementalArrayParser[] ret = null;
+		for(int j = 0; j < schema.length; j++) {
+			if(schema[j] != ValueType.UNKNOWN)
+				continue;
+			ret = (ret != null) ? ret : new IncrementalArrayParser[schema.length];
+			ret[j] = new IncrementalArrayParser(rl, nrow);
+		}
+		return ret;
+	}
+
+	/**
+	 * Sets the typed columns and detected value types of the given parsers of consecutive row partitions, where
+	 * columns of non-string types with null or empty values are set as optional arrays.
+	 * 
+	 * @param dest  output frame block
+	 * @param parts parsers per row partition (in order)
+	 */
+	protected static void setDetectedColumns(FrameBlock dest, List<IncrementalArrayParser[]> parts) {
+		ValueType[] schema = dest.getSchema().clone();
+		for(int j = 0; j < schema.length; j++) {
+			if(parts.get(0)[j] == null)
+				continue;
+			List<IncrementalArrayParser> col = new ArrayList<>(parts.size());
+			for(IncrementalArrayParser[] p : parts)
+				col.add(p[j]);
+			Array<?> data = IncrementalArrayParser.combine(col, dest.getNumRows());
+			dest.setColumn(j, data);
+			schema[j] = data.getValueType();
+		}
+		dest.setSchema(schema);
+	}
+
 	protected static void checkValidInputFile(FileSystem fs, Path path) throws IOException {
 		// check non-existing file
 		if(!fs.exists(path))
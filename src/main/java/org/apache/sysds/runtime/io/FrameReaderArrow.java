@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+
+/**
+ * Reader for frames in Arrow IPC file format (Feather v2). The schema and column
+ * names are obtained from the arrow schema, i.e., the given schema and names are
+ * ignored. Input streams are read in Arrow IPC stream format.
+ */
+public class FrameReaderArrow extends FrameReader {
+	@Override
+	public FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// core read of all record batches
+		FrameBlock ret = null;
+		try( BufferAllocator alloc = new RootAllocator();
+			ArrowFileReader reader = new ArrowFileReader(ArrowUtils.openReadChannel(fs, path), alloc) )
+		{
+			ret = ArrowUtils.readFrame(reader);
+		}
+		checkDimensions(ret, rlen, clen);
+		return ret;
+	}
+
+	@Override
+	public FrameBlock readFrameFromInputStream(InputStream is, ValueType[] schema, String[] names, long rlen,
+		long clen) throws IOException, DMLRuntimeException
+	{
+		FrameBlock ret = null;
+		try( ArrowFrameStreamReader reader = new ArrowFrameStreamReader(is) ) {
+			ret = reader.readAll();
+		}
+		checkDimensions(ret, rlen, clen);
+		return ret;
+	}
+
+	private static void checkDimensions(FrameBlock fb, long rlen, long clen) {
+		if( (rlen >= 0 && rlen != fb.getNumRows()) || (clen >= 0 && clen != fb.getNumColumns()) )
+			throw new DMLRuntimeException("Read frame dimensions differ from meta data: [" + fb.getNumRows() + "x"
+				+ fb.getNumColumns() + "] vs. [" + rlen + "x" + clen + "].");
+	}
+}
@@ -25,6 +25,7 @@ package org.apache.sysds.runtime.io;
 // import static org.apache.sysds.runtime.io.FrameReader.createOutputSchema;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
@@ -44,6 +45,7 @@ import org.apache.sysds.common.Types;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.IncrementalArrayParser;
 import org.apache.sysds.runtime.util.UtilFunctions;
 import org.apache.wink.json4j.JSONArray;
 import org.apache.wink.json4j.JSONException;
@@ -83,15 +85,27 @@ public class FrameReaderJSONL {
 		InputSplit[] splits = inputFormat.getSplits(jobConf, 1);
 		splits = IOUtilFunctions.sortInputSplits(splits);
 
+		// columns of unknown value type are parsed w/ incremental schema detection
+		IncrementalArrayParser[] parsers = FrameReader.createColumnParsers(dest.getSchema(), 0, dest.getNumRows());
 		for (int i = 0, rowPos = 0; i < splits.length; i++) {
-			rowPos = readJSONLFrameFromInputSplit(splits[i], inputFormat, jobConf, schema, schemaMap, dest, rowPos);
+			rowPos = readJSONLFrameFromInputSplit(splits[i], inputFormat, jobConf, schema, schemaMap, dest, rowPos, parsers);
 		}
+		if (parsers != null)
+			FrameReader.setDetectedColumns(dest, Collections.singletonList(parsers));
 	}
 
 
 	protected static int readJSONLFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> inputFormat,
 		JobConf jobConf, Types.ValueType[] schema, Map<String, Integer> schemaMap, FrameBlock dest, int currentRow)
 			throws IOException, JSONException 
+	{
+		return readJSONLFrameFromInputSplit(split, inputFormat, jobConf, schema, schemaMap, dest, currentRow, null);
+	}
+
+
+	protected static int readJSONLFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> inputFormat,
+		JobConf jobConf, Types.ValueType[] schema, Map<String, Integer> schemaMap, FrameBlock dest, int currentRow,
+		IncrementalArrayParser[] parsers) throws IOException, JSONException 
 	{
 		RecordReader<LongWritable, Text> reader = inputFormat.getRecordReader(split, jobConf, Reporter.NULL);
 		LongWritable key = new LongWritable();
@@ -104,7 +118,11 @@ public class FrameReaderJSONL {
 				JSONObject jsonObject = new JSONObject(value.toString());
 				for (Map.Entry<String, Integer> entry : schemaMap.entrySet()) {
 					String strCellValue = getStringFromJSONPath(jsonObject, entry.getKey());
-					dest.set(row, entry.getValue(), UtilFunctions.stringToObject(schema[entry.getValue()], strCellValue));
+					int col = entry.getValue();
+					if (parsers != null && parsers[col] != null)
+						parsers[col].set(row, strCellValue);
+					else
+						dest.set(row, col, UtilFunctions.stringToObject(schema[col], strCellValue));
 				}
 				row++;
 			}
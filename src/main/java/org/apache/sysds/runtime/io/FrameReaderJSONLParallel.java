@@ -27,6 +27,7 @@ import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.sysds.common.Types;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.IncrementalArrayParser;
 import org.apache.sysds.runtime.io.IOUtilFunctions.CountRowsTask;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 
@@ -63,10 +64,13 @@ public class FrameReaderJSONLParallel extends FrameReaderJSONL
 			List<Future<Long>> ret = executorPool.invokeAll(countRowsTasks);
 
 			//compute row offset per split via cumsum on row counts
+			//(and per-split parsers for columns of unknown value type)
 			long offset = 0;
 			List<Long> offsets = new ArrayList<>();
+			List<IncrementalArrayParser[]> parsers = new ArrayList<>();
 			for( Future<Long> rc : ret ) {
 				offsets.add(offset);
+				parsers.add(FrameReader.createColumnParsers(dest.getSchema(), (int)offset, rc.get().intValue()));
 				offset += rc.get();
 			}
 
@@ -74,8 +78,12 @@ public class FrameReaderJSONLParallel extends FrameReaderJSONL
 			ArrayList<ReadRowsTask> readRowsTasks = new ArrayList<>();
 			for( int i=0; i<splits.length; i++ )
 				readRowsTasks.add(new ReadRowsTask(splits[i], inputFormat,
-					jobConf, dest, schemaMap, offsets.get(i).intValue()));
+					jobConf, dest, schemaMap, offsets.get(i).intValue(), parsers.get(i)));
 			CommonThreadPool.invokeAndShutdown(executorPool, readRowsTasks);
+
+			//combine typed columns of all splits
+			if( parsers.get(0) != null )
+				FrameReader.setDetectedColumns(dest, parsers);
 		}
 		catch (Exception e) {
 			throw new IOException("Failed parallel read of JSONL input.", e);
@@ -89,9 +97,10 @@ public class FrameReaderJSONLParallel extends FrameReaderJSONL
 		private FrameBlock _dest;
 		Map<String, Integer> _schemaMap;
 		private int _offset;
+		private IncrementalArrayParser[] _parsers;
 
 		public ReadRowsTask(InputSplit split, TextInputFormat inputFormat, JobConf jobConf,
-			FrameBlock dest, Map<String, Integer> schemaMap, int offset)
+			FrameBlock dest, Map<String, Integer> schemaMap, int offset, IncrementalArrayParser[] parsers)
 		{
 			_split = split;
 			_inputFormat = inputFormat;
@@ -99,11 +108,12 @@ public class FrameReaderJSONLParallel extends FrameReaderJSONL
 			_dest = dest;
 			_schemaMap = schemaMap;
 			_offset = offset;
+			_parsers = parsers;
 		}
 
 		@Override
 		public Object call() throws Exception {
-			readJSONLFrameFromInputSplit(_split, _inputFormat, _jobConf, _dest.getSchema(), _schemaMap, _dest, _offset);
+			readJSONLFrameFromInputSplit(_split, _inputFormat, _jobConf, _dest.getSchema(), _schemaMap, _dest, _offset, _parsers);
 			return null;
 		}
 	}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReadStore;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.BooleanArray;
+import org.apache.sysds.runtime.frame.data.columns.DoubleArray;
+import org.apache.sysds.runtime.frame.data.columns.FloatArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Reader for frames in parquet format, which decodes the (projected) columns of
+ * all row groups in parallel directly into the typed frame columns. The schema
+ * and column names are obtained from the parquet schema, i.e., the given schema
+ * and names are ignored. Null values are decoded as NaN for FP64/FP32 columns,
+ * as null for string columns, and as zero otherwise.
+ */
+public class FrameReaderParquet extends FrameReader {
+	private final String[] _columns;
+	private final int _numThreads;
+
+	public FrameReaderParquet() {
+		this(null, OptimizerUtils.getParallelBinaryReadParallelism());
+	}
+
+	/**
+	 * Creates a parquet frame reader with column projection.
+	 *
+	 * @param columns    column names to read, or null for all columns
+	 * @param numThreads degree of parallelism over row groups
+	 */
+	public FrameReaderParquet(String[] columns, int numThreads) {
+		_columns = columns;
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// obtain projected schema and row groups of all files
+		List<Path> files = ParquetUtils.getFilePaths(fs, path);
+		MessageType projection = ParquetUtils.getProjection(ParquetUtils.readSchema(files.get(0), job), _columns);
+		List<RowGroup> rgs = ParquetUtils.getRowGroups(files, job);
+		int nrow = rgs.isEmpty() ? 0 : rgs.get(rgs.size() - 1).rl + rgs.get(rgs.size() - 1).nrow;
+		int ncol = projection.getFieldCount();
+		if( (rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol) )
+			throw new DMLRuntimeException("Read frame dimensions differ from meta data: [" + nrow + "x" + ncol
+				+ "] vs. [" + rlen + "x" + clen + "].");
+
+		// allocate output frame block with the parquet schema
+		ValueType[] lschema = new ValueType[ncol];
+		String[] lnames = new String[ncol];
+		for( int j = 0; j < ncol; j++ ) {
+			Type field = projection.getType(j);
+			lschema[j] = ParquetUtils.getValueType(field.asPrimitiveType());
+			lnames[j] = field.getName();
+		}
+		FrameBlock ret = createOutputFrameBlock(lschema, lnames, nrow);
+		for( int j = 0; j < ncol & nrow > 0; j++ ) // thread-safe writes of disjoint row ranges
+			if( lschema[j] == ValueType.BOOLEAN && !(ret.getColumn(j) instanceof BooleanArray) )
+				ret.setColumn(j, new BooleanArray(new boolean[nrow]));
+
+		// core read (sequential/parallel over row groups)
+		ArrayList<ReadRowGroupTask> tasks = new ArrayList<>();
+		for( RowGroup rg : rgs )
+			tasks.add(new ReadRowGroupTask(job, rg, projection, ret));
+		try {
+			if( _numThreads <= 1 || tasks.size() <= 1 ) {
+				for( ReadRowGroupTask task : tasks )
+					task.call();
+			}
+			else {
+				ExecutorService pool = CommonThreadPool.get(Math.min(_numThreads, tasks.size()));
+				try {
+					for( Future<Object> task : pool.invokeAll(tasks) )
+						task.get();
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+		catch(IOException ex) {
+			throw ex;
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel read of parquet input.", ex);
+		}
+		return ret;
+	}
+
+	@Override
+	public FrameBlock readFrameFromInputStream(InputStream is, ValueType[] schema, String[] names, long rlen,
+		long clen) {
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+
+	private static void readColumn(ColumnReader cr, Array<?> dest, int rl, int ru) {
+		final int maxDef = cr.getDescriptor().getMaxDefinitionLevel();
+		switch( dest.getValueType() ) {
+			case FP64: {
+				double[] a = ((DoubleArray) dest).get();
+				for( int i = rl; i < ru; i++, cr.consume() )
+					a[i] = (cr.getCurrentDefinitionLevel() == maxDef) ? cr.getDouble() : Double.NaN;
+				break;
+			}
+			case FP32: {
+				float[] a = ((FloatArray) dest).get();
+				for( int i = rl; i < ru; i++, cr.consume() )
+					a[i] = (cr.getCurrentDefinitionLevel() == maxDef) ? cr.getFloat() : Float.NaN;
+				break;
+			}
+			case INT32: {
+				int[] a = ((IntegerArray) dest).get();
+				for( int i = rl; i < ru; i++, cr.consume() )
+					a[i] = (cr.getCurrentDefinitionLevel() == maxDef) ? cr.getInteger() : 0;
+				break;
+			}
+			case INT64: {
+				long[] a = ((LongArray) dest).get();
+				for( int i = rl; i < ru; i++, cr.consume() )
+					a[i] = (cr.getCurrentDefinitionLevel() == maxDef) ? cr.getLong() : 0;
+				break;
+			}
+			case BOOLEAN: {
+				boolean[] a = ((BooleanArray) dest).get();
+				for( int i = rl; i < ru; i++, cr.consume() )
+					a[i] = (cr.getCurrentDefinitionLevel() == maxDef) && cr.getBoolean();
+				break;
+			}
+			default: {
+				String[] a = ((StringArray) dest).get();
+				for( int i = rl; i < ru; i++, cr.consume() )
+					a[i] = (cr.getCurrentDefinitionLevel() == maxDef) ? cr.getBinary().toStringUsingUTF8() : null;
+			}
+		}
+	}
+
+	private static class ReadRowGroupTask implements Callable<Object> {
+		private final JobConf _job;
+		private final RowGroup _rg;
+		private final MessageType _projection;
+		private final FrameBlock _dest;
+
+		public ReadRowGroupTask(JobConf job, RowGroup rg, MessageType projection, FrameBlock dest) {
+			_job = job;
+			_rg = rg;
+			_projection = projection;
+			_dest = dest;
+		}
+
+		@Override
+		public Object call() throws IOException {
+			try( ParquetFileReader reader = ParquetUtils.openReader(_rg.file, _job) ) {
+				ColumnReadStore store = ParquetUtils.readRowGroup(reader, _rg, _projection);
+				List<ColumnDescriptor> cols = _projection.getColumns();
+				for( int j = 0; j < cols.size(); j++ )
+					readColumn(store.getColumnReader(cols.get(j)), _dest.getColumn(j), _rg.rl, _rg.rl + _rg.nrow);
+			}
+			return null;
+		}
+	}
+}
@@ -21,6 +21,7 @@ package org.apache.sysds.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.Set;
 
 import org.apache.hadoop.fs.FileSystem;
@@ -38,12 +39,14 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.IncrementalArrayParser;
 import org.apache.sysds.runtime.matrix.data.Pair;
 import org.apache.sysds.runtime.transform.TfUtils;
 import org.apache.sysds.runtime.util.InputStreamInputFormat;
 
 /**
- * Single-threaded frame text csv reader.
+ * Single-threaded frame text csv reader. Columns of unknown value type are parsed with incremental schema detection
+ * directly into typed columns.
  * 
  */
 public class FrameReaderTextCSV extends FrameReader {
@@ -96,7 +99,10 @@ public class FrameReaderTextCSV extends FrameReader {
 		// core read (sequential/parallel)
 		InputStreamInputFormat informat = new InputStreamInputFormat(is);
 		InputSplit split = informat.getSplits(null, 1)[0];
-		readCSVFrameFromInputSplit(split, informat, null, ret, schema, names, rlen, clen, 0, true);
+		IncrementalArrayParser[] parsers = createColumnParsers(ret.getSchema(), 0, ret.getNumRows());
+		readCSVFrameFromInputSplit(split, informat, null, ret, schema, names, rlen, clen, 0, true, parsers);
+		if(parsers != null)
+			setDetectedColumns(ret, Collections.singletonList(parsers));
 
 		return ret;
 	}
@@ -108,13 +114,23 @@ public class FrameReaderTextCSV extends FrameReader {
 		informat.configure(job);
 		InputSplit[] splits = informat.getSplits(job, 1);
 		splits = IOUtilFunctions.sortInputSplits(splits);
+		IncrementalArrayParser[] parsers = createColumnParsers(dest.getSchema(), 0, dest.getNumRows());
 		for(int i = 0, rpos = 0; i < splits.length; i++)
-			rpos = readCSVFrameFromInputSplit(splits[i], informat, job, dest, schema, names, rlen, clen, rpos, i == 0);
+			rpos = readCSVFrameFromInputSplit(splits[i], informat, job, dest, schema, names, rlen, clen, rpos, i == 0,
+				parsers);
+		if(parsers != null)
+			setDetectedColumns(dest, Collections.singletonList(parsers));
 	}
 
 	protected final int readCSVFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
 		JobConf job, FrameBlock dest, ValueType[] schema, String[] names, long rlen, long clen, int rl, boolean first)
 		throws IOException {
+		return readCSVFrameFromInputSplit(split, informat, job, dest, schema, names, rlen, clen, rl, first, null);
+	}
+
+	protected final int readCSVFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
+		JobConf job, FrameBlock dest, ValueType[] schema, String[] names, long rlen, long clen, int rl, boolean first,
+		IncrementalArrayParser[] parsers) throws IOException {
 		
 		if( rl > rlen) // in case this method is called wrongly
 			throw new DMLRuntimeException("Invalid offset");
@@ -174,11 +190,13 @@ public class FrameReaderTextCSV extends FrameReader {
 					String part = IOUtilFunctions.trim(parts[col]);
 					if(part.isEmpty() || (naValues != null && naValues.contains(part))) {
 						if(isFill && dfillValue != 0)
-							dest.set(row, col, sfillValue);
+							setCell(dest, parsers, row, col, sfillValue);
+						else if(parsers != null && parsers[col] != null)
+							parsers[col].setNull(row);
 						emptyValuesFound = true;
 					}
 					else
-						dest.set(row, col, part);
+						setCell(dest, parsers, row, col, part);
 				}
 				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
 				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
@@ -195,6 +213,13 @@ public class FrameReaderTextCSV extends FrameReader {
 		return row;
 	}
 
+	private static void setCell(FrameBlock dest, IncrementalArrayParser[] parsers, int row, int col, String val) {
+		if(parsers != null && parsers[col] != null)
+			parsers[col].set(row, val);
+		else
+			dest.set(row, col, val);
+	}
+
 	protected Pair<Integer, Integer> computeCSVSize(Path path, JobConf job, FileSystem fs) throws IOException {
 		TextInputFormat informat = new TextInputFormat();
 		informat.configure(job);
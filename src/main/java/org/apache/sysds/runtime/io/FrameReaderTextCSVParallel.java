@@ -35,6 +35,7 @@ import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.IncrementalArrayParser;
 import org.apache.sysds.runtime.matrix.data.Pair;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 
@@ -72,18 +73,26 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 			List<Future<Integer>> cret = pool.invokeAll(tasks);
 
 			//compute row offset per split via cumsum on row counts
+			//(and per-split parsers for columns of unknown value type)
 			long offset = 0;
 			List<Long> offsets = new ArrayList<>();
+			List<IncrementalArrayParser[]> parsers = new ArrayList<>();
 			for( Future<Integer> count : cret ) {
 				offsets.add(offset);
+				parsers.add(createColumnParsers(dest.getSchema(), (int)offset, count.get()));
 				offset += count.get();
 			}
 			
 			//read individual splits
 			ArrayList<ReadRowsTask> tasks2 = new ArrayList<>();
 			for( int i=0; i<splits.length; i++ )
-				tasks2.add( new ReadRowsTask(splits[i], informat, job, dest, offsets.get(i).intValue(), i==0));
+				tasks2.add( new ReadRowsTask(splits[i], informat, job, dest,
+					offsets.get(i).intValue(), i==0, parsers.get(i)));
 			CommonThreadPool.invokeAndShutdown(pool, tasks2);
+			
+			//combine typed columns of all splits
+			if( parsers.get(0) != null )
+				setDetectedColumns(dest, parsers);
 		} 
 		catch (Exception e) {
 			throw new IOException("Failed parallel read of text csv input.", e);
@@ -156,10 +165,11 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 		private FrameBlock _dest = null;
 		private int _offset = -1;
 		private boolean _isFirstSplit = false;
+		private IncrementalArrayParser[] _parsers = null;
 		
 		
 		public ReadRowsTask(InputSplit split, TextInputFormat informat, JobConf job, 
-				FrameBlock dest, int offset, boolean first) 
+				FrameBlock dest, int offset, boolean first, IncrementalArrayParser[] parsers) 
 		{
 			_split = split;
 			_informat = informat;
@@ -167,6 +177,7 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 			_dest = dest;
 			_offset = offset;
 			_isFirstSplit = first;
+			_parsers = parsers;
 		}
 
 		@Override
@@ -176,7 +187,7 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 			try{
 
 				readCSVFrameFromInputSplit(_split, _informat, _job, _dest, _dest.getSchema(), 
-						_dest.getColumnNames(), _dest.getNumRows(), _dest.getNumColumns(), _offset, _isFirstSplit);
+						_dest.getColumnNames(), _dest.getNumRows(), _dest.getNumColumns(), _offset, _isFirstSplit, _parsers);
 				return null;
 			}
 			catch(Exception e){
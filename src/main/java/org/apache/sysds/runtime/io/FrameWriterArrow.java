@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Writer for frames in Arrow IPC file format (Feather v2), with nullable arrow
+ * columns of the corresponding frame value types.
+ */
+public class FrameWriterArrow extends FrameWriter {
+	@Override
+	public void writeFrameToHDFS(FrameBlock src, String fname, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+
+		// if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		// validity check frame dimensions
+		if( src.getNumRows() != rlen || src.getNumColumns() != clen )
+			throw new IOException("Frame dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+
+		// core write of record batches
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		try( BufferAllocator alloc = new RootAllocator();
+			VectorSchemaRoot root = VectorSchemaRoot.create(
+				ArrowUtils.createFrameSchema(src.getSchema(), src.getColumnNames()), alloc);
+			ArrowFileWriter writer = new ArrowFileWriter(root, null, Channels.newChannel(fs.create(path, true))) )
+		{
+			ArrowUtils.writeFrame(src, root, writer);
+		}
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+}
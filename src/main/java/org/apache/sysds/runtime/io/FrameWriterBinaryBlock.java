@@ -83,9 +83,12 @@ public class FrameWriterBinaryBlock extends FrameWriter {
 	protected static void writeBinaryBlockFrameToSequenceFile(Path path, JobConf job, FileSystem fs, FrameBlock src,
 		int blen, int rl, int ru) throws IOException {
 		// 1) create sequence file writer
-		final Writer writer = IOUtilFunctions.getSeqWriterFrame(path, job, 1);
 		final int rlen = src.getNumRows();
 		final int clen = src.getNumColumns();
+		// first block of the row range for adaptive codec selection
+		final FrameBlock sample = (BinaryBlockCodec.getConfiguredCodec() == BinaryBlockCodec.AUTO && rlen > 0) ?
+			src.slice(rl, Math.min(rl + blen, rlen) - 1, 0, clen - 1) : null;
+		final Writer writer = IOUtilFunctions.getSeqWriterFrame(path, job, 1, sample);
 		try {
 			// 2) reblock and write
 			LongWritable index = new LongWritable();
@@ -50,6 +50,10 @@ public class FrameWriterFactory {
 				return binaryParallel ? new FrameWriterBinaryBlockParallel() : new FrameWriterBinaryBlock();
 			case PROTO:
 				return new FrameWriterProto();
+			case PARQUET:
+				return new FrameWriterParquet();
+			case ARROW:
+				return new FrameWriterArrow();
 			default:
 				throw new DMLRuntimeException("Failed to create frame writer for unknown format: " + fmt.toString());
 		}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Writer for frames in parquet format, which maps the frame schema to optional
+ * parquet columns (FP64/FP32/INT32/INT64/BOOLEAN, and UTF8 strings otherwise)
+ * and writes null values as parquet nulls.
+ */
+public class FrameWriterParquet extends FrameWriter {
+	@Override
+	public void writeFrameToHDFS(FrameBlock src, String fname, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+
+		// if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		// validity check frame dimensions
+		if( src.getNumRows() != rlen || src.getNumColumns() != clen )
+			throw new IOException("Frame dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+
+		// core write
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		writeParquetFrameToFile(path, job, src);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	protected static void writeParquetFrameToFile(Path path, JobConf job, FrameBlock src) throws IOException {
+		ValueType[] schema = src.getSchema();
+		MessageType pschema = ParquetUtils.createSchema(schema, src.getColumnNames());
+		SimpleGroupFactory factory = new SimpleGroupFactory(pschema);
+		try( ParquetWriter<Group> writer = ParquetUtils.createWriter(path, job, pschema) ) {
+			for( int i = 0; i < src.getNumRows(); i++ ) {
+				Group group = factory.newGroup();
+				for( int j = 0; j < schema.length; j++ ) {
+					Array<?> col = src.getColumn(j);
+					Object val = (col != null) ? col.get(i) : null;
+					if( val == null )
+						continue; // parquet null
+					switch( schema[j] ) {
+						case BOOLEAN: group.add(j, (Boolean) val); break;
+						case UINT4:
+						case UINT8:
+						case INT32:   group.add(j, ((Number) val).intValue()); break;
+						case INT64:   group.add(j, ((Number) val).longValue()); break;
+						case FP32:    group.add(j, ((Number) val).floatValue()); break;
+						case FP64:    group.add(j, ((Number) val).doubleValue()); break;
+						default:      group.add(j, val.toString());
+					}
+				}
+				writer.write(group);
+			}
+		}
+	}
+}
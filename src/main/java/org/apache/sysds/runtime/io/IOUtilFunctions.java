@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -49,6 +50,8 @@ import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.SequenceFile.Writer;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.compress.CompressionCodec;
 import org.apache.hadoop.mapred.FileSplit;
 import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.InputSplit;
@@ -378,7 +381,92 @@ public class IOUtilFunctions
 		// return number of tokens
 		return numTokens;
 	}
-	
+
+	/**
+	 * Parses a double from the ASCII bytes buf[beg:end) without intermediate
+	 * string or object allocation. Plain decimals with at most 18 significant
+	 * digits whose value is exactly representable as mantissa and power of ten
+	 * (i.e., mantissa &lt;= 2^53 and |exp| &lt;= 22) are converted with a single
+	 * correctly rounded floating point operation and hence produce the same
+	 * result as Double.parseDouble. All other inputs (e.g., long mantissas,
+	 * large exponents, NaN, Infinity, hex) fall back to Double.parseDouble.
+	 *
+	 * @param buf byte buffer
+	 * @param beg begin position (inclusive)
+	 * @param end end position (exclusive)
+	 * @return parsed double value
+	 * @throws NumberFormatException if the bytes do not represent a double
+	 */
+	public static double parseDouble(byte[] buf, int beg, int end) {
+		int i = beg;
+		boolean neg = false;
+		if( i < end && (buf[i] == '-' || buf[i] == '+') )
+			neg = (buf[i++] == '-');
+
+		long mant = 0;
+		int ndigits = 0;
+		int exp10 = 0;
+		boolean digits = false;
+		boolean fast = true;
+
+		// integer part
+		for( ; i < end && buf[i] >= '0' && buf[i] <= '9'; i++ ) {
+			digits = true;
+			if( mant == 0 && buf[i] == '0' )
+				continue; //leading zeros
+			if( ++ndigits > 18 )
+				fast = false;
+			else
+				mant = mant * 10 + (buf[i] - '0');
+		}
+		// fractional part
+		if( i < end && buf[i] == '.' ) {
+			for( i++; i < end && buf[i] >= '0' && buf[i] <= '9'; i++ ) {
+				digits = true;
+				exp10--;
+				if( mant == 0 && buf[i] == '0' )
+					continue; //leading zeros
+				if( ++ndigits > 18 )
+					fast = false;
+				else
+					mant = mant * 10 + (buf[i] - '0');
+			}
+		}
+		// exponent
+		if( digits && i < end && (buf[i] == 'e' || buf[i] == 'E') ) {
+			i++;
+			boolean eneg = false;
+			if( i < end && (buf[i] == '-' || buf[i] == '+') )
+				eneg = (buf[i++] == '-');
+			int e = 0;
+			boolean edigits = false;
+			for( ; i < end && buf[i] >= '0' && buf[i] <= '9'; i++ ) {
+				edigits = true;
+				if( e < 10000 )
+					e = e * 10 + (buf[i] - '0');
+			}
+			fast &= edigits;
+			exp10 += eneg ? -e : e;
+		}
+
+		// fast path: exact mantissa and power of ten, single rounding
+		if( fast && digits && i == end ) {
+			if( mant == 0 )
+				return neg ? -0d : 0d;
+			if( mant <= (1L << 53) && exp10 >= -22 && exp10 <= 22 ) {
+				double ret = (exp10 >= 0) ?
+					mant * POW10[exp10] : mant / POW10[-exp10];
+				return neg ? -ret : ret;
+			}
+		}
+
+		// slow path: special values and non-exact conversions
+		return Double.parseDouble(new String(buf, beg, end - beg, StandardCharsets.UTF_8));
+	}
+
+	private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+		1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
 	public static String[] splitByFirst(String str, String delim) {
 		int pos = str.indexOf(delim);
 		return new String[]{str.substring(0, pos),
@@ -739,19 +827,39 @@ public class IOUtilFunctions
 	}
 
 	public static Writer getSeqWriter(Path path, Configuration job, int replication) throws IOException {
+		return getSeqWriter(path, job, replication, null);
+	}
+
+	public static Writer getSeqWriter(Path path, Configuration job, int replication, MatrixBlock sample)
+		throws IOException
+	{
 		return SequenceFile.createWriter(job, Writer.file(path), Writer.bufferSize(4096),
 			Writer.replication((short) (replication > 0 ? replication : 1)),
-			Writer.compression(SequenceFile.CompressionType.NONE), Writer.keyClass(MatrixIndexes.class),
+			getSeqCompression(job, sample), Writer.keyClass(MatrixIndexes.class),
 			Writer.valueClass(MatrixBlock.class));
 	}
 
 	public static Writer getSeqWriterFrame(Path path, Configuration job, int replication) throws IOException {
+		return getSeqWriterFrame(path, job, replication, null);
+	}
+
+	public static Writer getSeqWriterFrame(Path path, Configuration job, int replication, FrameBlock sample)
+		throws IOException
+	{
 		return SequenceFile.createWriter(job, Writer.file(path), Writer.bufferSize(4096),
 			Writer.keyClass(LongWritable.class), Writer.valueClass(FrameBlock.class),
-			Writer.compression(SequenceFile.CompressionType.NONE),
+			getSeqCompression(job, sample),
 			Writer.replication((short) (replication > 0 ? replication : 1)));
 	}
 
+	private static Writer.Option getSeqCompression(Configuration job, Writable sample) {
+		//per-block (record) compression w/ configured codec, see BinaryBlockCodec
+		CompressionCodec codec = BinaryBlockCodec.getCompressionCodec(job, sample);
+		return (codec != null) ?
+			Writer.compression(SequenceFile.CompressionType.RECORD, codec) :
+			Writer.compression(SequenceFile.CompressionType.NONE);
+	}
+
 	public static Writer getSeqWriterTensor(Path path, Configuration job, int replication) throws IOException {
 		return SequenceFile.createWriter(job, Writer.file(path), Writer.bufferSize(4096),
 		Writer.replication((short) (replication > 0 ? replication : 1)),
@@ -33,6 +33,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.SparseBlock;
@@ -111,6 +113,27 @@ public abstract class MatrixReader
 		return ret;
 	}
 
+	/**
+	 * Indicates if matrices should be compressed while reading (see sysds.compressed.onread).
+	 * 
+	 * @return true if compress on read
+	 */
+	protected static boolean isCompressOnRead() {
+		return ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.COMPRESSED_ONREAD);
+	}
+
+	/**
+	 * Indicates if a matrix of the given dimensions should be compressed while reading,
+	 * which requires known dimensions within the CP runtime limits.
+	 * 
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @return true if compress on read
+	 */
+	protected static boolean isCompressOnRead(long rlen, long clen) {
+		return isCompressOnRead() && rlen > 0 && clen > 0 && OptimizerUtils.isValidCPDimensions(rlen, clen);
+	}
+
 	protected static void checkValidInputFile(FileSystem fs, Path path) 
 		throws IOException
 	{
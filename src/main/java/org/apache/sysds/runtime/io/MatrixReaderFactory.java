@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.conf.CompilerConfig.ConfigType;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.io.ReaderCompressed;
 import org.apache.sysds.runtime.data.SparseBlock;
@@ -49,7 +50,7 @@ public class MatrixReaderFactory {
 
 			case CSV:
 				reader = (par & mcsr) ?
-					new ReaderTextCSVParallel(new FileFormatPropertiesCSV()) :
+					createParallelCSVReader(new FileFormatPropertiesCSV()) :
 					new ReaderTextCSV(new FileFormatPropertiesCSV());
 				break;
 
@@ -71,6 +72,14 @@ public class MatrixReaderFactory {
 			case COMPRESSED:
 				reader = ReaderCompressed.create();
 				break;
+
+			case PARQUET:
+				reader = createParquetReader(null);
+				break;
+
+			case ARROW:
+				reader = new ReaderArrow();
+				break;
 			
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
@@ -101,7 +110,7 @@ public class MatrixReaderFactory {
 
 			case CSV:
 				reader = (par & mcsr) ?
-					new ReaderTextCSVParallel( props.formatProperties!=null ?
+					createParallelCSVReader( props.formatProperties!=null ?
 						(FileFormatPropertiesCSV)props.formatProperties : new FileFormatPropertiesCSV()) :
 					new ReaderTextCSV( props.formatProperties!=null ?
 						(FileFormatPropertiesCSV)props.formatProperties : new FileFormatPropertiesCSV());
@@ -127,9 +136,31 @@ public class MatrixReaderFactory {
 			case COMPRESSED:
 				reader = new ReaderCompressed();
 				break;
+
+			case PARQUET:
+				if(props.formatProperties != null && !(props.formatProperties instanceof FileFormatPropertiesParquet))
+					throw new DMLRuntimeException("Wrong type of file format properties for parquet reader.");
+				reader = createParquetReader(props.formatProperties != null ?
+					((FileFormatPropertiesParquet) props.formatProperties).getColumns() : null);
+				break;
+
+			case ARROW:
+				reader = new ReaderArrow();
+				break;
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
 		}
 		return reader;
 	}
+
+	private static MatrixReader createParallelCSVReader(FileFormatPropertiesCSV props) {
+		//note: compress-on-read is only supported by the split-based reader
+		return ConfigurationManager.isCSVSinglePassReadEnabled() && !MatrixReader.isCompressOnRead() ?
+			new ReaderTextCSVSinglePass(props) : new ReaderTextCSVParallel(props);
+	}
+
+	private static MatrixReader createParquetReader(String[] columns) {
+		boolean par = ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_BINARYFORMATS);
+		return new ReaderParquet(columns, par ? OptimizerUtils.getParallelBinaryReadParallelism() : 1);
+	}
 }
@@ -89,6 +89,12 @@ public class MatrixWriterFactory
 			case COMPRESSED:
 				return WriterCompressed.create(props);
 
+			case PARQUET:
+				return new WriterParquet();
+
+			case ARROW:
+				return new WriterArrow();
+
 			default:
 				throw new DMLRuntimeException("Failed to create matrix writer for unknown format: " + fmt.toString());
 		}
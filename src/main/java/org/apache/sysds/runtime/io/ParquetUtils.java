@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.column.ColumnReadStore;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+import org.apache.sysds.common.Types.ValueType;
+
+/**
+ * Shared functionality of the parquet matrix and frame readers/writers. Parquet
+ * files are read column-wise per row group (without record assembly), which
+ * allows typed decoding into the output columns, column projection, and
+ * parallel reads of independent row groups. Only flat schemas of primitive,
+ * non-repeated columns are supported.
+ */
+public class ParquetUtils {
+	// compression codec of written parquet files
+	public static CompressionCodecName CODEC = CompressionCodecName.SNAPPY;
+	// row group size of written parquet files (unit of parallel reads)
+	public static int ROW_GROUP_SIZE = ParquetWriter.DEFAULT_BLOCK_SIZE;
+
+	private static final String SCHEMA_NAME = "sysds";
+
+	/**
+	 * Row group of a parquet file and its row offset in the overall dataset.
+	 */
+	public static class RowGroup {
+		public final Path file;
+		public final int index;
+		public final int rl;
+		public final int nrow;
+
+		private RowGroup(Path file, int index, int rl, int nrow) {
+			this.file = file;
+			this.index = index;
+			this.rl = rl;
+			this.nrow = nrow;
+		}
+	}
+
+	/**
+	 * Obtains the parquet files of a single file or directory (e.g., of part files
+	 * written by Spark), in alphanumeric order.
+	 *
+	 * @param fs   file system
+	 * @param path file or directory path
+	 * @return list of file paths
+	 * @throws IOException if IOException occurs
+	 */
+	public static List<Path> getFilePaths(FileSystem fs, Path path) throws IOException {
+		List<Path> ret = new ArrayList<>();
+		if( fs.getFileStatus(path).isDirectory() ) {
+			FileStatus[] stats = fs.listStatus(path, IOUtilFunctions.hiddenFileFilter);
+			Arrays.sort(stats);
+			for( FileStatus stat : stats )
+				if( stat.getLen() > 0 )
+					ret.add(stat.getPath());
+		}
+		else
+			ret.add(path);
+		return ret;
+	}
+
+	public static MessageType readSchema(Path file, Configuration conf) throws IOException {
+		try( ParquetFileReader reader = openReader(file, conf) ) {
+			return reader.getFooter().getFileMetaData().getSchema();
+		}
+	}
+
+	/**
+	 * Reads the footers of all files and creates the row groups with their row
+	 * offsets in file order. All files are required to have the same schema
+	 * as the first file.
+	 *
+	 * @param files list of file paths
+	 * @param conf  hadoop configuration
+	 * @return list of row groups
+	 * @throws IOException if IOException occurs or the file schemas differ
+	 */
+	public static List<RowGroup> getRowGroups(List<Path> files, Configuration conf) throws IOException {
+		List<RowGroup> ret = new ArrayList<>();
+		MessageType schema = null;
+		long rl = 0;
+		for( Path file : files ) {
+			try( ParquetFileReader reader = openReader(file, conf) ) {
+				MessageType fschema = reader.getFooter().getFileMetaData().getSchema();
+				if( schema == null )
+					schema = fschema;
+				else if( !schema.equals(fschema) )
+					throw new IOException("Parquet file '" + file + "' has a schema different from '"
+						+ files.get(0) + "': " + fschema + " vs. " + schema);
+				List<BlockMetaData> blocks = reader.getFooter().getBlocks();
+				for( int i = 0; i < blocks.size(); i++ ) {
+					long nrow = blocks.get(i).getRowCount();
+					if( rl + nrow > Integer.MAX_VALUE )
+						throw new IOException("Parquet input with more than " + Integer.MAX_VALUE
+							+ " rows not supported in CP.");
+					ret.add(new RowGroup(file, i, (int) rl, (int) nrow));
+					rl += nrow;
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Creates the projection of the given file schema to the given columns and
+	 * checks for a flat schema of primitive columns.
+	 *
+	 * @param schema  file schema
+	 * @param columns column names, or null for all columns
+	 * @return projected schema
+	 * @throws IOException if a column does not exist or is not supported
+	 */
+	public static MessageType getProjection(MessageType schema, String[] columns) throws IOException {
+		List<Type> fields = new ArrayList<>();
+		if( columns == null )
+			fields.addAll(schema.getFields());
+		else {
+			for( String name : columns ) {
+				if( !schema.containsField(name) )
+					throw new IOException("Column '" + name + "' does not exist in parquet schema: " + schema);
+				fields.add(schema.getType(name));
+			}
+		}
+		for( Type field : fields ) {
+			if( !field.isPrimitive() || field.isRepetition(Type.Repetition.REPEATED) )
+				throw new IOException("Unsupported nested or repeated parquet column: " + field);
+			if( field.asPrimitiveType().getPrimitiveTypeName() == PrimitiveTypeName.INT96 )
+				throw new IOException("Unsupported parquet column of type INT96: " + field);
+		}
+		return new MessageType(schema.getName(), fields);
+	}
+
+	public static ValueType getValueType(PrimitiveType type) {
+		switch( type.getPrimitiveTypeName() ) {
+			case BOOLEAN: return ValueType.BOOLEAN;
+			case INT32:   return ValueType.INT32;
+			case INT64:   return ValueType.INT64;
+			case FLOAT:   return ValueType.FP32;
+			case DOUBLE:  return ValueType.FP64;
+			default:      return ValueType.STRING;
+		}
+	}
+
+	public static PrimitiveType getParquetType(ValueType vt, String name) {
+		switch( vt ) {
+			case BOOLEAN: return Types.optional(PrimitiveTypeName.BOOLEAN).named(name);
+			case UINT4:
+			case UINT8:
+			case INT32:   return Types.optional(PrimitiveTypeName.INT32).named(name);
+			case INT64:   return Types.optional(PrimitiveTypeName.INT64).named(name);
+			case FP32:    return Types.optional(PrimitiveTypeName.FLOAT).named(name);
+			case FP64:    return Types.optional(PrimitiveTypeName.DOUBLE).named(name);
+			default:
+				return Types.optional(PrimitiveTypeName.BINARY)
+					.as(LogicalTypeAnnotation.stringType()).named(name);
+		}
+	}
+
+	public static MessageType createSchema(ValueType[] schema, String[] names) {
+		List<Type> fields = new ArrayList<>();
+		for( int j = 0; j < schema.length; j++ )
+			fields.add(getParquetType(schema[j], names[j]));
+		return new MessageType(SCHEMA_NAME, fields);
+	}
+
+	/**
+	 * Opens the given file with the given projection and reads the pages of the
+	 * given row group into a column store, which provides typed column readers.
+	 *
+	 * @param reader     parquet file reader of the row group's file
+	 * @param rg         row group
+	 * @param projection projected schema
+	 * @return column read store
+	 * @throws IOException if IOException occurs
+	 */
+	public static ColumnReadStore readRowGroup(ParquetFileReader reader, RowGroup rg, MessageType projection)
+		throws IOException
+	{
+		reader.setRequestedSchema(projection);
+		PageReadStore pages = reader.readRowGroup(rg.index);
+		if( pages == null || pages.getRowCount() != rg.nrow )
+			throw new IOException("Failed to read row group " + rg.index + " of parquet file " + rg.file + ".");
+		return new ColumnReadStoreImpl(pages, new GroupRecordConverter(projection).getRootConverter(),
+			projection, reader.getFooter().getFileMetaData().getCreatedBy());
+	}
+
+	public static ParquetFileReader openReader(Path file, Configuration conf) throws IOException {
+		return ParquetFileReader.open(HadoopInputFile.fromPath(file, conf));
+	}
+
+	public static ParquetWriter<Group> createWriter(Path path, Configuration conf, MessageType schema)
+		throws IOException
+	{
+		return ExampleParquetWriter.builder(HadoopOutputFile.fromPath(path, conf))
+			.withConf(conf)
+			.withType(schema)
+			.withCompressionCodec(CODEC)
+			.withRowGroupSize(ROW_GROUP_SIZE)
+			.withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+			.build();
+	}
+}
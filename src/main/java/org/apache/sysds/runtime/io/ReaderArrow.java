@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Reader for matrices in Arrow IPC file format (Feather v2), see ArrowUtils for
+ * the supported layouts. Input streams are read in Arrow IPC stream format.
+ */
+public class ReaderArrow extends MatrixReader {
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// core read of all record batches
+		try( BufferAllocator alloc = new RootAllocator();
+			ArrowFileReader reader = new ArrowFileReader(ArrowUtils.openReadChannel(fs, path), alloc) )
+		{
+			return readMatrix(reader, rlen, clen);
+		}
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		try( BufferAllocator alloc = new RootAllocator();
+			ArrowStreamReader reader = new ArrowStreamReader(is, alloc) )
+		{
+			return readMatrix(reader, rlen, clen);
+		}
+	}
+
+	private static MatrixBlock readMatrix(ArrowReader reader, long rlen, long clen) throws IOException {
+		MatrixBlock ret = ArrowUtils.readMatrix(reader);
+		if( (rlen >= 0 && rlen != ret.getNumRows()) || (clen >= 0 && clen != ret.getNumColumns()) )
+			throw new DMLRuntimeException("Read matrix dimensions differ from meta data: [" + ret.getNumRows() + "x"
+				+ ret.getNumColumns() + "] vs. [" + rlen + "x" + clen + "].");
+		return ret;
+	}
+}
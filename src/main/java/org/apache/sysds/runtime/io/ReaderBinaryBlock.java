@@ -68,8 +68,9 @@ public class ReaderBinaryBlock extends MatrixReader
 		//check existence and non-empty file
 		checkValidInputFile(fs, path); 
 	
-		//core read 
-		readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, blen);
+		//core read (memory-mapped if local file w/ block index)
+		if( !BinaryBlockMappedReader.readMatrix(path, fs, ret, rlen, clen, blen, 1) )
+			readBinaryBlockMatrixFromHDFS(path, job, fs, ret, rlen, clen, blen);
 		
 		//finally check if change of sparse/dense block representation required
 		if( !AGGREGATE_BLOCK_NNZ )
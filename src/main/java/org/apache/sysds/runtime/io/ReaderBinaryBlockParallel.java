@@ -34,6 +34,7 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.plan.PanelCompressor;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -60,9 +61,6 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		if( RETURN_EMPTY_NNZ0 && estnnz == 0 )
 			return new MatrixBlock((int)rlen, (int)clen, true);
 		
-		//allocate output matrix block (incl block allocation for parallel)
-		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, blen, estnnz, true, true);
-		
 		//prepare file access
 		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
 		Path path = new Path( (_localFS ? "file:///" : "") + fname); 
@@ -71,11 +69,19 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		//check existence and non-empty file
 		checkValidInputFile(fs, path); 
 		
-		//core read
+		//compressed read (w/o materializing the uncompressed matrix)
+		if( isCompressOnRead(rlen, clen) )
+			return readCompressedBinaryBlockMatrixFromHDFS(path, job, fs, rlen, clen, blen, estnnz);
+		
+		//allocate output matrix block (incl block allocation for parallel)
+		MatrixBlock ret = createOutputMatrixBlock(rlen, clen, blen, estnnz, true, true);
+		
+		//core read (memory-mapped if local file w/ block index)
 		int numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
 		long numBlocks = (long)Math.ceil((double)rlen / blen);
-		readBinaryBlockMatrixFromHDFS(path, job, fs, ret,
-			rlen, clen, blen, numThreads<=numBlocks);
+		if( !BinaryBlockMappedReader.readMatrix(path, fs, ret, rlen, clen, blen, numThreads) )
+			readBinaryBlockMatrixFromHDFS(path, job, fs, ret,
+				rlen, clen, blen, numThreads<=numBlocks);
 		
 		//finally check if change of sparse/dense block representation required
 		if( !AGGREGATE_BLOCK_NNZ )
@@ -123,6 +129,164 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		}
 	}
 
+	private static MatrixBlock readCompressedBinaryBlockMatrixFromHDFS( Path path, JobConf job, FileSystem fs,
+			long rlen, long clen, int blen, long estnnz )
+		throws IOException, DMLRuntimeException
+	{
+		//set up preferred custom serialization framework for binary block format
+		if( HDFSTool.USE_BINARYBLOCK_SERIALIZATION )
+			HDFSTool.addBinaryBlockSerializationFramework( job );
+		
+		//assemble block rows into panels, which are compressed once complete
+		boolean sparse = MatrixBlock.evalSparseFormatInMemory(rlen, clen, (estnnz < 0) ? rlen*clen : estnnz);
+		PanelCompressor compressor = new PanelCompressor((int)rlen, (int)clen, _numThreads);
+		BlockRowPanels panels = new BlockRowPanels(compressor, rlen, clen, blen, sparse);
+		
+		ExecutorService pool = CommonThreadPool.get(_numThreads);
+		try {
+			ArrayList<ReadPanelsTask> tasks = new ArrayList<>();
+			for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) )
+				tasks.add(new ReadPanelsTask(lpath, job, panels, blen));
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+		}
+		catch (Exception e) {
+			throw new IOException("Failed parallel compressed read of binary block input.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+		
+		//add incomplete block rows (e.g., w/o written empty blocks)
+		panels.addIncomplete();
+		return compressor.finish();
+	}
+
+	/**
+	 * Row panels of block rows, which are passed to the panel compressor once all column blocks of a block row
+	 * are read. Since part files are typically written in block row order, only few panels exist at a time.
+	 */
+	private static class BlockRowPanels
+	{
+		private final PanelCompressor _compressor;
+		private final long _rlen, _clen;
+		private final int _blen;
+		private final boolean _sparse;
+		private final int _ncb;
+		private final MatrixBlock[] _panels;
+		private final int[] _blocks;
+		
+		public BlockRowPanels(PanelCompressor compressor, long rlen, long clen, int blen, boolean sparse) {
+			_compressor = compressor;
+			_rlen = rlen;
+			_clen = clen;
+			_blen = blen;
+			_sparse = sparse;
+			_ncb = (int)Math.ceil((double)clen / blen);
+			_panels = new MatrixBlock[(int)Math.ceil((double)rlen / blen)];
+			_blocks = new int[_panels.length];
+		}
+		
+		public boolean isSparse() {
+			return _sparse;
+		}
+		
+		public void add(MatrixIndexes key, MatrixBlock value) throws IOException {
+			int brix = (int)key.getRowIndex()-1;
+			int row_offset = brix*_blen;
+			int col_offset = (int)(key.getColumnIndex()-1)*_blen;
+			int rows = value.getNumRows();
+			int cols = value.getNumColumns();
+			
+			//bound check per block
+			if( row_offset + rows < 0 || row_offset + rows > _rlen 
+				|| col_offset + cols<0 || col_offset + cols > _clen ) {
+				throw new IOException("Matrix block ["+(row_offset+1)+":"
+					+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
+					"out of overall matrix range [1:"+_rlen+",1:"+_clen+"].");
+			}
+			
+			MatrixBlock panel = null;
+			synchronized( this ) {
+				if( _panels[brix] == null )
+					_panels[brix] = createPanel(brix);
+				//copy block to panel (empty block filter)
+				if( !value.isEmptyBlock(false) ) {
+					if( _sparse )
+						_panels[brix].appendToSparse(value, 0, col_offset);
+					else
+						_panels[brix].copy(0, rows-1, col_offset, col_offset+cols-1, value, false);
+				}
+				if( ++_blocks[brix] == _ncb ) {
+					panel = _panels[brix];
+					_panels[brix] = null;
+				}
+			}
+			
+			//compress complete panel (outside lock to overlap with reads)
+			if( panel != null )
+				addPanel(brix, panel);
+		}
+		
+		public void addIncomplete() {
+			for( int i=0; i<_panels.length; i++ )
+				if( _blocks[i] < _ncb )
+					addPanel(i, (_panels[i] != null) ? _panels[i] : 
+						new MatrixBlock(getPanelRows(i), (int)_clen, true));
+		}
+		
+		private MatrixBlock createPanel(int brix) {
+			MatrixBlock panel = new MatrixBlock(getPanelRows(brix), (int)_clen, _sparse);
+			panel.allocateBlock();
+			return panel;
+		}
+		
+		private int getPanelRows(int brix) {
+			return (int)Math.min(_blen, _rlen - (long)brix*_blen);
+		}
+		
+		private void addPanel(int brix, MatrixBlock panel) {
+			//note: append requires final sort
+			if( panel.isInSparseFormat() && _clen > _blen )
+				panel.sortSparseRows();
+			panel.recomputeNonZeros();
+			_compressor.addPanel(brix*_blen, panel);
+		}
+	}
+
+	private static class ReadPanelsTask implements Callable<Object> 
+	{
+		private final Path _path;
+		private final JobConf _job;
+		private final BlockRowPanels _panels;
+		private final int _blen;
+		
+		public ReadPanelsTask(Path path, JobConf job, BlockRowPanels panels, int blen) {
+			_path = path;
+			_job = job;
+			_panels = panels;
+			_blen = blen;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			MatrixIndexes key = new MatrixIndexes(); 
+			MatrixBlock value = getReuseBlock(_blen, _panels.isSparse());
+			
+			//directly read from sequence files (individual partfiles)
+			final Reader reader = new SequenceFile
+				.Reader(_job, SequenceFile.Reader.file(_path));
+			try {
+				while( reader.next(key, value) )
+					_panels.add(key, value);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+			return null;
+		}
+	}
+
 	private static class ReadFileTask implements Callable<Object> 
 	{
 		private final Path _path;
@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -33,8 +34,11 @@ import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.io.hdf5.H5;
+import org.apache.sysds.runtime.io.hdf5.H5Chunk;
+import org.apache.sysds.runtime.io.hdf5.H5ChunkedDataset;
 import org.apache.sysds.runtime.io.hdf5.H5Constants;
 import org.apache.sysds.runtime.io.hdf5.H5ContiguousDataset;
+import org.apache.sysds.runtime.io.hdf5.H5Dataset;
 import org.apache.sysds.runtime.io.hdf5.H5RootObject;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
@@ -113,8 +117,10 @@ public class ReaderHDF5 extends MatrixReader {
 		//actual read of individual files
 		long lnnz = 0;
 		for(int fileNo = 0; fileNo < files.size(); fileNo++) {
+			// buffer the entire file (chunked files might exceed the raw data size)
+			long flen = fs.getFileStatus(files.get(fileNo)).getLen();
 			BufferedInputStream bis = new BufferedInputStream(fs.open(files.get(fileNo)),
-				(int) (H5Constants.STATIC_HEADER_SIZE + (clen * rlen * 8)));
+				(int) Math.max(flen, H5Constants.STATIC_HEADER_SIZE + (clen * rlen * 8)));
 			lnnz += readMatrixFromHDF5(bis, datasetName, dest, 0, rlen, clen, blen);
 		}
 		//post processing
@@ -128,12 +134,27 @@ public class ReaderHDF5 extends MatrixReader {
 		bis.mark(0);
 		long lnnz = 0;
 		H5RootObject rootObject = H5.H5Fopen(bis);
-		H5ContiguousDataset contiguousDataset = H5.H5Dopen(rootObject, datasetName);
+		H5Dataset dataset = H5.H5Dopen(rootObject, datasetName);
 
 		int[] dims = rootObject.getDimensions();
 		int ncol = dims[1];
 
 		DenseBlock denseBlock = dest.getDenseBlock();
+		if(dataset instanceof H5ChunkedDataset) {
+			// read all chunks overlapping the row range
+			H5ChunkedDataset chunkedDataset = (H5ChunkedDataset) dataset;
+			double[] data = new double[chunkedDataset.getChunkLength()];
+			for(H5Chunk chunk : chunkedDataset.getChunks()) {
+				if(!isChunkInRowRange(chunkedDataset, chunk, row, (int) rlen))
+					continue;
+				H5.H5Dread(chunkedDataset, chunk, data);
+				lnnz += copyChunk(chunkedDataset, chunk, data, denseBlock, row, (int) rlen, ncol);
+			}
+			IOUtilFunctions.closeSilently(bis);
+			return lnnz;
+		}
+
+		H5ContiguousDataset contiguousDataset = (H5ContiguousDataset) dataset;
 		double[] data = new double[ncol];
 		for(int i = row; i < rlen; i++) {
 			H5.H5Dread(contiguousDataset, i, data);
@@ -149,21 +170,61 @@ public class ReaderHDF5 extends MatrixReader {
 		return lnnz;
 	}
 
+	protected static boolean isChunkInRowRange(H5ChunkedDataset dataset, H5Chunk chunk, int rl, int ru) {
+		long r0 = chunk.getOffset()[0];
+		return r0 < ru && r0 + dataset.getChunkDims()[0] > rl;
+	}
+
+	/**
+	 * Copies the intersection of a decoded chunk and the row range [rl, ru) into the
+	 * dense output block. Chunks are padded to the chunk dimensions at the boundaries.
+	 *
+	 * @param dataset chunked dataset
+	 * @param chunk   chunk meta data
+	 * @param data    decoded chunk values
+	 * @param dest    dense output block
+	 * @param rl      row lower bound (inclusive)
+	 * @param ru      row upper bound (exclusive)
+	 * @param clen    number of columns
+	 * @return number of non-zeros copied
+	 */
+	protected static long copyChunk(H5ChunkedDataset dataset, H5Chunk chunk, double[] data, DenseBlock dest,
+		int rl, int ru, int clen) {
+		int[] chunkDims = dataset.getChunkDims();
+		int r0 = (int) chunk.getOffset()[0];
+		int c0 = (int) chunk.getOffset()[1];
+		int rend = Math.min(r0 + chunkDims[0], ru);
+		int cend = Math.min(c0 + chunkDims[1], clen);
+		long lnnz = 0;
+		for(int i = Math.max(r0, rl); i < rend; i++) {
+			double[] avals = dest.values(i);
+			int apos = dest.pos(i);
+			int cix = (i - r0) * chunkDims[1] - c0;
+			for(int j = c0; j < cend; j++) {
+				double v = data[cix + j];
+				avals[apos + j] = v;
+				lnnz += (v != 0) ? 1 : 0;
+			}
+		}
+		return lnnz;
+	}
+
 	public static MatrixBlock computeHDF5Size(List<Path> files, FileSystem fs, String datasetName)
 		throws IOException, DMLRuntimeException {
 		int nrow = 0;
 		int ncol = 0;
 		for(int fileNo = 0; fileNo < files.size(); fileNo++) {
 
-			BufferedInputStream bis = new BufferedInputStream(fs.open(files.get(fileNo)));
-			H5RootObject rootObject = H5.H5Fopen(bis);
+			// seek-based header read, which is independent of the header and index layout
+			FSDataInputStream in = fs.open(files.get(fileNo));
+			H5RootObject rootObject = H5.H5Fopen(in);
 			H5.H5Dopen(rootObject, datasetName);
 
 			int[] dims = rootObject.getDimensions();
 			nrow += dims[0];
 			ncol += dims[1];
 
-			IOUtilFunctions.closeSilently(bis);
+			IOUtilFunctions.closeSilently(in);
 		}
 		// allocate target matrix block based on given size;
 		return createOutputMatrixBlock(nrow, ncol, nrow, (long) nrow * ncol, true, false);
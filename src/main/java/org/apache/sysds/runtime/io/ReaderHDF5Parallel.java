@@ -19,6 +19,7 @@
 
 package org.apache.sysds.runtime.io;
 
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapred.FileInputFormat;
@@ -27,7 +28,12 @@ import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.io.hdf5.H5;
+import org.apache.sysds.runtime.io.hdf5.H5Chunk;
+import org.apache.sysds.runtime.io.hdf5.H5ChunkedDataset;
 import org.apache.sysds.runtime.io.hdf5.H5Constants;
+import org.apache.sysds.runtime.io.hdf5.H5Dataset;
+import org.apache.sysds.runtime.io.hdf5.H5RootObject;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 import java.io.BufferedInputStream;
@@ -72,32 +78,57 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 		MatrixBlock src = computeHDF5Size(files, fs, _props.getDatasetName());
 
 		//create and execute tasks
+		long lnnz = 0;
+		FSDataInputStream in = fs.open(path);
 		try {
+			H5RootObject rootObject = H5.H5Fopen(in);
+			H5Dataset dataset = H5.H5Dopen(rootObject, _props.getDatasetName());
+
 			ExecutorService pool = CommonThreadPool.get(_numThreads);
-			int bufferSize = (src.getNumColumns() * src.getNumRows()) * 8 + H5Constants.STATIC_HEADER_SIZE;
-			ArrayList<ReadHDF5Task> tasks = new ArrayList<>();
-			rlen = src.getNumRows();
-			int blklen = (int) Math.ceil((double) rlen / _numThreads);
-			for(int i = 0; i < _numThreads & i * blklen < rlen; i++) {
-				int rl = i * blklen;
-				int ru = (int) Math.min((i + 1) * blklen, rlen);
-				BufferedInputStream bis = new BufferedInputStream(fs.open(path), bufferSize);
-
-				//BufferedInputStream bis, String datasetName, MatrixBlock src, MutableInt rl, int ru
-				tasks.add(new ReadHDF5Task(bis, _props.getDatasetName(), src, rl, ru));
+			List<Callable<Long>> tasks = new ArrayList<>();
+			if(dataset instanceof H5ChunkedDataset) {
+				// parallel read and decode of disjoint groups of chunks (row-major order)
+				H5ChunkedDataset chunkedDataset = (H5ChunkedDataset) dataset;
+				List<H5Chunk> chunks = chunkedDataset.getChunks();
+				int blklen = (int) Math.ceil((double) chunks.size() / _numThreads);
+				for(int i = 0; i < _numThreads & i * blklen < chunks.size(); i++)
+					tasks.add(new ReadHDF5ChunksTask(fs, path, chunkedDataset,
+						chunks.subList(i * blklen, Math.min((i + 1) * blklen, chunks.size())), src));
+			}
+			else {
+				long flen = fs.getFileStatus(path).getLen();
+				int bufferSize = (int) Math.max(flen,
+					(long) src.getNumColumns() * src.getNumRows() * 8 + H5Constants.STATIC_HEADER_SIZE);
+				rlen = src.getNumRows();
+				int blklen = (int) Math.ceil((double) rlen / _numThreads);
+				for(int i = 0; i < _numThreads & i * blklen < rlen; i++) {
+					int rl = i * blklen;
+					int ru = (int) Math.min((i + 1) * blklen, rlen);
+					BufferedInputStream bis = new BufferedInputStream(fs.open(path), bufferSize);
+
+					//BufferedInputStream bis, String datasetName, MatrixBlock src, MutableInt rl, int ru
+					tasks.add(new ReadHDF5Task(bis, _props.getDatasetName(), src, rl, ru));
+				}
 			}
 
 			//wait until all tasks have been executed
-			List<Future<Object>> rt = pool.invokeAll(tasks);
+			List<Future<Long>> rt = pool.invokeAll(tasks);
 			pool.shutdown();
 
-			//check for exceptions
-			for(Future<Object> task : rt)
-				task.get();
+			//check for exceptions and aggregate nnz
+			for(Future<Long> task : rt)
+				lnnz += task.get();
 		}
 		catch(Exception e) {
 			throw new IOException("Failed parallel read of HDF5 input.", e);
 		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+
+		//post processing
+		src.setNonZeros(lnnz);
+		src.examSparsity();
 		return src;
 	}
 
@@ -108,7 +139,7 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 		return new ReaderHDF5(_props).readMatrixFromInputStream(is, rlen, clen, blen, estnnz);
 	}
 
-	private static class ReadHDF5Task implements Callable<Object> {
+	private static class ReadHDF5Task implements Callable<Long> {
 
 		private final BufferedInputStream _bis;
 		private final String _datasetName;
@@ -125,9 +156,45 @@ public class ReaderHDF5Parallel extends ReaderHDF5 {
 		}
 
 		@Override
-		public Object call() throws IOException {
-			readMatrixFromHDF5(_bis, _datasetName, _src, _rl, _ru, 0, 0);
-			return null;
+		public Long call() throws IOException {
+			return readMatrixFromHDF5(_bis, _datasetName, _src, _rl, _ru, 0, 0);
+		}
+	}
+
+	private static class ReadHDF5ChunksTask implements Callable<Long> {
+
+		private final FileSystem _fs;
+		private final Path _path;
+		private final H5ChunkedDataset _dataset;
+		private final List<H5Chunk> _chunks;
+		private final MatrixBlock _src;
+
+		public ReadHDF5ChunksTask(FileSystem fs, Path path, H5ChunkedDataset dataset, List<H5Chunk> chunks,
+			MatrixBlock src) {
+			_fs = fs;
+			_path = path;
+			_dataset = dataset;
+			_chunks = chunks;
+			_src = src;
+		}
+
+		@Override
+		public Long call() throws IOException {
+			long lnnz = 0;
+			int rlen = _src.getNumRows();
+			int clen = _src.getNumColumns();
+			double[] data = new double[_dataset.getChunkLength()];
+			// private stream per task, chunks are read with seek and read
+			try(FSDataInputStream in = _fs.open(_path)) {
+				for(H5Chunk chunk : _chunks) {
+					byte[] raw = new byte[chunk.getSize()];
+					in.seek(chunk.getAddress());
+					in.readFully(raw);
+					_dataset.decodeChunk(raw, chunk.getFilterMask(), data);
+					lnnz += copyChunk(_dataset, chunk, data, _src.getDenseBlock(), 0, rlen, clen);
+				}
+			}
+			return lnnz;
 		}
 	}
 }
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReadStore;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Reader for matrices in parquet format, which decodes the (projected) numeric
+ * columns of all row groups in parallel directly into a dense output block.
+ * Boolean columns are decoded as 0/1, and null values as NaN.
+ */
+public class ReaderParquet extends MatrixReader {
+	private final String[] _columns;
+	private final int _numThreads;
+
+	public ReaderParquet() {
+		this(null, OptimizerUtils.getParallelBinaryReadParallelism());
+	}
+
+	/**
+	 * Creates a parquet matrix reader with column projection.
+	 *
+	 * @param columns    column names to read, or null for all columns
+	 * @param numThreads degree of parallelism over row groups
+	 */
+	public ReaderParquet(String[] columns, int numThreads) {
+		_columns = columns;
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// obtain projected schema and row groups of all files
+		List<Path> files = ParquetUtils.getFilePaths(fs, path);
+		MessageType projection = ParquetUtils.getProjection(ParquetUtils.readSchema(files.get(0), job), _columns);
+		for( Type field : projection.getFields() )
+			if( ParquetUtils.getValueType(field.asPrimitiveType()) == ValueType.STRING )
+				throw new IOException("Unsupported non-numeric parquet column for matrix read: " + field);
+		List<RowGroup> rgs = ParquetUtils.getRowGroups(files, job);
+		int nrow = rgs.isEmpty() ? 0 : rgs.get(rgs.size() - 1).rl + rgs.get(rgs.size() - 1).nrow;
+		int ncol = projection.getFieldCount();
+		if( (rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol) )
+			throw new DMLRuntimeException("Read matrix dimensions differ from meta data: [" + nrow + "x" + ncol
+				+ "] vs. [" + rlen + "x" + clen + "].");
+
+		// allocate dense output, converted to sparse if necessary after the read
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, blen, (long) nrow * ncol, true, false);
+
+		// core read (sequential/parallel over row groups)
+		ArrayList<ReadRowGroupTask> tasks = new ArrayList<>();
+		for( RowGroup rg : rgs )
+			tasks.add(new ReadRowGroupTask(job, rg, projection, ret));
+		long nnz = 0;
+		try {
+			if( _numThreads <= 1 || tasks.size() <= 1 ) {
+				for( ReadRowGroupTask task : tasks )
+					nnz += task.call();
+			}
+			else {
+				ExecutorService pool = CommonThreadPool.get(Math.min(_numThreads, tasks.size()));
+				try {
+					for( Future<Long> task : pool.invokeAll(tasks) )
+						nnz += task.get();
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+		catch(IOException ex) {
+			throw ex;
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel read of parquet input.", ex);
+		}
+
+		// finally check if change of sparse/dense block representation required
+		ret.setNonZeros(nnz);
+		ret.examSparsity();
+		return ret;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+
+	private static void readColumn(ColumnReader cr, DenseBlock dest, int c, int rl, int ru) {
+		final int maxDef = cr.getDescriptor().getMaxDefinitionLevel();
+		switch( cr.getDescriptor().getPrimitiveType().getPrimitiveTypeName() ) {
+			case DOUBLE:
+				for( int i = rl; i < ru; i++, cr.consume() )
+					dest.values(i)[dest.pos(i) + c] = (cr.getCurrentDefinitionLevel() == maxDef) ?
+						cr.getDouble() : Double.NaN;
+				break;
+			case FLOAT:
+				for( int i = rl; i < ru; i++, cr.consume() )
+					dest.values(i)[dest.pos(i) + c] = (cr.getCurrentDefinitionLevel() == maxDef) ?
+						cr.getFloat() : Double.NaN;
+				break;
+			case INT32:
+				for( int i = rl; i < ru; i++, cr.consume() )
+					dest.values(i)[dest.pos(i) + c] = (cr.getCurrentDefinitionLevel() == maxDef) ?
+						cr.getInteger() : Double.NaN;
+				break;
+			case INT64:
+				for( int i = rl; i < ru; i++, cr.consume() )
+					dest.values(i)[dest.pos(i) + c] = (cr.getCurrentDefinitionLevel() == maxDef) ?
+						cr.getLong() : Double.NaN;
+				break;
+			case BOOLEAN:
+				for( int i = rl; i < ru; i++, cr.consume() )
+					dest.values(i)[dest.pos(i) + c] = (cr.getCurrentDefinitionLevel() == maxDef) ?
+						(cr.getBoolean() ? 1 : 0) : Double.NaN;
+				break;
+			default:
+				throw new DMLRuntimeException("Unsupported parquet column type: " + cr.getDescriptor());
+		}
+	}
+
+	private static class ReadRowGroupTask implements Callable<Long> {
+		private final JobConf _job;
+		private final RowGroup _rg;
+		private final MessageType _projection;
+		private final MatrixBlock _dest;
+
+		public ReadRowGroupTask(JobConf job, RowGroup rg, MessageType projection, MatrixBlock dest) {
+			_job = job;
+			_rg = rg;
+			_projection = projection;
+			_dest = dest;
+		}
+
+		@Override
+		public Long call() throws IOException {
+			try( ParquetFileReader reader = ParquetUtils.openReader(_rg.file, _job) ) {
+				ColumnReadStore store = ParquetUtils.readRowGroup(reader, _rg, _projection);
+				List<ColumnDescriptor> cols = _projection.getColumns();
+				DenseBlock db = _dest.getDenseBlock();
+				for( int j = 0; j < cols.size(); j++ )
+					readColumn(store.getColumnReader(cols.get(j)), db, j, _rg.rl, _rg.rl + _rg.nrow);
+			}
+			return (_rg.nrow > 0) ? _dest.recomputeNonZeros(_rg.rl, _rg.rl + _rg.nrow - 1) : 0;
+		}
+	}
+}
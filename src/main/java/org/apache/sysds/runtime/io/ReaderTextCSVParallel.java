@@ -40,12 +40,14 @@ import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.plan.PanelCompressor;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseRow;
 import org.apache.sysds.runtime.io.IOUtilFunctions.CountRowsTask;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
 /**
@@ -57,6 +59,9 @@ import org.apache.sysds.runtime.util.UtilFunctions;
  * 
  */
 public class ReaderTextCSVParallel extends MatrixReader {
+	/** Target split size of compressed reads (in bytes), which bounds the size of uncompressed row panels */
+	private static final long COMPRESS_SPLIT_SIZE = 16L * 1024 * 1024;
+
 	final private int _numThreads;
 
 	protected final FileFormatPropertiesCSV _props;
@@ -86,17 +91,24 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		TextInputFormat informat = new TextInputFormat();
 		informat.configure(_job);
 
-		InputSplit[] splits = informat.getSplits(_job, _numThreads);
-		splits = IOUtilFunctions.sortInputSplits(splits);
-
 		// check existence and non-empty file
 		checkValidInputFile(fs, path);
 
+		// smaller splits for compressed reads, which parse each split into an uncompressed row panel
+		int numSplits = _numThreads;
+		if(isCompressOnRead())
+			numSplits = (int) Math.max(_numThreads,
+				Math.min(Integer.MAX_VALUE, HDFSTool.getFilesizeOnHDFS(path) / COMPRESS_SPLIT_SIZE));
+		InputSplit[] splits = informat.getSplits(_job, numSplits);
+		splits = IOUtilFunctions.sortInputSplits(splits);
+
 		// allocate output matrix block
 		// First Read Pass (count rows/cols, determine offsets, allocate matrix block)
 		MatrixBlock ret = computeCSVSizeAndCreateOutputMatrixBlock(splits, path, rlen, clen, blen, estnnz);
 
-		// Second Read Pass (read, parse strings, append to matrix block)
+		// Second Read Pass (read, parse strings, append to matrix block or compress row panels)
+		if(ret == null)
+			return readCompressedCSVMatrixFromHDFS(splits, path);
 		readCSVMatrixFromHDFS(splits, path, ret);
 
 		// post-processing (representation-specific, change of sparse/dense block representation)
@@ -131,18 +143,8 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			// create read tasks for all splits
 			ArrayList<Callable<Long>> tasks = new ArrayList<>();
 			int splitCount = 0;
-			for(InputSplit split : splits) {
-				if(dest.isInSparseFormat() && _props.getNAStrings() != null)
-					tasks.add(new CSVReadSparseNanTask(split, informat, dest, splitCount++));
-				else if(dest.isInSparseFormat() && _props.getFillValue() == 0)
-					tasks.add(new CSVReadSparseNoNanTaskAndFill(split, informat, dest, splitCount++));
-				else if(dest.isInSparseFormat())
-					tasks.add(new CSVReadSparseNoNanTask(split, informat, dest, splitCount++));
-				else if(_props.getNAStrings() != null)
-					tasks.add(new CSVReadDenseNanTask(split, informat, dest, splitCount++));
-				else
-					tasks.add(new CSVReadDenseNoNanTask(split, informat, dest, splitCount++));
-			}
+			for(InputSplit split : splits)
+				tasks.add(createReadTask(split, informat, dest, splitCount++));
 
 			// check return codes and aggregate nnz
 			long lnnz = 0;
@@ -157,6 +159,56 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		}
 	}
 
+	private MatrixBlock readCompressedCSVMatrixFromHDFS(InputSplit[] splits, Path path) throws IOException {
+
+		FileInputFormat.addInputPath(_job, path);
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(_job);
+
+		final PanelCompressor compressor = new PanelCompressor(_rLen, _cLen, _numThreads);
+		ExecutorService pool = CommonThreadPool.get(_numThreads);
+
+		try {
+			// create read tasks for all non-empty splits, each parsed into a row panel
+			ArrayList<Callable<Long>> tasks = new ArrayList<>();
+			int rows = 0;
+			for(int i = 0; i < splits.length; i++) {
+				final int len = _offsets.getLenghtPerSplit(i);
+				if(len > 0) {
+					MatrixBlock panel = new MatrixBlock(len, _cLen, false);
+					tasks.add(new CSVReadPanelTask(createReadTask(splits[i], informat, panel, i), compressor));
+				}
+				rows += len;
+			}
+
+			// check return codes
+			for(Future<Long> rt : pool.invokeAll(tasks))
+				rt.get();
+			pool.shutdown();
+
+			// padding of rows if the given dimensions are larger
+			if(rows < _rLen)
+				compressor.addPanel(rows, new MatrixBlock(_rLen - rows, _cLen, true));
+		}
+		catch(Exception e) {
+			throw new IOException("Thread pool issue, while parallel compressed read.", e);
+		}
+		return compressor.finish();
+	}
+
+	private CSVReadTask createReadTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
+		if(dest.isInSparseFormat() && _props.getNAStrings() != null)
+			return new CSVReadSparseNanTask(split, informat, dest, splitCount);
+		else if(dest.isInSparseFormat() && _props.getFillValue() == 0)
+			return new CSVReadSparseNoNanTaskAndFill(split, informat, dest, splitCount);
+		else if(dest.isInSparseFormat())
+			return new CSVReadSparseNoNanTask(split, informat, dest, splitCount);
+		else if(_props.getNAStrings() != null)
+			return new CSVReadDenseNanTask(split, informat, dest, splitCount);
+		else
+			return new CSVReadDenseNoNanTask(split, informat, dest, splitCount);
+	}
+
 	private MatrixBlock computeCSVSizeAndCreateOutputMatrixBlock(InputSplit[] splits,
 		Path path, long rlen, long clen, int blen, long estnnz) throws IOException, DMLRuntimeException {
 		_rLen = 0;
@@ -223,6 +275,10 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			}
 		}
 
+		// no target matrix block if compressed on read (row panels per split)
+		if(isCompressOnRead(_rLen, _cLen))
+			return null;
+
 		// allocate target matrix block based on given size;
 		// need to allocate sparse as well since lock-free insert into target
 		long estnnz2 = (estnnz < 0) ? (long) _rLen * _cLen : estnnz;
@@ -262,6 +318,8 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		protected final MatrixBlock _dest;
 		protected final boolean _isFirstSplit;
 		protected final int _splitCount;
+		/** row offset of the output in the matrix, non-zero if the output is a row panel of the split */
+		protected final int _rowOffset;
 
 		protected int _row = 0;
 		protected int _col = 0;
@@ -272,6 +330,7 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			_dest = dest;
 			_isFirstSplit = (splitCount == 0);
 			_splitCount = splitCount;
+			_rowOffset = (dest.getNumRows() == _rLen) ? 0 : _offsets.getOffsetPerSplit(splitCount);
 		}
 
 		@Override
@@ -287,7 +346,7 @@ public class ReaderTextCSVParallel extends MatrixReader {
 					reader.next(key, value);
 				}
 
-				_row = _offsets.getOffsetPerSplit(_splitCount);
+				_row = _offsets.getOffsetPerSplit(_splitCount) - _rowOffset;
 
 				long nnz = 0;
 				try {
@@ -301,8 +360,8 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			}
 			catch(Exception ex) {
 				// post-mortem error handling and bounds checking
-				if(_row < 0 || _row + 1 > _rLen || _col < 0 || _col + 1 > _cLen) {
-					String errMsg = "CSV cell [" + (_row + 1) + "," + (_col + 1) + "] "
+				if(_row < 0 || _rowOffset + _row + 1 > _rLen || _col < 0 || _col + 1 > _cLen) {
+					String errMsg = "CSV cell [" + (_rowOffset + _row + 1) + "," + (_col + 1) + "] "
 						+ "out of overall matrix range [1:" + _rLen + ",1:" + _cLen + "]. " + ex.getMessage();
 					throw new IOException(errMsg, ex);
 				}
@@ -318,14 +377,35 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			throws IOException;
 
 		protected void verifyRows(Text value) throws IOException {
-			if(_row != (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount))) {
-				throw new IOException("Incorrect number of rows (" + _row + ") found in delimited file ("
+			if(_rowOffset + _row != (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount))) {
+				throw new IOException("Incorrect number of rows (" + (_rowOffset + _row) + ") found in delimited file ("
 					+ (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount)) + "): "
 					+ value);
 			}
 		}
 	}
 
+	private static class CSVReadPanelTask implements Callable<Long> {
+		private final CSVReadTask _task;
+		private final PanelCompressor _compressor;
+
+		public CSVReadPanelTask(CSVReadTask task, PanelCompressor compressor) {
+			_task = task;
+			_compressor = compressor;
+		}
+
+		@Override
+		public Long call() throws Exception {
+			// allocate the panel on execution to bound the number of uncompressed panels
+			final MatrixBlock panel = _task._dest;
+			panel.allocateDenseBlock();
+			final long nnz = _task.call();
+			panel.setNonZeros(nnz);
+			_compressor.addPanel(_task._rowOffset, panel);
+			return nnz;
+		}
+	}
+
 	private class CSVReadDenseNoNanTask extends CSVReadTask {
 
 		public CSVReadDenseNoNanTask(InputSplit split, TextInputFormat informat, MatrixBlock dest, int splitCount) {
@@ -0,0 +1,495 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Single-pass parallel reader for matrices in text CSV format. In contrast to
+ * ReaderTextCSVParallel, which first counts the rows of all splits and then
+ * re-reads and tokenizes them, this reader partitions the input files into
+ * byte ranges, parses each range exactly once into a compact row panel (nonzeros
+ * in CSR layout), and finally stitches the panels into the output block once the
+ * row offsets and exact number of non-zeros are known. Lines are scanned directly
+ * on byte buffers (via FileChannel for local files, and positional reads otherwise),
+ * and cells are parsed with the allocation-free IOUtilFunctions.parseDouble.
+ *
+ * A range [start, end) owns all lines that start within the range, which allows
+ * splitting files at arbitrary byte positions. Compressed inputs are delegated
+ * to ReaderTextCSVParallel.
+ *
+ * The reader is opt-in (sysds.cp.csv.singlepass) because it does not support
+ * quoted fields with embedded delimiters or line breaks, and because all panels
+ * are held until the output is stitched, i.e., the peak memory of dense reads
+ * is up to about 2.5x the size of the output block.
+ */
+public class ReaderTextCSVSinglePass extends MatrixReader {
+	// max byte range per task (bounds the panel sizes, incl int nnz)
+	public static final long MAX_RANGE_SIZE = 512L * 1024 * 1024;
+	// initial read buffer size per task
+	private static final int BUFFER_SIZE = 1024 * 1024;
+
+	private final int _numThreads;
+	private final long _maxRangeSize;
+	protected final FileFormatPropertiesCSV _props;
+
+	public ReaderTextCSVSinglePass(FileFormatPropertiesCSV props) {
+		this(props, OptimizerUtils.getParallelTextReadParallelism());
+	}
+
+	public ReaderTextCSVSinglePass(FileFormatPropertiesCSV props, int numThreads) {
+		this(props, numThreads, MAX_RANGE_SIZE);
+	}
+
+	public ReaderTextCSVSinglePass(FileFormatPropertiesCSV props, int numThreads, long maxRangeSize) {
+		_numThreads = numThreads;
+		_maxRangeSize = maxRangeSize;
+		_props = props;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// prepare file paths in alphanumeric order
+		List<FileStatus> files = new ArrayList<>();
+		if( fs.getFileStatus(path).isDirectory() ) {
+			Collections.addAll(files, fs.listStatus(path, IOUtilFunctions.hiddenFileFilter));
+			Collections.sort(files);
+		}
+		else
+			files.add(fs.getFileStatus(path));
+
+		// fallback for compressed inputs, which cannot be split by byte ranges
+		CompressionCodecFactory codecs = new CompressionCodecFactory(job);
+		for( FileStatus f : files )
+			if( codecs.getCodec(f.getPath()) != null )
+				return new ReaderTextCSVParallel(_props).readMatrixFromHDFS(fname, rlen, clen, blen, estnnz);
+
+		// create byte range tasks in file order
+		long totalLen = 0;
+		for( FileStatus f : files )
+			totalLen += f.getLen();
+		long rangeLen = Math.min(_maxRangeSize,
+			Math.max(BUFFER_SIZE, (totalLen + _numThreads - 1) / _numThreads));
+		ArrayList<ParseRangeTask> tasks = new ArrayList<>();
+		for( int i = 0; i < files.size(); i++ ) {
+			FileStatus f = files.get(i);
+			for( long pos = 0; pos < f.getLen(); pos += rangeLen )
+				tasks.add(new ParseRangeTask(fs, f.getPath(), f.getLen(), pos,
+					Math.min(pos + rangeLen, f.getLen()), i == 0 && pos == 0 && _props.hasHeader(), clen));
+		}
+
+		// single read pass (parse byte ranges into panels)
+		ExecutorService pool = CommonThreadPool.get(_numThreads);
+		try {
+			ArrayList<CSVPanel> panels = new ArrayList<>();
+			for( Future<CSVPanel> f : pool.invokeAll(tasks) )
+				panels.add(f.get());
+
+			// compute row offsets, number of columns, and non-zeros
+			int nrow = 0, ncol = -1;
+			long nnz = 0;
+			int[] offsets = new int[panels.size()];
+			for( int i = 0; i < panels.size(); i++ ) {
+				CSVPanel p = panels.get(i);
+				if( p.ncol >= 0 && ncol < 0 )
+					ncol = p.ncol;
+				else if( p.ncol >= 0 && p.ncol != ncol )
+					throw new IOException("Invalid number of columns (" + p.ncol + ", expected=" + ncol + ") "
+						+ "found in delimited file (" + fname + ").");
+				offsets[i] = nrow;
+				nrow += p.nrow;
+				nnz += p.nnz;
+			}
+			ncol = Math.max(ncol, 0);
+
+			// robustness for wrong dimensions which are already compiled into the plan
+			int orlen = nrow, oclen = ncol;
+			if( (rlen != -1 && nrow != rlen) || (clen != -1 && ncol != clen) ) {
+				String msg = "Read matrix dimensions differ from meta data: [" + nrow + "x" + ncol + "] vs. [" + rlen
+					+ "x" + clen + "].";
+				if( rlen < nrow || clen < ncol )
+					throw new DMLRuntimeException(msg);
+				LOG.warn(msg);
+				orlen = (int) rlen;
+				oclen = (int) clen;
+			}
+
+			// allocate output with exact nnz and stitch panels in parallel
+			MatrixBlock ret = createOutputMatrixBlock(orlen, oclen, blen, nnz, true, false);
+			if( ret.isInSparseFormat() )
+				ret.allocateSparseRowsBlock();
+			ArrayList<Callable<Object>> ctasks = new ArrayList<>();
+			for( int i = 0; i < panels.size(); i++ )
+				ctasks.add(new CopyPanelTask(panels.get(i), ret, offsets[i]));
+			for( Future<Object> f : pool.invokeAll(ctasks) )
+				f.get();
+			ret.setNonZeros(nnz);
+			ret.examSparsity();
+			return ret;
+		}
+		catch(DMLRuntimeException ex) {
+			throw ex;
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed parallel single-pass read of text csv input.", ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException
+	{
+		// not implemented yet, fallback to sequential reader
+		return new ReaderTextCSV(_props).readMatrixFromInputStream(is, rlen, clen, blen, estnnz);
+	}
+
+	/**
+	 * Row panel of a parsed byte range, with the non-zero cells in CSR layout.
+	 */
+	private static class CSVPanel {
+		private int nrow = 0;
+		private int ncol = -1;
+		private int nnz = 0;
+		private int[] rptr;
+		private int[] cix;
+		private double[] vals;
+
+		public CSVPanel(int estnnz) {
+			rptr = new int[64];
+			cix = new int[Math.max(estnnz, 16)];
+			vals = new double[cix.length];
+		}
+
+		public void append(int c, double v) {
+			if( nnz == cix.length ) {
+				int newCap = (int) Math.min(Integer.MAX_VALUE - 8, (long) cix.length * 2);
+				cix = Arrays.copyOf(cix, newCap);
+				vals = Arrays.copyOf(vals, newCap);
+			}
+			cix[nnz] = c;
+			vals[nnz++] = v;
+		}
+
+		public void finishRow() {
+			if( nrow + 2 > rptr.length )
+				rptr = Arrays.copyOf(rptr, rptr.length * 2);
+			rptr[++nrow] = nnz;
+		}
+	}
+
+	private class ParseRangeTask implements Callable<CSVPanel> {
+		private final FileSystem _fs;
+		private final Path _path;
+		private final long _fileLen;
+		private final long _start;
+		private final long _end;
+		private final boolean _header;
+		private final long _clen;
+
+		// read buffer state: buf[0] corresponds to file position _bufPos,
+		// valid bytes are buf[0:_len), and the scan position is _off
+		private byte[] _buf;
+		private long _bufPos;
+		private int _off;
+		private int _len;
+		private int _lineBeg;
+		private int _lineEnd;
+		private FileChannel _channel;
+		private FSDataInputStream _in;
+
+		public ParseRangeTask(FileSystem fs, Path path, long fileLen, long start, long end, boolean header,
+			long clen) {
+			_fs = fs;
+			_path = path;
+			_fileLen = fileLen;
+			_start = start;
+			_end = end;
+			_header = header;
+			_clen = clen;
+		}
+
+		@Override
+		public CSVPanel call() throws Exception {
+			CSVPanel panel = new CSVPanel((int) Math.min((_end - _start) / 16, Integer.MAX_VALUE - 8));
+			try {
+				if( _fs instanceof LocalFileSystem )
+					_channel = FileChannel.open(((LocalFileSystem) _fs).pathToFile(_path).toPath(),
+						StandardOpenOption.READ);
+				else
+					_in = _fs.open(_path);
+				_buf = new byte[(int) Math.min(BUFFER_SIZE, _fileLen - Math.max(_start - 1, 0) + 1)];
+
+				// seek to the first line that starts within [start, end)
+				_bufPos = Math.max(_start - 1, 0);
+				if( _start > 0 )
+					nextLine();
+				if( _header )
+					nextLine();
+
+				// parse all lines that start before the end of the range
+				final byte[] delim = _props.getDelim().getBytes(StandardCharsets.UTF_8);
+				final byte[][] naStrings = toBytes(_props.getNAStrings());
+				while( _bufPos + _off < _end && nextLine() )
+					parseLine(panel, delim, naStrings);
+				return panel;
+			}
+			finally {
+				IOUtilFunctions.closeSilently(_channel);
+				IOUtilFunctions.closeSilently(_in);
+			}
+		}
+
+		private void parseLine(CSVPanel panel, byte[] delim, byte[][] naStrings) throws IOException {
+			final byte[] buf = _buf;
+			final boolean fill = _props.isFill();
+			final double fillValue = _props.getFillValue();
+
+			// trim line (consistent with String.trim)
+			int beg = _lineBeg, end = _lineEnd;
+			while( beg < end && (buf[beg] & 0xff) <= ' ' )
+				beg++;
+			while( end > beg && (buf[end - 1] & 0xff) <= ' ' )
+				end--;
+
+			// tokenize and parse cells (empty lines have zero cells)
+			int col = 0;
+			int pos = beg;
+			while( pos < end || (col > 0 && pos == end) ) {
+				int tend = indexOf(buf, pos, end, delim);
+				// trim cell
+				int cbeg = pos, cend = tend;
+				while( cbeg < cend && (buf[cbeg] & 0xff) <= ' ' )
+					cbeg++;
+				while( cend > cbeg && (buf[cend - 1] & 0xff) <= ' ' )
+					cend--;
+				double v;
+				if( cbeg == cend ) {
+					if( !fill )
+						IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(toString(beg, end), fill, true);
+					v = fillValue;
+				}
+				else if( naStrings != null && isNAString(buf, cbeg, cend, naStrings) )
+					v = Double.NaN;
+				else
+					v = IOUtilFunctions.parseDouble(buf, cbeg, cend);
+				if( v != 0 )
+					panel.append(col, v);
+				col++;
+				pos = tend + delim.length;
+				if( tend == end )
+					break;
+			}
+
+			// sanity check number of columns (consistent within and across panels)
+			if( panel.ncol < 0 )
+				panel.ncol = col;
+			if( col != panel.ncol || (_clen >= 0 && col > _clen) )
+				throw new IOException("Invalid number of columns (" + col + ", expected="
+					+ (panel.ncol != col ? panel.ncol : _clen) + ") found in delimited file ("
+					+ _path.toString() + ") for line: " + toString(beg, end));
+			panel.finishRow();
+		}
+
+		/**
+		 * Finds the next line (terminated by \n or end of file) and sets the line
+		 * boundaries, while refilling and growing the buffer as necessary.
+		 *
+		 * @return true if a line was found
+		 * @throws IOException if IOException occurs
+		 */
+		private boolean nextLine() throws IOException {
+			if( _off >= _len && !fillBuffer() )
+				return false;
+			int scanned = 0;
+			while( true ) {
+				for( int i = _off + scanned; i < _len; i++ )
+					if( _buf[i] == '\n' ) {
+						_lineBeg = _off;
+						_lineEnd = i;
+						_off = i + 1;
+						return true;
+					}
+				scanned = _len - _off;
+				if( !fillBuffer() ) { // last line w/o line terminator
+					_lineBeg = _off;
+					_lineEnd = _len;
+					_off = _len;
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * Compacts the unconsumed bytes to the begin of the buffer, grows the
+		 * buffer if it is full, and reads the next bytes from the file.
+		 *
+		 * @return true if additional bytes were read
+		 * @throws IOException if IOException occurs
+		 */
+		private boolean fillBuffer() throws IOException {
+			long filePos = _bufPos + _len;
+			if( filePos >= _fileLen )
+				return false;
+			if( _off > 0 ) {
+				System.arraycopy(_buf, _off, _buf, 0, _len - _off);
+				_bufPos += _off;
+				_len -= _off;
+				_off = 0;
+			}
+			if( _len == _buf.length )
+				_buf = Arrays.copyOf(_buf, _buf.length * 2);
+			int toRead = (int) Math.min(_buf.length - _len, _fileLen - filePos);
+			int read = 0;
+			while( read < toRead ) {
+				int n = (_channel != null) ?
+					_channel.read(ByteBuffer.wrap(_buf, _len + read, toRead - read), filePos + read) :
+					_in.read(filePos + read, _buf, _len + read, toRead - read);
+				if( n < 0 )
+					break;
+				read += n;
+			}
+			_len += read;
+			return read > 0;
+		}
+
+		private String toString(int beg, int end) {
+			return new String(_buf, beg, end - beg, StandardCharsets.UTF_8);
+		}
+	}
+
+	private static class CopyPanelTask implements Callable<Object> {
+		private final CSVPanel _panel;
+		private final MatrixBlock _dest;
+		private final int _rowOffset;
+
+		public CopyPanelTask(CSVPanel panel, MatrixBlock dest, int rowOffset) {
+			_panel = panel;
+			_dest = dest;
+			_rowOffset = rowOffset;
+		}
+
+		@Override
+		public Object call() {
+			final CSVPanel p = _panel;
+			if( _dest.isInSparseFormat() ) {
+				SparseBlock sb = _dest.getSparseBlock();
+				for( int i = 0; i < p.nrow; i++ ) {
+					int apos = p.rptr[i], alen = p.rptr[i + 1] - apos;
+					if( alen == 0 )
+						continue;
+					sb.allocate(_rowOffset + i, alen);
+					for( int k = apos; k < apos + alen; k++ )
+						sb.append(_rowOffset + i, p.cix[k], p.vals[k]);
+				}
+			}
+			else {
+				DenseBlock a = _dest.getDenseBlock();
+				for( int i = 0; i < p.nrow; i++ ) {
+					double[] avals = a.values(_rowOffset + i);
+					int aix = a.pos(_rowOffset + i);
+					for( int k = p.rptr[i]; k < p.rptr[i + 1]; k++ )
+						avals[aix + p.cix[k]] = p.vals[k];
+				}
+			}
+			// release panel memory early
+			p.cix = null;
+			p.vals = null;
+			return null;
+		}
+	}
+
+	private static int indexOf(byte[] buf, int beg, int end, byte[] delim) {
+		final byte d0 = delim[0];
+		for( int i = beg; i <= end - delim.length; i++ ) {
+			if( buf[i] != d0 )
+				continue;
+			boolean match = true;
+			for( int j = 1; j < delim.length && match; j++ )
+				match = buf[i + j] == delim[j];
+			if( match )
+				return i;
+		}
+		return end;
+	}
+
+	private static boolean isNAString(byte[] buf, int beg, int end, byte[][] naStrings) {
+		for( byte[] na : naStrings ) {
+			if( na.length != end - beg )
+				continue;
+			boolean match = true;
+			for( int j = 0; j < na.length && match; j++ )
+				match = buf[beg + j] == na[j];
+			if( match )
+				return true;
+		}
+		return false;
+	}
+
+	private static byte[][] toBytes(Set<String> naStrings) {
+		if( naStrings == null )
+			return null;
+		byte[][] ret = new byte[naStrings.size()][];
+		int i = 0;
+		for( String na : naStrings )
+			ret[i++] = na.getBytes(StandardCharsets.UTF_8);
+		return ret;
+	}
+}
@@ -22,8 +22,10 @@ package org.apache.sysds.runtime.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -38,11 +40,18 @@ import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.data.SparseBlockCSR;
 import org.apache.sysds.runtime.data.SparseRowVector;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 
 public class ReaderTextLIBSVMParallel extends MatrixReader {
+	// single read pass that parses splits into CSR panels, which are concatenated
+	// into a CSR block w/o per-row objects (otherwise count and MCSR read passes)
+	public static boolean READ_CSR = true;
+
 	private static FileFormatPropertiesLIBSVM _props;
 	private int _numThreads = 1;
 	private SplitOffsetInfos _offsets = null;
@@ -72,6 +81,9 @@ public class ReaderTextLIBSVMParallel extends MatrixReader {
 		// check existence and non-empty file
 		checkValidInputFile(fs, path);
 
+		if( READ_CSR )
+			return readLIBSVMMatrixFromHDFSToCSR(splits, job, informat, rlen, clen);
+
 		// allocate output matrix block
 		// First Read Pass (count rows/cols, determine offsets, allocate matrix block)
 		MatrixBlock ret = computeLIBSVMSizeAndCreateOutputMatrixBlock(splits, path, job, rlen, clen, estnnz);
@@ -175,6 +187,81 @@ public class ReaderTextLIBSVMParallel extends MatrixReader {
 			throw new IOException("Threadpool Error " + e.getMessage(), e);
 		}
 
+		//robustness for wrong dimensions which are already compiled into the plan
+		nrow = checkNumRows(nrow, ncol, rlen, clen);
+
+		// allocate target matrix block based on given size;
+		// need to allocate sparse as well since lock-free insert into target
+		long estnnz2 = (estnnz < 0) ? (long)nrow * ncol : estnnz;
+		return createOutputMatrixBlock(nrow, ncol, nrow, estnnz2, true, true);
+	}
+
+	private MatrixBlock readLIBSVMMatrixFromHDFSToCSR(InputSplit[] splits, JobConf job,
+			TextInputFormat informat, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		ExecutorService pool = CommonThreadPool.get(_numThreads);
+		try
+		{
+			// single read pass (parse splits into CSR panels)
+			ArrayList<LIBSVMParseTask> tasks = new ArrayList<>();
+			for (InputSplit split : splits)
+				tasks.add(new LIBSVMParseTask(split, informat, job, clen));
+			ArrayList<LIBSVMPanel> panels = new ArrayList<>();
+			for (Future<LIBSVMPanel> f : pool.invokeAll(tasks))
+				panels.add(f.get());
+
+			// compute row offsets and non-zeros
+			int nrow = 0;
+			long nnz = 0;
+			int[] offsets = new int[panels.size()];
+			for (int i = 0; i < panels.size(); i++) {
+				offsets[i] = nrow;
+				nrow += panels.get(i).nrow;
+				nnz += panels.get(i).nnz;
+			}
+			int ncol = (int) clen;
+			int orlen = checkNumRows(nrow, ncol, rlen, clen);
+
+			MatrixBlock ret = null;
+			if (nnz <= Integer.MAX_VALUE && MatrixBlock.evalSparseFormatInMemory(orlen, ncol, nnz)) {
+				// concatenate panels into a single CSR block
+				int[] rptr = new int[orlen + 1];
+				int[] cix = new int[(int) nnz];
+				double[] vals = new double[(int) nnz];
+				ArrayList<Callable<Object>> ctasks = new ArrayList<>();
+				for (int i = 0, noff = 0; i < panels.size(); noff += panels.get(i++).nnz)
+					ctasks.add(new CopyPanelToCSRTask(panels.get(i), rptr, cix, vals, offsets[i], noff));
+				for (Future<Object> f : pool.invokeAll(ctasks))
+					f.get();
+				Arrays.fill(rptr, nrow + 1, orlen + 1, (int) nnz); //padding
+				ret = new MatrixBlock(orlen, ncol, nnz, new SparseBlockCSR(rptr, cix, vals, (int) nnz));
+			}
+			else {
+				// copy panels into dense or MCSR block (e.g., nnz exceeding CSR)
+				ret = createOutputMatrixBlock(orlen, ncol, orlen, nnz, true, true);
+				ArrayList<Callable<Object>> ctasks = new ArrayList<>();
+				for (int i = 0; i < panels.size(); i++)
+					ctasks.add(new CopyPanelTask(panels.get(i), ret, offsets[i]));
+				for (Future<Object> f : pool.invokeAll(ctasks))
+					f.get();
+				ret.setNonZeros(nnz);
+			}
+			ret.examSparsity();
+			return ret;
+		}
+		catch (DMLRuntimeException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new IOException("Failed parallel read of libsvm input.", ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static int checkNumRows(int nrow, int ncol, long rlen, long clen) {
 		//robustness for wrong dimensions which are already compiled into the plan
 		if( (rlen != -1 && nrow != rlen) || (clen != -1 && ncol != clen) ) {
 			String msg = "Read matrix dimensions differ from meta data: ["+nrow+"x"+ncol+"] vs. ["+rlen+"x"+clen+"].";
@@ -182,18 +269,11 @@ public class ReaderTextLIBSVMParallel extends MatrixReader {
 				//a) specified matrix dimensions too small
 				throw new DMLRuntimeException(msg);
 			}
-			else {
-				//b) specified matrix dimensions too large -> padding and warning
-				LOG.warn(msg);
-				nrow = (int) rlen;
-				ncol = (int) clen;
-			}
+			//b) specified matrix dimensions too large -> padding and warning
+			LOG.warn(msg);
+			return (int) rlen;
 		}
-
-		// allocate target matrix block based on given size;
-		// need to allocate sparse as well since lock-free insert into target
-		long estnnz2 = (estnnz < 0) ? (long)nrow * ncol : estnnz;
-		return createOutputMatrixBlock(nrow, ncol, nrow, estnnz2, true, true);
+		return nrow;
 	}
 
 	private static class SplitOffsetInfos {
@@ -365,4 +445,143 @@ public class ReaderTextLIBSVMParallel extends MatrixReader {
 			return null;
 		}
 	}
+
+	/**
+	 * Row panel of a parsed split, with the non-zero cells in CSR layout.
+	 */
+	private static class LIBSVMPanel {
+		private int nrow = 0;
+		private int nnz = 0;
+		private int[] rptr = new int[64];
+		private int[] cix = new int[1024];
+		private double[] vals = new double[1024];
+
+		public void appendRow(SparseRowVector row) throws IOException {
+			int len = row.size();
+			if( (long) nnz + len > Integer.MAX_VALUE - 8 )
+				throw new IOException("Number of non-zeros per split exceeds CSR capacity.");
+			if( nnz + len > cix.length ) {
+				int newCap = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) cix.length * 2, nnz + len));
+				cix = Arrays.copyOf(cix, newCap);
+				vals = Arrays.copyOf(vals, newCap);
+			}
+			System.arraycopy(row.indexes(), 0, cix, nnz, len);
+			System.arraycopy(row.values(), 0, vals, nnz, len);
+			nnz += len;
+			if( nrow + 2 > rptr.length )
+				rptr = Arrays.copyOf(rptr, rptr.length * 2);
+			rptr[++nrow] = nnz;
+		}
+	}
+
+	private static class LIBSVMParseTask implements Callable<LIBSVMPanel>
+	{
+		private final InputSplit _split;
+		private final TextInputFormat _informat;
+		private final JobConf _job;
+		private final long _clen;
+
+		public LIBSVMParseTask(InputSplit split, TextInputFormat informat, JobConf job, long clen) {
+			_split = split;
+			_informat = informat;
+			_job = job;
+			_clen = clen;
+		}
+
+		@Override
+		public LIBSVMPanel call() throws Exception {
+			LIBSVMPanel panel = new LIBSVMPanel();
+			RecordReader<LongWritable, Text> reader = _informat.getRecordReader(_split, _job, Reporter.NULL);
+			LongWritable key = new LongWritable();
+			Text value = new Text();
+			SparseRowVector vect = new SparseRowVector(1024);
+			try {
+				while (reader.next(key, value)) { // foreach line
+					ReaderTextLIBSVM.parseLibsvmRow(value.toString().trim(),
+						vect, (int) _clen, _props.getDelim(), _props.getIndexDelim());
+					panel.appendRow(vect);
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+			return panel;
+		}
+	}
+
+	private static class CopyPanelToCSRTask implements Callable<Object>
+	{
+		private final LIBSVMPanel _panel;
+		private final int[] _rptr;
+		private final int[] _cix;
+		private final double[] _vals;
+		private final int _rowOffset;
+		private final int _nnzOffset;
+
+		public CopyPanelToCSRTask(LIBSVMPanel panel, int[] rptr, int[] cix, double[] vals,
+			int rowOffset, int nnzOffset)
+		{
+			_panel = panel;
+			_rptr = rptr;
+			_cix = cix;
+			_vals = vals;
+			_rowOffset = rowOffset;
+			_nnzOffset = nnzOffset;
+		}
+
+		@Override
+		public Object call() {
+			final LIBSVMPanel p = _panel;
+			for( int i = 1; i <= p.nrow; i++ )
+				_rptr[_rowOffset + i] = _nnzOffset + p.rptr[i];
+			System.arraycopy(p.cix, 0, _cix, _nnzOffset, p.nnz);
+			System.arraycopy(p.vals, 0, _vals, _nnzOffset, p.nnz);
+			// release panel memory early
+			p.cix = null;
+			p.vals = null;
+			return null;
+		}
+	}
+
+	private static class CopyPanelTask implements Callable<Object>
+	{
+		private final LIBSVMPanel _panel;
+		private final MatrixBlock _dest;
+		private final int _rowOffset;
+
+		public CopyPanelTask(LIBSVMPanel panel, MatrixBlock dest, int rowOffset) {
+			_panel = panel;
+			_dest = dest;
+			_rowOffset = rowOffset;
+		}
+
+		@Override
+		public Object call() {
+			final LIBSVMPanel p = _panel;
+			if( _dest.isInSparseFormat() ) {
+				SparseBlock sb = _dest.getSparseBlock();
+				for( int i = 0; i < p.nrow; i++ ) {
+					int apos = p.rptr[i], alen = p.rptr[i + 1] - apos;
+					if( alen == 0 )
+						continue;
+					sb.allocate(_rowOffset + i, alen);
+					for( int k = apos; k < apos + alen; k++ )
+						sb.append(_rowOffset + i, p.cix[k], p.vals[k]);
+				}
+			}
+			else {
+				DenseBlock a = _dest.getDenseBlock();
+				for( int i = 0; i < p.nrow; i++ ) {
+					double[] avals = a.values(_rowOffset + i);
+					int aix = a.pos(_rowOffset + i);
+					for( int k = p.rptr[i]; k < p.rptr[i + 1]; k++ )
+						avals[aix + p.cix[k]] = p.vals[k];
+				}
+			}
+			// release panel memory early
+			p.cix = null;
+			p.vals = null;
+			return null;
+		}
+	}
 }
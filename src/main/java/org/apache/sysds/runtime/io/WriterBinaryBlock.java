@@ -47,7 +47,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 		Path path = new Path(fname);
 		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
 
-		// if the file already exists on HDFS, remove it.
+		// if the file already exists on HDFS, remove it (incl block index).
 		HDFSTool.deleteFileIfExistOnHDFS(fname);
 
 		// set up preferred custom serialization framework for binary block format
@@ -98,7 +98,8 @@ public class WriterBinaryBlock extends MatrixWriter {
 		int rlen = src.getNumRows();
 		int clen = src.getNumColumns();
 
-		final Writer writer = IOUtilFunctions.getSeqWriter(path, job, _replication);
+		final Writer writer = IOUtilFunctions.getSeqWriter(path, job, _replication, getCodecSample(src, blen, rl, ru));
+		final BinaryBlockIndex index = BinaryBlockIndex.create(fs, writer);
 
 		try { // 2) bound check for src block
 			if(src.getNumRows() > rlen || src.getNumColumns() > clen) {
@@ -112,7 +113,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 			if(rlen <= blen && clen <= blen && rl == 0) { // opt for single block
 				// directly write single block
 				indexes.setIndexes(1, 1);
-				writer.append(indexes, src);
+				BinaryBlockIndex.append(writer, index, indexes, src);
 			}
 			else {
 				// general case
@@ -137,7 +138,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 
 						// append block to sequence file
 						indexes.setIndexes(blockRow + 1, blockCol + 1);
-						writer.append(indexes, block);
+						BinaryBlockIndex.append(writer, index, indexes, block);
 
 						// reset block for later reuse
 						block.reset();
@@ -148,13 +149,18 @@ public class WriterBinaryBlock extends MatrixWriter {
 		finally {
 			IOUtilFunctions.closeSilently(writer);
 		}
+
+		// write block index of closed file
+		if(index != null)
+			index.write(fs, path);
 	}
 
 	protected final void writeDiagBinaryBlockMatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src,
 		long rlen, long clen, int blen) throws IOException, DMLRuntimeException {
 		boolean sparse = src.isInSparseFormat();
 
-		final Writer writer = IOUtilFunctions.getSeqWriter(path, job, _replication);
+		final Writer writer = IOUtilFunctions.getSeqWriter(path, job, _replication, getCodecSample(src, blen, 0, src.getNumRows()));
+		final BinaryBlockIndex index = BinaryBlockIndex.create(fs, writer);
 
 		try {
 			// 2) bound check for src block
@@ -169,7 +175,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 			if(rlen <= blen && clen <= blen) { // opt for single block
 				// directly write single block
 				indexes.setIndexes(1, 1);
-				writer.append(indexes, src);
+				BinaryBlockIndex.append(writer, index, indexes, src);
 			}
 			else { // general case
 				// initialize blocks for reuse (at most 4 different blocks required)
@@ -202,7 +208,7 @@ public class WriterBinaryBlock extends MatrixWriter {
 
 						// append block to sequence file
 						indexes.setIndexes(blockRow + 1, blockCol + 1);
-						writer.append(indexes, block);
+						BinaryBlockIndex.append(writer, index, indexes, block);
 
 						// reset block for later reuse
 						if(blockRow != blockCol)
@@ -214,5 +220,17 @@ public class WriterBinaryBlock extends MatrixWriter {
 		finally {
 			IOUtilFunctions.closeSilently(writer);
 		}
+
+		// write block index of closed file
+		if(index != null)
+			index.write(fs, path);
+	}
+
+	private static MatrixBlock getCodecSample(MatrixBlock src, int blen, int rl, int ru) {
+		// first block of the row range for adaptive codec selection
+		if( BinaryBlockCodec.getConfiguredCodec() != BinaryBlockCodec.AUTO
+			|| src.getNumRows() == 0 || src.getNumColumns() == 0 )
+			return null;
+		return src.slice(rl, Math.min(rl + blen, ru) - 1, 0, Math.min(blen, src.getNumColumns()) - 1);
 	}
 }
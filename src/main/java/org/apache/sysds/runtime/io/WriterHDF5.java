@@ -23,21 +23,54 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.io.hdf5.H5;
+import org.apache.sysds.runtime.io.hdf5.H5Chunk;
+import org.apache.sysds.runtime.io.hdf5.H5Constants;
 import org.apache.sysds.runtime.io.hdf5.H5RootObject;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.HDFSTool;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class WriterHDF5 extends MatrixWriter {
 
+	// number of chunks encoded per thread and batch of streamed chunks
+	private static final int CHUNKS_PER_TASK = 4;
+
 	protected static FileFormatPropertiesHDF5 _props = null;
 
+	// approximate size of (row-slab) chunks in bytes, or <= 0 for contiguous datasets
+	protected final int _chunkSize;
+	// deflate compression level of chunks (with byte shuffle), or <= 0 for uncompressed chunks
+	protected final int _deflateLevel;
+
 	public WriterHDF5(FileFormatPropertiesHDF5 _props) {
+		this(_props, ConfigurationManager.getDMLConfig().getIntValue(DMLConfig.CP_HDF5_CHUNK_SIZE),
+			ConfigurationManager.getDMLConfig().getIntValue(DMLConfig.CP_HDF5_DEFLATE));
+	}
+
+	/**
+	 * Creates an HDF5 writer with explicit dataset layout.
+	 *
+	 * @param _props       file format properties with the dataset name
+	 * @param chunkSize    approximate chunk size in bytes, or &lt;= 0 for a contiguous dataset
+	 * @param deflateLevel deflate level of chunks, or &lt;= 0 for uncompressed chunks
+	 */
+	public WriterHDF5(FileFormatPropertiesHDF5 _props, int chunkSize, int deflateLevel) {
 		WriterHDF5._props = _props;
+		_chunkSize = chunkSize;
+		_deflateLevel = deflateLevel;
 	}
 
 	@Override
@@ -75,7 +108,144 @@ public class WriterHDF5 extends MatrixWriter {
 
 	protected void writeHDF5MatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src) throws IOException {
 		//sequential write HDF5 file
-		writeHDF5MatrixToFile(path, job, fs, src, 0, src.getNumRows());
+		if(_chunkSize > 0)
+			writeHDF5ChunkedMatrixToFile(path, fs, src, 1);
+		else
+			writeHDF5MatrixToFile(path, job, fs, src, 0, src.getNumRows());
+	}
+
+	protected static int[] getChunkDims(int rlen, int clen, int chunkSize) {
+		// row slabs of full rows, unless a single row exceeds the chunk size
+		int ccol = Math.max(1, Math.min(clen, chunkSize / 8));
+		int crow = Math.max(1, Math.min(rlen, chunkSize / (ccol * 8)));
+		return new int[] {crow, ccol};
+	}
+
+	protected void writeHDF5ChunkedMatrixToFile(Path path, FileSystem fs, MatrixBlock src, int k)
+		throws IOException {
+		int rlen = src.getNumRows();
+		int clen = src.getNumColumns();
+		int[] chunkDims = getChunkDims(rlen, clen, _chunkSize);
+		int ncchunks = (int) Math.ceil((double) clen / chunkDims[1]);
+		int nchunks = (int) Math.ceil((double) rlen / chunkDims[0]) * ncchunks;
+		k = Math.max(1, Math.min(k, nchunks));
+		BufferedOutputStream bos = new BufferedOutputStream(fs.create(path, true));
+		ExecutorService pool = (k > 1) ? CommonThreadPool.get(k) : null;
+		try {
+			H5RootObject rootObject = H5.H5Screate(bos, rlen, clen);
+			H5.H5Pset_chunk(rootObject, chunkDims);
+			if(_deflateLevel > 0) {
+				H5.H5Pset_shuffle(rootObject);
+				H5.H5Pset_deflate(rootObject, _deflateLevel);
+			}
+			H5.H5Dcreate(rootObject, rlen, clen, _props.getDatasetName());
+
+			// the chunk index precedes the chunks and requires their stored sizes, so
+			// compressed chunks are encoded twice (sizing pass, then streamed in batches)
+			// instead of buffering all compressed chunks
+			H5Chunk[] index = new H5Chunk[nchunks];
+			if(_deflateLevel > 0)
+				encodeChunkBatches(pool, k, rootObject, src, chunkDims, ncchunks, index, false);
+			else {
+				int size = chunkDims[0] * chunkDims[1] * 8;
+				for(int c = 0; c < nchunks; c++)
+					index[c] = new H5Chunk(getChunkOffset(c, chunkDims, ncchunks), size, 0,
+						H5Constants.UNDEFINED_ADDRESS);
+			}
+			H5.H5Dwrite_chunk_index(rootObject, Arrays.asList(index));
+			encodeChunkBatches(pool, k, rootObject, src, chunkDims, ncchunks, index, true);
+		}
+		finally {
+			if(pool != null)
+				pool.shutdown();
+			IOUtilFunctions.closeSilently(bos);
+		}
+	}
+
+	private static long[] getChunkOffset(int c, int[] chunkDims, int ncchunks) {
+		return new long[] {(long) (c / ncchunks) * chunkDims[0], (long) (c % ncchunks) * chunkDims[1]};
+	}
+
+	/**
+	 * Encodes all chunks in row-major order of the chunk grid, in batches of chunks that are
+	 * encoded in parallel, and either records their stored sizes in the index or writes them.
+	 */
+	private static void encodeChunkBatches(ExecutorService pool, int k, H5RootObject rootObject, MatrixBlock src,
+		int[] chunkDims, int ncchunks, H5Chunk[] index, boolean write) throws IOException {
+		int nchunks = index.length;
+		int batch = k * CHUNKS_PER_TASK;
+		H5Chunk[] chunks = new H5Chunk[Math.min(batch, nchunks)];
+		for(int bl = 0; bl < nchunks; bl += batch) {
+			final int bu = Math.min(bl + batch, nchunks);
+			if(pool == null) {
+				encodeChunks(rootObject, src, chunkDims, ncchunks, chunks, bl, bl, bu);
+			}
+			else {
+				try {
+					ArrayList<Callable<Object>> tasks = new ArrayList<>();
+					for(int cl = bl; cl < bu; cl += CHUNKS_PER_TASK) {
+						final int lbl = bl, lcl = cl, lcu = Math.min(cl + CHUNKS_PER_TASK, bu);
+						tasks.add(() -> {
+							encodeChunks(rootObject, src, chunkDims, ncchunks, chunks, lbl, lcl, lcu);
+							return null;
+						});
+					}
+					for(Future<Object> task : pool.invokeAll(tasks))
+						task.get();
+				}
+				catch(Exception e) {
+					throw new IOException("Failed parallel encoding of HDF5 chunks.", e);
+				}
+			}
+			for(int c = bl; c < bu; c++) {
+				H5Chunk chunk = chunks[c - bl];
+				if(!write)
+					index[c] = new H5Chunk(chunk.getOffset(), chunk.getSize(), chunk.getFilterMask(),
+						H5Constants.UNDEFINED_ADDRESS);
+				else if(chunk.getSize() != index[c].getSize())
+					throw new IOException("Inconsistent size of HDF5 chunk " + c + ": "
+						+ chunk.getSize() + " vs. " + index[c].getSize() + ".");
+				else
+					H5.H5Dwrite_chunk(rootObject, chunk);
+				chunks[c - bl] = null;
+			}
+		}
+	}
+
+	private static void encodeChunks(H5RootObject rootObject, MatrixBlock src, int[] chunkDims, int ncchunks,
+		H5Chunk[] chunks, int off, int cl, int cu) {
+		int rlen = src.getNumRows();
+		int clen = src.getNumColumns();
+		double[] data = new double[chunkDims[0] * chunkDims[1]];
+		for(int c = cl; c < cu; c++) {
+			int r0 = (c / ncchunks) * chunkDims[0];
+			int c0 = (c % ncchunks) * chunkDims[1];
+			int rend = Math.min(r0 + chunkDims[0], rlen);
+			int cend = Math.min(c0 + chunkDims[1], clen);
+			// boundary chunks are padded with zeros
+			Arrays.fill(data, 0);
+			if(src.isInSparseFormat()) {
+				SparseBlock a = src.getSparseBlock();
+				for(int i = r0; a != null && i < rend; i++) {
+					if(a.isEmpty(i))
+						continue;
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					int[] aix = a.indexes(i);
+					double[] avals = a.values(i);
+					int cix = (i - r0) * chunkDims[1] - c0;
+					for(int j = apos; j < apos + alen && aix[j] < cend; j++)
+						if(aix[j] >= c0)
+							data[cix + aix[j]] = avals[j];
+				}
+			}
+			else if(src.getDenseBlock() != null) {
+				DenseBlock a = src.getDenseBlock();
+				for(int i = r0; i < rend; i++)
+					System.arraycopy(a.values(i), a.pos(i) + c0, data, (i - r0) * chunkDims[1], cend - c0);
+			}
+			chunks[c - off] = H5.H5Dencode_chunk(rootObject, new long[] {r0, c0}, data);
+		}
 	}
 
 	protected static void writeHDF5MatrixToFile(Path path, JobConf job, FileSystem fs, MatrixBlock src, int rl,
@@ -45,10 +45,20 @@ public class WriterHDF5Parallel extends WriterHDF5 {
 		super(_props);
 	}
 
+	public WriterHDF5Parallel(FileFormatPropertiesHDF5 _props, int chunkSize, int deflateLevel) {
+		super(_props, chunkSize, deflateLevel);
+	}
+
 	@Override
 	public void writeHDF5MatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src)
 		throws IOException, DMLRuntimeException {
 
+		//chunked datasets are written into a single file with parallel chunk encoding
+		if(_chunkSize > 0) {
+			writeHDF5ChunkedMatrixToFile(path, fs, src, OptimizerUtils.getParallelTextWriteParallelism());
+			return;
+		}
+
 		//estimate output size and number of output blocks (min 1)
 		int numPartFiles = (int) (OptimizerUtils
 			.estimateSizeTextOutput(src.getNumRows(), src.getNumColumns(), src.getNonZeros(),
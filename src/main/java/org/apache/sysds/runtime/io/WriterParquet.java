@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Writer for matrices in parquet format, with one FP64 column (C1, C2, ...)
+ * per matrix column.
+ */
+public class WriterParquet extends MatrixWriter {
+	@Override
+	public void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz,
+		boolean diag) throws IOException, DMLRuntimeException
+	{
+		// validity check matrix dimensions
+		if( src.getNumRows() != rlen || src.getNumColumns() != clen )
+			throw new IOException("Matrix dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		// core write
+		writeParquetMatrixToFile(path, job, src);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	@Override
+	public void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException
+	{
+		MatrixBlock empty = new MatrixBlock((int) rlen, (int) clen, true);
+		writeMatrixToHDFS(empty, fname, rlen, clen, blen, 0, false);
+	}
+
+	private static void writeParquetMatrixToFile(Path path, JobConf job, MatrixBlock src) throws IOException {
+		int clen = src.getNumColumns();
+		MessageType schema = ParquetUtils.createSchema(
+			UtilFunctions.nCopies(clen, ValueType.FP64), FrameBlock.createColNames(clen));
+		SimpleGroupFactory factory = new SimpleGroupFactory(schema);
+		try( ParquetWriter<Group> writer = ParquetUtils.createWriter(path, job, schema) ) {
+			for( int i = 0; i < src.getNumRows(); i++ ) {
+				Group group = factory.newGroup();
+				for( int j = 0; j < clen; j++ )
+					group.add(j, src.quickGetValue(i, j));
+				writer.write(group);
+			}
+		}
+	}
+}
@@ -19,10 +19,12 @@
 
 package org.apache.sysds.runtime.io.hdf5;
 
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.sysds.runtime.io.hdf5.message.H5SymbolTableMessage;
 
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 
 public class H5 {
@@ -37,13 +39,25 @@ public class H5 {
 	public static H5RootObject H5Fopen(BufferedInputStream bis) {
 		H5RootObject rootObject = new H5RootObject();
 		bis.mark(0);
+		rootObject.setBufferedInputStream(bis);
+		return H5Fopen(rootObject);
+	}
+
+	// Open with seek-based reads, which avoids buffering the entire file
+	public static H5RootObject H5Fopen(FSDataInputStream in) {
+		H5RootObject rootObject = new H5RootObject();
+		rootObject.setFSDataInputStream(in);
+		return H5Fopen(rootObject);
+	}
+
+	private static H5RootObject H5Fopen(H5RootObject rootObject) {
 		try {
 			// Find out if the file is a HDF5 file
 			int maxSignatureLength = 2048;
 			boolean validSignature = false;
 			long offset;
 			for(offset = 0; offset < maxSignatureLength; offset = nextOffset(offset)) {
-				validSignature = H5Superblock.verifySignature(bis, offset);
+				validSignature = H5Superblock.verifySignature(rootObject, offset);
 				if(validSignature) {
 					break;
 				}
@@ -51,9 +65,8 @@ public class H5 {
 			if(!validSignature) {
 				throw new H5RuntimeException("No valid HDF5 signature found");
 			}
-			rootObject.setBufferedInputStream(bis);
 
-			final H5Superblock superblock = new H5Superblock(bis, offset);
+			final H5Superblock superblock = new H5Superblock(rootObject, offset);
 			rootObject.setSuperblock(superblock);
 		}
 		catch(Exception exception) {
@@ -109,8 +122,26 @@ public class H5 {
 		}
 	}
 
+	// Set chunked layout (dataset creation property)
+	public static void H5Pset_chunk(H5RootObject rootObject, int[] chunkDims) {
+		if(chunkDims.length != rootObject.getRank())
+			throw new H5RuntimeException("Chunk rank " + chunkDims.length + " does not match rank " + rootObject.getRank());
+		rootObject.setChunkDims(chunkDims);
+		rootObject.setDataLayoutClass(H5Constants.CHUNKED_LAYOUT);
+	}
+
+	// Add shuffle filter to the pipeline of a chunked dataset
+	public static void H5Pset_shuffle(H5RootObject rootObject) {
+		rootObject.getFilters().add(H5Filter.createShuffle(8));
+	}
+
+	// Add deflate filter to the pipeline of a chunked dataset
+	public static void H5Pset_deflate(H5RootObject rootObject, int level) {
+		rootObject.getFilters().add(H5Filter.createDeflate(level));
+	}
+
 	// Open a Data Space
-	public static H5ContiguousDataset H5Dopen(H5RootObject rootObject, String datasetName) {
+	public static H5Dataset H5Dopen(H5RootObject rootObject, String datasetName) {
 		try {
 			H5SymbolTableEntry symbolTableEntry = new H5SymbolTableEntry(rootObject,
 				rootObject.getSuperblock().rootGroupSymbolTableAddress - rootObject.getSuperblock().baseAddressByte);
@@ -137,8 +168,9 @@ public class H5 {
 			}
 
 			final H5ObjectHeader header = new H5ObjectHeader(rootObject, symbolTableEntry.getObjectHeaderAddress());
-			final H5ContiguousDataset contiguousDataset = new H5ContiguousDataset(rootObject, header);
-			return contiguousDataset;
+			if(rootObject.getDataLayoutClass() == H5Constants.CHUNKED_LAYOUT)
+				return new H5ChunkedDataset(rootObject, header);
+			return new H5ContiguousDataset(rootObject, header);
 
 		}
 		catch(Exception exception) {
@@ -193,6 +225,69 @@ public class H5 {
 		}
 	}
 
+	// Encode a chunk of row-major data (padded to the chunk dimensions) through the filter pipeline
+	public static H5Chunk H5Dencode_chunk(H5RootObject rootObject, long[] offset, double[] data) {
+		ByteBuffer bb = ByteBuffer.allocate(data.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+		bb.asDoubleBuffer().put(data);
+		byte[] chunk = bb.array();
+		int filterMask = 0;
+		List<H5Filter> filters = rootObject.getFilters();
+		for(int i = 0; i < filters.size(); i++) {
+			byte[] out = filters.get(i).encode(chunk, 8);
+			if(out == null)
+				filterMask |= 1 << i;
+			else
+				chunk = out;
+		}
+		return new H5Chunk(offset, filterMask, chunk);
+	}
+
+	// Write headers and chunk index of a chunked dataset (chunks in row-major order, with their
+	// stored sizes), which assigns the chunk addresses for subsequent writes of the chunk data
+	public static void H5Dwrite_chunk_index(H5RootObject rootObject, List<H5Chunk> chunks) {
+		try {
+			List<H5ChunkBTree> nodes = H5ChunkBTree.create(rootObject, chunks, H5Constants.STATIC_HEADER_SIZE);
+			long nodeSize = H5ChunkBTree.getNodeSize(rootObject);
+			H5Chunk last = chunks.get(chunks.size() - 1);
+
+			// update the end of file address, unknown before the chunk sizes were known
+			H5Superblock superblock = rootObject.getSuperblock();
+			superblock.endOfFileAddress = last.getAddress() + last.getSize();
+			byte[] headers = rootObject.bufferBuilder.build().array();
+			H5BufferBuilder sbb = new H5BufferBuilder();
+			superblock.toBuffer(sbb);
+			byte[] superblockBytes = sbb.build().array();
+			System.arraycopy(superblockBytes, 0, headers, 0, superblockBytes.length);
+
+			BufferedOutputStream bos = rootObject.getBufferedOutputStream();
+			bos.write(headers);
+			for(H5ChunkBTree node : nodes) {
+				H5BufferBuilder bb = new H5BufferBuilder();
+				node.toBuffer(bb);
+				if(bb.getSize() != nodeSize)
+					throw new H5RuntimeException("Invalid B-tree node size: " + bb.getSize());
+				bos.write(bb.build().array());
+			}
+		}
+		catch(IOException exception) {
+			throw new H5RuntimeException(exception);
+		}
+	}
+
+	// Write the data of the next chunk (in the order of the chunk index)
+	public static void H5Dwrite_chunk(H5RootObject rootObject, H5Chunk chunk) {
+		try {
+			rootObject.getBufferedOutputStream().write(chunk.getData());
+		}
+		catch(IOException exception) {
+			throw new H5RuntimeException(exception);
+		}
+	}
+
+	public static void H5Dread(H5ChunkedDataset dataset, H5Chunk chunk, double[] data) {
+		dataset.decodeChunk(dataset.readChunk(chunk), chunk.getFilterMask(), data);
+	}
+
 	public static void H5Dread(H5RootObject rootObject, H5ContiguousDataset dataset, double[][] data) {
 		for(int i = 0; i < rootObject.getRow(); i++) {
 			ByteBuffer buffer = dataset.getDataBuffer(i);
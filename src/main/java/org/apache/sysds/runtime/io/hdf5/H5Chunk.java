@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io.hdf5;
+
+public class H5Chunk {
+
+	private final long[] offset;
+	private final int size;
+	private final int filterMask;
+	private long address;
+	private byte[] data;
+
+	public H5Chunk(long[] offset, int size, int filterMask, long address) {
+		this.offset = offset;
+		this.size = size;
+		this.filterMask = filterMask;
+		this.address = address;
+	}
+
+	public H5Chunk(long[] offset, int filterMask, byte[] data) {
+		this(offset, data.length, filterMask, H5Constants.UNDEFINED_ADDRESS);
+		this.data = data;
+	}
+
+	// Offset of the first element of the chunk in each dimension of the dataset
+	public long[] getOffset() {
+		return offset;
+	}
+
+	// Size of the stored (filtered) chunk in bytes
+	public int getSize() {
+		return size;
+	}
+
+	public int getFilterMask() {
+		return filterMask;
+	}
+
+	public long getAddress() {
+		return address;
+	}
+
+	protected void setAddress(long address) {
+		this.address = address;
+	}
+
+	public byte[] getData() {
+		return data;
+	}
+}
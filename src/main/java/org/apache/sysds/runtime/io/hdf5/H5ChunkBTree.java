@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io.hdf5;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Version 1 B-tree (node type 1) indexing the chunks of a chunked dataset. Keys hold the
+ * stored chunk size, filter mask and chunk offsets; the children of leaf nodes are the
+ * chunk addresses, the children of internal nodes are the addresses of the sub-trees.
+ */
+public class H5ChunkBTree {
+
+	private static final byte[] BTREE_NODE_SIGNATURE = "TREE".getBytes(StandardCharsets.US_ASCII);
+	private static final int MAX_ENTRIES = 2 * H5Constants.CHUNK_BTREE_K;
+
+	private final H5RootObject rootObject;
+	private final int nodeLevel;
+	private final List<H5Chunk> keys;
+	private final List<H5Chunk> chunks;
+	private final List<H5ChunkBTree> children;
+	private long address = H5Constants.UNDEFINED_ADDRESS;
+	private long leftSiblingAddress = H5Constants.UNDEFINED_ADDRESS;
+	private long rightSiblingAddress = H5Constants.UNDEFINED_ADDRESS;
+
+	private H5ChunkBTree(H5RootObject rootObject, List<H5Chunk> chunks, H5Chunk rightKey) {
+		this.rootObject = rootObject;
+		this.nodeLevel = 0;
+		this.chunks = chunks;
+		this.children = null;
+		this.keys = new ArrayList<>(chunks);
+		this.keys.add(rightKey);
+	}
+
+	private H5ChunkBTree(H5RootObject rootObject, int nodeLevel, List<H5ChunkBTree> children) {
+		this.rootObject = rootObject;
+		this.nodeLevel = nodeLevel;
+		this.chunks = null;
+		this.children = children;
+		this.keys = new ArrayList<>(children.size() + 1);
+		for(H5ChunkBTree child : children)
+			this.keys.add(child.keys.get(0));
+		this.keys.add(children.get(children.size() - 1).getRightKey());
+	}
+
+	/**
+	 * Creates the B-tree nodes for the given chunks (in row-major order of the chunk grid) and
+	 * assigns the file addresses of nodes and chunks. The root node is placed at the given
+	 * address, followed by all other nodes (top-down) and the chunk data.
+	 *
+	 * @param rootObject root object with the chunk dimensions
+	 * @param chunks     chunks with their stored sizes in row-major order
+	 * @param address    address of the root node
+	 * @return list of nodes in address order
+	 */
+	public static List<H5ChunkBTree> create(H5RootObject rootObject, List<H5Chunk> chunks, long address) {
+		int[] chunkDims = rootObject.getChunkDims();
+		List<List<H5ChunkBTree>> levels = new ArrayList<>();
+
+		// leaf nodes pointing to chunks
+		List<H5ChunkBTree> level = new ArrayList<>();
+		for(int i = 0; i < chunks.size(); i += MAX_ENTRIES) {
+			List<H5Chunk> entries = chunks.subList(i, Math.min(i + MAX_ENTRIES, chunks.size()));
+			long[] offset = entries.get(entries.size() - 1).getOffset().clone();
+			for(int j = 0; j < offset.length; j++)
+				offset[j] += chunkDims[j];
+			level.add(new H5ChunkBTree(rootObject, entries, new H5Chunk(offset, 0, 0, 0)));
+		}
+		levels.add(level);
+
+		// internal nodes until a single root remains
+		while(level.size() > 1) {
+			List<H5ChunkBTree> next = new ArrayList<>();
+			for(int i = 0; i < level.size(); i += MAX_ENTRIES)
+				next.add(new H5ChunkBTree(rootObject, levels.size(),
+					level.subList(i, Math.min(i + MAX_ENTRIES, level.size()))));
+			levels.add(next);
+			level = next;
+		}
+
+		// assign node addresses top-down, and chunk addresses after all nodes
+		List<H5ChunkBTree> ret = new ArrayList<>();
+		long nodeSize = getNodeSize(rootObject);
+		for(int l = levels.size() - 1; l >= 0; l--) {
+			List<H5ChunkBTree> nodes = levels.get(l);
+			for(H5ChunkBTree node : nodes) {
+				node.address = address + ret.size() * nodeSize;
+				ret.add(node);
+			}
+			for(int i = 0; i < nodes.size(); i++) {
+				nodes.get(i).leftSiblingAddress = (i > 0) ? nodes.get(i - 1).address : H5Constants.UNDEFINED_ADDRESS;
+				nodes.get(i).rightSiblingAddress = (i < nodes.size() - 1) ?
+					nodes.get(i + 1).address : H5Constants.UNDEFINED_ADDRESS;
+			}
+		}
+		long chunkAddress = address + ret.size() * nodeSize;
+		for(H5Chunk chunk : chunks) {
+			chunk.setAddress(chunkAddress);
+			chunkAddress += chunk.getSize();
+		}
+		return ret;
+	}
+
+	/**
+	 * Reads the chunks of all leaf nodes of the B-tree rooted at the given address.
+	 *
+	 * @param rootObject root object
+	 * @param address    address of the root node
+	 * @param rank       rank of the dataset
+	 * @return list of chunks in key order
+	 */
+	public static List<H5Chunk> readChunks(H5RootObject rootObject, long address, int rank) {
+		List<H5Chunk> ret = new ArrayList<>();
+		if(address != H5Constants.UNDEFINED_ADDRESS)
+			readNode(rootObject, address, rank, ret);
+		return ret;
+	}
+
+	private static void readNode(H5RootObject rootObject, long address, int rank, List<H5Chunk> ret) {
+		final int sizeOfOffsets = rootObject.getSuperblock().sizeOfOffsets;
+		ByteBuffer header = H5BTree.readHeaderAndValidateSignature(rootObject, address);
+		byte nodeType = header.get();
+		if(nodeType != H5Constants.CHUNK_BTREE_NODE_TYPE) {
+			throw new H5RuntimeException("B tree type is not chunked raw data. Type is: " + nodeType);
+		}
+		int nodeLevel = Byte.toUnsignedInt(header.get());
+
+		header = rootObject.readBufferFromAddress(address + 6, 2 + 2 * sizeOfOffsets);
+		int entriesUsed = Utils.readBytesAsUnsignedInt(header, 2);
+
+		// keys and child pointers (siblings are skipped)
+		int keySize = getKeySize(rank);
+		ByteBuffer bb = rootObject.readBufferFromAddress(address + 8 + 2L * sizeOfOffsets,
+			entriesUsed * (keySize + sizeOfOffsets) + keySize);
+		for(int i = 0; i < entriesUsed; i++) {
+			int size = Utils.readBytesAsUnsignedInt(bb, 4);
+			int filterMask = bb.getInt();
+			long[] offset = new long[rank];
+			for(int j = 0; j < rank; j++)
+				offset[j] = bb.getLong();
+			bb.getLong(); // element size dimension
+			long child = Utils.readBytesAsUnsignedLong(bb, sizeOfOffsets);
+			if(nodeLevel == 0)
+				ret.add(new H5Chunk(offset, size, filterMask, child));
+			else
+				readNode(rootObject, child, rank, ret);
+		}
+	}
+
+	public void toBuffer(H5BufferBuilder bb) {
+		bb.writeBytes(BTREE_NODE_SIGNATURE);
+		bb.writeByte(H5Constants.CHUNK_BTREE_NODE_TYPE);
+		bb.writeByte(nodeLevel);
+		bb.writeShort((short) (keys.size() - 1));
+		bb.writeLong(leftSiblingAddress);
+		bb.writeLong(rightSiblingAddress);
+
+		for(int i = 0; i < keys.size() - 1; i++) {
+			writeKey(bb, keys.get(i));
+			bb.writeLong(chunks != null ? chunks.get(i).getAddress() : children.get(i).address);
+		}
+		writeKey(bb, getRightKey());
+
+		// nodes are allocated with their max size
+		bb.writeBytes(new byte[(MAX_ENTRIES + 1 - keys.size()) * (getKeySize(rootObject.getRank()) + 8)]);
+	}
+
+	private static void writeKey(H5BufferBuilder bb, H5Chunk key) {
+		bb.writeInt(key.getSize());
+		bb.writeInt(key.getFilterMask());
+		for(long offset : key.getOffset())
+			bb.writeLong(offset);
+		bb.writeLong(0);
+	}
+
+	private H5Chunk getRightKey() {
+		return keys.get(keys.size() - 1);
+	}
+
+	private static int getKeySize(int rank) {
+		// chunk size, filter mask, and offsets incl element size dimension
+		return 8 + 8 * (rank + 1);
+	}
+
+	public static long getNodeSize(H5RootObject rootObject) {
+		return 8 + 2L * rootObject.getSuperblock().sizeOfOffsets
+			+ (long) MAX_ENTRIES * rootObject.getSuperblock().sizeOfOffsets
+			+ (long) (MAX_ENTRIES + 1) * getKeySize(rootObject.getRank());
+	}
+
+	public long getAddress() {
+		return address;
+	}
+}
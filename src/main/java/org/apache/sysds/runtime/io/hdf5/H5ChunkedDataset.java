@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io.hdf5;
+
+import org.apache.sysds.runtime.io.hdf5.message.H5DataLayoutMessage;
+import org.apache.sysds.runtime.io.hdf5.message.H5FilterPipelineMessage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class H5ChunkedDataset extends H5Dataset {
+
+	private final H5DataLayoutMessage dataLayoutMessage;
+	private final List<H5Filter> filters;
+	private final int rank;
+	private List<H5Chunk> chunks;
+
+	public H5ChunkedDataset(H5RootObject rootObject, H5ObjectHeader objectHeader) {
+		super(rootObject, objectHeader);
+		this.dataLayoutMessage = objectHeader.getMessageOfType(H5DataLayoutMessage.class);
+		this.filters = objectHeader.hasMessageOfType(H5FilterPipelineMessage.class) ?
+			objectHeader.getMessageOfType(H5FilterPipelineMessage.class).getFilters() : new ArrayList<>();
+		this.rank = rootObject.getRank();
+	}
+
+	public int[] getChunkDims() {
+		// without the trailing element size dimension
+		return Arrays.copyOf(dataLayoutMessage.getChunkDimensions(), rank);
+	}
+
+	public int getChunkLength() {
+		int len = 1;
+		for(int i = 0; i < rank; i++)
+			len *= dataLayoutMessage.getChunkDimensions()[i];
+		return len;
+	}
+
+	public List<H5Filter> getFilters() {
+		return filters;
+	}
+
+	// Chunks are looked up lazily, which avoids the B-tree traversal for size-only probes
+	public synchronized List<H5Chunk> getChunks() {
+		if(chunks == null)
+			chunks = H5ChunkBTree.readChunks(rootObject, dataLayoutMessage.getAddress(), rank);
+		return chunks;
+	}
+
+	public byte[] readChunk(H5Chunk chunk) {
+		return rootObject.readBytesFromAddress(chunk.getAddress(), chunk.getSize());
+	}
+
+	/**
+	 * Reverts the filter pipeline of a stored chunk and decodes its elements.
+	 *
+	 * @param raw        stored chunk as read from the file
+	 * @param filterMask filters skipped for this chunk
+	 * @param data       output array of at least chunk length
+	 */
+	public void decodeChunk(byte[] raw, int filterMask, double[] data) {
+		H5DoubleDataType type = dataTypeMessage.getDoubleDataType();
+		if(type.getSize() != 8) {
+			throw new H5RuntimeException("Unsupported element size of chunked dataset: " + type.getSize());
+		}
+		byte[] decoded = H5Filter.decode(filters, raw, filterMask, type.getSize());
+		ByteBuffer bb = ByteBuffer.wrap(decoded).order(type.getOrder());
+		bb.asDoubleBuffer().get(data, 0, getChunkLength());
+	}
+}
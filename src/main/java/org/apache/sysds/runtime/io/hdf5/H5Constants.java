@@ -28,6 +28,20 @@ public final class H5Constants {
 	public static final int DATA_TYPE_MESSAGE = 3;
 	public static final int FILL_VALUE_MESSAGE = 5;
 	public static final int DATA_LAYOUT_MESSAGE = 8;
+	public static final int FILTER_PIPELINE_MESSAGE = 11;
 	public static final int SYMBOL_TABLE_MESSAGE = 17;
 	public static final int OBJECT_MODIFICATION_TIME_MESSAGE = 18;
+
+	public static final byte COMPACT_LAYOUT = 0;
+	public static final byte CONTIGUOUS_LAYOUT = 1;
+	public static final byte CHUNKED_LAYOUT = 2;
+
+	// v1 B-tree node type and 1/2 max entries of chunk index nodes (library default)
+	public static final byte CHUNK_BTREE_NODE_TYPE = 1;
+	public static final int CHUNK_BTREE_K = 32;
+
+	public static final int FILTER_DEFLATE = 1;
+	public static final int FILTER_SHUFFLE = 2;
+	public static final int FILTER_FLETCHER32 = 3;
+	public static final int FILTER_FLAG_OPTIONAL = 1;
 }
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io.hdf5;
+
+import org.apache.sysds.runtime.io.hdf5.message.H5DataTypeMessage;
+
+public abstract class H5Dataset {
+
+	protected final H5RootObject rootObject;
+	protected final H5DataTypeMessage dataTypeMessage;
+
+	protected H5Dataset(H5RootObject rootObject, H5ObjectHeader objectHeader) {
+		this.rootObject = rootObject;
+		this.dataTypeMessage = objectHeader.getMessageOfType(H5DataTypeMessage.class);
+	}
+
+	public H5DataTypeMessage getDataType() {
+		return dataTypeMessage;
+	}
+}
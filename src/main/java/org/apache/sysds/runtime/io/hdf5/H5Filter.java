@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io.hdf5;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class H5Filter {
+
+	private final int id;
+	private final String name;
+	private final int flags;
+	private final int[] clientData;
+
+	public H5Filter(int id, String name, int flags, int[] clientData) {
+		this.id = id;
+		this.name = name;
+		this.flags = flags;
+		this.clientData = clientData;
+	}
+
+	public static H5Filter createShuffle(int elementSize) {
+		return new H5Filter(H5Constants.FILTER_SHUFFLE, "shuffle", H5Constants.FILTER_FLAG_OPTIONAL,
+			new int[] {elementSize});
+	}
+
+	public static H5Filter createDeflate(int level) {
+		return new H5Filter(H5Constants.FILTER_DEFLATE, "deflate", H5Constants.FILTER_FLAG_OPTIONAL,
+			new int[] {level});
+	}
+
+	// Revert the filter pipeline in reverse order, except filters skipped according to the mask
+	public static byte[] decode(List<H5Filter> filters, byte[] data, int filterMask, int elementSize) {
+		for(int i = filters.size() - 1; i >= 0; i--) {
+			if((filterMask & (1 << i)) == 0)
+				data = filters.get(i).decode(data, elementSize);
+		}
+		return data;
+	}
+
+	// Returns null if an optional filter has no benefit and should be skipped
+	public byte[] encode(byte[] data, int elementSize) {
+		switch(id) {
+			case H5Constants.FILTER_SHUFFLE:
+				return shuffle(data, getElementSize(elementSize));
+			case H5Constants.FILTER_DEFLATE:
+				byte[] out = deflate(data, clientData.length > 0 ? clientData[0] : Deflater.DEFAULT_COMPRESSION);
+				return (out.length >= data.length && isOptional()) ? null : out;
+			default:
+				throw new H5RuntimeException("Unsupported filter for writing: " + id);
+		}
+	}
+
+	public byte[] decode(byte[] data, int elementSize) {
+		switch(id) {
+			case H5Constants.FILTER_SHUFFLE:
+				return unshuffle(data, getElementSize(elementSize));
+			case H5Constants.FILTER_DEFLATE:
+				return inflate(data);
+			case H5Constants.FILTER_FLETCHER32:
+				// strip the trailing checksum (not verified)
+				return Arrays.copyOf(data, data.length - 4);
+			default:
+				throw new H5RuntimeException("Unsupported filter: " + id + (name != null ? " (" + name + ")" : ""));
+		}
+	}
+
+	private int getElementSize(int elementSize) {
+		return clientData.length > 0 ? clientData[0] : elementSize;
+	}
+
+	private static byte[] shuffle(byte[] data, int elementSize) {
+		int n = data.length / elementSize;
+		if(elementSize <= 1 || n <= 1)
+			return data;
+		byte[] out = new byte[data.length];
+		for(int i = 0; i < n; i++)
+			for(int j = 0; j < elementSize; j++)
+				out[j * n + i] = data[i * elementSize + j];
+		// trailing bytes of incomplete elements are copied as is
+		System.arraycopy(data, n * elementSize, out, n * elementSize, data.length - n * elementSize);
+		return out;
+	}
+
+	private static byte[] unshuffle(byte[] data, int elementSize) {
+		int n = data.length / elementSize;
+		if(elementSize <= 1 || n <= 1)
+			return data;
+		byte[] out = new byte[data.length];
+		for(int j = 0; j < elementSize; j++)
+			for(int i = 0; i < n; i++)
+				out[i * elementSize + j] = data[j * n + i];
+		System.arraycopy(data, n * elementSize, out, n * elementSize, data.length - n * elementSize);
+		return out;
+	}
+
+	private static byte[] deflate(byte[] data, int level) {
+		Deflater deflater = new Deflater(level);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			byte[] out = new byte[data.length / 2 + 64];
+			int len = 0;
+			while(!deflater.finished()) {
+				if(len == out.length)
+					out = Arrays.copyOf(out, out.length * 2);
+				len += deflater.deflate(out, len, out.length - len);
+			}
+			return Arrays.copyOf(out, len);
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] data) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			byte[] out = new byte[data.length * 4 + 64];
+			int len = 0;
+			while(!inflater.finished()) {
+				if(len == out.length)
+					out = Arrays.copyOf(out, out.length * 2);
+				int n = inflater.inflate(out, len, out.length - len);
+				if(n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw new H5RuntimeException("Truncated deflate stream in chunk");
+				len += n;
+			}
+			return (len == out.length) ? out : Arrays.copyOf(out, len);
+		}
+		catch(DataFormatException e) {
+			throw new H5RuntimeException("Failed to inflate chunk", e);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public byte[] getNameBytes() {
+		return name != null ? (name + '\0').getBytes(StandardCharsets.US_ASCII) : new byte[0];
+	}
+
+	public int getFlags() {
+		return flags;
+	}
+
+	public boolean isOptional() {
+		return (flags & H5Constants.FILTER_FLAG_OPTIONAL) != 0;
+	}
+
+	public int[] getClientData() {
+		return clientData;
+	}
+}
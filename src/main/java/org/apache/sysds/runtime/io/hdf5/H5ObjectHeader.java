@@ -27,9 +27,11 @@ import org.apache.sysds.runtime.io.hdf5.message.H5NilMessage;
 import org.apache.sysds.runtime.io.hdf5.message.H5ObjectModificationTimeMessage;
 import org.apache.sysds.runtime.io.hdf5.message.H5SymbolTableMessage;
 import org.apache.sysds.runtime.io.hdf5.message.H5DataLayoutMessage;
+import org.apache.sysds.runtime.io.hdf5.message.H5FilterPipelineMessage;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -163,7 +165,11 @@ public class H5ObjectHeader {
 		localHeap.toBuffer(bb);
 
 		// 2. Write Object Header Message for second step
-		this.writeObjectHeader(bb, (short) 6, 256);
+		boolean chunked = rootObject.getDataLayoutClass() == H5Constants.CHUNKED_LAYOUT;
+		boolean filtered = chunked && !rootObject.getFilters().isEmpty();
+		int headerSize = 256;
+		this.writeObjectHeader(bb, (short) (filtered ? 7 : 6), headerSize);
+		int headerStart = bb.getSize();
 
 		// 2.1 Write Data Space
 		flags = new BitSet(8);
@@ -185,16 +191,34 @@ public class H5ObjectHeader {
 		// 2.4 Write Data Layout Message
 		flags = new BitSet();
 
-		H5DataLayoutMessage dataLayoutMessage = new H5DataLayoutMessage(rootObject, flags, 2048,
-			(rootObject.row * rootObject.col) * rootObject.superblock.sizeOfLengths);
+		H5DataLayoutMessage dataLayoutMessage;
+		if(chunked) {
+			// chunk B-tree root right after the headers, chunk dims incl element size
+			int[] chunkDims = Arrays.copyOf(rootObject.getChunkDims(), rootObject.getRank() + 1);
+			chunkDims[rootObject.getRank()] = doubleDataType.getSize();
+			dataLayoutMessage = new H5DataLayoutMessage(rootObject, flags, H5Constants.STATIC_HEADER_SIZE, chunkDims);
+		}
+		else {
+			dataLayoutMessage = new H5DataLayoutMessage(rootObject, flags, 2048,
+				(rootObject.row * rootObject.col) * rootObject.superblock.sizeOfLengths);
+		}
 		dataLayoutMessage.toBuffer(bb);
+
+		// 2.4.1 Write Filter Pipeline
+		if(filtered) {
+			BitSet constantFlags = new BitSet();
+			constantFlags.set(0);
+			H5FilterPipelineMessage filterPipelineMessage = new H5FilterPipelineMessage(rootObject, constantFlags,
+				rootObject.getFilters());
+			filterPipelineMessage.toBuffer(bb);
+		}
 		// 2.5 Write Object Modification Time
 		long time = Instant.now().getEpochSecond();
 		H5ObjectModificationTimeMessage objectModificationTimeMessage = new H5ObjectModificationTimeMessage(rootObject,
 			flags, time);
 		objectModificationTimeMessage.toBuffer(bb);
-		//2.6 Write Nil
-		H5NilMessage nilMessage = new H5NilMessage(rootObject, flags);
+		//2.6 Write Nil (remaining header space)
+		H5NilMessage nilMessage = new H5NilMessage(rootObject, flags, headerSize - (bb.getSize() - headerStart) - 8);
 		nilMessage.toBuffer(bb);
 
 		// Write Group Symbol Table Node
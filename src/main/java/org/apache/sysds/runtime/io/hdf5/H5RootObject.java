@@ -19,16 +19,21 @@
 
 package org.apache.sysds.runtime.io.hdf5;
 
+import org.apache.hadoop.fs.FSDataInputStream;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
 
 public class H5RootObject {
 
 	protected BufferedInputStream bufferedInputStream;
+	protected FSDataInputStream fsDataInputStream;
 	protected BufferedOutputStream bufferedOutputStream;
 	protected H5Superblock superblock;
 	protected int rank;
@@ -39,6 +44,8 @@ public class H5RootObject {
 	protected long maxCol;
 	protected int[] maxSizes;
 	protected String datasetName;
+	protected int[] chunkDims;
+	protected List<H5Filter> filters = new ArrayList<>();
 	public H5BufferBuilder bufferBuilder;
 
 	protected byte dataSpaceVersion = 1;
@@ -52,36 +59,33 @@ public class H5RootObject {
 	protected byte dataLayoutClass = 1;
 
 	public ByteBuffer readBufferFromAddress(long address, int length) {
-		ByteBuffer bb = ByteBuffer.allocate(length);
-		try {
-			byte[] b = new byte[length];
-			bufferedInputStream.reset();
-			bufferedInputStream.skip(address);
-			bufferedInputStream.read(b);
-			bb.put(b);
-		}
-		catch(IOException e) {
-			throw new H5RuntimeException(e);
-		}
+		ByteBuffer bb = readBufferFromAddressNoOrder(address, length);
 		bb.order(LITTLE_ENDIAN);
-		bb.rewind();
 		return bb;
 	}
 
 	public ByteBuffer readBufferFromAddressNoOrder(long address, int length) {
-		ByteBuffer bb = ByteBuffer.allocate(length);
+		return ByteBuffer.wrap(readBytesFromAddress(address, length));
+	}
+
+	public byte[] readBytesFromAddress(long address, int length) {
+		byte[] b = new byte[length];
 		try {
-			byte[] b = new byte[length];
-			bufferedInputStream.reset();
-			bufferedInputStream.skip(address);
-			bufferedInputStream.read(b);
-			bb.put(b);
+			if(fsDataInputStream != null) {
+				// seek-based reads, no need to buffer the entire file
+				fsDataInputStream.seek(address);
+				fsDataInputStream.readFully(b);
+			}
+			else {
+				bufferedInputStream.reset();
+				bufferedInputStream.skip(address);
+				bufferedInputStream.read(b);
+			}
 		}
 		catch(IOException e) {
 			throw new H5RuntimeException(e);
 		}
-		bb.rewind();
-		return bb;
+		return b;
 	}
 
 	public BufferedInputStream getBufferedInputStream() {
@@ -92,6 +96,14 @@ public class H5RootObject {
 		this.bufferedInputStream = bufferedInputStream;
 	}
 
+	public FSDataInputStream getFSDataInputStream() {
+		return fsDataInputStream;
+	}
+
+	public void setFSDataInputStream(FSDataInputStream fsDataInputStream) {
+		this.fsDataInputStream = fsDataInputStream;
+	}
+
 	public BufferedOutputStream getBufferedOutputStream() {
 		return bufferedOutputStream;
 	}
@@ -162,6 +174,22 @@ public class H5RootObject {
 		this.datasetName = datasetName;
 	}
 
+	public int[] getChunkDims() {
+		return chunkDims;
+	}
+
+	public void setChunkDims(int[] chunkDims) {
+		this.chunkDims = chunkDims;
+	}
+
+	public List<H5Filter> getFilters() {
+		return filters;
+	}
+
+	public void setFilters(List<H5Filter> filters) {
+		this.filters = filters;
+	}
+
 	public int[] getDimensions() {
 		return dimensions;
 	}
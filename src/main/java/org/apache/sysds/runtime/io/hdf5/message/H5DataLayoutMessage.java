@@ -23,6 +23,7 @@ package org.apache.sysds.runtime.io.hdf5.message;
 import org.apache.sysds.runtime.io.hdf5.H5BufferBuilder;
 import org.apache.sysds.runtime.io.hdf5.H5Constants;
 import org.apache.sysds.runtime.io.hdf5.H5RootObject;
+import org.apache.sysds.runtime.io.hdf5.H5RuntimeException;
 import org.apache.sysds.runtime.io.hdf5.Utils;
 
 import java.nio.ByteBuffer;
@@ -32,19 +33,45 @@ public class H5DataLayoutMessage extends H5Message {
 
 	private final long address;
 	private final long size;
+	private final int[] chunkDimensions;
 
 	public H5DataLayoutMessage(H5RootObject rootObject, BitSet flags, ByteBuffer bb) {
 		super(rootObject, flags);
 		rootObject.setDataLayoutVersion(bb.get());
 		rootObject.setDataLayoutClass(bb.get());
-		this.address = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfOffsets);
-		this.size = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfLengths);
+		switch(rootObject.getDataLayoutClass()) {
+			case H5Constants.CONTIGUOUS_LAYOUT:
+				this.address = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfOffsets);
+				this.size = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfLengths);
+				this.chunkDimensions = null;
+				break;
+			case H5Constants.CHUNKED_LAYOUT:
+				// dimensionality is one more than the rank, the last dimension is the element size
+				int dimensionality = Byte.toUnsignedInt(bb.get());
+				this.address = Utils.readBytesAsUnsignedLong(bb, rootObject.getSuperblock().sizeOfOffsets);
+				this.chunkDimensions = new int[dimensionality];
+				for(int i = 0; i < dimensionality; i++) {
+					this.chunkDimensions[i] = Utils.readBytesAsUnsignedInt(bb, 4);
+				}
+				this.size = 0;
+				break;
+			default:
+				throw new H5RuntimeException("Unsupported data layout class: " + rootObject.getDataLayoutClass());
+		}
 	}
 
 	public H5DataLayoutMessage(H5RootObject rootObject, BitSet flags, long address, long size) {
 		super(rootObject, flags);
 		this.address = address;
 		this.size = size;
+		this.chunkDimensions = null;
+	}
+
+	public H5DataLayoutMessage(H5RootObject rootObject, BitSet flags, long address, int[] chunkDimensions) {
+		super(rootObject, flags);
+		this.address = address;
+		this.size = 0;
+		this.chunkDimensions = chunkDimensions;
 	}
 
 	@Override
@@ -57,14 +84,31 @@ public class H5DataLayoutMessage extends H5Message {
 		// Layout Class
 		bb.writeByte(rootObject.getDataLayoutClass());
 
-		// Address
-		bb.writeLong(address);
+		if(rootObject.getDataLayoutClass() == H5Constants.CHUNKED_LAYOUT) {
+			// Dimensionality
+			bb.writeByte(chunkDimensions.length);
+
+			// Address of the chunk B-tree
+			bb.writeLong(address);
 
-		// Size
-		bb.writeLong(size);
+			// Chunk dimensions (incl element size)
+			for(int dim : chunkDimensions) {
+				bb.writeInt(dim);
+			}
 
-		byte[] reserved = new byte[6];
-		bb.writeBytes(reserved);
+			byte[] reserved = new byte[24 - 11 - 4 * chunkDimensions.length];
+			bb.writeBytes(reserved);
+		}
+		else {
+			// Address
+			bb.writeLong(address);
+
+			// Size
+			bb.writeLong(size);
+
+			byte[] reserved = new byte[6];
+			bb.writeBytes(reserved);
+		}
 	}
 
 	public long getAddress() {
@@ -75,4 +119,11 @@ public class H5DataLayoutMessage extends H5Message {
 		return size;
 	}
 
+	public int[] getChunkDimensions() {
+		return chunkDimensions;
+	}
+
+	public boolean isChunked() {
+		return chunkDimensions != null;
+	}
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.runtime.io.hdf5.message;
+
+import org.apache.sysds.runtime.io.hdf5.H5BufferBuilder;
+import org.apache.sysds.runtime.io.hdf5.H5Constants;
+import org.apache.sysds.runtime.io.hdf5.H5Filter;
+import org.apache.sysds.runtime.io.hdf5.H5RootObject;
+import org.apache.sysds.runtime.io.hdf5.H5RuntimeException;
+import org.apache.sysds.runtime.io.hdf5.Utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+public class H5FilterPipelineMessage extends H5Message {
+
+	private final List<H5Filter> filters;
+
+	public H5FilterPipelineMessage(H5RootObject rootObject, BitSet flags, ByteBuffer bb) {
+		super(rootObject, flags);
+
+		// Version
+		final byte version = bb.get();
+		if(version != 1 && version != 2) {
+			throw new H5RuntimeException("Unsupported filter pipeline message version: " + version);
+		}
+
+		// Number of filters
+		final int numberOfFilters = Byte.toUnsignedInt(bb.get());
+		filters = new ArrayList<>(numberOfFilters);
+
+		// Skip 6 reserved bytes (only in version 1)
+		if(version == 1) {
+			bb.position(bb.position() + 6);
+		}
+
+		for(int i = 0; i < numberOfFilters; i++) {
+			final int id = Utils.readBytesAsUnsignedInt(bb, 2);
+
+			// Name length (version 2 omits it for predefined filters)
+			final int nameLength = (version == 1 || id >= 256) ? Utils.readBytesAsUnsignedInt(bb, 2) : 0;
+			final int filterFlags = Utils.readBytesAsUnsignedInt(bb, 2);
+			final int numberOfValues = Utils.readBytesAsUnsignedInt(bb, 2);
+
+			// Name (null terminated and padded to a multiple of eight in version 1)
+			String name = null;
+			if(nameLength > 0) {
+				byte[] nameBytes = new byte[nameLength];
+				bb.get(nameBytes);
+				int end = 0;
+				while(end < nameLength && nameBytes[end] != H5Constants.NULL)
+					end++;
+				name = new String(nameBytes, 0, end, StandardCharsets.US_ASCII);
+			}
+
+			// Client data
+			int[] clientData = new int[numberOfValues];
+			for(int j = 0; j < numberOfValues; j++) {
+				clientData[j] = bb.getInt();
+			}
+
+			// Padding to a multiple of eight (only in version 1)
+			if(version == 1 && numberOfValues % 2 == 1) {
+				bb.position(bb.position() + 4);
+			}
+			filters.add(new H5Filter(id, name, filterFlags, clientData));
+		}
+	}
+
+	public H5FilterPipelineMessage(H5RootObject rootObject, BitSet flags, List<H5Filter> filters) {
+		super(rootObject, flags);
+		this.filters = filters;
+	}
+
+	@Override
+	public void toBuffer(H5BufferBuilder bb) {
+		super.toBuffer(bb, H5Constants.FILTER_PIPELINE_MESSAGE, getDataSize());
+
+		// Version
+		bb.writeByte(1);
+
+		// Number of filters
+		bb.writeByte(filters.size());
+
+		// Reserved 6 bytes
+		byte[] reserved = new byte[6];
+		bb.writeBytes(reserved);
+
+		for(H5Filter filter : filters) {
+			byte[] name = filter.getNameBytes();
+			int nameLength = getPaddedNameLength(name);
+			int[] clientData = filter.getClientData();
+
+			bb.writeShort((short) filter.getId());
+			bb.writeShort((short) nameLength);
+			bb.writeShort((short) filter.getFlags());
+			bb.writeShort((short) clientData.length);
+			bb.writeBytes(name);
+			bb.writeBytes(new byte[nameLength - name.length]);
+			for(int value : clientData) {
+				bb.writeInt(value);
+			}
+			if(clientData.length % 2 == 1) {
+				bb.writeInt(0);
+			}
+		}
+	}
+
+	public int getDataSize() {
+		int size = 8;
+		for(H5Filter filter : filters) {
+			int numberOfValues = filter.getClientData().length;
+			size += 8 + getPaddedNameLength(filter.getNameBytes()) + 4 * (numberOfValues + numberOfValues % 2);
+		}
+		return size;
+	}
+
+	private static int getPaddedNameLength(byte[] name) {
+		return (name.length + 7) / 8 * 8;
+	}
+
+	public List<H5Filter> getFilters() {
+		return filters;
+	}
+}
@@ -65,48 +65,44 @@ public abstract class H5Message {
 	}
 
 	protected void toBuffer(H5BufferBuilder bb, int messageType) {
-
-		// Message Type
-		bb.writeShort((short) messageType);
-		byte[] reserved = {(byte) 0, 0, 0};
-
+		int dataSize;
 		switch(messageType) {
 			case H5Constants.NIL_MESSAGE:
-				// Data Size
-				bb.writeShort((short) 104);
-
+				dataSize = 104;
 				break;
 			case H5Constants.DATA_SPACE_MESSAGE:
-				// Data Size
-				bb.writeShort((short) 40);
-
+				dataSize = 40;
 				break;
 			case H5Constants.DATA_TYPE_MESSAGE:
-				// Data Size
-				bb.writeShort((short) 24);
-
+				dataSize = 24;
 				break;
 			case H5Constants.FILL_VALUE_MESSAGE:
-				// Data Size
-				bb.writeShort((short) 8);
-
+				dataSize = 8;
 				break;
 			case H5Constants.SYMBOL_TABLE_MESSAGE:
-				// Data Size
-				bb.writeShort((short) 16);
-
+				dataSize = 16;
 				break;
 			case H5Constants.OBJECT_MODIFICATION_TIME_MESSAGE:
-				// Data Size
-				bb.writeShort((short) 8);
+				dataSize = 8;
 				break;
 			case H5Constants.DATA_LAYOUT_MESSAGE:
-				// Data Size
-				bb.writeShort((short) 24);
+				dataSize = 24;
 				break;
 			default:
 				throw new H5RuntimeException("Unrecognized message type = " + messageType);
 		}
+		toBuffer(bb, messageType, dataSize);
+	}
+
+	protected void toBuffer(H5BufferBuilder bb, int messageType, int dataSize) {
+
+		// Message Type
+		bb.writeShort((short) messageType);
+		byte[] reserved = {(byte) 0, 0, 0};
+
+		// Data Size
+		bb.writeShort((short) dataSize);
+
 		// Flags
 		if(flags.length() != 0) {
 			bb.writeBitSet(flags, flags.length());
@@ -136,6 +132,9 @@ public abstract class H5Message {
 			case H5Constants.DATA_LAYOUT_MESSAGE:
 				return new H5DataLayoutMessage(rootObject, flags, bb);
 
+			case H5Constants.FILTER_PIPELINE_MESSAGE:
+				return new H5FilterPipelineMessage(rootObject, flags, bb);
+
 			case H5Constants.SYMBOL_TABLE_MESSAGE:
 				return new H5SymbolTableMessage(rootObject, flags, bb);
 
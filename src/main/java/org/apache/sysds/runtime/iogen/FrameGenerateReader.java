@@ -30,6 +30,7 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.io.FrameReader;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.InputStreamInputFormat;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
@@ -40,15 +41,22 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public abstract class FrameGenerateReader extends FrameReader {
 
 	protected CustomProperties _props;
-	protected final FastStringTokenizer fastStringTokenizerDelim;
+	protected final int _numThreads;
 
 	public FrameGenerateReader(CustomProperties _props) {
+		this(_props, 1);
+	}
+
+	public FrameGenerateReader(CustomProperties _props, int numThreads) {
 		this._props = _props;
-		fastStringTokenizerDelim = new FastStringTokenizer(_props.getDelim());
+		_numThreads = numThreads;
 	}
 
 	private int getNumRows(List<Path> files, FileSystem fs) throws IOException, DMLRuntimeException {
@@ -94,6 +102,10 @@ public abstract class FrameGenerateReader extends FrameReader {
 		// check existence and non-empty file
 		checkValidInputFile(fs, path);
 
+		// parallel read of splits by record boundaries
+		if(_numThreads > 1)
+			return readFrameFromHDFSParallel(job, schema, names, rlen, clen);
+
 		// compute size if necessary
 		if(rlen <= 0) {
 			ArrayList<Path> paths = new ArrayList<>();
@@ -141,6 +153,59 @@ public abstract class FrameGenerateReader extends FrameReader {
 			rpos = readFrameFromInputSplit(splits[i], informat, job, dest, schema, names, rlen, clen, rpos, i == 0);
 	}
 
+	private FrameBlock readFrameFromHDFSParallel(JobConf job, Types.ValueType[] schema, String[] names, long rlen,
+		long clen) throws IOException {
+
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(job);
+		InputSplit[] splits = informat.getSplits(job, _numThreads);
+		splits = IOUtilFunctions.sortInputSplits(splits);
+		boolean regular = _props.getRowPattern().equals(CustomProperties.GRPattern.Regular);
+
+		ExecutorService pool = CommonThreadPool.get(_numThreads);
+		try {
+			// first pass: count records (row offsets) or max row index per split
+			ArrayList<MatrixGenerateReader.CountRecordsTask> ctasks = new ArrayList<>();
+			for(InputSplit split : splits)
+				ctasks.add(new MatrixGenerateReader.CountRecordsTask(split, informat, job, _props));
+			int[] offsets = new int[splits.length];
+			int nrow = 0;
+			int i = 0;
+			for(Future<Integer> rc : pool.invokeAll(ctasks)) {
+				int lnrow = rc.get();
+				offsets[i++] = nrow;
+				nrow = regular ? nrow + lnrow : Math.max(nrow, lnrow);
+			}
+			if(rlen <= 0)
+				rlen = regular ? nrow : nrow + 1;
+
+			// allocate output frame block
+			Types.ValueType[] lschema = createOutputSchema(schema, clen);
+			String[] lnames = createOutputNames(names, clen);
+			FrameBlock ret = createOutputFrameBlock(lschema, lnames, rlen);
+
+			// second pass: parse splits in parallel
+			final long lrlen = rlen;
+			ArrayList<Callable<Integer>> tasks = new ArrayList<>();
+			for(int j = 0; j < splits.length; j++) {
+				final InputSplit split = splits[j];
+				final int rl = offsets[j];
+				final boolean first = (j == 0);
+				tasks.add(() -> readFrameFromInputSplit(
+					split, informat, job, ret, lschema, lnames, lrlen, clen, rl, first));
+			}
+			for(Future<Integer> rt : pool.invokeAll(tasks))
+				rt.get();
+			return ret;
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel read of text frame input.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
 	protected abstract int readFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
 		JobConf job, FrameBlock dest, Types.ValueType[] schema, String[] names, long rlen, long clen, int rl,
 		boolean first) throws IOException;
@@ -151,12 +216,17 @@ public abstract class FrameGenerateReader extends FrameReader {
 			super(_props);
 		}
 
+		public FrameReaderRowRegularColRegular(CustomProperties _props, int numThreads) {
+			super(_props, numThreads);
+		}
+
 		@Override
 		protected int readFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
 			JobConf job, FrameBlock dest, Types.ValueType[] schema, String[] names, long rlen, long clen, int rl,
 			boolean first) throws IOException {
 
 			String cellValue;
+			FastStringTokenizer fastStringTokenizerDelim = new FastStringTokenizer(_props.getDelim());
 			fastStringTokenizerDelim.setNaStrings(_props.getNaStrings());
 
 			// create record reader
@@ -197,12 +267,17 @@ public abstract class FrameGenerateReader extends FrameReader {
 			super(_props);
 		}
 
+		public FrameReaderRowRegularColIrregular(CustomProperties _props, int numThreads) {
+			super(_props, numThreads);
+		}
+
 		@Override
 		protected int readFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
 			JobConf job, FrameBlock dest, Types.ValueType[] schema, String[] names, long rlen, long clen, int rl,
 			boolean first) throws IOException {
 
 			String cellValue;
+			FastStringTokenizer fastStringTokenizerDelim = new FastStringTokenizer(_props.getDelim());
 			FastStringTokenizer fastStringTokenizerIndexDelim = new FastStringTokenizer(_props.getIndexDelim());
 
 			// create record reader
@@ -251,12 +326,17 @@ public abstract class FrameGenerateReader extends FrameReader {
 			super(_props);
 		}
 
+		public FrameReaderRowIrregular(CustomProperties _props, int numThreads) {
+			super(_props, numThreads);
+		}
+
 		@Override
 		protected int readFrameFromInputSplit(InputSplit split, InputFormat<LongWritable, Text> informat,
 			JobConf job, FrameBlock dest, Types.ValueType[] schema, String[] names, long rlen, long clen, int rl,
 			boolean first) throws IOException {
 
 			String cellValue;
+			FastStringTokenizer fastStringTokenizerDelim = new FastStringTokenizer(_props.getDelim());
 			fastStringTokenizerDelim.setNaStrings(_props.getNaStrings());
 
 			// create record reader
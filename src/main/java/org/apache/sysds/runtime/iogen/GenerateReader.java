@@ -21,6 +21,10 @@ package org.apache.sysds.runtime.iogen;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.conf.CompilerConfig.ConfigType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.io.MatrixReader;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.io.FrameReader;
@@ -34,6 +38,9 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
       2. Generate a reader based on inferred properties.
 
+    The inferred properties are cached by a fingerprint of the sample (see
+    GenerateReaderCache), and thus, the mapping is only computed once per sample.
+
     Note. Base on this implementation, it is possible to generate a reader 
     base on Sample Matrix and generate a reader for a frame or vice versa.
 */
@@ -43,11 +50,42 @@ public abstract class GenerateReader {
 
 	protected static ReaderMapping readerMapping;
 
+	protected CustomProperties formatProperties;
+
 	public GenerateReader(SampleProperties sampleProperties) throws Exception {
+		// 1. probe the cache of inferred properties (in-memory or persisted)
+		String key = GenerateReaderCache.getFingerprint(sampleProperties);
+		formatProperties = GenerateReaderCache.get(key);
+		if(formatProperties != null) {
+			readerMapping = null;
+			return;
+		}
 
+		// 2. map the sample matrix/frame on the sample raw data
 		readerMapping = sampleProperties.getDataType().isMatrix() ? new ReaderMapping.MatrixReaderMapping(
 			sampleProperties.getSampleRaw(), sampleProperties.getSampleMatrix()) : new ReaderMapping.FrameReaderMapping(
 			sampleProperties.getSampleRaw(), sampleProperties.getSampleFrame());
+		if(readerMapping.isMapped() && readerMapping.getFormatProperties() != null) {
+			formatProperties = readerMapping.getFormatProperties();
+			GenerateReaderCache.put(key, formatProperties);
+		}
+	}
+
+	protected CustomProperties getFormatProperties(String sampleType) throws Exception {
+		if(formatProperties != null)
+			return formatProperties;
+		boolean isMapped = readerMapping != null && readerMapping.isMapped();
+		if(!isMapped) {
+			throw new Exception("Sample raw data and sample " + sampleType + " don't match !!");
+		}
+		throw new Exception("The file format couldn't recognize!!");
+	}
+
+	protected static int getNumThreads() {
+		// parallel split reads, if enabled for text formats (lock-free sparse inserts require MCSR)
+		boolean par = ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_TEXTFORMATS);
+		boolean mcsr = MatrixBlock.DEFAULT_SPARSEBLOCK == SparseBlock.Type.MCSR;
+		return (par & mcsr) ? OptimizerUtils.getParallelTextReadParallelism() : 1;
 	}
 
 	// Generate Reader for Matrix
@@ -65,25 +103,19 @@ public abstract class GenerateReader {
 
 		public MatrixReader getReader() throws Exception {
 
-			boolean isMapped = readerMapping != null && readerMapping.isMapped();
-			if(!isMapped) {
-				throw new Exception("Sample raw data and sample matrix don't match !!");
-			}
-			CustomProperties ffp = readerMapping.getFormatProperties();
-			if(ffp == null) {
-				throw new Exception("The file format couldn't recognize!!");
-			}
+			CustomProperties ffp = getFormatProperties("matrix");
+			int k = getNumThreads();
 			// 2. Generate a Matrix Reader:
 			if(ffp.getRowPattern().equals(CustomProperties.GRPattern.Regular)) {
 				if(ffp.getColPattern().equals(CustomProperties.GRPattern.Regular)) {
-					matrixReader = new MatrixGenerateReader.MatrixReaderRowRegularColRegular(ffp);
+					matrixReader = new MatrixGenerateReader.MatrixReaderRowRegularColRegular(ffp, k);
 				}
 				else {
-					matrixReader = new MatrixGenerateReader.MatrixReaderRowRegularColIrregular(ffp);
+					matrixReader = new MatrixGenerateReader.MatrixReaderRowRegularColIrregular(ffp, k);
 				}
 			}
 			else {
-				matrixReader = new MatrixGenerateReader.MatrixReaderRowIrregular(ffp);
+				matrixReader = new MatrixGenerateReader.MatrixReaderRowIrregular(ffp, k);
 			}
 			return matrixReader;
 		}
@@ -105,25 +137,19 @@ public abstract class GenerateReader {
 
 		public FrameReader getReader() throws Exception {
 
-			boolean isMapped = readerMapping != null && readerMapping.isMapped();
-			if(!isMapped) {
-				throw new Exception("Sample raw data and sample frame don't match !!");
-			}
-			CustomProperties ffp = readerMapping.getFormatProperties();
-			if(ffp == null) {
-				throw new Exception("The file format couldn't recognize!!");
-			}
+			CustomProperties ffp = getFormatProperties("frame");
+			int k = getNumThreads();
 			// 2. Generate a Frame Reader:
 			if(ffp.getRowPattern().equals(CustomProperties.GRPattern.Regular)) {
 				if(ffp.getColPattern().equals(CustomProperties.GRPattern.Regular)) {
-					frameReader = new FrameGenerateReader.FrameReaderRowRegularColRegular(ffp);
+					frameReader = new FrameGenerateReader.FrameReaderRowRegularColRegular(ffp, k);
 				}
 				else {
-					frameReader = new FrameGenerateReader.FrameReaderRowRegularColIrregular(ffp);
+					frameReader = new FrameGenerateReader.FrameReaderRowRegularColIrregular(ffp, k);
 				}
 			}
 			else {
-				frameReader = new FrameGenerateReader.FrameReaderRowIrregular(ffp);
+				frameReader = new FrameGenerateReader.FrameReaderRowIrregular(ffp, k);
 			}
 			return frameReader;
 		}
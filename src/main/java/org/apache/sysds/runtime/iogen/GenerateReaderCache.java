@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.iogen;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+
+/**
+ * Cache of inferred reader properties, keyed by a fingerprint of the sample
+ * (raw string, sample matrix/frame). Entries are kept in a bounded in-memory
+ * LRU cache and, if configured via sysds.iogen.cachedir, persisted as serialized
+ * custom properties in a local directory, which allows subsequent script
+ * invocations with the same sample to skip the expensive reader mapping.
+ * Persisted properties are deserialized with a filter that only admits the
+ * classes of custom properties.
+ */
+public class GenerateReaderCache {
+	private static final Log LOG = LogFactory.getLog(GenerateReaderCache.class.getName());
+
+	private static final String PROPS_SUFFIX = ".props";
+
+	// max number of in-memory cached properties
+	private static final int MAX_CACHE_SIZE = 256;
+
+	// deserialization filter restricted to the classes of custom properties
+	private static final ObjectInputFilter PROPS_FILTER = ObjectInputFilter.Config.createFilter(
+		"maxdepth=8;maxarray=65536;" + CustomProperties.class.getName() + ";"
+		+ CustomProperties.class.getName() + "$*;" + FileFormatProperties.class.getName() + ";"
+		+ "java.util.HashSet;java.lang.String;java.lang.Enum;!*");
+
+	private static final Map<String, CustomProperties> _cache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = -2127405426372391837L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CustomProperties> eldest) {
+			return size() > MAX_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Obtains the cached properties for the given sample fingerprint, either
+	 * from memory or the persisted cache directory.
+	 *
+	 * @param key sample fingerprint
+	 * @return custom properties, or null if not cached
+	 */
+	public static synchronized CustomProperties get(String key) {
+		if(key == null)
+			return null;
+		CustomProperties props = _cache.get(key);
+		String dir = getCacheDir();
+		if(props == null && dir != null) {
+			File f = new File(dir, key + PROPS_SUFFIX);
+			if(f.exists()) {
+				ObjectInputStream in = null;
+				try {
+					in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(f)));
+					in.setObjectInputFilter(PROPS_FILTER);
+					props = (CustomProperties) in.readObject();
+					_cache.put(key, props);
+				}
+				catch(Exception ex) {
+					LOG.warn("Failed to read generated reader properties " + f.getAbsolutePath(), ex);
+				}
+				finally {
+					IOUtilFunctions.closeSilently(in);
+				}
+			}
+		}
+		return props;
+	}
+
+	/**
+	 * Adds the inferred properties for the given sample fingerprint, and
+	 * persists them if a cache directory is configured.
+	 *
+	 * @param key sample fingerprint
+	 * @param props inferred custom properties
+	 */
+	public static synchronized void put(String key, CustomProperties props) {
+		if(key == null || props == null)
+			return;
+		_cache.put(key, props);
+		String dir = getCacheDir();
+		if(dir == null)
+			return;
+		LocalFileUtils.createLocalFileIfNotExist(dir);
+		File f = new File(dir, key + PROPS_SUFFIX);
+		File tmp = new File(dir, key + PROPS_SUFFIX + ".tmp");
+		ObjectOutputStream out = null;
+		try {
+			out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+			out.writeObject(props);
+			out.close();
+			out = null;
+			//atomic replace for robustness with concurrent script invocations
+			Files.move(tmp.toPath(), f.toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(Exception ex) {
+			LOG.warn("Failed to persist generated reader properties " + f.getAbsolutePath(), ex);
+			LocalFileUtils.deleteFileIfExists(tmp.getAbsolutePath(), true);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(out);
+		}
+	}
+
+	public static synchronized void clear() {
+		_cache.clear();
+	}
+
+	public static synchronized int size() {
+		return _cache.size();
+	}
+
+	/**
+	 * Computes a fingerprint of the sample raw data and sample matrix/frame.
+	 *
+	 * @param sampleProperties sample properties
+	 * @return hex-encoded SHA-256 hash, or null if not available
+	 */
+	public static String getFingerprint(SampleProperties sampleProperties) {
+		MessageDigest md = null;
+		try {
+			md = MessageDigest.getInstance("SHA-256");
+		}
+		catch(NoSuchAlgorithmException ex) {
+			return null;
+		}
+		md.update(String.valueOf(sampleProperties.getDataType()).getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		md.update(String.valueOf(sampleProperties.getSampleRaw()).getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		if(sampleProperties.getDataType().isMatrix()) {
+			MatrixBlock mb = sampleProperties.getSampleMatrix();
+			updateLong(md, mb.getNumRows());
+			updateLong(md, mb.getNumColumns());
+			for(int i = 0; i < mb.getNumRows(); i++)
+				for(int j = 0; j < mb.getNumColumns(); j++)
+					updateLong(md, Double.doubleToLongBits(mb.quickGetValue(i, j)));
+		}
+		else {
+			FrameBlock fb = sampleProperties.getSampleFrame();
+			updateLong(md, fb.getNumRows());
+			for(ValueType vt : fb.getSchema())
+				md.update(vt.toString().getBytes(StandardCharsets.UTF_8));
+			for(int i = 0; i < fb.getNumRows(); i++)
+				for(int j = 0; j < fb.getNumColumns(); j++) {
+					Object obj = fb.get(i, j);
+					md.update((byte) (obj == null ? 0 : 1));
+					if(obj != null)
+						md.update(obj.toString().getBytes(StandardCharsets.UTF_8));
+					md.update((byte) 0);
+				}
+		}
+		byte[] hash = md.digest();
+		StringBuilder hex = new StringBuilder(hash.length * 2);
+		for(byte b : hash)
+			hex.append(String.format("%02x", b));
+		return hex.toString();
+	}
+
+	private static void updateLong(MessageDigest md, long val) {
+		for(int i = 0; i < 8; i++)
+			md.update((byte) (val >>> (8 * i)));
+	}
+
+	private static String getCacheDir() {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String dir = (conf != null) ? conf.getTextValue(DMLConfig.IOGEN_CACHEDIR) : null;
+		return (dir == null || dir.trim().isEmpty() || dir.equalsIgnoreCase("none")) ? null : dir;
+	}
+}
@@ -21,14 +21,23 @@ package org.apache.sysds.runtime.iogen;
 
 import org.apache.commons.lang.mutable.MutableInt;
 import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.FileInputFormat;
+import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.TextInputFormat;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
 import java.io.BufferedReader;
@@ -38,15 +47,22 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public abstract class MatrixGenerateReader extends MatrixReader {
 
 	protected static CustomProperties _props;
-	protected final FastStringTokenizer fastStringTokenizerDelim;
+	protected final int _numThreads;
 
 	public MatrixGenerateReader(CustomProperties _props) {
+		this(_props, 1);
+	}
+
+	public MatrixGenerateReader(CustomProperties _props, int numThreads) {
 		MatrixGenerateReader._props = _props;
-		fastStringTokenizerDelim = new FastStringTokenizer(_props.getDelim());
+		_numThreads = numThreads;
 	}
 
 	protected MatrixBlock computeSize(List<Path> files, FileSystem fs, long rlen, long clen)
@@ -89,15 +105,19 @@ public abstract class MatrixGenerateReader extends MatrixReader {
 	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
 		throws IOException, DMLRuntimeException {
 
-		MatrixBlock ret = null;
-		if(rlen >= 0 && clen >= 0) //otherwise allocated on read
-			ret = createOutputMatrixBlock(rlen, clen, (int) rlen, estnnz, true, false);
-
 		//prepare file access
 		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
 		Path path = new Path(fname);
 		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
 
+		//parallel read of splits by record boundaries (allocated on read)
+		if(_numThreads > 1)
+			return readMatrixFromHDFSParallel(path, job, rlen, clen, estnnz);
+
+		MatrixBlock ret = null;
+		if(rlen >= 0 && clen >= 0) //otherwise allocated on read
+			ret = createOutputMatrixBlock(rlen, clen, (int) rlen, estnnz, true, false);
+
 		//core read
 		ret = readMatrixFromHDFS(path, job, fs, ret, rlen, clen, blen);
 
@@ -143,155 +163,324 @@ public abstract class MatrixGenerateReader extends MatrixReader {
 
 		//post processing
 		dest.setNonZeros(lnnz);
+		if(dest.isInSparseFormat() && isUnordered())
+			dest.sortSparseRows();
 
 		return dest;
 	}
 
-	protected abstract long readMatrixFromInputStream(InputStream is, String srcInfo, MatrixBlock dest,
-		MutableInt rowPos, long rlen, long clen, int blen) throws IOException;
+	protected long readMatrixFromInputStream(InputStream is, String srcInfo, MatrixBlock dest,
+		MutableInt rowPos, long rlen, long clen, int blen) throws IOException {
 
-	public static class MatrixReaderRowRegularColRegular extends MatrixGenerateReader {
+		String value = null;
+		int row = rowPos.intValue();
+		long lnnz = 0;
+		FastStringTokenizer st = createTokenizer();
+		FastStringTokenizer ist = new FastStringTokenizer(_props.getIndexDelim());
+		BufferedReader br = new BufferedReader(new InputStreamReader(is));
 
-		public MatrixReaderRowRegularColRegular(CustomProperties _props) {
-			super(_props);
+		//TODO: separate implementation for Sparse and Dens Matrix Blocks
+
+		// Read the data
+		try {
+			while((value = br.readLine()) != null) //foreach line
+				lnnz += parseRecord(value, st, ist, dest, row++, clen);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(br);
 		}
 
-		@Override
-		protected long readMatrixFromInputStream(InputStream is, String srcInfo, MatrixBlock dest,
-			MutableInt rowPos, long rlen, long clen, int blen) throws IOException {
+		rowPos.setValue(row);
+		return lnnz;
+	}
 
-			String value = null;
-			int row = rowPos.intValue();
-			double cellValue = 0;
-			int col = 0;
+	private MatrixBlock readMatrixFromHDFSParallel(Path path, JobConf job, long rlen, long clen, long estnnz)
+		throws IOException, DMLRuntimeException {
+		//split input by record boundaries (lines, incl directories of files)
+		FileInputFormat.addInputPath(job, path);
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(job);
+		InputSplit[] splits = informat.getSplits(job, _numThreads);
+		splits = IOUtilFunctions.sortInputSplits(splits);
+		boolean regular = _props.getRowPattern().equals(CustomProperties.GRPattern.Regular);
+
+		ExecutorService pool = CommonThreadPool.get(_numThreads);
+		try {
+			//first pass: count records (row offsets) or max row index per split
+			ArrayList<CountRecordsTask> ctasks = new ArrayList<>();
+			for(InputSplit split : splits)
+				ctasks.add(new CountRecordsTask(split, informat, job, _props));
+			int[] offsets = new int[splits.length];
+			int nrow = 0;
+			int i = 0;
+			for(Future<Integer> rc : pool.invokeAll(ctasks)) {
+				int lnrow = rc.get();
+				offsets[i++] = nrow;
+				nrow = regular ? nrow + lnrow : Math.max(nrow, lnrow);
+			}
+			nrow = (int) (rlen >= 0 ? rlen : regular ? nrow : nrow + 1);
+
+			//allocate output block incl sparse rows for lock-free inserts
+			long estnnz2 = (estnnz < 0) ? (long) nrow * clen : estnnz;
+			MatrixBlock dest = createOutputMatrixBlock(nrow, clen, nrow, estnnz2, true, true);
+
+			//second pass: parse splits in parallel
+			ArrayList<ReadSplitTask> tasks = new ArrayList<>();
+			for(int j = 0; j < splits.length; j++)
+				tasks.add(new ReadSplitTask(splits[j], informat, job, dest, offsets[j], clen));
 			long lnnz = 0;
-			fastStringTokenizerDelim.setNaStrings(_props.getNaStrings());
+			for(Future<Long> rt : pool.invokeAll(tasks))
+				lnnz += rt.get();
+			dest.setNonZeros(lnnz);
+
+			//post-processing (unordered cells, change of representation)
+			if(dest.isInSparseFormat() && isUnordered())
+				sortSparseRowsParallel(dest, nrow, _numThreads, pool);
+			dest.examSparsity();
+			return dest;
+		}
+		catch(Exception e) {
+			throw new IOException("Thread pool issue, while parallel read.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static boolean isUnordered() {
+		//irregular rows or columns (e.g., leading label) append cells out of order
+		return _props.getRowPattern().equals(CustomProperties.GRPattern.Irregular)
+			|| _props.getColPattern().equals(CustomProperties.GRPattern.Irregular);
+	}
 
-			BufferedReader br = new BufferedReader(new InputStreamReader(is));
+	protected FastStringTokenizer createTokenizer() {
+		return new FastStringTokenizer(_props.getDelim());
+	}
 
-			//TODO: separate implementation for Sparse and Dens Matrix Blocks
+	/**
+	 * Parses a single record (line) into the target matrix.
+	 *
+	 * @param value  record string
+	 * @param st     tokenizer of delimiters
+	 * @param ist    tokenizer of index delimiters
+	 * @param dest   target matrix block
+	 * @param row    row index of row regular formats
+	 * @param clen   number of columns
+	 * @return number of non-zeros
+	 */
+	protected abstract long parseRecord(String value, FastStringTokenizer st, FastStringTokenizer ist,
+		MatrixBlock dest, int row, long clen);
+
+	/**
+	 * Counts the records (row regular) or determines the maximum row index
+	 * (row irregular) of an input split, used for matrix and frame readers.
+	 */
+	protected static class CountRecordsTask implements Callable<Integer> {
+		private final InputSplit _split;
+		private final TextInputFormat _informat;
+		private final JobConf _job;
+		private final CustomProperties _cprops;
+		private final boolean _regular;
+
+		public CountRecordsTask(InputSplit split, TextInputFormat informat, JobConf job, CustomProperties props) {
+			_split = split;
+			_informat = informat;
+			_job = job;
+			_cprops = props;
+			_regular = props.getRowPattern().equals(CustomProperties.GRPattern.Regular);
+		}
 
-			// Read the data
+		@Override
+		public Integer call() throws Exception {
+			RecordReader<LongWritable, Text> reader = _informat.getRecordReader(_split, _job, Reporter.NULL);
+			LongWritable key = new LongWritable();
+			Text value = new Text();
+			FastStringTokenizer st = new FastStringTokenizer(_cprops.getDelim());
+			int rows = 0;
 			try {
-				while((value = br.readLine()) != null) //foreach line
-				{
-					fastStringTokenizerDelim.reset(value);
-					while(col != -1) {
-						cellValue = fastStringTokenizerDelim.nextDouble();
-						col = fastStringTokenizerDelim.getIndex();
-						if(cellValue != 0) {
-							dest.appendValue(row, col, cellValue);
-							lnnz++;
-						}
+				while(reader.next(key, value)) {
+					if(_regular)
+						rows++;
+					else {
+						st.reset(value.toString());
+						rows = Math.max(rows, st.nextInt());
 					}
-					row++;
-					col = 0;
 				}
 			}
 			finally {
-				IOUtilFunctions.closeSilently(br);
+				IOUtilFunctions.closeSilently(reader);
 			}
+			return rows;
+		}
+	}
+
+	private class ReadSplitTask implements Callable<Long> {
+		private final InputSplit _split;
+		private final TextInputFormat _informat;
+		private final JobConf _job;
+		private final MatrixBlock _dest;
+		private final int _rl;
+		private final long _clen;
+
+		public ReadSplitTask(InputSplit split, TextInputFormat informat, JobConf job, MatrixBlock dest, int rl,
+			long clen) {
+			_split = split;
+			_informat = informat;
+			_job = job;
+			_dest = dest;
+			_rl = rl;
+			_clen = clen;
+		}
 
-			rowPos.setValue(row);
+		@Override
+		public Long call() throws Exception {
+			RecordReader<LongWritable, Text> reader = _informat.getRecordReader(_split, _job, Reporter.NULL);
+			LongWritable key = new LongWritable();
+			Text value = new Text();
+			FastStringTokenizer st = createTokenizer();
+			FastStringTokenizer ist = new FastStringTokenizer(_props.getIndexDelim());
+			//row irregular records may target the same sparse rows across splits,
+			//so they are collected per task and merged into the output once
+			boolean local = _dest.isInSparseFormat()
+				&& _props.getRowPattern().equals(CustomProperties.GRPattern.Irregular);
+			MatrixBlock dest = local ? new MatrixBlock(_dest.getNumRows(), _dest.getNumColumns(), true) : _dest;
+			int row = _rl;
+			long lnnz = 0;
+			try {
+				while(reader.next(key, value)) //foreach line
+					lnnz += parseRecord(value.toString(), st, ist, dest, row++, _clen);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+			if(local)
+				mergeSparseRows(dest, _dest);
 			return lnnz;
 		}
 	}
 
-	public static class MatrixReaderRowRegularColIrregular extends MatrixGenerateReader {
+	private static void mergeSparseRows(MatrixBlock src, MatrixBlock dest) {
+		SparseBlock a = src.getSparseBlock();
+		if(a == null)
+			return;
+		synchronized(dest) {
+			for(int i = 0; i < src.getNumRows(); i++) {
+				if(a.isEmpty(i))
+					continue;
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				for(int j = apos; j < apos + alen; j++)
+					dest.appendValuePlain(i, aix[j], avals[j]);
+			}
+		}
+	}
 
-		public MatrixReaderRowRegularColIrregular(CustomProperties _props) {
+	public static class MatrixReaderRowRegularColRegular extends MatrixGenerateReader {
+
+		public MatrixReaderRowRegularColRegular(CustomProperties _props) {
 			super(_props);
 		}
 
+		public MatrixReaderRowRegularColRegular(CustomProperties _props, int numThreads) {
+			super(_props, numThreads);
+		}
+
 		@Override
-		protected long readMatrixFromInputStream(InputStream is, String srcInfo, MatrixBlock dest,
-			MutableInt rowPos, long rlen, long clen, int blen) throws IOException {
+		private static boolean isUnordered() {
+		//irregular rows or columns (e.g., leading label) append cells out of order
+		return _props.getRowPattern().equals(CustomProperties.GRPattern.Irregular)
+			|| _props.getColPattern().equals(CustomProperties.GRPattern.Irregular);
+	}
 
-			String value = null;
-			int row = rowPos.intValue();
+	protected FastStringTokenizer createTokenizer() {
+			FastStringTokenizer st = super.createTokenizer();
+			st.setNaStrings(_props.getNaStrings());
+			return st;
+		}
+
+		@Override
+		protected long parseRecord(String value, FastStringTokenizer st, FastStringTokenizer ist,
+			MatrixBlock dest, int row, long clen) {
 			double cellValue = 0;
 			int col = 0;
 			long lnnz = 0;
-
-			final FastStringTokenizer fastStringTokenizerIndexDelim = new FastStringTokenizer(_props.getIndexDelim());
-			BufferedReader br = new BufferedReader(new InputStreamReader(is));
-
-			//TODO: separate implementation for Sparse and Dens Matrix Blocks
-
-			// Read the data
-			try {
-				while((value = br.readLine()) != null) //foreach line
-				{
-					fastStringTokenizerDelim.reset(value);
-					String cellValueString = fastStringTokenizerDelim.nextToken();
-					cellValue = UtilFunctions.parseToDouble(cellValueString, null);
-					dest.appendValue(row, (int) clen-_props.getFirstColIndex()-1, cellValue);
-
-					while(col != -1) {
-						String nt = fastStringTokenizerDelim.nextToken();
-						if(fastStringTokenizerDelim.getIndex() == -1)
-							break;
-						fastStringTokenizerIndexDelim.reset(nt);
-						col = fastStringTokenizerIndexDelim.nextInt();
-						cellValue = fastStringTokenizerIndexDelim.nextDouble();
-						if(cellValue != 0) {
-							dest.appendValue(row, col-_props.getFirstColIndex(), cellValue);
-							lnnz++;
-						}
-					}
-					row++;
-					col = 0;
+			st.reset(value);
+			while(col != -1) {
+				cellValue = st.nextDouble();
+				col = st.getIndex();
+				if(cellValue != 0) {
+					dest.appendValuePlain(row, col, cellValue);
+					lnnz++;
 				}
 			}
-			finally {
-				IOUtilFunctions.closeSilently(br);
-			}
-
-			rowPos.setValue(row);
 			return lnnz;
 		}
 	}
 
-	public static class MatrixReaderRowIrregular extends MatrixGenerateReader {
+	public static class MatrixReaderRowRegularColIrregular extends MatrixGenerateReader {
 
-		public MatrixReaderRowIrregular(CustomProperties _props) {
+		public MatrixReaderRowRegularColIrregular(CustomProperties _props) {
 			super(_props);
 		}
 
+		public MatrixReaderRowRegularColIrregular(CustomProperties _props, int numThreads) {
+			super(_props, numThreads);
+		}
+
 		@Override
-		protected long readMatrixFromInputStream(InputStream is, String srcInfo, MatrixBlock dest,
-			MutableInt rowPos, long rlen, long clen, int blen) throws IOException {
-			String value = null;
-			int row = rowPos.intValue();
+		protected long parseRecord(String value, FastStringTokenizer st, FastStringTokenizer ist,
+			MatrixBlock dest, int row, long clen) {
 			double cellValue = 0;
 			int col = 0;
 			long lnnz = 0;
+			st.reset(value);
+			String cellValueString = st.nextToken();
+			cellValue = UtilFunctions.parseToDouble(cellValueString, null);
+			if(cellValue != 0) {
+				dest.appendValuePlain(row, (int) clen - _props.getFirstColIndex() - 1, cellValue);
+				lnnz++;
+			}
 
-			BufferedReader br = new BufferedReader(new InputStreamReader(is));
-
-			//TODO: separate implementation for Sparse and Dens Matrix Blocks
-
-			// Read the data
-			try {
-				while((value = br.readLine()) != null) //foreach line
-				{
-					fastStringTokenizerDelim.reset(value);
-					int ri = fastStringTokenizerDelim.nextInt();
-					col = fastStringTokenizerDelim.nextInt();
-					cellValue = fastStringTokenizerDelim.nextDouble();
-
-					if(cellValue != 0) {
-						dest.appendValue(ri-_props.getFirstColIndex(), col-_props.getFirstColIndex(), cellValue);
-						lnnz++;
-					}
-					row = Math.max(row, ri);
+			while(col != -1) {
+				String nt = st.nextToken();
+				if(st.getIndex() == -1)
+					break;
+				ist.reset(nt);
+				col = ist.nextInt();
+				cellValue = ist.nextDouble();
+				if(cellValue != 0) {
+					dest.appendValuePlain(row, col - _props.getFirstColIndex(), cellValue);
+					lnnz++;
 				}
 			}
-			finally {
-				IOUtilFunctions.closeSilently(br);
-			}
-			rowPos.setValue(row);
 			return lnnz;
 		}
 	}
+
+	public static class MatrixReaderRowIrregular extends MatrixGenerateReader {
+
+		public MatrixReaderRowIrregular(CustomProperties _props) {
+			super(_props);
+		}
+
+		public MatrixReaderRowIrregular(CustomProperties _props, int numThreads) {
+			super(_props, numThreads);
+		}
+
+		@Override
+		protected long parseRecord(String value, FastStringTokenizer st, FastStringTokenizer ist,
+			MatrixBlock dest, int row, long clen) {
+			st.reset(value);
+			int ri = st.nextInt();
+			int col = st.nextInt();
+			double cellValue = st.nextDouble();
+			if(cellValue != 0) {
+				dest.appendValuePlain(ri - _props.getFirstColIndex(), col - _props.getFirstColIndex(), cellValue);
+				return 1;
+			}
+			return 0;
+		}
+	}
 }
@@ -102,11 +102,24 @@ public class LineageCache
 			//obtaining value to avoid blocking in critical section
 			LineageCacheEntry e = null;
 			boolean reuseAll = true;
+			List<MutablePair<LineageItem, LineageCacheEntry>> persistList = null;
 			synchronized( _cache ) {
 				//try to reuse full or partial intermediates (CPU and FED only)
 				for (MutablePair<LineageItem,LineageCacheEntry> item : liList) {
 					if (LineageCacheConfig.getCacheType().isFullReuse())
 						e = LineageCache.probe(item.getKey()) ? getIntern(item.getKey()) : null;
+					//try to reuse full intermediates of previous script invocations
+					//(only probe the index and set a placeholder, which is filled
+					//after reading the persisted block outside the critical section)
+					if (e == null && LineageCacheConfig.getCacheType().isFullReuse()
+						&& inst instanceof ComputationCPInstruction && LineagePersistentCache.isEnabled()
+						&& LineagePersistentCache.contains(item.getKey())) {
+						putIntern(item.getKey(), DataType.MATRIX, null, null, 0);
+						e = _cache.get(item.getKey());
+						if (persistList == null)
+							persistList = new ArrayList<>();
+						persistList.add(item);
+					}
 					//TODO need to also move execution of compensation plan out of here
 					//(create lazily evaluated entry)
 					if (e == null && LineageCacheConfig.getCacheType().isPartialReuse()
@@ -123,6 +136,9 @@ public class LineageCache
 						putInternPlaceholder(inst, item.getKey());
 				}
 			}
+			//read persisted intermediates w/o blocking concurrent cache probes
+			if (persistList != null)
+				reuseAll &= getPersistentValues(inst, ec, persistList);
 			reuse = reuseAll;
 			
 			if(reuse) { //reuse
@@ -541,6 +557,7 @@ public class LineageCache
 	
 	private static void putValueCPU(Instruction inst, List<Pair<LineageItem, Data>> liData, long computetime)
 	{
+		List<Pair<LineageItem, MatrixBlock>> persist = null;
 		synchronized( _cache ) {
 			for (Pair<LineageItem, Data> entry : liData) {
 				LineageItem item = entry.getKey();
@@ -605,8 +622,20 @@ public class LineageCache
 
 				//maintain order for eviction
 				LineageCacheEviction.addEntry(centry);
+				
+				//collect matrix outputs for the persistent cache
+				if (mb != null && inst instanceof ComputationCPInstruction && LineagePersistentCache.isEnabled()) {
+					if (persist == null)
+						persist = new ArrayList<>();
+					persist.add(Pair.of(item, mb));
+				}
 			}
 		}
+		
+		//write to the persistent cache outside the critical section
+		if (persist != null)
+			for (Pair<LineageItem, MatrixBlock> entry : persist)
+				LineagePersistentCache.put(entry.getKey(), entry.getValue(), computetime);
 	}
 	
 	private static void putValueGPU(GPUObject gpuObj, LineageItem instLI, long computetime) {
@@ -850,6 +879,7 @@ public class LineageCache
 		synchronized (_cache) {
 			_cache.clear();
 			LineageCacheEviction.resetEviction();
+			LineagePersistentCache.reset();
 			LineageGPUCacheEviction.resetEviction();
 		}
 	}
@@ -920,6 +950,44 @@ public class LineageCache
 			return LineageCacheEviction.readFromLocalFS(_cache, key);
 	}
 	
+	private static boolean getPersistentValues(Instruction inst, ExecutionContext ec,
+		List<MutablePair<LineageItem, LineageCacheEntry>> liList)
+	{
+		boolean ret = true;
+		for (MutablePair<LineageItem, LineageCacheEntry> item : liList) {
+			// Read the persisted block outside the critical section.
+			Pair<MatrixBlock, Long> val = LineagePersistentCache.get(item.getKey());
+			synchronized( _cache ) {
+				LineageCacheEntry e = item.getValue();
+				boolean cached = (e != null && _cache.get(item.getKey()) == e);
+				if (val == null) {
+					// Fall back to computation, and keep the placeholder for its output.
+					if (cached && !isMarkedForCaching(inst, ec))
+						removePlaceholder(item.getKey());
+					item.setValue(null);
+					ret = false;
+					continue;
+				}
+				MatrixBlock mb = val.getKey();
+				long size = mb.getInMemorySize();
+				if (!cached || size > LineageCacheEviction.getCacheLimit()) {
+					// Reuse the block once w/o placing it in the cache.
+					if (cached)
+						removePlaceholder(item.getKey());
+					item.setValue(new LineageCacheEntry(item.getKey(), DataType.MATRIX, mb, null, val.getValue()));
+					continue;
+				}
+				// Fill the placeholder for subsequent reuse.
+				if (!LineageCacheEviction.isBelowThreshold(size))
+					LineageCacheEviction.makeSpace(_cache, size);
+				LineageCacheEviction.updateSize(size, true);
+				e.setValue(mb, val.getValue());
+				LineageCacheEviction.addEntry(e);
+			}
+		}
+		return ret;
+	}
+	
 	private static void mvIntern(LineageItem item, LineageItem probeItem, long computetime) {
 		if (ReuseCacheType.isNone())
 			return;
@@ -52,6 +52,10 @@ public class LineageCacheStatistics {
 	private static final LongAdder _numHitsRdd      = new LongAdder();
 	private static final LongAdder _numHitsSparkActions = new LongAdder();
 	private static final LongAdder _numHitsRddPersist   = new LongAdder();
+	// Below entries are specific to the persistent lineage cache
+	private static final LongAdder _numHitsPersist  = new LongAdder();
+	private static final LongAdder _numWritesPersist= new LongAdder();
+	private static final LongAdder _numDelPersist   = new LongAdder();
 
 	public static void reset() {
 		_numHitsMem.reset();
@@ -77,6 +81,9 @@ public class LineageCacheStatistics {
 		_numHitsRdd.reset();
 		_numHitsSparkActions.reset();
 		_numHitsRddPersist.reset();
+		_numHitsPersist.reset();
+		_numWritesPersist.reset();
+		_numDelPersist.reset();
 	}
 	
 	public static void incrementMemHits() {
@@ -241,6 +248,29 @@ public class LineageCacheStatistics {
 		_numHitsRddPersist.increment();
 	}
 
+	public static void incrementPersistHits() {
+		// Number of times intermediates are reused from the persistent cache.
+		_numHitsPersist.increment();
+	}
+
+	public static long getPersistHits() {
+		return _numHitsPersist.longValue();
+	}
+
+	public static void incrementPersistWrites() {
+		// Number of intermediates written to the persistent cache.
+		_numWritesPersist.increment();
+	}
+
+	public static long getPersistWrites() {
+		return _numWritesPersist.longValue();
+	}
+
+	public static void incrementPersistDeletes() {
+		// Number of intermediates evicted from the persistent cache.
+		_numDelPersist.increment();
+	}
+
 	public static String displayHits() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numHitsMem.longValue());
@@ -316,6 +346,16 @@ public class LineageCacheStatistics {
 		return sb.toString();
 	}
 
+	public static String displayPersistStats() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHitsPersist.longValue());
+		sb.append("/");
+		sb.append(_numWritesPersist.longValue());
+		sb.append("/");
+		sb.append(_numDelPersist.longValue());
+		return sb.toString();
+	}
+
 	public static String displaySparkStats() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numHitsSparkActions.longValue());
@@ -0,0 +1,496 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.lineage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.lineage.LineageItem.LineageItemType;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+
+/**
+ * Persistent on-disk store of lineage cache entries, which survives across
+ * DMLScript invocations (configured via sysds.lineage.persistdir).
+ * 
+ * Entries are keyed by a stable hash (SHA-256) of the lineage DAG, which excludes
+ * the process-specific item IDs and includes fingerprints (length, modification time)
+ * of all persistently read input files. Hence, modified inputs invalidate dependent
+ * entries. DAGs with non-reproducible leafs (e.g., bound variables without lineage, 
+ * or dedup items) are not persisted. The store maintains an index file of all entries, 
+ * which is loaded at startup, while the matrix blocks are only read on reuse. 
+ * If the size budget (sysds.lineage.persistbudget in MB) is exceeded, entries are 
+ * evicted in order of increasing compute time per byte.
+ */
+public class LineagePersistentCache
+{
+	private static final Log LOG = LogFactory.getLog(LineagePersistentCache.class.getName());
+	
+	private static final String INDEX_FNAME = "lineage.idx";
+	private static final String DATA_SUFFIX = ".bin";
+	//max number of DAG items per key computation (bounded probe overhead)
+	private static final int MAX_DAG_SIZE = 100000;
+	//max number of memoized keys of lineage items
+	private static final int MAX_MEMO_SIZE = 65536;
+	//creation opcodes with reproducible outputs (all inputs in the lineage data)
+	private static final String[] CREATION_OPCODES = new String[] {"createvar", "read", "rand", "seq", "sample"};
+	
+	private static boolean _initialized = false;
+	private static String _dir = null;
+	private static long _budget = 0; //in bytes
+	private static long _size = 0; //in bytes
+	private static final Map<String, PersistentEntry> _index = new HashMap<>();
+	private static final Map<Long, Pair<LineageItem, String>> _memo = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 3390311187433254613L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Pair<LineageItem, String>> eldest) {
+			return size() > MAX_MEMO_SIZE;
+		}
+	};
+	
+	private static class PersistentEntry {
+		private final String _key;
+		private final long _size;
+		private final long _computeTime; //in nano sec
+		private long _timestamp;
+		
+		private PersistentEntry(String key, long size, long computeTime, long timestamp) {
+			_key = key;
+			_size = size;
+			_computeTime = computeTime;
+			_timestamp = timestamp;
+		}
+		
+		private double getCostNsize() {
+			return ((double) _computeTime) / Math.max(_size, 1);
+		}
+	}
+	
+	//eviction order: low compute time per byte first, and least recently used on ties
+	private static final Comparator<PersistentEntry> EVICTION_ORDER = (e1, e2) -> {
+		int ret = Double.compare(e1.getCostNsize(), e2.getCostNsize());
+		return ret != 0 ? ret : Long.compare(e1._timestamp, e2._timestamp);
+	};
+	
+	private LineagePersistentCache() {
+		//prevent instantiation via private constructor
+	}
+	
+	//--------------- PUBLIC PERSISTENT CACHE API ----------------//
+	
+	/**
+	 * Loads the index of reusable entries of the configured persistent lineage
+	 * cache directory. If the configuration changed (e.g., in the same JVM),
+	 * the previously loaded index is discarded.
+	 * 
+	 * @return true if the persistent lineage cache is enabled
+	 */
+	public static synchronized boolean init() {
+		_initialized = true;
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String dir = conf.getTextValue(DMLConfig.LINEAGECACHE_PERSISTDIR);
+		if( dir == null || dir.trim().isEmpty() || dir.equalsIgnoreCase("none") ) {
+			_dir = null;
+			_index.clear();
+			return false;
+		}
+		_budget = (long) (conf.getDoubleValue(DMLConfig.LINEAGECACHE_PERSISTBUDGET) * 1024 * 1024);
+		if( !dir.equals(_dir) ) {
+			_dir = dir;
+			LocalFileUtils.createLocalFileIfNotExist(_dir);
+			readIndex();
+			if( _size > _budget ) {
+				makeSpace(0);
+				writeIndex();
+			}
+		}
+		return true;
+	}
+	
+	public static synchronized boolean isEnabled() {
+		if( !_initialized )
+			init();
+		return _dir != null;
+	}
+	
+	/**
+	 * Clears the in-memory state (index and memoized keys), but keeps the persisted entries.
+	 * The index is lazily reloaded on the next access.
+	 */
+	public static synchronized void reset() {
+		_initialized = false;
+		_dir = null;
+		_size = 0;
+		_index.clear();
+		_memo.clear();
+	}
+	
+	/**
+	 * Indicates if a persisted matrix block of the given lineage item is available,
+	 * which only probes the in-memory index but does not read the block.
+	 * 
+	 * @param li lineage item
+	 * @return true if the index contains an entry for the lineage item
+	 */
+	public static synchronized boolean contains(LineageItem li) {
+		if( !isEnabled() || _index.isEmpty() )
+			return false;
+		String key = getKey(li);
+		return key != null && _index.containsKey(key);
+	}
+	
+	/**
+	 * Obtains the persisted matrix block of the given lineage item, if available.
+	 * Only the index lookup is synchronized, while the block is read outside the
+	 * critical section to not block concurrent probes and puts.
+	 * 
+	 * @param li lineage item
+	 * @return pair of matrix block and compute time (in nano sec), or null if not available
+	 */
+	public static Pair<MatrixBlock, Long> get(LineageItem li) {
+		String fname = null;
+		long computeTime = 0;
+		synchronized( LineagePersistentCache.class ) {
+			if( !isEnabled() || _index.isEmpty() )
+				return null;
+			String key = getKey(li);
+			PersistentEntry e = (key != null) ? _index.get(key) : null;
+			if( e == null )
+				return null;
+			e._timestamp = System.currentTimeMillis();
+			fname = getFileName(key);
+			computeTime = e._computeTime;
+		}
+		
+		long t0 = System.nanoTime();
+		MatrixBlock mb = null;
+		try {
+			mb = LocalFileUtils.readMatrixBlockFromLocal(fname);
+		}
+		catch(IOException ex) {
+			//robustness for concurrently deleted or corrupted entries
+			LOG.warn("Failed to read persistent lineage cache entry " + fname + ", removing it.", ex);
+			remove(li);
+			return null;
+		}
+		if( DMLScript.STATISTICS ) {
+			LineageCacheStatistics.incrementFSReadTime(System.nanoTime() - t0);
+			LineageCacheStatistics.incrementPersistHits();
+		}
+		return Pair.of(mb, computeTime);
+	}
+	
+	/**
+	 * Persists the given matrix block for the given lineage item, if its DAG is
+	 * reproducible across script invocations and recomputation is more expensive
+	 * than reading it from disk.
+	 * 
+	 * @param li lineage item
+	 * @param mb matrix block
+	 * @param computetime compute time in nano sec
+	 */
+	public static synchronized void put(LineageItem li, MatrixBlock mb, long computetime) {
+		if( !isEnabled() || mb == null )
+			return;
+		//check cost of recomputation vs read from disk (in msec)
+		double exectime = ((double) computetime) / 1000000;
+		double size = ((double) mb.getExactSizeOnDisk()) / (1024 * 1024);
+		double readtime = size / (mb.isInSparseFormat() ?
+			LineageCacheConfig.FSREAD_SPARSE : LineageCacheConfig.FSREAD_DENSE) * 1000;
+		if( exectime < LineageCacheConfig.MIN_SPILL_TIME_ESTIMATE || exectime < readtime )
+			return;
+		long bytes = mb.getExactSizeOnDisk();
+		if( bytes > _budget )
+			return;
+		String key = getKey(li);
+		if( key == null || _index.containsKey(key) )
+			return;
+		
+		long t0 = System.nanoTime();
+		makeSpace(bytes);
+		try {
+			//write to temporary file and rename (no partial entries on failures)
+			String fname = getFileName(key);
+			LocalFileUtils.writeMatrixBlockToLocal(fname + ".tmp", mb);
+			Files.move(new File(fname + ".tmp").toPath(), new File(fname).toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to write persistent lineage cache entry " + key + ".", ex);
+			return;
+		}
+		PersistentEntry e = new PersistentEntry(key, bytes, computetime, System.currentTimeMillis());
+		_index.put(key, e);
+		_size += bytes;
+		writeIndex();
+		if( DMLScript.STATISTICS ) {
+			LineageCacheStatistics.incrementFSWriteTime(System.nanoTime() - t0);
+			LineageCacheStatistics.incrementPersistWrites();
+		}
+	}
+	
+	/**
+	 * Computes a stable key of the given lineage DAG, which is independent of the
+	 * process-specific lineage item IDs and includes the fingerprints of read input files.
+	 * 
+	 * @param li lineage item
+	 * @return hex-encoded SHA-256 hash, or null if the DAG is not reproducible
+	 */
+	public static synchronized String getKey(LineageItem li) {
+		if( li == null || li.getType() != LineageItemType.Instruction )
+			return null;
+		MessageDigest md = null;
+		try {
+			md = MessageDigest.getInstance("SHA-256");
+		}
+		catch(NoSuchAlgorithmException ex) {
+			return null;
+		}
+		
+		//non-recursive post-order traversal (robustness for deep DAGs)
+		Map<LineageItem, String> keys = new IdentityHashMap<>();
+		Deque<LineageItem> stack = new ArrayDeque<>();
+		stack.push(li);
+		while( !stack.isEmpty() ) {
+			LineageItem tmp = stack.peek();
+			if( keys.containsKey(tmp) ) {
+				stack.pop();
+				continue;
+			}
+			Pair<LineageItem, String> memo = _memo.get(tmp.getId());
+			if( memo != null && memo.getKey() == tmp ) {
+				keys.put(tmp, memo.getValue());
+				stack.pop();
+				continue;
+			}
+			boolean ready = true;
+			if( tmp.getInputs() != null )
+				for( LineageItem in : tmp.getInputs() )
+					if( !keys.containsKey(in) ) {
+						stack.push(in);
+						ready = false;
+					}
+			if( !ready )
+				continue;
+			
+			stack.pop();
+			String key = computeItemKey(tmp, keys, md);
+			if( key == null || keys.size() > MAX_DAG_SIZE )
+				return null;
+			keys.put(tmp, key);
+			_memo.put(tmp.getId(), Pair.of(tmp, key));
+		}
+		return keys.get(li);
+	}
+	
+	public static synchronized long getSize() {
+		return _size;
+	}
+	
+	public static synchronized int getNumEntries() {
+		return _index.size();
+	}
+	
+	private static synchronized void remove(LineageItem li) {
+		String key = getKey(li);
+		PersistentEntry e = (key != null) ? _index.get(key) : null;
+		if( e == null )
+			return;
+		removeEntry(e);
+		writeIndex();
+	}
+	
+	//----------------- INTERNAL IMPLEMENTATION --------------------//
+	
+	private static String computeItemKey(LineageItem li, Map<LineageItem, String> keys, MessageDigest md) {
+		if( li.isPlaceholder() )
+			return null;
+		StringBuilder sb = new StringBuilder();
+		switch( li.getType() ) {
+			case Literal: {
+				//bound variables without lineage (e.g., in-memory inputs) are not reproducible
+				String[] parts = li.getData().split(Instruction.VALUETYPE_PREFIX);
+				if( parts.length > 1 && !parts[1].equals(DataType.SCALAR.name()) )
+					return null;
+				sb.append(li.getData());
+				break;
+			}
+			case Creation: {
+				if( !isReproducibleCreation(li.getOpcode()) )
+					return null;
+				sb.append(li.getOpcode());
+				sb.append(Instruction.OPERAND_DELIM);
+				sb.append(li.getData());
+				if( li.getOpcode().equals("createvar") || li.getOpcode().equals("read") ) {
+					String fp = getFileFingerprint(li.getData());
+					if( fp == null )
+						return null;
+					sb.append(Instruction.OPERAND_DELIM);
+					sb.append(fp);
+				}
+				break;
+			}
+			case Instruction: {
+				sb.append(li.getOpcode());
+				sb.append(Instruction.OPERAND_DELIM);
+				sb.append(li.getData());
+				for( LineageItem in : li.getInputs() ) {
+					sb.append(Instruction.OPERAND_DELIM);
+					sb.append(keys.get(in));
+				}
+				break;
+			}
+			default: //dedup items
+				return null;
+		}
+		md.reset();
+		byte[] hash = md.digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+		StringBuilder hex = new StringBuilder(hash.length * 2);
+		for( byte b : hash )
+			hex.append(String.format("%02x", b));
+		return hex.toString();
+	}
+	
+	private static boolean isReproducibleCreation(String opcode) {
+		for( String op : CREATION_OPCODES )
+			if( op.equals(opcode) )
+				return true;
+		return false;
+	}
+	
+	private static String getFileFingerprint(String data) {
+		try {
+			//persistent reads: [opcode, varname, filename, ...]
+			String[] parts = InstructionUtils.getInstructionPartsWithValueType(data);
+			if( parts.length < 3 )
+				return null;
+			String fname = parts[2].split(Instruction.VALUETYPE_PREFIX)[0];
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path);
+			if( !fs.exists(path) )
+				return null;
+			FileStatus stat = fs.getFileStatus(path);
+			long len = stat.isDirectory() ? fs.getContentSummary(path).getLength() : stat.getLen();
+			long mtime = stat.getModificationTime();
+			if( stat.isDirectory() )
+				for( FileStatus fstat : fs.listStatus(path) )
+					mtime = Math.max(mtime, fstat.getModificationTime());
+			return len + "_" + mtime;
+		}
+		catch(Exception ex) {
+			LOG.debug("Failed to compute file fingerprint for lineage item: " + data, ex);
+			return null;
+		}
+	}
+	
+	private static String getFileName(String key) {
+		return _dir + File.separator + key + DATA_SUFFIX;
+	}
+	
+	private static void makeSpace(long bytes) {
+		if( _size + bytes <= _budget )
+			return;
+		List<PersistentEntry> entries = new ArrayList<>(_index.values());
+		entries.sort(EVICTION_ORDER);
+		for( PersistentEntry e : entries ) {
+			if( _size + bytes <= _budget )
+				break;
+			removeEntry(e);
+		}
+	}
+	
+	private static void removeEntry(PersistentEntry e) {
+		if( _index.remove(e._key) != null )
+			_size -= e._size;
+		LocalFileUtils.deleteFileIfExists(getFileName(e._key), true);
+		if( DMLScript.STATISTICS )
+			LineageCacheStatistics.incrementPersistDeletes();
+	}
+	
+	private static void readIndex() {
+		_index.clear();
+		_size = 0;
+		File index = new File(_dir, INDEX_FNAME);
+		if( !index.exists() )
+			return;
+		try( BufferedReader br = Files.newBufferedReader(index.toPath(), StandardCharsets.UTF_8) ) {
+			String line = null;
+			while( (line = br.readLine()) != null ) {
+				String[] parts = line.split(",");
+				if( parts.length != 4 || !new File(getFileName(parts[0])).exists() )
+					continue; //skip corrupted or deleted entries
+				PersistentEntry e = new PersistentEntry(parts[0], Long.parseLong(parts[1]),
+					Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+				_index.put(e._key, e);
+				_size += e._size;
+			}
+		}
+		catch(IOException | NumberFormatException ex) {
+			LOG.warn("Failed to read persistent lineage cache index " + index + ".", ex);
+		}
+	}
+	
+	private static void writeIndex() {
+		File index = new File(_dir, INDEX_FNAME);
+		File tmp = new File(_dir, INDEX_FNAME + ".tmp");
+		try {
+			try( BufferedWriter bw = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8) ) {
+				for( PersistentEntry e : _index.values() ) {
+					bw.write(e._key + "," + e._size + "," + e._computeTime + "," + e._timestamp);
+					bw.newLine();
+				}
+			}
+			Files.move(tmp.toPath(), index.toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to write persistent lineage cache index " + index + ".", ex);
+		}
+	}
+}
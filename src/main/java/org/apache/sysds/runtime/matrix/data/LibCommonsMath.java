@@ -23,14 +23,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.commons.math3.exception.MaxCountExceededException;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
-import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.linear.CholeskyDecomposition;
-import org.apache.commons.math3.linear.DecompositionSolver;
 import org.apache.commons.math3.linear.EigenDecomposition;
-import org.apache.commons.math3.linear.LUDecomposition;
-import org.apache.commons.math3.linear.QRDecomposition;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.SingularValueDecomposition;
+import org.apache.commons.math3.util.Precision;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.functionobjects.Multiply;
@@ -55,6 +52,9 @@ import org.apache.sysds.runtime.util.DataConverter;
  * 
  * This library currently supports following operations:
  * matrix inverse, matrix decompositions (QR, LU, Eigen), solve 
+ * 
+ * Note that most operations are computed via the multi-threaded
+ * dense kernels in {@link LibMatrixDenseLA}.
  */
 public class LibCommonsMath 
 {
@@ -79,11 +79,14 @@ public class LibCommonsMath
 	}
 		
 	public static MatrixBlock unaryOperations(MatrixBlock inj, String opcode) {
-		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(inj);
+		return unaryOperations(inj, opcode, 1);
+	}
+
+	public static MatrixBlock unaryOperations(MatrixBlock inj, String opcode, int threads) {
 		if(opcode.equals("inverse"))
-			return computeMatrixInverse(matrixInput);
+			return computeMatrixInverse(inj, threads);
 		else if (opcode.equals("cholesky"))
-			return computeCholesky(matrixInput);
+			return computeCholesky(inj, threads);
 		return null;
 	}
 
@@ -91,6 +94,10 @@ public class LibCommonsMath
 		return multiReturnOperations(in, opcode, 1, 1);
 	}
 
+	public static MatrixBlock[] multiReturnOperations(MatrixBlock in, String opcode, int threads) {
+		return multiReturnOperations(in, opcode, threads, 1);
+	}
+
 	public static MatrixBlock[] multiReturnOperations(MatrixBlock in, String opcode, int threads, int num_iterations, double tol) {
 		if(opcode.equals("eigen_qr"))
 			return computeEigenQR(in, num_iterations, tol, threads);
@@ -100,27 +107,31 @@ public class LibCommonsMath
 
 	public static MatrixBlock[] multiReturnOperations(MatrixBlock in, String opcode, int threads, long seed) {
 		if(opcode.equals("qr"))
-			return computeQR(in);
+			return computeQR(in, threads);
 		else if (opcode.equals("qr2"))
 			return computeQR2(in, threads);
 		else if (opcode.equals("lu"))
-			return computeLU(in);
+			return computeLU(in, threads);
 		else if (opcode.equals("eigen"))
-			return computeEigen(in);
+			return computeEigen(in, threads);
 		else if (opcode.equals("eigen_lanczos"))
 			return computeEigenLanczos(in, threads, seed);
 		else if (opcode.equals("eigen_qr"))
 			return computeEigenQR(in, threads);
 		else if (opcode.equals("svd"))
-			return computeSvd(in);
+			return computeSvd(in, threads);
 		return null;
 	}
 	
 	public static MatrixBlock matrixMatrixOperations(MatrixBlock in1, MatrixBlock in2, String opcode) {
+		return matrixMatrixOperations(in1, in2, opcode, 1);
+	}
+
+	public static MatrixBlock matrixMatrixOperations(MatrixBlock in1, MatrixBlock in2, String opcode, int threads) {
 		if(opcode.equals("solve")) {
 			if (in1.getNumRows() != in1.getNumColumns())
 				throw new DMLRuntimeException("The A matrix, in solve(A,b) should have squared dimensions.");
-			return computeSolve(in1, in2);
+			return computeSolve(in1, in2, threads);
 		}
 		return null;
 	}
@@ -130,90 +141,67 @@ public class LibCommonsMath
 	 * 
 	 * @param in1 matrix object 1
 	 * @param in2 matrix object 2
+	 * @param threads number of threads
 	 * @return matrix block
 	 */
-	private static MatrixBlock computeSolve(MatrixBlock in1, MatrixBlock in2) {
-		//convert to commons math BlockRealMatrix instead of Array2DRowRealMatrix
-		//to avoid unnecessary conversion as QR internally creates a BlockRealMatrix
-		BlockRealMatrix matrixInput = DataConverter.convertToBlockRealMatrix(in1);
-		BlockRealMatrix vectorInput = DataConverter.convertToBlockRealMatrix(in2);
-		
-		/*LUDecompositionImpl ludecompose = new LUDecompositionImpl(matrixInput);
-		DecompositionSolver lusolver = ludecompose.getSolver();
-		RealMatrix solutionMatrix = lusolver.solve(vectorInput);*/
-		
-		// Setup a solver based on QR Decomposition
-		QRDecomposition qrdecompose = new QRDecomposition(matrixInput);
-		DecompositionSolver solver = qrdecompose.getSolver();
-		// Invoke solve
-		RealMatrix solutionMatrix = solver.solve(vectorInput);
-		
-		return DataConverter.convertToMatrixBlock(solutionMatrix);
+	private static MatrixBlock computeSolve(MatrixBlock in1, MatrixBlock in2, int threads) {
+		//blocked LU decomposition with partial pivoting, and substitution
+		return LibMatrixDenseLA.solve(in1, in2, threads);
 	}
 	
 	/**
 	 * Function to perform QR decomposition on a given matrix.
 	 * 
 	 * @param in matrix object
+	 * @param threads number of threads
 	 * @return array of matrix blocks
 	 */
-	private static MatrixBlock[] computeQR(MatrixBlock in) {
-		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
-		
-		// Perform QR decomposition
-		QRDecomposition qrdecompose = new QRDecomposition(matrixInput);
-		RealMatrix H = qrdecompose.getH();
-		RealMatrix R = qrdecompose.getR();
-		
-		// Read the results into native format
-		MatrixBlock mbH = DataConverter.convertToMatrixBlock(H.getData());
-		MatrixBlock mbR = DataConverter.convertToMatrixBlock(R.getData());
-
-		return new MatrixBlock[] { mbH, mbR };
+	private static MatrixBlock[] computeQR(MatrixBlock in, int threads) {
+		return LibMatrixDenseLA.qr(in, threads);
 	}
 	
 	/**
 	 * Function to perform LU decomposition on a given matrix.
 	 * 
 	 * @param in matrix object
+	 * @param threads number of threads
 	 * @return array of matrix blocks
 	 */
-	private static MatrixBlock[] computeLU(MatrixBlock in) {
+	private static MatrixBlock[] computeLU(MatrixBlock in, int threads) {
 		if(in.getNumRows() != in.getNumColumns()) {
 			throw new DMLRuntimeException(
 				"LU Decomposition can only be done on a square matrix. Input matrix is rectangular (rows="
 					+ in.getNumRows() + ", cols=" + in.getNumColumns() + ")");
 		}
-		
-		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
-		
-		// Perform LUP decomposition
-		LUDecomposition ludecompose = new LUDecomposition(matrixInput);
-		RealMatrix P = ludecompose.getP();
-		RealMatrix L = ludecompose.getL();
-		RealMatrix U = ludecompose.getU();
-		
-		// Read the results into native format
-		MatrixBlock mbP = DataConverter.convertToMatrixBlock(P.getData());
-		MatrixBlock mbL = DataConverter.convertToMatrixBlock(L.getData());
-		MatrixBlock mbU = DataConverter.convertToMatrixBlock(U.getData());
-
-		return new MatrixBlock[] { mbP, mbL, mbU };
+		return LibMatrixDenseLA.lu(in, threads);
 	}
 	
 	/**
 	 * Function to perform Eigen decomposition on a given matrix.
-	 * Input must be a symmetric matrix.
+	 * Input must be a symmetric matrix, otherwise (or if the tridiagonal QL
+	 * algorithm does not converge) we fall back to Commons Math.
 	 * 
 	 * @param in matrix object
+	 * @param threads number of threads
 	 * @return array of matrix blocks
 	 */
-	private static MatrixBlock[] computeEigen(MatrixBlock in) {
+	private static MatrixBlock[] computeEigen(MatrixBlock in, int threads) {
 		if ( in.getNumRows() != in.getNumColumns() ) {
 			throw new DMLRuntimeException("Eigen Decomposition can only be done on a square matrix. "
 				+ "Input matrix is rectangular (rows=" + in.getNumRows() + ", cols="+ in.getNumColumns() +")");
 		}
 		
+		//symmetry tolerance as used by commons math eigen decomposition
+		double symTol = 10 * Precision.EPSILON * in.getNumRows() * in.getNumColumns();
+		if( in.getNumRows() > 0 && LibMatrixDenseLA.isSymmetric(in, symTol) ) {
+			try {
+				return LibMatrixDenseLA.eigenSymmetric(in, threads);
+			}
+			catch(DMLRuntimeException ex) {
+				LOG.warn(ex.getMessage()+" Falling back to commons math eigen factorization.");
+			}
+		}
+		
 		EigenDecomposition eigendecompose = null;
 		try {
 			Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
@@ -253,16 +241,23 @@ public class LibCommonsMath
 	}
 
 	/**
-	 * Performs Singular Value Decomposition. Calls Apache Commons Math SVD.
+	 * Performs Singular Value Decomposition.
 	 * X = U * Sigma * Vt, where X is the input matrix,
 	 * U is the left singular matrix, Sigma is the singular values matrix returned as a
 	 * column matrix and Vt is the transpose of the right singular matrix V.
 	 * However, the returned array has  { U, Sigma, V}
+	 * The decomposition is computed via one-sided Jacobi, except for rank-deficient
+	 * inputs, for which we fall back to Commons Math.
 	 * 
 	 * @param in Input matrix
+	 * @param threads number of threads
 	 * @return An array containing U, Sigma & V
 	 */
-	private static MatrixBlock[] computeSvd(MatrixBlock in) {
+	private static MatrixBlock[] computeSvd(MatrixBlock in, int threads) {
+		MatrixBlock[] ret = LibMatrixDenseLA.svd(in, threads);
+		if( ret != null )
+			return ret;
+		
 		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
 
 		SingularValueDecomposition svd = new SingularValueDecomposition(matrixInput);
@@ -280,36 +275,31 @@ public class LibCommonsMath
 	/**
 	 * Function to compute matrix inverse via matrix decomposition.
 	 * 
-	 * @param in commons-math3 Array2DRowRealMatrix
+	 * @param in matrix object
+	 * @param threads number of threads
 	 * @return matrix block
 	 */
-	private static MatrixBlock computeMatrixInverse(Array2DRowRealMatrix in) {
-		if(!in.isSquare())
-			throw new DMLRuntimeException("Input to inv() must be square matrix -- given: a " + in.getRowDimension()
-				+ "x" + in.getColumnDimension() + " matrix.");
-
-		QRDecomposition qrdecompose = new QRDecomposition(in);
-		DecompositionSolver solver = qrdecompose.getSolver();
-		RealMatrix inverseMatrix = solver.getInverse();
-
-		return DataConverter.convertToMatrixBlock(inverseMatrix.getData());
+	private static MatrixBlock computeMatrixInverse(MatrixBlock in, int threads) {
+		if(in.getNumRows() != in.getNumColumns())
+			throw new DMLRuntimeException("Input to inv() must be square matrix -- given: a " + in.getNumRows()
+				+ "x" + in.getNumColumns() + " matrix.");
+		return LibMatrixDenseLA.inverse(in, threads);
 	}
 
 	/**
 	 * Function to compute Cholesky decomposition of the given input matrix. 
 	 * The input must be a real symmetric positive-definite matrix.
 	 * 
-	 * @param in commons-math3 Array2DRowRealMatrix
+	 * @param in matrix object
+	 * @param threads number of threads
 	 * @return matrix block
 	 */
-	private static MatrixBlock computeCholesky(Array2DRowRealMatrix in) {
-		if(!in.isSquare())
+	private static MatrixBlock computeCholesky(MatrixBlock in, int threads) {
+		if(in.getNumRows() != in.getNumColumns())
 			throw new DMLRuntimeException("Input to cholesky() must be square matrix -- given: a "
-				+ in.getRowDimension() + "x" + in.getColumnDimension() + " matrix.");
-		CholeskyDecomposition cholesky = new CholeskyDecomposition(in, RELATIVE_SYMMETRY_THRESHOLD,
-			CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
-		RealMatrix rmL = cholesky.getL();
-		return DataConverter.convertToMatrixBlock(rmL.getData());
+				+ in.getNumRows() + "x" + in.getNumColumns() + " matrix.");
+		return LibMatrixDenseLA.cholesky(in, RELATIVE_SYMMETRY_THRESHOLD,
+			CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD, threads);
 	}
 
 	/**
@@ -37,6 +37,7 @@ import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
 import org.apache.sysds.runtime.data.SparseBlockFactory;
 import org.apache.sysds.runtime.functionobjects.Builtin;
 import org.apache.sysds.runtime.functionobjects.Builtin.BuiltinCode;
@@ -147,8 +148,9 @@ public class LibMatrixAgg {
 			return;
 		}
 		
-		//ensure MCSR instead of CSR for update in-place
-		if( aggVal.sparse && aggVal.isAllocated() && aggVal.getSparseBlock() instanceof SparseBlockCSR )
+		//ensure MCSR instead of CSR/DCSR for update in-place
+		if( aggVal.sparse && aggVal.isAllocated() && (aggVal.getSparseBlock() instanceof SparseBlockCSR
+			|| aggVal.getSparseBlock() instanceof SparseBlockDCSR) )
 			aggVal.sparseBlock = SparseBlockFactory.copySparseBlock(SparseBlock.Type.MCSR, aggVal.getSparseBlock(), true);
 		if( aggCorr.sparse && aggCorr.isAllocated() && aggCorr.getSparseBlock() instanceof SparseBlockCSR )
 			aggCorr.sparseBlock = SparseBlockFactory.copySparseBlock(SparseBlock.Type.MCSR, aggCorr.getSparseBlock(), true);
@@ -2422,6 +2424,10 @@ public class LibMatrixAgg {
 	 * @param ru row upper index
 	 */
 	private static void s_uarkp( SparseBlock a, DenseBlock c, int n, KahanObject kbuff, KahanPlus kplus, int rl, int ru ) {
+		if( a instanceof SparseBlockDCSR ) {
+			s_uarkpDCSR((SparseBlockDCSR) a, c, kbuff, kplus, rl, ru);
+			return;
+		}
 		//compute row aggregates
 		for( int i=rl; i<ru; i++ ) {
 			if( a.isEmpty(i) ) continue;
@@ -2501,6 +2507,10 @@ public class LibMatrixAgg {
 	 */
 	private static void s_uarsqkp(SparseBlock a, DenseBlock c, int n, KahanObject kbuff, KahanPlusSq kplusSq, int rl, int ru )
 	{
+		if( a instanceof SparseBlockDCSR ) {
+			s_uarkpDCSR((SparseBlockDCSR) a, c, kbuff, kplusSq, rl, ru);
+			return;
+		}
 		//compute row aggregates
 		for (int i=rl; i<ru; i++) {
 			if( a.isEmpty(i) ) continue;
@@ -2510,6 +2520,27 @@ public class LibMatrixAgg {
 		}
 	}
 
+	/**
+	 * ROWSUM/ROWSUM_SQ, opcodes: uark+/uarsqk+, sparse DCSR input, which
+	 * iterates over the non-empty rows only.
+	 * 
+	 * @param a DCSR sparse block
+	 * @param c output dense block
+	 * @param kbuff Kahan buffer
+	 * @param kplus Kahan operator
+	 * @param rl row lower index
+	 * @param ru row upper index
+	 */
+	private static void s_uarkpDCSR( SparseBlockDCSR a, DenseBlock c, KahanObject kbuff, KahanFunction kplus, int rl, int ru ) {
+		int[] rix = a.rowIndexes();
+		int[] rptr = a.rowPointers();
+		for( int ix=a.rowPos(rl); ix<a.numNonEmptyRows() && rix[ix]<ru; ix++ ) {
+			kbuff.set(0, 0); //reset buffer
+			sum(a.values(), rptr[ix], rptr[ix+1]-rptr[ix], kbuff, kplus);
+			c.set(rix[ix], kbuff);
+		}
+	}
+
 	/**
 	 * COLSUM_SQ, opcode: uacsqk+, sparse input.
 	 *
@@ -56,6 +56,7 @@ import org.apache.sysds.runtime.functionobjects.Plus;
 import org.apache.sysds.runtime.functionobjects.PlusMultiply;
 import org.apache.sysds.runtime.functionobjects.Power2;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
+import org.apache.sysds.runtime.matrix.data.LibMatrixSIMD.VectorKernels;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
@@ -1229,6 +1230,11 @@ public class LibMatrixBincell {
 		ValueFunction fn = op.fn;
 		int clen = m1.clen;
 		
+		//use vectorized kernels for common ops if SIMD backend enabled
+		VectorKernels simd = LibMatrixSIMD.get();
+		boolean isSIMD = simd != null && clen >= LibMatrixSIMD.MIN_VECTOR_LENGTH
+			&& (fn instanceof Plus || fn instanceof Minus || fn instanceof Multiply);
+		
 		//compute dense-dense binary, maintain nnz on-the-fly
 		long lnnz = 0;
 		for(int i=rl; i<ru; i++) {
@@ -1242,6 +1248,15 @@ public class LibMatrixBincell {
 				LibMatrixMult.vectMultiplyAdd(cntPM, b, c, pos, pos, clen);
 				lnnz += UtilFunctions.computeNnz(c, pos, clen);
 			}
+			else if( isSIMD ) {
+				if( fn instanceof Plus )
+					simd.vectAddWrite(a, b, c, pos, pos, pos, clen);
+				else if( fn instanceof Minus )
+					simd.vectMinusWrite(a, b, c, pos, pos, pos, clen);
+				else
+					simd.vectMultiplyWrite(a, b, c, pos, pos, pos, clen);
+				lnnz += UtilFunctions.computeNnz(c, pos, clen);
+			}
 			else {
 				for(int j=pos; j<pos+clen; j++) {
 					c[j] = fn.execute(a[j], b[j]);
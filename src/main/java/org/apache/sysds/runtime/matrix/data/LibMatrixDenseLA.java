@@ -0,0 +1,807 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.SortUtils;
+
+/**
+ * Library of native-Java dense linear algebra kernels, i.e., blocked Cholesky,
+ * blocked LU with partial pivoting, Householder QR with panel-wise application
+ * of the reflectors, symmetric eigen decomposition via tridiagonalization and
+ * implicit QL, one-sided Jacobi SVD, as well as solve and inverse via LU.
+ * 
+ * All kernels operate on row-major dense copies of the inputs, and parallelize
+ * the O(n^3) trailing updates over rows or columns with k threads. The outputs
+ * are compatible with the Apache Commons Math decompositions used before (e.g.,
+ * Householder vectors H and R for QR, and P, L, U with P %*% A = L %*% U for LU).
+ */
+public class LibMatrixDenseLA
+{
+	//number of columns per panel of the blocked factorizations
+	public static int BLOCKSIZE = 64;
+	
+	//number of columns per cache block of the LU trailing update
+	private static final int COL_BLOCKSIZE = 256;
+	//minimum number of floating point operations for parallel execution
+	private static final long PAR_MIN_FLOPS = 256 * 1024;
+	private static final double EPS = Math.ulp(1.0);
+	private static final int MAX_QL_ITERATIONS = 30;
+	private static final int MAX_JACOBI_SWEEPS = 60;
+	
+	private LibMatrixDenseLA() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Computes the Cholesky decomposition A = L %*% t(L) of a symmetric
+	 * positive definite matrix via a blocked right-looking algorithm.
+	 * 
+	 * @param in square input matrix
+	 * @param relSymThreshold relative threshold for the symmetry check
+	 * @param absPosThreshold absolute threshold for the positivity check of pivots
+	 * @param k number of threads
+	 * @return lower triangular matrix L
+	 */
+	public static MatrixBlock cholesky(MatrixBlock in, double relSymThreshold, double absPosThreshold, int k) {
+		final int n = in.getNumRows();
+		final double[] a = toDenseArray(in);
+		ExecutorService pool = createPool(k);
+		try {
+			if( !isSymmetric(a, n, relSymThreshold, pool, k) )
+				throw new DMLRuntimeException("Input to cholesky() must be a symmetric matrix.");
+			
+			for( int kb = 0; kb < n; kb += BLOCKSIZE ) {
+				final int bl = kb, bu = Math.min(kb + BLOCKSIZE, n);
+				
+				//factorize diagonal block (previous panels already subtracted)
+				for( int j = bl; j < bu; j++ ) {
+					final int jx = j * n;
+					double d = a[jx+j] - LibMatrixMult.dotProduct(a, a, jx+bl, jx+bl, j-bl);
+					if( d <= absPosThreshold )
+						throw new DMLRuntimeException("Input to cholesky() must be a positive definite "
+							+ "matrix -- non-positive pivot " + d + " in row " + j + ".");
+					double ljj = Math.sqrt(d);
+					a[jx+j] = ljj;
+					for( int i = j+1; i < bu; i++ ) {
+						final int ix = i * n;
+						a[ix+j] = (a[ix+j] - LibMatrixMult.dotProduct(a, a, ix+bl, jx+bl, j-bl)) / ljj;
+					}
+				}
+				if( bu == n )
+					break;
+				
+				//triangular solve L21 = A21 %*% inv(t(L11)), rows in parallel
+				final int b = bu - bl;
+				parFor(pool, k, bu, n, (long) (n-bu) * b * b, (rl, ru) -> {
+					for( int i = rl; i < ru; i++ ) {
+						final int ix = i * n;
+						for( int j = bl; j < bu; j++ ) {
+							final int jx = j * n;
+							a[ix+j] = (a[ix+j] - LibMatrixMult.dotProduct(a, a, ix+bl, jx+bl, j-bl)) / a[jx+j];
+						}
+					}
+				});
+				
+				//symmetric rank-b update A22 -= L21 %*% t(L21), lower triangle, rows in parallel
+				parFor(pool, k, bu, n, (long) (n-bu) * (n-bu) * b, (rl, ru) -> {
+					for( int i = rl; i < ru; i++ ) {
+						final int ix = i * n;
+						for( int j = bu; j <= i; j++ )
+							a[ix+j] -= LibMatrixMult.dotProduct(a, a, ix+bl, j*n+bl, b);
+					}
+				});
+			}
+			
+			//clear upper triangle
+			parFor(pool, k, 0, n, (long) n * n, (rl, ru) -> {
+				for( int i = rl; i < ru; i++ )
+					Arrays.fill(a, i*n+i+1, (i+1)*n, 0);
+			});
+		}
+		finally {
+			shutdown(pool);
+		}
+		return toMatrixBlock(n, n, a);
+	}
+	
+	/**
+	 * Computes the LU decomposition with partial pivoting P %*% A = L %*% U
+	 * via a blocked right-looking algorithm.
+	 * 
+	 * @param in square input matrix
+	 * @param k number of threads
+	 * @return array of matrix blocks [P, L, U]
+	 */
+	public static MatrixBlock[] lu(MatrixBlock in, int k) {
+		final int n = in.getNumRows();
+		final double[] a = toDenseArray(in);
+		final int[] perm = new int[n];
+		ExecutorService pool = createPool(k);
+		try {
+			luFactorize(a, n, perm, pool, k);
+		}
+		finally {
+			shutdown(pool);
+		}
+		
+		//split into permutation matrix, unit lower, and upper triangular factors
+		double[] p = new double[n * n];
+		double[] l = new double[n * n];
+		double[] u = new double[n * n];
+		for( int i = 0; i < n; i++ ) {
+			final int ix = i * n;
+			p[ix+perm[i]] = 1;
+			System.arraycopy(a, ix, l, ix, i);
+			l[ix+i] = 1;
+			System.arraycopy(a, ix+i, u, ix+i, n-i);
+		}
+		return new MatrixBlock[] {toMatrixBlock(n, n, p), toMatrixBlock(n, n, l), toMatrixBlock(n, n, u)};
+	}
+	
+	/**
+	 * Solves the system of equations A %*% X = B via LU decomposition.
+	 * 
+	 * @param in1 square matrix A
+	 * @param in2 right-hand side B
+	 * @param k number of threads
+	 * @return solution X
+	 */
+	public static MatrixBlock solve(MatrixBlock in1, MatrixBlock in2, int k) {
+		final int n = in1.getNumRows();
+		final int nrhs = in2.getNumColumns();
+		if( in2.getNumRows() != n )
+			throw new DMLRuntimeException("Dimension mismatch in solve(A,b): A has " + n
+				+ " rows, but b has " + in2.getNumRows() + " rows.");
+		final double[] a = toDenseArray(in1);
+		final double[] b = toDenseArray(in2);
+		final int[] perm = new int[n];
+		ExecutorService pool = createPool(k);
+		try {
+			luFactorize(a, n, perm, pool, k);
+			checkNonSingular(a, n);
+			//apply row permutation to right-hand side and solve
+			double[] pb = new double[n * nrhs];
+			for( int i = 0; i < n; i++ )
+				System.arraycopy(b, perm[i]*nrhs, pb, i*nrhs, nrhs);
+			luSolve(a, n, pb, nrhs, pool, k);
+			return toMatrixBlock(n, nrhs, pb);
+		}
+		finally {
+			shutdown(pool);
+		}
+	}
+	
+	/**
+	 * Computes the inverse of a square matrix via LU decomposition.
+	 * 
+	 * @param in square input matrix
+	 * @param k number of threads
+	 * @return inverse matrix
+	 */
+	public static MatrixBlock inverse(MatrixBlock in, int k) {
+		final int n = in.getNumRows();
+		final double[] a = toDenseArray(in);
+		final int[] perm = new int[n];
+		ExecutorService pool = createPool(k);
+		try {
+			luFactorize(a, n, perm, pool, k);
+			checkNonSingular(a, n);
+			//solve A %*% X = I, i.e., L %*% U %*% X = P
+			double[] x = new double[n * n];
+			for( int i = 0; i < n; i++ )
+				x[i*n+perm[i]] = 1;
+			luSolve(a, n, x, n, pool, k);
+			return toMatrixBlock(n, n, x);
+		}
+		finally {
+			shutdown(pool);
+		}
+	}
+	
+	/**
+	 * Computes the QR decomposition via Householder reflections. The reflectors
+	 * are computed and applied panel by panel, where each trailing column receives
+	 * all reflectors of a panel at once (columns in parallel), which keeps the
+	 * panel in cache. The outputs are compatible with the Commons Math QRDecomposition.
+	 * 
+	 * @param in input matrix
+	 * @param k number of threads
+	 * @return array of matrix blocks [H, R], where H contains the Householder vectors
+	 */
+	public static MatrixBlock[] qr(MatrixBlock in, int k) {
+		final int m = in.getNumRows();
+		final int n = in.getNumColumns();
+		final int p = Math.min(m, n);
+		final double[] a = toDenseArray(in);
+		
+		//column-major copy, i.e., rows of qrt are the columns of the input
+		final double[] qrt = new double[m * n];
+		for( int i = 0; i < m; i++ )
+			for( int j = 0; j < n; j++ )
+				qrt[j*m+i] = a[i*n+j];
+		final double[] rdiag = new double[p];
+		
+		ExecutorService pool = createPool(k);
+		try {
+			for( int kb = 0; kb < p; kb += BLOCKSIZE ) {
+				final int bl = kb, bu = Math.min(kb + BLOCKSIZE, p);
+				
+				//factorize panel (reflectors applied to remaining panel columns)
+				for( int minor = bl; minor < bu; minor++ ) {
+					final int mn = minor;
+					computeReflector(qrt, m, mn, rdiag);
+					parFor(pool, k, mn+1, bu, 4L * (m-mn) * (bu-mn-1), (cl, cu) -> {
+						for( int col = cl; col < cu; col++ )
+							applyReflector(qrt, m, mn, rdiag[mn], col);
+					});
+				}
+				
+				//apply all panel reflectors to the trailing columns, columns in parallel
+				parFor(pool, k, bu, n, 4L * m * (bu-bl) * (n-bu), (cl, cu) -> {
+					for( int col = cl; col < cu; col++ )
+						for( int minor = bl; minor < bu; minor++ )
+							applyReflector(qrt, m, minor, rdiag[minor], col);
+				});
+			}
+		}
+		finally {
+			shutdown(pool);
+		}
+		
+		//extract Householder vectors H (m x n) and upper triangular R (m x n)
+		double[] h = new double[m * n];
+		double[] r = new double[m * n];
+		for( int i = 0; i < m; i++ )
+			for( int j = 0; j < Math.min(i+1, n); j++ )
+				h[i*n+j] = qrt[j*m+i] / -rdiag[j];
+		for( int i = 0; i < p; i++ ) {
+			r[i*n+i] = rdiag[i];
+			for( int j = i+1; j < n; j++ )
+				r[i*n+j] = qrt[j*m+i];
+		}
+		return new MatrixBlock[] {toMatrixBlock(m, n, h), toMatrixBlock(m, n, r)};
+	}
+	
+	/**
+	 * Computes the eigen decomposition of a symmetric matrix via Householder
+	 * tridiagonalization (rank-2 updates, rows in parallel) and the implicit QL
+	 * algorithm (rotations of a sweep applied to the eigenvectors in parallel).
+	 * 
+	 * @param in symmetric input matrix
+	 * @param k number of threads
+	 * @return array of matrix blocks [eigenvalues, eigenvectors], sorted in increasing order
+	 */
+	public static MatrixBlock[] eigenSymmetric(MatrixBlock in, int k) {
+		final int n = in.getNumRows();
+		final double[] a = toDenseArray(in);
+		final double[] d = new double[n];
+		final double[] e = new double[n];
+		final double[] beta = new double[n];
+		final double[] w = new double[n];
+		final double[] q = new double[n * n];
+		
+		ExecutorService pool = createPool(k);
+		try {
+			//tridiagonalization, reflector of column j stored in row j
+			for( int j = 0; j < n-2; j++ ) {
+				final int jx = j * n, off = j + 1, len = n - off;
+				d[j] = a[jx+j];
+				double x0 = a[jx+off];
+				double xnorm = Math.sqrt(LibMatrixMult.dotProduct(a, a, jx+off, jx+off, len));
+				double alpha = (x0 > 0) ? -xnorm : xnorm;
+				e[j] = alpha;
+				if( alpha == 0 )
+					continue;
+				a[jx+off] = x0 - alpha;
+				final double bj = 1 / (alpha * alpha - x0 * alpha);
+				beta[j] = bj;
+				
+				//p = beta * A22 %*% v
+				parFor(pool, k, off, n, 2L * len * len, (rl, ru) -> {
+					for( int i = rl; i < ru; i++ )
+						w[i] = bj * LibMatrixMult.dotProduct(a, a, i*n+off, jx+off, len);
+				});
+				//w = p - beta/2 * (t(p) %*% v) * v
+				double c = 0.5 * bj * LibMatrixMult.dotProduct(w, a, off, jx+off, len);
+				LibMatrixMult.vectMultiplyAdd(-c, a, w, jx+off, off, len);
+				//A22 = A22 - v %*% t(w) - w %*% t(v)
+				parFor(pool, k, off, n, 4L * len * len, (rl, ru) -> {
+					for( int i = rl; i < ru; i++ ) {
+						final int ix = i * n + off;
+						LibMatrixMult.vectMultiplyAdd(-a[jx+i], w, a, off, ix, len);
+						LibMatrixMult.vectMultiplyAdd(-w[i], a, a, jx+off, ix, len);
+					}
+				});
+			}
+			if( n >= 2 ) {
+				d[n-2] = a[(n-2)*n+n-2];
+				e[n-2] = a[(n-2)*n+n-1];
+			}
+			d[n-1] = a[n*n-1];
+			
+			//accumulate t(Q) = H_(n-3) ... H_0 (rows of q are the columns of Q)
+			for( int i = 0; i < n; i++ )
+				q[i*n+i] = 1;
+			for( int j = n-3; j >= 0; j-- ) {
+				if( beta[j] == 0 )
+					continue;
+				final int jx = j * n, off = j + 1, len = n - off;
+				final double bj = beta[j];
+				parFor(pool, k, off, n, 4L * len * len, (rl, ru) -> {
+					for( int i = rl; i < ru; i++ ) {
+						final int ix = i * n + off;
+						double s = bj * LibMatrixMult.dotProduct(q, a, ix, jx+off, len);
+						if( s != 0 )
+							LibMatrixMult.vectMultiplyAdd(-s, a, q, jx+off, ix, len);
+					}
+				});
+			}
+			
+			//eigen decomposition of the tridiagonal matrix
+			tql(d, e, q, n, pool, k);
+		}
+		finally {
+			shutdown(pool);
+		}
+		
+		//sort eigenvalues and eigenvectors in increasing order
+		int[] ix = new int[n];
+		for( int i = 0; i < n; i++ )
+			ix[i] = i;
+		double[] eval = d.clone();
+		SortUtils.sortByValueStable(0, n, eval, ix);
+		double[] evec = new double[n * n];
+		for( int j = 0; j < n; j++ ) {
+			final int qx = ix[j] * n;
+			for( int i = 0; i < n; i++ )
+				evec[i*n+j] = q[qx+i];
+		}
+		return new MatrixBlock[] {toMatrixBlock(n, 1, eval), toMatrixBlock(n, n, evec)};
+	}
+	
+	/**
+	 * Computes the singular value decomposition A = U %*% diag(S) %*% t(V) via the
+	 * one-sided Jacobi algorithm, where disjoint column pairs of a round-robin ordering
+	 * are orthogonalized in parallel. For rank-deficient inputs (where the left singular
+	 * vectors of zero singular values are undefined), or without convergence, this
+	 * method returns null and the caller is expected to fall back to Commons Math.
+	 * 
+	 * @param in input matrix
+	 * @param k number of threads
+	 * @return array of matrix blocks [U, S, V] as in Commons Math, or null
+	 */
+	public static MatrixBlock[] svd(MatrixBlock in, int k) {
+		final boolean trans = in.getNumRows() < in.getNumColumns();
+		final int m = Math.max(in.getNumRows(), in.getNumColumns());
+		final int n = Math.min(in.getNumRows(), in.getNumColumns());
+		final double[] a = toDenseArray(in);
+		
+		//rows of g are the columns of the (transposed) input, rows of v the columns of V
+		final double[] g;
+		if( trans )
+			g = a;
+		else {
+			g = new double[m * n];
+			for( int i = 0; i < m; i++ )
+				for( int j = 0; j < n; j++ )
+					g[j*m+i] = a[i*n+j];
+		}
+		final double[] v = new double[n * n];
+		for( int i = 0; i < n; i++ )
+			v[i*n+i] = 1;
+		
+		//round-robin ordering of column pairs (n even, incl dummy column n)
+		final int nn = n + (n % 2);
+		final int[] order = new int[nn];
+		for( int i = 0; i < nn; i++ )
+			order[i] = i;
+		final double tol = m * EPS;
+		
+		boolean converged = (n <= 1);
+		ExecutorService pool = createPool(k);
+		try {
+			for( int sweep = 0; sweep < MAX_JACOBI_SWEEPS && !converged; sweep++ ) {
+				final AtomicBoolean rotated = new AtomicBoolean(false);
+				for( int round = 0; round < nn-1; round++ ) {
+					parFor(pool, k, 0, nn/2, 6L * (m+n) * nn, (rl, ru) -> {
+						boolean lrotated = false;
+						for( int i = rl; i < ru; i++ ) {
+							int c1 = Math.min(order[i], order[nn-1-i]);
+							int c2 = Math.max(order[i], order[nn-1-i]);
+							if( c2 < n )
+								lrotated |= rotateColumns(g, v, m, n, c1, c2, tol);
+						}
+						if( lrotated )
+							rotated.set(true);
+					});
+					//rotate all but the first position
+					int last = order[nn-1];
+					System.arraycopy(order, 1, order, 2, nn-2);
+					if( nn > 1 )
+						order[1] = last;
+				}
+				converged = !rotated.get();
+			}
+		}
+		finally {
+			shutdown(pool);
+		}
+		if( !converged )
+			return null;
+		
+		//singular values and sorting in decreasing order
+		int[] ix = new int[n];
+		double[] sigma = new double[n];
+		for( int j = 0; j < n; j++ ) {
+			ix[j] = j;
+			sigma[j] = -Math.sqrt(LibMatrixMult.dotProduct(g, g, j*m, j*m, m));
+		}
+		SortUtils.sortByValueStable(0, n, sigma, ix);
+		for( int j = 0; j < n; j++ )
+			sigma[j] = -sigma[j];
+		if( n > 0 && (sigma[0] == 0 || sigma[n-1] <= sigma[0] * m * EPS) )
+			return null; //rank-deficient
+		
+		double[] u = new double[m * n];
+		double[] vt = new double[n * n];
+		for( int j = 0; j < n; j++ ) {
+			final int gx = ix[j] * m, vx = ix[j] * n;
+			for( int i = 0; i < m; i++ )
+				u[i*n+j] = g[gx+i] / sigma[j];
+			for( int i = 0; i < n; i++ )
+				vt[i*n+j] = v[vx+i];
+		}
+		MatrixBlock mbU = toMatrixBlock(m, n, u);
+		MatrixBlock mbV = toMatrixBlock(n, n, vt);
+		MatrixBlock mbS = toMatrixBlock(n, 1, sigma);
+		mbS = LibMatrixReorg.diag(mbS, new MatrixBlock(n, n, true));
+		return trans ?
+			new MatrixBlock[] {mbV, mbS, mbU} :
+			new MatrixBlock[] {mbU, mbS, mbV};
+	}
+	
+	/**
+	 * Indicates if the given matrix is symmetric according to the relative threshold,
+	 * i.e., |a_ij - a_ji| &lt;= threshold * max(|a_ij|, |a_ji|) for all i, j.
+	 * 
+	 * @param in square input matrix
+	 * @param relThreshold relative threshold
+	 * @return true if the input is symmetric
+	 */
+	public static boolean isSymmetric(MatrixBlock in, double relThreshold) {
+		final int n = in.getNumRows();
+		return n == in.getNumColumns()
+			&& isSymmetric(toDenseArray(in), n, relThreshold, null, 1);
+	}
+	
+	private static boolean isSymmetric(double[] a, int n, double relThreshold, ExecutorService pool, int k) {
+		final AtomicBoolean ret = new AtomicBoolean(true);
+		parFor(pool, k, 0, n, (long) n * n, (rl, ru) -> {
+			for( int i = rl; i < ru && ret.get(); i++ )
+				for( int j = i+1; j < n; j++ ) {
+					double aij = a[i*n+j], aji = a[j*n+i];
+					if( Math.abs(aij - aji) > relThreshold * Math.max(Math.abs(aij), Math.abs(aji)) ) {
+						ret.set(false);
+						return;
+					}
+				}
+		});
+		return ret.get();
+	}
+	
+	private static void luFactorize(double[] a, int n, int[] perm, ExecutorService pool, int k) {
+		for( int i = 0; i < n; i++ )
+			perm[i] = i;
+		for( int kb = 0; kb < n; kb += BLOCKSIZE ) {
+			final int bl = kb, bu = Math.min(kb + BLOCKSIZE, n);
+			
+			//factorize panel with partial pivoting (row swaps over entire rows)
+			for( int j = bl; j < bu; j++ ) {
+				int piv = j;
+				double max = Math.abs(a[j*n+j]);
+				for( int i = j+1; i < n; i++ )
+					if( Math.abs(a[i*n+j]) > max ) {
+						max = Math.abs(a[i*n+j]);
+						piv = i;
+					}
+				if( piv != j ) {
+					swapRows(a, n, piv, j);
+					int tmp = perm[piv];
+					perm[piv] = perm[j];
+					perm[j] = tmp;
+				}
+				final double ajj = a[j*n+j];
+				if( ajj == 0 )
+					continue; //singular
+				final int lj = j, jx = j * n;
+				parFor(pool, k, j+1, n, 2L * (n-j) * (bu-j), (rl, ru) -> {
+					for( int i = rl; i < ru; i++ ) {
+						final int ix = i * n;
+						double lij = (a[ix+lj] /= ajj);
+						if( lij != 0 )
+							LibMatrixMult.vectMultiplyAdd(-lij, a, a, jx+lj+1, ix+lj+1, bu-lj-1);
+					}
+				});
+			}
+			if( bu == n )
+				break;
+			
+			//U12 = inv(L11) %*% A12, columns in parallel
+			parFor(pool, k, bu, n, (long) (bu-bl) * (bu-bl) * (n-bu), (cl, cu) -> {
+				for( int j = bl; j < bu; j++ )
+					for( int i = j+1; i < bu; i++ ) {
+						double lij = a[i*n+j];
+						if( lij != 0 )
+							LibMatrixMult.vectMultiplyAdd(-lij, a, a, j*n+cl, i*n+cl, cu-cl);
+					}
+			});
+			
+			//A22 = A22 - L21 %*% U12, rows in parallel, cache-blocked over columns
+			parFor(pool, k, bu, n, 2L * (n-bu) * (n-bu) * (bu-bl), (rl, ru) -> {
+				for( int cl = bu; cl < n; cl += COL_BLOCKSIZE ) {
+					final int len = Math.min(COL_BLOCKSIZE, n - cl);
+					for( int i = rl; i < ru; i++ ) {
+						final int ix = i * n;
+						for( int p = bl; p < bu; p++ ) {
+							double lip = a[ix+p];
+							if( lip != 0 )
+								LibMatrixMult.vectMultiplyAdd(-lip, a, a, p*n+cl, ix+cl, len);
+						}
+					}
+				}
+			});
+		}
+	}
+	
+	private static void luSolve(double[] lu, int n, double[] b, int nrhs, ExecutorService pool, int k) {
+		if( nrhs == 1 ) {
+			//forward and backward substitution of a single vector
+			for( int i = 0; i < n; i++ )
+				b[i] -= LibMatrixMult.dotProduct(lu, b, i*n, 0, i);
+			for( int i = n-1; i >= 0; i-- )
+				b[i] = (b[i] - LibMatrixMult.dotProduct(lu, b, i*n+i+1, i+1, n-i-1)) / lu[i*n+i];
+			return;
+		}
+		//forward and backward substitution of column ranges in parallel
+		parFor(pool, k, 0, nrhs, 2L * n * n * nrhs, (cl, cu) -> {
+			final int len = cu - cl;
+			for( int i = 0; i < n; i++ ) {
+				final int ix = i * n, bix = i * nrhs + cl;
+				for( int p = 0; p < i; p++ )
+					if( lu[ix+p] != 0 )
+						LibMatrixMult.vectMultiplyAdd(-lu[ix+p], b, b, p*nrhs+cl, bix, len);
+			}
+			for( int i = n-1; i >= 0; i-- ) {
+				final int ix = i * n, bix = i * nrhs + cl;
+				for( int p = i+1; p < n; p++ )
+					if( lu[ix+p] != 0 )
+						LibMatrixMult.vectMultiplyAdd(-lu[ix+p], b, b, p*nrhs+cl, bix, len);
+				final double uii = lu[ix+i];
+				for( int j = 0; j < len; j++ )
+					b[bix+j] /= uii;
+			}
+		});
+	}
+	
+	private static void checkNonSingular(double[] lu, int n) {
+		for( int i = 0; i < n; i++ )
+			if( lu[i*n+i] == 0 )
+				throw new DMLRuntimeException("Matrix is singular (zero pivot in row " + i + ").");
+	}
+	
+	private static void swapRows(double[] a, int n, int r1, int r2) {
+		final int r1x = r1 * n, r2x = r2 * n;
+		for( int j = 0; j < n; j++ ) {
+			double tmp = a[r1x+j];
+			a[r1x+j] = a[r2x+j];
+			a[r2x+j] = tmp;
+		}
+	}
+	
+	private static void computeReflector(double[] qrt, int m, int minor, double[] rdiag) {
+		final int mx = minor * m + minor;
+		double xnorm = Math.sqrt(LibMatrixMult.dotProduct(qrt, qrt, mx, mx, m-minor));
+		double a = (qrt[mx] > 0) ? -xnorm : xnorm;
+		rdiag[minor] = a;
+		if( a != 0 )
+			qrt[mx] -= a;
+	}
+	
+	private static void applyReflector(double[] qrt, int m, int minor, double a, int col) {
+		if( a == 0 )
+			return;
+		final int mx = minor * m + minor, cx = col * m + minor;
+		double alpha = -LibMatrixMult.dotProduct(qrt, qrt, cx, mx, m-minor) / (a * qrt[mx]);
+		LibMatrixMult.vectMultiplyAdd(-alpha, qrt, qrt, mx, cx, m-minor);
+	}
+	
+	/**
+	 * Implicit QL algorithm for symmetric tridiagonal matrices (see EISPACK tql2),
+	 * where the rotations of a sweep are recorded and then applied to the rows of
+	 * q (i.e., the columns of the eigenvector matrix) in parallel over columns.
+	 */
+	private static void tql(double[] d, double[] e, double[] q, int n, ExecutorService pool, int k) {
+		final double[] cs = new double[n];
+		final double[] sn = new double[n];
+		double f = 0, tst1 = 0;
+		e[n-1] = 0;
+		for( int l = 0; l < n; l++ ) {
+			tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+			int m = l;
+			while( m < n-1 && Math.abs(e[m]) > EPS * tst1 )
+				m++;
+			if( m > l ) {
+				int iter = 0;
+				do {
+					if( ++iter > MAX_QL_ITERATIONS )
+						throw new DMLRuntimeException("Eigen: no convergence of the implicit QL algorithm.");
+					//compute implicit shift
+					double g = d[l];
+					double p = (d[l+1] - g) / (2 * e[l]);
+					double r = Math.hypot(p, 1);
+					if( p < 0 )
+						r = -r;
+					d[l] = e[l] / (p + r);
+					d[l+1] = e[l] * (p + r);
+					double dl1 = d[l+1];
+					double h = g - d[l];
+					for( int i = l+2; i < n; i++ )
+						d[i] -= h;
+					f += h;
+					
+					//implicit QL transformation
+					p = d[m];
+					double c = 1, c2 = 1, c3 = 1;
+					double el1 = e[l+1];
+					double s = 0, s2 = 0;
+					for( int i = m-1; i >= l; i-- ) {
+						c3 = c2;
+						c2 = c;
+						s2 = s;
+						g = c * e[i];
+						h = c * p;
+						r = Math.hypot(p, e[i]);
+						e[i+1] = s * r;
+						s = e[i] / r;
+						c = p / r;
+						p = c * d[i] - s * g;
+						d[i+1] = h + s * (c * g + s * d[i]);
+						cs[i] = c;
+						sn[i] = s;
+					}
+					p = -s * s2 * c3 * el1 * e[l] / dl1;
+					e[l] = s * p;
+					d[l] = c * p;
+					
+					//apply recorded rotations to the eigenvectors
+					final int ll = l, lm = m;
+					parFor(pool, k, 0, n, 6L * n * (m-l), (cl, cu) -> {
+						for( int i = lm-1; i >= ll; i-- ) {
+							final int ix = i * n, ix1 = ix + n;
+							final double lc = cs[i], ls = sn[i];
+							for( int j = cl; j < cu; j++ ) {
+								double qi1 = q[ix1+j];
+								q[ix1+j] = ls * q[ix+j] + lc * qi1;
+								q[ix+j] = lc * q[ix+j] - ls * qi1;
+							}
+						}
+					});
+				}
+				while( Math.abs(e[l]) > EPS * tst1 );
+			}
+			d[l] += f;
+			e[l] = 0;
+		}
+	}
+	
+	private static boolean rotateColumns(double[] g, double[] v, int m, int n, int p, int q, double tol) {
+		final int px = p * m, qx = q * m;
+		double alpha = LibMatrixMult.dotProduct(g, g, px, px, m);
+		double beta = LibMatrixMult.dotProduct(g, g, qx, qx, m);
+		double gamma = LibMatrixMult.dotProduct(g, g, px, qx, m);
+		if( gamma == 0 || Math.abs(gamma) <= tol * Math.sqrt(alpha) * Math.sqrt(beta) )
+			return false;
+		double zeta = (beta - alpha) / (2 * gamma);
+		double t = ((zeta >= 0) ? 1 : -1) / (Math.abs(zeta) + Math.sqrt(1 + zeta * zeta));
+		double c = 1 / Math.sqrt(1 + t * t);
+		double s = c * t;
+		rotate(g, px, qx, m, c, s);
+		rotate(v, p * n, q * n, n, c, s);
+		return true;
+	}
+	
+	private static void rotate(double[] a, int px, int qx, int len, double c, double s) {
+		for( int i = 0; i < len; i++ ) {
+			double ap = a[px+i], aq = a[qx+i];
+			a[px+i] = c * ap - s * aq;
+			a[qx+i] = s * ap + c * aq;
+		}
+	}
+	
+	private static double[] toDenseArray(MatrixBlock in) {
+		return DataConverter.convertToDoubleVector(
+			CompressedMatrixBlock.getUncompressed(in), true);
+	}
+	
+	private static MatrixBlock toMatrixBlock(int m, int n, double[] a) {
+		MatrixBlock ret = new MatrixBlock(m, n, a);
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+	
+	private static ExecutorService createPool(int k) {
+		return (k > 1) ? CommonThreadPool.get(k) : null;
+	}
+	
+	private static void shutdown(ExecutorService pool) {
+		if( pool != null )
+			pool.shutdown();
+	}
+	
+	private static void parFor(ExecutorService pool, int k, int rl, int ru, long flops, RangeTask task) {
+		final int len = ru - rl;
+		if( len <= 0 )
+			return;
+		if( pool == null || len == 1 || flops < PAR_MIN_FLOPS ) {
+			task.execute(rl, ru);
+			return;
+		}
+		//over-partitioning for load balance of triangular updates
+		final int blklen = (int) Math.ceil((double) len / Math.min(len, 4 * k));
+		ArrayList<Callable<Object>> tasks = new ArrayList<>();
+		for( int i = rl; i < ru; i += blklen ) {
+			final int lrl = i, lru = Math.min(i + blklen, ru);
+			tasks.add(() -> {
+				task.execute(lrl, lru);
+				return null;
+			});
+		}
+		try {
+			for( Future<Object> rt : pool.invokeAll(tasks) )
+				rt.get();
+		}
+		catch(ExecutionException ex) {
+			if( ex.getCause() instanceof DMLRuntimeException )
+				throw (DMLRuntimeException) ex.getCause();
+			throw new DMLRuntimeException(ex);
+		}
+		catch(InterruptedException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	@FunctionalInterface
+	private interface RangeTask {
+		void execute(int rl, int ru);
+	}
+}
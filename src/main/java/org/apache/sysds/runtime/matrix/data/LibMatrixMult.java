@@ -45,11 +45,13 @@ import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlock.Type;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
 import org.apache.sysds.runtime.data.SparseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.data.SparseRowScalar;
 import org.apache.sysds.runtime.functionobjects.SwapIndex;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
+import org.apache.sysds.runtime.matrix.data.LibMatrixSIMD.VectorKernels;
 import org.apache.sysds.runtime.matrix.operators.ReorgOperator;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.UtilFunctions;
@@ -192,12 +194,15 @@ public class LibMatrixMult
 		boolean sparse = !fixedRet && !ultraSparse && !m1Perm
 			&& isSparseOutputMatrixMult(m1, m2);
 		
-		// allocate output
+		// allocate output (DCSR for tall outputs w/ tiny ratio of non-empty rows)
 		if(ret == null)
 			ret = new MatrixBlock(m1.rlen, m2.clen, ultraSparse | sparse);
 		else 
 			ret.reset(m1.rlen, m2.clen, ultraSparse | sparse);
-		ret.allocateBlock();
+		if(ultraSparse && !fixedRet && m1.sparse && SparseBlockFactory.isUltraSparseRows(m1.rlen, m1.nonZeros))
+			ret.allocateAndResetSparseBlock(true, Type.DCSR);
+		else
+			ret.allocateBlock();
 		
 		// Detect if we should transpose skinny right side.
 		boolean tm2 = !fixedRet && checkPrepMatrixMultRightInput(m1,m2);
@@ -1724,64 +1729,76 @@ public class LibMatrixMult
 	}
 	
 	private static void matrixMultUltraSparseLeft(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int rl, int ru) {
+		//left is ultra-sparse (IKJ)
+		SparseBlock a = m1.sparseBlock;
+		if( a instanceof SparseBlockDCSR ) {
+			//iterate over non-empty rows only (w/o row lookups)
+			SparseBlockDCSR da = (SparseBlockDCSR) a;
+			int[] rix = da.rowIndexes();
+			for( int ix=da.rowPos(rl); ix<da.numNonEmptyRows() && rix[ix]<ru; ix++ )
+				matrixMultUltraSparseLeftRow(m1, m2, ret, rix[ix]);
+		}
+		else {
+			for( int i=rl; i<ru; i++ )
+				if( !a.isEmpty(i) )
+					matrixMultUltraSparseLeftRow(m1, m2, ret, i);
+		}
+	}
+	
+	private static void matrixMultUltraSparseLeftRow(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int i) {
 		final int m  = m1.rlen;
 		final int n  = m2.clen;
-		
-		//left is ultra-sparse (IKJ)
 		SparseBlock a = m1.sparseBlock;
 		SparseBlock c = ret.sparseBlock;
 		boolean rightSparse = m2.sparse;
 		
-		for( int i=rl; i<ru; i++ ) {
-			if( a.isEmpty(i) ) continue; 
-			int apos = a.pos(i);
-			int alen = a.size(i);
-			int[] aixs = a.indexes(i);
-			double[] avals = a.values(i);
-			if( alen==1 ) { 
-				//row selection (now aggregation) with potential scaling
-				int aix = aixs[apos];
-				int lnnz = 0;
-				if( rightSparse ) { //sparse right matrix (full row copy)
-					if( !m2.sparseBlock.isEmpty(aix) ) {
-						ret.rlen=m;
-						ret.allocateSparseRowsBlock(false); //allocation on demand
-						boolean ldeep = (m2.sparseBlock instanceof SparseBlockMCSR);
-						ret.sparseBlock.set(i, m2.sparseBlock.get(aix), ldeep);
-						ret.nonZeros += (lnnz = ret.sparseBlock.size(i));
-					}
+		int apos = a.pos(i);
+		int alen = a.size(i);
+		int[] aixs = a.indexes(i);
+		double[] avals = a.values(i);
+		if( alen==1 ) { 
+			//row selection (now aggregation) with potential scaling
+			int aix = aixs[apos];
+			int lnnz = 0;
+			if( rightSparse ) { //sparse right matrix (full row copy)
+				if( !m2.sparseBlock.isEmpty(aix) ) {
+					ret.rlen=m;
+					ret.allocateSparseRowsBlock(false); //allocation on demand
+					boolean ldeep = (m2.sparseBlock instanceof SparseBlockMCSR);
+					ret.sparseBlock.set(i, m2.sparseBlock.get(aix), ldeep);
+					ret.nonZeros += (lnnz = ret.sparseBlock.size(i));
 				}
-				else { //dense right matrix (append all values)
-					lnnz = (int)m2.recomputeNonZeros(aix, aix, 0, n-1);
-					if( lnnz > 0 ) {
-						c.allocate(i, lnnz); //allocate once
-						double[] bvals = m2.getDenseBlock().values(aix);
-						for( int j=0, bix=m2.getDenseBlock().pos(aix); j<n; j++ )
-							c.append(i, j, bvals[bix+j]);
-						ret.nonZeros += lnnz;
-					}
+			}
+			else { //dense right matrix (append all values)
+				lnnz = (int)m2.recomputeNonZeros(aix, aix, 0, n-1);
+				if( lnnz > 0 ) {
+					c.allocate(i, lnnz); //allocate once
+					double[] bvals = m2.getDenseBlock().values(aix);
+					for( int j=0, bix=m2.getDenseBlock().pos(aix); j<n; j++ )
+						c.append(i, j, bvals[bix+j]);
+					ret.nonZeros += lnnz;
 				}
-
-				//optional scaling if not pure selection
-				if( avals[apos] != 1 && lnnz > 0 )
-					if(c.get(i) instanceof SparseRowScalar){
-						SparseRowScalar sv = (SparseRowScalar) c.get(i);
-						c.set(i, new SparseRowScalar(sv.getIndex(), sv.getValue() * avals[apos]), false);
-					}
-					else
-						vectMultiplyInPlace(avals[apos], c.values(i), c.pos(i), c.size(i));
-					
 			}
-			else { //GENERAL CASE
-				for( int k=apos; k<apos+alen; k++ ) {
-					double aval = avals[k];
-					int aix = aixs[k];
-					for( int j=0; j<n; j++ ) {
-						double cval = ret.quickGetValue(i, j);
-						double cvald = aval*m2.quickGetValue(aix, j);
-						if( cvald != 0 )
-							ret.quickSetValue(i, j, cval+cvald);
-					}
+
+			//optional scaling if not pure selection
+			if( avals[apos] != 1 && lnnz > 0 )
+				if(c.get(i) instanceof SparseRowScalar){
+					SparseRowScalar sv = (SparseRowScalar) c.get(i);
+					c.set(i, new SparseRowScalar(sv.getIndex(), sv.getValue() * avals[apos]), false);
+				}
+				else
+					vectMultiplyInPlace(avals[apos], c.values(i), c.pos(i), c.size(i));
+				
+		}
+		else { //GENERAL CASE
+			for( int k=apos; k<apos+alen; k++ ) {
+				double aval = avals[k];
+				int aix = aixs[k];
+				for( int j=0; j<n; j++ ) {
+					double cval = ret.quickGetValue(i, j);
+					double cvald = aval*m2.quickGetValue(aix, j);
+					if( cvald != 0 )
+						ret.quickSetValue(i, j, cval+cvald);
 				}
 			}
 		}
@@ -3253,6 +3270,10 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static double dotProduct( double[] a, double[] b, int ai, int bi, final int len )
 	{
+		final VectorKernels simd = LibMatrixSIMD.get();
+		if( simd != null && len >= LibMatrixSIMD.MIN_VECTOR_LENGTH )
+			return simd.dotProduct(a, b, ai, bi, len);
+		
 		double val = 0;
 		final int bn = len%8;
 		
@@ -3312,6 +3333,12 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectMultiplyAdd( final double aval, double[] b, double[] c, int bi, int ci, final int len )
 	{
+		final VectorKernels simd = LibMatrixSIMD.get();
+		if( simd != null && len >= LibMatrixSIMD.MIN_VECTOR_LENGTH ) {
+			simd.vectMultiplyAdd(aval, b, c, bi, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -3387,6 +3414,12 @@ public class LibMatrixMult
 
 	private static void vectMultiplyAdd4( final double aval1, final double aval2, final double aval3, final double aval4, double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, final int len )
 	{
+		final VectorKernels simd = LibMatrixSIMD.get();
+		if( simd != null && len >= LibMatrixSIMD.MIN_VECTOR_LENGTH ) {
+			simd.vectMultiplyAdd4(aval1, aval2, aval3, aval4, b, c, bi1, bi2, bi3, bi4, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;	
 		
 		//rest, not aligned to 8-blocks
@@ -3467,6 +3500,12 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectMultiplyWrite( final double aval, double[] b, double[] c, int bi, int ci, final int len )
 	{
+		final VectorKernels simd = LibMatrixSIMD.get();
+		if( simd != null && len >= LibMatrixSIMD.MIN_VECTOR_LENGTH ) {
+			simd.vectMultiplyWrite(aval, b, c, bi, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -3507,6 +3546,12 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectMultiplyWrite( double[] a, double[] b, double[] c, int ai, int bi, int ci, final int len )
 	{
+		final VectorKernels simd = LibMatrixSIMD.get();
+		if( simd != null && len >= LibMatrixSIMD.MIN_VECTOR_LENGTH ) {
+			simd.vectMultiplyWrite(a, b, c, ai, bi, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -3550,6 +3595,12 @@ public class LibMatrixMult
 
 	private static void vectMultiply( double[] a, double[] c, int ai, int ci, final int len )
 	{
+		final VectorKernels simd = LibMatrixSIMD.get();
+		if( simd != null && len >= LibMatrixSIMD.MIN_VECTOR_LENGTH ) {
+			simd.vectMultiply(a, c, ai, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -3595,6 +3646,12 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectAdd( double[] a, double[] c, int ai, int ci, final int len )
 	{
+		final VectorKernels simd = LibMatrixSIMD.get();
+		if( simd != null && len >= LibMatrixSIMD.MIN_VECTOR_LENGTH ) {
+			simd.vectAdd(a, c, ai, ci, len);
+			return;
+		}
+		
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -45,6 +45,8 @@ import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
+import org.apache.sysds.runtime.data.SparseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.data.SparseRowVector;
 import org.apache.sysds.runtime.functionobjects.DiagIndex;
@@ -177,14 +179,14 @@ public class LibMatrixReorg {
 		
 		// Timing time = new Timing(true);
 		
-		//allocate output arrays (if required)
-		if( out.sparse )
+		//allocate output arrays (if required, DCSR allocated on transpose)
+		boolean ultraSparse = (in.sparse && out.sparse && in.nonZeros < Math.max(in.rlen, in.clen));
+		if( out.sparse && !(ultraSparse && SparseBlockFactory.isUltraSparseRows(out.rlen, in.nonZeros)) )
 			out.allocateSparseRowsBlock(false);
-		else
+		else if( !out.sparse )
 			out.allocateDenseBlock(false);
 	
 		//execute transpose operation
-		boolean ultraSparse = (in.sparse && out.sparse && in.nonZeros < Math.max(in.rlen, in.clen));
 		if( !in.sparse && !out.sparse )
 			transposeDenseToDense(in, out, 0, in.rlen, 0, in.clen);
 		else if( ultraSparse )
@@ -1037,6 +1039,11 @@ public class LibMatrixReorg {
 	private static void transposeUltraSparse(MatrixBlock in, MatrixBlock out) {
 		//note: applied if nnz < max(rlen, clen) - so no cache blocking
 		// but basic, naive transposition in a single-threaded context
+		if( SparseBlockFactory.isUltraSparseRows(out.rlen, in.nonZeros) ) {
+			//tiny ratio of non-empty output rows (e.g., wide row vectors)
+			transposeUltraSparseDCSR(in, out);
+			return;
+		}
 		Iterator<IJV> iter = in.getSparseBlockIterator();
 		SparseBlock b = out.getSparseBlock();
 		while( iter.hasNext() ) {
@@ -1046,6 +1053,27 @@ public class LibMatrixReorg {
 		out.setNonZeros(in.getNonZeros());
 	}
 	
+	private static void transposeUltraSparseDCSR(MatrixBlock in, MatrixBlock out) {
+		//collect transposed triples, and sort them by output rows and columns
+		int nnz = (int) in.sparseBlock.size();
+		int[] rix = new int[nnz];
+		int[] cix = new int[nnz];
+		double[] vals = new double[nnz];
+		Iterator<IJV> iter = in.getSparseBlockIterator();
+		int pos = 0;
+		while( iter.hasNext() ) {
+			IJV cell = iter.next();
+			rix[pos] = cell.getJ();
+			cix[pos] = cell.getI();
+			vals[pos++] = cell.getV();
+		}
+		SortUtils.sortByIndex(0, pos, rix, cix, vals);
+		SparseBlockDCSR c = new SparseBlockDCSR(out.rlen, rix, cix, vals, pos);
+		c.sort(); //sort column indexes per row
+		out.sparseBlock = c;
+		out.setNonZeros(pos);
+	}
+	
 	private static void transposeSparseToSparse(MatrixBlock in, MatrixBlock out, int rl, int ru, int cl, int cu, int[] cnt)
 	{
 		//NOTE: called only in sequential or column-wise parallel execution
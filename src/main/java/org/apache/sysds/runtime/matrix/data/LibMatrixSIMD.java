@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Dispatcher for the optional SIMD backend of the dense vector primitives used by
+ * LibMatrixMult, LibMatrixBincell and (transitively) LibSpoofPrimitives.
+ *
+ * The actual kernels are implemented via the JDK Vector API in a separate source
+ * set (src/main/java17), which is only compiled with JDK 17+ and only loadable if
+ * the JVM was started with --add-modules jdk.incubator.vector. Therefore, the
+ * implementation is loaded via reflection, and if it is unavailable, all callers
+ * transparently fall back to the existing scalar (unrolled) kernels.
+ */
+public class LibMatrixSIMD
+{
+	private static final Log LOG = LogFactory.getLog(LibMatrixSIMD.class.getName());
+
+	private static final String IMPL_CLASS = "org.apache.sysds.runtime.matrix.data.LibMatrixSIMDVectorAPI";
+
+	//minimum vector length for SIMD dispatch (smaller vectors use the scalar kernels)
+	public static final int MIN_VECTOR_LENGTH = 16;
+
+	//loaded kernel implementation, null if disabled or unavailable
+	private static VectorKernels _kernels = null;
+	private static boolean _loadAttempted = false;
+	private static VectorKernels _loaded = null;
+
+	private LibMatrixSIMD() {
+		//prevent instantiation via private constructor
+	}
+
+	/**
+	 * Interface of SIMD kernels, with the same semantics as the
+	 * equally named scalar primitives in LibMatrixMult (except for
+	 * the order of floating point operations in reductions).
+	 */
+	public interface VectorKernels {
+		public double dotProduct(double[] a, double[] b, int ai, int bi, int len);
+		public void vectMultiplyAdd(double aval, double[] b, double[] c, int bi, int ci, int len);
+		public void vectMultiplyAdd4(double aval1, double aval2, double aval3, double aval4,
+			double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, int len);
+		public void vectMultiplyWrite(double aval, double[] b, double[] c, int bi, int ci, int len);
+		public void vectMultiplyWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len);
+		public void vectMultiply(double[] a, double[] c, int ai, int ci, int len);
+		public void vectAdd(double[] a, double[] c, int ai, int ci, int len);
+		public void vectAddWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len);
+		public void vectMinusWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len);
+		public String getName();
+	}
+
+	/**
+	 * Enables or disables the SIMD backend. If enabled but the Vector API
+	 * implementation is not available, the scalar kernels remain in use.
+	 *
+	 * @param flag true to enable the SIMD kernels
+	 * @return true if the SIMD kernels are in use after this call
+	 */
+	public static synchronized boolean setEnabled(boolean flag) {
+		_kernels = flag ? loadKernels() : null;
+		return _kernels != null;
+	}
+
+	public static boolean isEnabled() {
+		return _kernels != null;
+	}
+
+	/**
+	 * Obtains the SIMD kernels if enabled. Callers should obtain the kernels
+	 * once per primitive call and use the scalar kernels if null.
+	 *
+	 * @return enabled kernels or null if disabled or unavailable
+	 */
+	public static VectorKernels get() {
+		return _kernels;
+	}
+
+	/**
+	 * Obtains the SIMD kernels independent of the enabled flag.
+	 *
+	 * @return loaded kernels or null if unavailable
+	 */
+	public static synchronized VectorKernels getAvailable() {
+		return loadKernels();
+	}
+
+	public static String getBackendName() {
+		VectorKernels kernels = _kernels;
+		return (kernels != null) ? kernels.getName() : "scalar";
+	}
+
+	private static VectorKernels loadKernels() {
+		if( !_loadAttempted ) {
+			_loadAttempted = true;
+			try {
+				_loaded = (VectorKernels) Class.forName(IMPL_CLASS)
+					.getDeclaredConstructor().newInstance();
+				LOG.info("Loaded SIMD kernels: "+_loaded.getName());
+			}
+			catch(Throwable t) {
+				//class not compiled (JDK<17) or module jdk.incubator.vector not added
+				LOG.warn("Vector API kernels unavailable, falling back to scalar kernels: "+t);
+			}
+		}
+		return _loaded;
+	}
+}
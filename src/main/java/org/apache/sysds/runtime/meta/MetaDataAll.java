@@ -277,7 +277,8 @@ public class MetaDataAll extends DataIdentifier {
 				if (varParams.get(key.toString()) == null){
 					if (( !key.toString().equalsIgnoreCase(DataExpression.DESCRIPTIONPARAM) ) &&
 						( !key.toString().equalsIgnoreCase(DataExpression.AUTHORPARAM) ) &&
-						( !key.toString().equalsIgnoreCase(DataExpression.CREATEDPARAM) ) )
+						( !key.toString().equalsIgnoreCase(DataExpression.CREATEDPARAM) ) &&
+						( !key.toString().equalsIgnoreCase(DataExpression.CODECPARAM) ) )
 					{
 						StringIdentifier strId = new StringIdentifier(val.toString(), this);
 
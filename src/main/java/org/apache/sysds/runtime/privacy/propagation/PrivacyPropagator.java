@@ -248,6 +248,7 @@ public class PrivacyPropagator
 			case SPARK:
 			case GPU:
 			case FEDERATED:
+			case OUT_OF_CORE:
 				return inst;
 			default:
 				return throwExceptionIfInputOrInstPrivacy(inst, ec);
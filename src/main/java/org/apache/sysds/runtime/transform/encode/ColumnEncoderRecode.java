@@ -24,6 +24,7 @@ import static org.apache.sysds.runtime.util.UtilFunctions.getEndIndex;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.lang.ref.SoftReference;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,7 +38,15 @@ import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.compress.estim.sample.SampleEstimatorFactory;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.DoubleArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DoubleIntHashMap;
+import org.apache.sysds.runtime.util.LongIntHashMap;
+import org.apache.sysds.runtime.util.StringIntHashMap;
 import org.apache.sysds.utils.stats.TransformStatistics;
 
 public class ColumnEncoderRecode extends ColumnEncoder {
@@ -50,6 +59,14 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	private HashMap<Object, Long> _rcdMap;
 	private HashSet<Object> _rcdMapPart = null;
 
+	// primitive lookup map derived from the recode map (for apply on numeric
+	// columns), and the meta data column to reuse it across transformapply calls
+	// modification counter of the recode map (reset on init from meta data), which
+	// keys the lookup maps because in-place updates might retain the map size
+	private transient volatile RecodeLookup _rcdLookup = null;
+	private transient Array<?> _metaCol = null;
+	private transient volatile long _rcdVersion = 0;
+
 	public ColumnEncoderRecode(int colID) {
 		super(colID);
 		_rcdMap = new HashMap<>();
@@ -104,6 +121,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 
 	public void sortCPRecodeMaps() {
 		sortCPRecodeMaps(_rcdMap);
+		_rcdVersion++;
 	}
 
 	private static void sortCPRecodeMaps(HashMap<Object, Long> map) {
@@ -114,15 +132,94 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 			putCode(map, key);
 	}
 
-	private static void makeRcdMap(CacheBlock<?> in, HashMap<Object, Long> map, int colID, int startRow, int blk) {
-		for(int row = startRow; row < getEndIndex(in.getNumRows(), startRow, blk); row++){
-			String key = in.getString(row, colID - 1);
-			if(key != null && !key.isEmpty() && !map.containsKey(key))
-				putCode(map, key);
+	/**
+	 * Adds the distinct values of the given row range to the recode map.
+	 *
+	 * @return primitive map of the distinct numeric values and their codes, if the codes
+	 *         of the recode map equal the insertion order (empty map, no sorting), else null
+	 */
+	private static Object makeRcdMap(CacheBlock<?> in, HashMap<Object, Long> map, int colID, int startRow, int blk) {
+		int endRow = getEndIndex(in.getNumRows(), startRow, blk);
+		boolean empty = map.isEmpty();
+		Object typed = makeRcdMapTyped(in, map, colID, startRow, endRow);
+		if(typed == null) {
+			for(int row = startRow; row < endRow; row++){
+				String key = in.getString(row, colID - 1);
+				if(key != null && !key.isEmpty() && !map.containsKey(key))
+					putCode(map, key);
+			}
 		}
 		if(SORT_RECODE_MAP) {
 			sortCPRecodeMaps(map);
 		}
+		return (empty && !SORT_RECODE_MAP && !(typed instanceof StringIntHashMap)) ? typed : null;
+	}
+
+	private static Object makeRcdMapTyped(CacheBlock<?> in, HashMap<Object, Long> map, int colID, int startRow, int endRow) {
+		// collect the distinct values w/o per-row string conversions into a primitive map,
+		// and convert only the distinct values into the string tokens of the recode map
+		// (tokens equal the string representations of CacheBlock.getString); the values
+		// of the primitive map are the codes assigned by putCode for initially empty maps
+		if(in instanceof MatrixBlock) {
+			MatrixBlock mb = (MatrixBlock) in;
+			DoubleIntHashMap tmp = new DoubleIntHashMap();
+			for(int row = startRow; row < endRow; row++) {
+				double v = mb.quickGetValue(row, colID - 1);
+				if(!Double.isNaN(v))
+					tmp.putIfAbsent(v, tmp.size() + 1);
+			}
+			for(int i = 0; i < tmp.size(); i++)
+				putCodeIfAbsent(map, Double.toString(tmp.getKey(i)));
+			return tmp;
+		}
+		if(!(in instanceof FrameBlock))
+			return null;
+		Array<?> a = ((FrameBlock) in).getColumn(colID - 1);
+		if(a instanceof DoubleArray) {
+			double[] data = ((DoubleArray) a).get();
+			DoubleIntHashMap tmp = new DoubleIntHashMap();
+			for(int row = startRow; row < endRow; row++)
+				tmp.putIfAbsent(data[row], tmp.size() + 1);
+			for(int i = 0; i < tmp.size(); i++)
+				putCodeIfAbsent(map, Double.toString(tmp.getKey(i)));
+			return tmp;
+		}
+		else if(a instanceof LongArray) {
+			long[] data = ((LongArray) a).get();
+			LongIntHashMap tmp = new LongIntHashMap();
+			for(int row = startRow; row < endRow; row++)
+				tmp.putIfAbsent(data[row], tmp.size() + 1);
+			for(int i = 0; i < tmp.size(); i++)
+				putCodeIfAbsent(map, Long.toString(tmp.getKey(i)));
+			return tmp;
+		}
+		else if(a instanceof IntegerArray) {
+			int[] data = ((IntegerArray) a).get();
+			LongIntHashMap tmp = new LongIntHashMap();
+			for(int row = startRow; row < endRow; row++)
+				tmp.putIfAbsent(data[row], tmp.size() + 1);
+			for(int i = 0; i < tmp.size(); i++)
+				putCodeIfAbsent(map, Long.toString(tmp.getKey(i)));
+			return tmp;
+		}
+		else if(a instanceof StringArray) {
+			// arena-backed dictionary, which avoids retaining the row strings
+			StringIntHashMap tmp = new StringIntHashMap();
+			for(int row = startRow; row < endRow; row++) {
+				String key = ((StringArray) a).get(row);
+				if(key != null && !key.isEmpty())
+					tmp.putIfAbsent(key, tmp.size() + 1);
+			}
+			for(int i = 0; i < tmp.size(); i++)
+				putCodeIfAbsent(map, tmp.getKey(i));
+			return tmp;
+		}
+		return null;
+	}
+
+	private static void putCodeIfAbsent(HashMap<Object, Long> map, String key) {
+		if(!map.containsKey(key))
+			putCode(map, key);
 	}
 
 	private long lookupRCDMap(Object key) {
@@ -174,7 +271,11 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		if(!isApplicable())
 			return;
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-		makeRcdMap(in, _rcdMap, _colID, 0, in.getNumRows());
+		Object typed = makeRcdMap(in, _rcdMap, _colID, 0, in.getNumRows());
+		_rcdVersion++;
+		// keep the primitive build map as lookup map for a subsequent apply
+		if(typed != null)
+			_rcdLookup = new RecodeLookup(_rcdMap, _rcdVersion, typed instanceof LongIntHashMap, typed);
 		if(DMLScript.STATISTICS){
 			TransformStatistics.incRecodeBuildTime(System.nanoTime() - t0);
 		}
@@ -208,6 +309,9 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 
 	protected double getCode(CacheBlock<?> in, int r){
 		// lookup for a single row
+		RecodeLookup lookup = getLookup(in);
+		if(lookup != null)
+			return lookup.getCodes(in, _colID - 1, r, r + 1, new double[1])[0];
 		Object okey = in.getString(r, _colID - 1);
 		String key = (okey != null) ? okey.toString() : null;
 		if(key == null || key.isEmpty())
@@ -221,6 +325,9 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		// lookup for a block of rows
 		int endInd = getEndIndex(in.getNumRows(), startInd, blkSize);
 		double codes[] = new double[endInd-startInd];
+		RecodeLookup lookup = getLookup(in);
+		if(lookup != null)
+			return lookup.getCodes(in, _colID - 1, startInd, endInd, codes);
 		for (int i=startInd; i<endInd; i++) {
 			String key = in.getString(i, _colID-1);
 			if(key == null || key.isEmpty()) {
@@ -233,6 +340,53 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		return codes;
 	}
 
+	/**
+	 * Obtains the primitive lookup map for the given input, which avoids the string conversion
+	 * of numeric values per row. The lookup map is derived from the current recode map (and
+	 * invalidated on any change), and reused via the meta data column if available.
+	 *
+	 * @param in input cache block
+	 * @return lookup map, or null if not applicable for the input
+	 */
+	private RecodeLookup getLookup(CacheBlock<?> in) {
+		boolean isLong;
+		if(in instanceof MatrixBlock)
+			isLong = false;
+		else if(in instanceof FrameBlock) {
+			Array<?> a = ((FrameBlock) in).getColumn(_colID - 1);
+			if(a instanceof DoubleArray)
+				isLong = false;
+			else if(a instanceof LongArray || a instanceof IntegerArray)
+				isLong = true;
+			else
+				return null;
+		}
+		else
+			return null;
+
+		// probe encoder-local and meta data column lookup maps
+		RecodeLookup lookup = _rcdLookup;
+		if(lookup != null && lookup.isValid(_rcdMap, _rcdVersion, isLong))
+			return lookup._map != null ? lookup : null;
+		synchronized(this) {
+			lookup = _rcdLookup;
+			if(lookup == null || !lookup.isValid(_rcdMap, _rcdVersion, isLong)) {
+				Array<?> meta = _metaCol;
+				SoftReference<Object> ref = (meta != null) ? meta.getLookupCache() : null;
+				Object tmp = (ref != null) ? ref.get() : null;
+				if(tmp instanceof RecodeLookup && ((RecodeLookup) tmp).isValid(_rcdMap, _rcdVersion, isLong))
+					lookup = (RecodeLookup) tmp;
+				else {
+					lookup = new RecodeLookup(_rcdMap, _rcdVersion, isLong);
+					if(meta != null)
+						meta.setLookupCache(new SoftReference<>(lookup));
+				}
+				_rcdLookup = lookup;
+			}
+		}
+		return lookup._map != null ? lookup : null;
+	}
+
 	@Override
 	public void prepareBuildPartial() {
 		// ensure allocated partial recode map
@@ -279,6 +433,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 					putCode(_rcdMap, entry.getKey());
 				}
 			}
+			_rcdVersion++;
 		}
 	}
 
@@ -324,6 +479,8 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		if(meta == null || meta.getNumRows() <= 0)
 			return;
 		_rcdMap = meta.getRecodeMap(_colID - 1); // 1-based
+		_metaCol = meta.getColumn(_colID - 1);
+		_rcdVersion = 0;
 	}
 
 	@Override
@@ -346,6 +503,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 			Long value = in.readLong();
 			_rcdMap.put(key, value);
 		}
+		_rcdVersion++;
 	}
 
 	@Override
@@ -378,6 +536,101 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		return sb.toString();
 	}
 
+	/**
+	 * Primitive lookup map of the numeric tokens of a recode map. Tokens that do not
+	 * equal the string representation of their parsed value cannot match any input
+	 * value and are therefore not included.
+	 */
+	private static class RecodeLookup {
+		private final HashMap<Object, Long> _src;
+		private final long _version;
+		private final boolean _isLong;
+		private final Object _map;
+
+		private RecodeLookup(HashMap<Object, Long> src, long version, boolean isLong) {
+			this(src, version, isLong, isLong ? createLongMap(src) : createDoubleMap(src));
+		}
+
+		private RecodeLookup(HashMap<Object, Long> src, long version, boolean isLong, Object map) {
+			_src = src;
+			_version = version;
+			_isLong = isLong;
+			_map = map;
+		}
+
+		private boolean isValid(HashMap<Object, Long> src, long version, boolean isLong) {
+			return _src == src && _version == version && _isLong == isLong;
+		}
+
+		private double[] getCodes(CacheBlock<?> in, int c, int rl, int ru, double[] codes) {
+			if(in instanceof MatrixBlock) {
+				MatrixBlock mb = (MatrixBlock) in;
+				for(int i = rl; i < ru; i++) {
+					double v = mb.quickGetValue(i, c);
+					codes[i - rl] = Double.isNaN(v) ? Double.NaN : toCode(((DoubleIntHashMap) _map).get(v));
+				}
+				return codes;
+			}
+			Array<?> a = ((FrameBlock) in).getColumn(c);
+			if(a instanceof DoubleArray) {
+				double[] data = ((DoubleArray) a).get();
+				for(int i = rl; i < ru; i++)
+					codes[i - rl] = toCode(((DoubleIntHashMap) _map).get(data[i]));
+			}
+			else if(a instanceof LongArray) {
+				long[] data = ((LongArray) a).get();
+				for(int i = rl; i < ru; i++)
+					codes[i - rl] = toCode(((LongIntHashMap) _map).get(data[i]));
+			}
+			else {
+				int[] data = ((IntegerArray) a).get();
+				for(int i = rl; i < ru; i++)
+					codes[i - rl] = toCode(((LongIntHashMap) _map).get(data[i]));
+			}
+			return codes;
+		}
+
+		private static double toCode(int code) {
+			return (code < 0) ? Double.NaN : code;
+		}
+
+		private static LongIntHashMap createLongMap(HashMap<Object, Long> src) {
+			LongIntHashMap ret = new LongIntHashMap(src.size());
+			for(Entry<Object, Long> e : src.entrySet()) {
+				String token = e.getKey().toString();
+				if(e.getValue() > Integer.MAX_VALUE)
+					return null;
+				try {
+					long v = Long.parseLong(token);
+					if(Long.toString(v).equals(token))
+						ret.put(v, e.getValue().intValue());
+				}
+				catch(NumberFormatException ex) {
+					// non-numeric token
+				}
+			}
+			return ret;
+		}
+
+		private static DoubleIntHashMap createDoubleMap(HashMap<Object, Long> src) {
+			DoubleIntHashMap ret = new DoubleIntHashMap(src.size());
+			for(Entry<Object, Long> e : src.entrySet()) {
+				String token = e.getKey().toString();
+				if(e.getValue() > Integer.MAX_VALUE)
+					return null;
+				try {
+					double v = Double.parseDouble(token);
+					if(Double.toString(v).equals(token))
+						ret.put(v, e.getValue().intValue());
+				}
+				catch(NumberFormatException ex) {
+					// non-numeric token
+				}
+			}
+			return ret;
+		}
+	}
+
 	private static class RecodeSparseApplyTask extends ColumnApplyTask<ColumnEncoderRecode>{
 
 		public RecodeSparseApplyTask(ColumnEncoderRecode encoder, CacheBlock<?> input, MatrixBlock out, int outputCol) {
@@ -468,6 +721,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 				});
 			});
 			_encoder._rcdMap = rcdMap;
+			_encoder._rcdVersion++;
 			if(DMLScript.STATISTICS){
 				TransformStatistics.incRecodeBuildTime(System.nanoTime() - t0);
 			}
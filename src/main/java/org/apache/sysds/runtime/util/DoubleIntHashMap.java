@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.util;
+
+/**
+ * Native double - int hashmap with the same layout as LongIntHashMap. Keys are
+ * compared by their bit representation (same semantics as Double.equals), i.e.,
+ * all NaN values are equal but -0.0 and 0.0 are distinct keys.
+ */
+public class DoubleIntHashMap
+{
+	private final LongIntHashMap _map;
+
+	public DoubleIntHashMap() {
+		_map = new LongIntHashMap();
+	}
+
+	public DoubleIntHashMap(int capacity) {
+		_map = new LongIntHashMap(capacity);
+	}
+
+	public int size() {
+		return _map.size();
+	}
+
+	/**
+	 * Obtains the value of the given key.
+	 *
+	 * @param key key
+	 * @return value, or -1 if the key does not exist
+	 */
+	public int get(double key) {
+		return _map.get(Double.doubleToLongBits(key));
+	}
+
+	public boolean containsKey(double key) {
+		return _map.containsKey(Double.doubleToLongBits(key));
+	}
+
+	/**
+	 * Adds the given key with the given value if the key does not exist yet.
+	 *
+	 * @param key   key
+	 * @param value non-negative value
+	 * @return existing value, or -1 if the key was added
+	 */
+	public int putIfAbsent(double key, int value) {
+		return _map.putIfAbsent(Double.doubleToLongBits(key), value);
+	}
+
+	public void put(double key, int value) {
+		_map.put(Double.doubleToLongBits(key), value);
+	}
+
+	public double getKey(int i) {
+		return Double.longBitsToDouble(_map.getKey(i));
+	}
+
+	public int getValue(int i) {
+		return _map.getValue(i);
+	}
+}
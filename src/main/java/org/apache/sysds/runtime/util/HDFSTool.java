@@ -55,6 +55,8 @@ import org.apache.sysds.parser.DataExpression;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.instructions.cp.ScalarObject;
 import org.apache.sysds.runtime.instructions.cp.ScalarObjectFactory;
+import org.apache.sysds.runtime.io.BinaryBlockCodec;
+import org.apache.sysds.runtime.io.BinaryBlockIndex;
 import org.apache.sysds.runtime.io.BinaryBlockSerialization;
 import org.apache.sysds.runtime.io.FileFormatProperties;
 import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
@@ -164,6 +166,8 @@ public class HDFSTool
 				retries--;
 			}
 		}
+		//side file of memory-mapped binary block reads (if local)
+		BinaryBlockIndex.delete(fs, outpath);
 	}
 
 	public static boolean isHDFSFileEmpty(String dir) throws IOException {
@@ -433,8 +437,15 @@ public class HDFSTool
 	{
 		Path path = new Path(mtdfile);
 		FileSystem fs = IOUtilFunctions.getFileSystem(path);
+		//obtain the block codecs actually applied to the written binary files
+		String codec = null;
+		if( fmt == FileFormat.BINARY && BinaryBlockCodec.getConfiguredCodec() != BinaryBlockCodec.NONE
+			&& mtdfile.endsWith(".mtd") ) {
+			codec = BinaryBlockCodec.getAppliedCodecs(new Path(
+				mtdfile.substring(0, mtdfile.length() - 4)), ConfigurationManager.getCachedJobConf());
+		}
 		try( BufferedWriter br = new BufferedWriter(new OutputStreamWriter(fs.create(path,true))) ) {
-			String mtd = metaDataToString(vt, schema, dt, dc, fmt, formatProperties, privacyConstraint);
+			String mtd = metaDataToString(vt, schema, dt, dc, fmt, formatProperties, privacyConstraint, codec);
 			br.write(mtd);
 		} catch (Exception e) {
 			throw new IOException("Error creating and writing metadata JSON file", e);
@@ -463,6 +474,13 @@ public class HDFSTool
 
 	public static String metaDataToString(ValueType vt, ValueType[] schema, DataType dt, DataCharacteristics dc,
 			FileFormat fmt, FileFormatProperties formatProperties, PrivacyConstraint privacyConstraint) throws JSONException, DMLRuntimeException
+	{
+		return metaDataToString(vt, schema, dt, dc, fmt, formatProperties, privacyConstraint, null);
+	}
+
+	public static String metaDataToString(ValueType vt, ValueType[] schema, DataType dt, DataCharacteristics dc,
+			FileFormat fmt, FileFormatProperties formatProperties, PrivacyConstraint privacyConstraint, String codec)
+		throws JSONException, DMLRuntimeException
 	{
 		OrderedJSONObject mtd = new OrderedJSONObject(); // maintain order in output file
 
@@ -500,6 +518,11 @@ public class HDFSTool
 		//handle format type and additional arguments
 		mtd.put(DataExpression.FORMAT_TYPE, fmt.toString());
 		
+		//handle applied block codecs of binary files (informational, as the
+		//codec is also recorded in the header of the individual sequence files)
+		if( fmt == FileFormat.BINARY && codec != null )
+			mtd.put(DataExpression.CODECPARAM, codec);
+		
 		if (formatProperties != null) {
 			String description = formatProperties.getDescription();
 			if (StringUtils.isNotEmpty(description)) {
@@ -30,7 +30,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
@@ -40,10 +43,14 @@ import org.apache.hadoop.io.Writable;
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.parfor.util.IDSequence;
+import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -55,6 +62,16 @@ public class LocalFileUtils
 {
 	public static final int BUFFER_SIZE = 8192;
 	
+	//raw dense eviction format: the magic number is only a probe (the bytes
+	//could also start a serialized matrix block), hence the header further
+	//carries a format version and the file length is validated against the
+	//dimensions, which makes misdetected or corrupted files fail loudly
+	private static final int RAW_DENSE_MAGIC = 0xDE45E064;
+	private static final byte RAW_DENSE_VERSION = 1;
+	private static final int RAW_DENSE_HEADER = 32; //8-byte aligned values
+	private static final int RAW_DENSE_BUFFER = 1024*1024; //1MB direct buffer
+	private static final int RAW_DENSE_MAXMAP = 1 << 27; //1GB mapped regions
+	
 	//unique IDs per JVM for tmp files
 	private static IDSequence _seq = null;
 	private static String _workingDir = null;
@@ -110,7 +127,62 @@ public class LocalFileUtils
 	 * @throws IOException if IOException occurs
 	 */
 	public static CacheBlock<?> readCacheBlockFromLocal(String fname, boolean matrix) throws IOException {
-		return (CacheBlock<?>) readWritableFromLocal(fname, matrix?new MatrixBlock():new FrameBlock());
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		CacheBlock<?> ret = (matrix && CacheableData.CACHING_EVICTION_RAWDENSE) ?
+			readDenseMatrixBlockFromLocal(fname) : null;
+		if( ret == null )
+			ret = (CacheBlock<?>) readWritableFromLocal(fname, matrix?new MatrixBlock():new FrameBlock());
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementFSRestore(new File(fname).length(), System.nanoTime()-t0);
+		return ret;
+	}
+	
+	/**
+	 * Reads a dense matrix block in raw format (see writeDenseMatrixBlockToLocal),
+	 * which memory-maps the file and bulk copies the values into the dense block
+	 * without per-value stream decoding.
+	 * 
+	 * @param fname file name to read
+	 * @return matrix block, or null if the file is not in raw dense format
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readDenseMatrixBlockFromLocal(String fname) throws IOException {
+		try( FileChannel channel = FileChannel.open(Paths.get(fname), StandardOpenOption.READ) ) {
+			//probe and read header
+			if( channel.size() < RAW_DENSE_HEADER )
+				return null;
+			ByteBuffer header = ByteBuffer.allocate(RAW_DENSE_HEADER).order(ByteOrder.nativeOrder());
+			while( header.hasRemaining() && channel.read(header) >= 0 );
+			header.flip();
+			if( header.getInt() != RAW_DENSE_MAGIC )
+				return null;
+			int rlen = header.getInt();
+			int clen = header.getInt();
+			long nnz = header.getLong();
+			byte version = header.get();
+			long expected = RAW_DENSE_HEADER + 8L * rlen * clen;
+			if( version != RAW_DENSE_VERSION || rlen < 0 || clen < 0 || channel.size() != expected )
+				throw new IOException("Invalid raw dense matrix block file '"+fname+"': version="+version
+					+", dims=["+rlen+"x"+clen+"], length="+channel.size()+" (expected "+expected+").");
+			
+			//allocate output and bulk copy from mapped file regions
+			MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+			ret.allocateDenseBlock();
+			DenseBlock a = ret.getDenseBlock();
+			long fpos = RAW_DENSE_HEADER;
+			for( int bix=0; bix<a.numBlocks(); bix++ ) {
+				double[] avals = a.valuesAt(bix);
+				int len = a.size(bix);
+				for( int off=0; off<len; off+=RAW_DENSE_MAXMAP ) {
+					int n = Math.min(len-off, RAW_DENSE_MAXMAP);
+					MappedByteBuffer buff = channel.map(MapMode.READ_ONLY, fpos, 8L*n);
+					buff.order(ByteOrder.nativeOrder()).asDoubleBuffer().get(avals, off, n);
+					fpos += 8L*n;
+				}
+			}
+			ret.setNonZeros(nnz);
+			return ret;
+		}
 	}
 	
 	/**
@@ -217,7 +289,68 @@ public class LocalFileUtils
 	 * @throws IOException if IOException occurs
 	 */
 	public static void writeCacheBlockToLocal(String fname, CacheBlock<?> cb) throws IOException {
-		writeWritableToLocal(fname, cb);
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		if( CacheableData.CACHING_EVICTION_RAWDENSE && isRawDenseFormat(cb) )
+			writeDenseMatrixBlockToLocal(fname, (MatrixBlock) cb);
+		else
+			writeWritableToLocal(fname, cb);
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementFSEviction(new File(fname).length(), System.nanoTime()-t0);
+	}
+	
+	private static boolean isRawDenseFormat(CacheBlock<?> cb) {
+		//uncompressed, non-empty FP64 dense blocks
+		if( cb.getClass() != MatrixBlock.class )
+			return false;
+		MatrixBlock mb = (MatrixBlock) cb;
+		return !mb.isInSparseFormat() && mb.isAllocated() && !mb.isEmptyBlock(false)
+			&& mb.getDenseBlock().isNumeric(ValueType.FP64);
+	}
+	
+	/**
+	 * Writes a dense matrix block in raw format, i.e., a small header followed by
+	 * the raw double values in native byte order, via a file channel and direct
+	 * buffer. This avoids per-value stream encoding and allows the restore via
+	 * memory-mapped bulk reads.
+	 * 
+	 * @param fname file name to write
+	 * @param mb dense matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeDenseMatrixBlockToLocal(String fname, MatrixBlock mb) throws IOException {
+		try( FileChannel channel = FileChannel.open(Paths.get(fname), StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE) )
+		{
+			ByteBuffer buff = ByteBuffer.allocateDirect(RAW_DENSE_BUFFER).order(ByteOrder.nativeOrder());
+			
+			//write header (padded for aligned values)
+			buff.putInt(RAW_DENSE_MAGIC).putInt(mb.getNumRows())
+				.putInt(mb.getNumColumns()).putLong(mb.getNonZeros()).put(RAW_DENSE_VERSION);
+			buff.position(RAW_DENSE_HEADER);
+			
+			//write values in chunks of the direct buffer
+			DenseBlock a = mb.getDenseBlock();
+			for( int bix=0; bix<a.numBlocks(); bix++ ) {
+				double[] avals = a.valuesAt(bix);
+				int len = a.size(bix);
+				for( int off=0; off<len; ) {
+					int n = Math.min(len-off, buff.remaining()/8);
+					buff.asDoubleBuffer().put(avals, off, n);
+					buff.position(buff.position()+8*n);
+					off += n;
+					if( !buff.hasRemaining() )
+						writeFully(channel, buff);
+				}
+			}
+			writeFully(channel, buff);
+		}
+	}
+	
+	private static void writeFully(FileChannel channel, ByteBuffer buff) throws IOException {
+		buff.flip();
+		while( buff.hasRemaining() )
+			channel.write(buff);
+		buff.clear();
 	}
 	
 	/**
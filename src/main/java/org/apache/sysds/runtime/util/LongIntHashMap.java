@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.util;
+
+import java.util.Arrays;
+
+/**
+ * This native long - int hashmap is specifically designed for recode maps
+ * in transformencode, which map distinct values to non-negative codes.
+ * In contrast to a default hashmap, keys and values are neither boxed nor
+ * wrapped into entry objects. The entries are stored in insertion order in
+ * primitive arrays, and the open-addressing hash table (linear probing)
+ * only stores the entry positions.
+ */
+public class LongIntHashMap
+{
+	private static final int INIT_CAPACITY = 16;
+
+	private int[] _slots;  //hash table of entry positions + 1, 0 for empty slots
+	private long[] _keys;  //keys in insertion order
+	private int[] _vals;   //values in insertion order
+	private int _size;
+
+	public LongIntHashMap() {
+		this(INIT_CAPACITY);
+	}
+
+	public LongIntHashMap(int capacity) {
+		int cap = Math.max(Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1, INIT_CAPACITY);
+		_slots = new int[cap * 2];
+		_keys = new long[cap];
+		_vals = new int[cap];
+		_size = 0;
+	}
+
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Obtains the value of the given key.
+	 *
+	 * @param key key
+	 * @return value, or -1 if the key does not exist
+	 */
+	public int get(long key) {
+		int pos = _slots[find(key)] - 1;
+		return (pos >= 0) ? _vals[pos] : -1;
+	}
+
+	public boolean containsKey(long key) {
+		return _slots[find(key)] != 0;
+	}
+
+	/**
+	 * Adds the given key with the given value if the key does not exist yet.
+	 *
+	 * @param key   key
+	 * @param value non-negative value
+	 * @return existing value, or -1 if the key was added
+	 */
+	public int putIfAbsent(long key, int value) {
+		int ix = find(key);
+		int pos = _slots[ix] - 1;
+		if( pos >= 0 )
+			return _vals[pos];
+		append(ix, key, value);
+		return -1;
+	}
+
+	public void put(long key, int value) {
+		int ix = find(key);
+		int pos = _slots[ix] - 1;
+		if( pos >= 0 )
+			_vals[pos] = value;
+		else
+			append(ix, key, value);
+	}
+
+	/**
+	 * Obtains the key of the i-th entry in insertion order.
+	 *
+	 * @param i entry position
+	 * @return key
+	 */
+	public long getKey(int i) {
+		return _keys[i];
+	}
+
+	/**
+	 * Obtains the value of the i-th entry in insertion order.
+	 *
+	 * @param i entry position
+	 * @return value
+	 */
+	public int getValue(int i) {
+		return _vals[i];
+	}
+
+	private int find(long key) {
+		final int mask = _slots.length - 1;
+		int ix = hash(key) & mask;
+		while( _slots[ix] != 0 && _keys[_slots[ix] - 1] != key )
+			ix = (ix + 1) & mask;
+		return ix;
+	}
+
+	private void append(int ix, long key, int value) {
+		if( _size == _keys.length ) {
+			_keys = Arrays.copyOf(_keys, _size * 2);
+			_vals = Arrays.copyOf(_vals, _size * 2);
+		}
+		_keys[_size] = key;
+		_vals[_size] = value;
+		_slots[ix] = ++_size;
+		//resize hash table at load factor 0.5
+		if( _size * 2 > _slots.length )
+			rehash(_slots.length * 2);
+	}
+
+	private void rehash(int capacity) {
+		_slots = new int[capacity];
+		final int mask = capacity - 1;
+		for( int i=0; i<_size; i++ ) {
+			int ix = hash(_keys[i]) & mask;
+			while( _slots[ix] != 0 )
+				ix = (ix + 1) & mask;
+			_slots[ix] = i + 1;
+		}
+	}
+
+	protected static int hash(long key) {
+		//fibonacci hashing to spread sequential keys
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -19,11 +19,22 @@
 
 package org.apache.sysds.runtime.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
 import org.apache.sysds.common.Types;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.ArrowFrameStreamReader;
+import org.apache.sysds.runtime.io.ArrowUtils;
+import org.apache.sysds.runtime.io.ReaderArrow;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
 /**
@@ -143,4 +154,66 @@ public class Py4jConverterUtils {
 
 		return ret;
 	}
+
+	/**
+	 * Converts a matrix or table in Arrow IPC stream format (e.g., serialized by
+	 * pyarrow) into a matrix block, with a single bulk copy for row-major matrices.
+	 *
+	 * @param data arrow IPC stream
+	 * @return matrix block
+	 */
+	public static MatrixBlock convertArrowToMB(byte[] data) {
+		try {
+			return new ReaderArrow().readMatrixFromInputStream(new ByteArrayInputStream(data), -1, -1, -1, -1);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to convert arrow stream to matrix block.", ex);
+		}
+	}
+
+	public static FrameBlock convertArrowToFB(byte[] data) {
+		try( ArrowFrameStreamReader reader = new ArrowFrameStreamReader(new ByteArrayInputStream(data)) ) {
+			return reader.readAll();
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to convert arrow stream to frame block.", ex);
+		}
+	}
+
+	/**
+	 * Converts a matrix block into Arrow IPC stream format, as a single row-major
+	 * FP64 column that can be reshaped without copy (e.g., via pyarrow and numpy).
+	 *
+	 * @param mb matrix block
+	 * @return arrow IPC stream
+	 */
+	public static byte[] convertMBToArrow(MatrixBlock mb) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try( BufferAllocator alloc = new RootAllocator();
+			VectorSchemaRoot root = VectorSchemaRoot.create(
+				ArrowUtils.createMatrixSchema(mb.getNumRows(), mb.getNumColumns()), alloc);
+			ArrowStreamWriter writer = new ArrowStreamWriter(root, null, out) )
+		{
+			ArrowUtils.writeMatrix(mb, root, writer);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to convert matrix block to arrow stream.", ex);
+		}
+		return out.toByteArray();
+	}
+
+	public static byte[] convertFBToArrow(FrameBlock fb) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try( BufferAllocator alloc = new RootAllocator();
+			VectorSchemaRoot root = VectorSchemaRoot.create(
+				ArrowUtils.createFrameSchema(fb.getSchema(), fb.getColumnNames()), alloc);
+			ArrowStreamWriter writer = new ArrowStreamWriter(root, null, out) )
+		{
+			ArrowUtils.writeFrame(fb, root, writer);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to convert frame block to arrow stream.", ex);
+		}
+		return out.toByteArray();
+	}
 }
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.util;
+
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+/**
+ * Compact string - int dictionary for recode maps with many distinct strings.
+ * The characters of all keys are copied into a single contiguous char arena,
+ * which avoids retaining the (often row-wise allocated) string objects of the
+ * input and the entry objects of a default hashmap. Entries are stored in
+ * insertion order, and the open-addressing hash table (linear probing) only
+ * stores the entry positions.
+ */
+public class StringIntHashMap
+{
+	private static final int INIT_CAPACITY = 16;
+
+	private int[] _slots;   //hash table of entry positions + 1, 0 for empty slots
+	private int[] _hashes;  //key hash codes in insertion order
+	private int[] _offsets; //key offsets into the arena (size + 1 entries)
+	private int[] _vals;    //values in insertion order
+	private char[] _arena;  //characters of all keys
+	private int _size;
+
+	public StringIntHashMap() {
+		this(INIT_CAPACITY);
+	}
+
+	public StringIntHashMap(int capacity) {
+		int cap = Math.max(Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1, INIT_CAPACITY);
+		_slots = new int[cap * 2];
+		_hashes = new int[cap];
+		_offsets = new int[cap + 1];
+		_vals = new int[cap];
+		_arena = new char[cap * 8];
+		_size = 0;
+	}
+
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Obtains the value of the given key.
+	 *
+	 * @param key non-null key
+	 * @return value, or -1 if the key does not exist
+	 */
+	public int get(String key) {
+		int pos = _slots[find(key, key.hashCode())] - 1;
+		return (pos >= 0) ? _vals[pos] : -1;
+	}
+
+	public boolean containsKey(String key) {
+		return _slots[find(key, key.hashCode())] != 0;
+	}
+
+	/**
+	 * Adds the given key with the given value if the key does not exist yet.
+	 *
+	 * @param key   non-null key
+	 * @param value non-negative value
+	 * @return existing value, or -1 if the key was added
+	 */
+	public int putIfAbsent(String key, int value) {
+		int h = key.hashCode();
+		int ix = find(key, h);
+		int pos = _slots[ix] - 1;
+		if( pos >= 0 )
+			return _vals[pos];
+		append(ix, key, h, value);
+		return -1;
+	}
+
+	public void put(String key, int value) {
+		int h = key.hashCode();
+		int ix = find(key, h);
+		int pos = _slots[ix] - 1;
+		if( pos >= 0 )
+			_vals[pos] = value;
+		else
+			append(ix, key, h, value);
+	}
+
+	/**
+	 * Materializes the key of the i-th entry in insertion order.
+	 *
+	 * @param i entry position
+	 * @return key
+	 */
+	public String getKey(int i) {
+		return new String(_arena, _offsets[i], _offsets[i + 1] - _offsets[i]);
+	}
+
+	/**
+	 * Obtains the value of the i-th entry in insertion order.
+	 *
+	 * @param i entry position
+	 * @return value
+	 */
+	public int getValue(int i) {
+		return _vals[i];
+	}
+
+	/**
+	 * Get the number of characters of all keys in the arena.
+	 *
+	 * @return number of characters
+	 */
+	public int getArenaSize() {
+		return _offsets[_size];
+	}
+
+	private int find(String key, int h) {
+		final int mask = _slots.length - 1;
+		int ix = spread(h) & mask;
+		while( _slots[ix] != 0 && !equalsKey(_slots[ix] - 1, key, h) )
+			ix = (ix + 1) & mask;
+		return ix;
+	}
+
+	private boolean equalsKey(int pos, String key, int h) {
+		if( _hashes[pos] != h )
+			return false;
+		final int off = _offsets[pos];
+		final int len = _offsets[pos + 1] - off;
+		if( len != key.length() )
+			return false;
+		for( int j=0; j<len; j++ )
+			if( _arena[off + j] != key.charAt(j) )
+				return false;
+		return true;
+	}
+
+	private void append(int ix, String key, int h, int value) {
+		if( _size == _vals.length ) {
+			_hashes = Arrays.copyOf(_hashes, _size * 2);
+			_offsets = Arrays.copyOf(_offsets, _size * 2 + 1);
+			_vals = Arrays.copyOf(_vals, _size * 2);
+		}
+		final int off = _offsets[_size];
+		final int len = key.length();
+		if( off + len > _arena.length || off + len < 0 ) {
+			long newLen = Math.max((long) _arena.length * 2, (long) off + len);
+			if( newLen > Integer.MAX_VALUE - 8 )
+				throw new DMLRuntimeException("String dictionary exceeds the max arena size: " + newLen);
+			_arena = Arrays.copyOf(_arena, (int) newLen);
+		}
+		key.getChars(0, len, _arena, off);
+		_hashes[_size] = h;
+		_offsets[_size + 1] = off + len;
+		_vals[_size] = value;
+		_slots[ix] = ++_size;
+		//resize hash table at load factor 0.5
+		if( _size * 2 > _slots.length )
+			rehash(_slots.length * 2);
+	}
+
+	private void rehash(int capacity) {
+		_slots = new int[capacity];
+		final int mask = capacity - 1;
+		for( int i=0; i<_size; i++ ) {
+			int ix = spread(_hashes[i]) & mask;
+			while( _slots[ix] != 0 )
+				ix = (ix + 1) & mask;
+			_slots[ix] = i + 1;
+		}
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+}
@@ -19,6 +19,9 @@
 
 package org.apache.sysds.utils;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 public class DMLCompressionStatistics {
 
 	private static double Phase0 = 0.0;
@@ -41,6 +44,9 @@ public class DMLCompressionStatistics {
 	private static int DecompressSparkCount = 0;
 	private static int DecompressCacheCount = 0;
 
+	// decompressions because operations are not supported in compressed space
+	private static final Map<String, Integer> DecompressFallbacks = new TreeMap<>();
+
 	public static void reset() {
 		Phase0 = 0.0;
 		Phase1 = 0.0;
@@ -58,6 +64,9 @@ public class DMLCompressionStatistics {
 		DecompressToMT = 0.0;
 		DecompressSparkCount = 0;
 		DecompressCacheCount = 0;
+		synchronized(DecompressFallbacks) {
+			DecompressFallbacks.clear();
+		}
 	}
 
 	public static boolean haveCompressed() {
@@ -117,6 +126,18 @@ public class DMLCompressionStatistics {
 		DecompressCacheCount++;
 	}
 
+	public static void addDecompressFallback(String operation) {
+		synchronized(DecompressFallbacks) {
+			DecompressFallbacks.merge(operation, 1, Integer::sum);
+		}
+	}
+
+	public static int getDecompressFallbackCount(String operation) {
+		synchronized(DecompressFallbacks) {
+			return DecompressFallbacks.getOrDefault(operation, 0);
+		}
+	}
+
 	public static int getDecompressionCount() {
 		return DecompressMTCount + DecompressSTCount + DecompressSparkCount + DecompressCacheCount + DecompressToSTCount +
 			DecompressToMTCount;
@@ -134,6 +155,11 @@ public class DMLCompressionStatistics {
 				DecompressToSTCount, DecompressToMTCount));
 			sb.append(String.format("Decompression to block Time (Single, Multi)                 : %.3f/%.3f sec.\n",
 				DecompressToST / 1000, DecompressToMT / 1000));
+			synchronized(DecompressFallbacks) {
+				for(Map.Entry<String, Integer> e : DecompressFallbacks.entrySet())
+					sb.append(String.format("Decompression fallback (count)                              : %s (%d)\n",
+						e.getKey(), e.getValue()));
+			}
 		}
 	}
 }
@@ -29,6 +29,10 @@ public class ParForStatistics {
 	private static final LongAdder optCount = new LongAdder(); //count
 	private static final LongAdder initTime = new LongAdder(); //in milli sec
 	private static final LongAdder mergeTime = new LongAdder(); //in milli sec
+	//PARFOR local task queue stats (updated once per worker)
+	private static final LongAdder queueWaitTime = new LongAdder(); //in nano sec
+	private static final LongAdder queueSteals = new LongAdder(); //count
+	private static final LongAdder workStealingLoops = new LongAdder(); //count
 
 	public static synchronized void incrementOptimCount(){
 		optCount.increment();
@@ -46,6 +50,18 @@ public class ParForStatistics {
 		mergeTime.add(time);
 	}
 
+	public static void incrementQueueWaitTime( long time ) {
+		queueWaitTime.add(time);
+	}
+
+	public static void incrementQueueSteals( long count ) {
+		queueSteals.add(count);
+	}
+
+	public static void incrementWorkStealingLoops() {
+		workStealingLoops.increment();
+	}
+
 	public static long getOptCount(){
 		return optCount.longValue();
 	}
@@ -62,11 +78,26 @@ public class ParForStatistics {
 		return mergeTime.longValue();
 	}
 
+	public static long getQueueWaitTime(){
+		return queueWaitTime.longValue();
+	}
+
+	public static long getQueueSteals(){
+		return queueSteals.longValue();
+	}
+
+	public static long getWorkStealingLoops(){
+		return workStealingLoops.longValue();
+	}
+
 	public static void reset() {
 		optCount.reset();
 		optTime.reset();
 		initTime.reset();
 		mergeTime.reset();
+		queueWaitTime.reset();
+		queueSteals.reset();
+		workStealingLoops.reset();
 	}
 
 	public static String displayStatistics() {
@@ -76,6 +107,10 @@ public class ParForStatistics {
 			sb.append("ParFor optimize time:\t\t" + String.format("%.3f", ((double)getOptTime())/1000) + " sec.\n");
 			sb.append("ParFor initialize time:\t\t" + String.format("%.3f", ((double)getInitTime())/1000) + " sec.\n");
 			sb.append("ParFor result merge time:\t" + String.format("%.3f", ((double)getMergeTime())/1000) + " sec.\n");
+			if( getWorkStealingLoops() > 0 ) {
+				sb.append("ParFor task queue wait time:\t" + String.format("%.3f", ((double)getQueueWaitTime())/1000000000) + " sec.\n");
+				sb.append("ParFor task queue steals:\t" + getQueueSteals() + ".\n");
+			}
 			sb.append("ParFor total update in-place:\t" + Statistics.getTotalUIPVar() + "/"
 				+ Statistics.getTotalLixUIP() + "/" + Statistics.getTotalLix() + "\n");
 			return sb.toString();
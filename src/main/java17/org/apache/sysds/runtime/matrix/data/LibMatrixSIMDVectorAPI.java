@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels based on the JDK Vector API (jdk.incubator.vector), compiled
+ * only with JDK 17+ and loaded via reflection by LibMatrixSIMD. All kernels
+ * process full vectors of the preferred species (e.g., 4 lanes for AVX2 and
+ * 8 lanes for AVX-512) and handle the remaining cells with scalar loops.
+ */
+public class LibMatrixSIMDVectorAPI implements LibMatrixSIMD.VectorKernels
+{
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	private static final int VLEN = SPECIES.length();
+
+	public LibMatrixSIMDVectorAPI() {
+		//eager probe to fail on construction if the module is unusable
+		DoubleVector.zero(SPECIES);
+	}
+
+	@Override
+	public String getName() {
+		return "Vector API ("+SPECIES.vectorBitSize()+"bit, "+VLEN+" lanes)";
+	}
+
+	@Override
+	public double dotProduct(double[] a, double[] b, int ai, int bi, int len) {
+		final int bn = SPECIES.loopBound(len);
+		//two independent accumulators for better instruction-level parallelism
+		DoubleVector acc1 = DoubleVector.zero(SPECIES);
+		DoubleVector acc2 = DoubleVector.zero(SPECIES);
+		int j = 0;
+		for( ; j < bn - VLEN; j+=2*VLEN ) {
+			DoubleVector a1 = DoubleVector.fromArray(SPECIES, a, ai+j);
+			DoubleVector b1 = DoubleVector.fromArray(SPECIES, b, bi+j);
+			DoubleVector a2 = DoubleVector.fromArray(SPECIES, a, ai+j+VLEN);
+			DoubleVector b2 = DoubleVector.fromArray(SPECIES, b, bi+j+VLEN);
+			acc1 = a1.fma(b1, acc1);
+			acc2 = a2.fma(b2, acc2);
+		}
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector a1 = DoubleVector.fromArray(SPECIES, a, ai+j);
+			DoubleVector b1 = DoubleVector.fromArray(SPECIES, b, bi+j);
+			acc1 = a1.fma(b1, acc1);
+		}
+		double val = acc1.add(acc2).reduceLanes(VectorOperators.ADD);
+		//rest, not aligned to vector length
+		for( ; j < len; j++ )
+			val += a[ai+j] * b[bi+j];
+		return val;
+	}
+
+	@Override
+	public void vectMultiplyAdd(double aval, double[] b, double[] c, int bi, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		DoubleVector va = DoubleVector.broadcast(SPECIES, aval);
+		int j = 0;
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bi+j);
+			DoubleVector vc = DoubleVector.fromArray(SPECIES, c, ci+j);
+			vb.fma(va, vc).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] += aval * b[bi+j];
+	}
+
+	@Override
+	public void vectMultiplyAdd4(double aval1, double aval2, double aval3, double aval4,
+		double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, int len)
+	{
+		final int bn = SPECIES.loopBound(len);
+		DoubleVector va1 = DoubleVector.broadcast(SPECIES, aval1);
+		DoubleVector va2 = DoubleVector.broadcast(SPECIES, aval2);
+		DoubleVector va3 = DoubleVector.broadcast(SPECIES, aval3);
+		DoubleVector va4 = DoubleVector.broadcast(SPECIES, aval4);
+		int j = 0;
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector vc = DoubleVector.fromArray(SPECIES, c, ci+j);
+			vc = DoubleVector.fromArray(SPECIES, b, bi1+j).fma(va1, vc);
+			vc = DoubleVector.fromArray(SPECIES, b, bi2+j).fma(va2, vc);
+			vc = DoubleVector.fromArray(SPECIES, b, bi3+j).fma(va3, vc);
+			vc = DoubleVector.fromArray(SPECIES, b, bi4+j).fma(va4, vc);
+			vc.intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] += aval1 * b[bi1+j] + aval2 * b[bi2+j] + aval3 * b[bi3+j] + aval4 * b[bi4+j];
+	}
+
+	@Override
+	public void vectMultiplyWrite(double aval, double[] b, double[] c, int bi, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		DoubleVector va = DoubleVector.broadcast(SPECIES, aval);
+		int j = 0;
+		for( ; j < bn; j+=VLEN )
+			DoubleVector.fromArray(SPECIES, b, bi+j).mul(va).intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] = aval * b[bi+j];
+	}
+
+	@Override
+	public void vectMultiplyWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, ai+j);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bi+j);
+			va.mul(vb).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] = a[ai+j] * b[bi+j];
+	}
+
+	@Override
+	public void vectMultiply(double[] a, double[] c, int ai, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, ai+j);
+			DoubleVector vc = DoubleVector.fromArray(SPECIES, c, ci+j);
+			vc.mul(va).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] *= a[ai+j];
+	}
+
+	@Override
+	public void vectAdd(double[] a, double[] c, int ai, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, ai+j);
+			DoubleVector vc = DoubleVector.fromArray(SPECIES, c, ci+j);
+			vc.add(va).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] += a[ai+j];
+	}
+
+	@Override
+	public void vectAddWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, ai+j);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bi+j);
+			va.add(vb).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] = a[ai+j] + b[bi+j];
+	}
+
+	@Override
+	public void vectMinusWrite(double[] a, double[] b, double[] c, int ai, int bi, int ci, int len) {
+		final int bn = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < bn; j+=VLEN ) {
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, ai+j);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, bi+j);
+			va.sub(vb).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] = a[ai+j] - b[bi+j];
+	}
+}
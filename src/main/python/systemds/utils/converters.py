@@ -176,3 +176,54 @@ def frame_block_to_pandas(sds, fb: JavaObject):
         df[fb.getColumnName(c_index)] = ret
 
     return df
+
+
+def pandas_to_frame_block_arrow(sds, pd_df: pd.DataFrame):
+    """Converts a given pandas data frame to a frame block via the Arrow IPC
+    stream format, which transfers numeric columns without per-value conversion.
+    Requires pyarrow.
+
+    :param sds: The current systemds context.
+    :param pd_df: the pandas data frame to convert to frame block.
+    """
+    import pyarrow as pa
+
+    table = pa.Table.from_pandas(pd_df, preserve_index=False)
+    sink = pa.BufferOutputStream()
+    with pa.ipc.new_stream(sink, table.schema) as writer:
+        writer.write_table(table)
+    try:
+        jvm: JVMView = sds.java_gateway.jvm
+        return jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertArrowToFB(
+            sink.getvalue().to_pybytes()
+        )
+    except Exception as e:
+        sds.exception_and_close(e)
+
+
+def frame_block_to_pandas_arrow(jvm: JVMView, fb: JavaObject):
+    """Converts a FrameBlock object in the JVM to a pandas data frame via the
+    Arrow IPC stream format. Requires pyarrow.
+
+    :param jvm: The current JVM instance running systemds.
+    :param fb: A pointer to the JVM's FrameBlock object.
+    """
+    import pyarrow as pa
+
+    buf = jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertFBToArrow(fb)
+    return pa.ipc.open_stream(buf).read_all().to_pandas()
+
+
+def matrix_block_to_numpy_arrow(jvm: JVMView, mb: JavaObject):
+    """Converts a MatrixBlock object in the JVM to a numpy array via the Arrow
+    IPC stream format, where single-batch results are reshaped without copy.
+    Requires pyarrow.
+
+    :param jvm: The current JVM instance running systemds.
+    :param mb: A pointer to the JVM's MatrixBlock object.
+    """
+    import pyarrow as pa
+
+    buf = jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertMBToArrow(mb)
+    column = pa.ipc.open_stream(buf).read_all().column(0)
+    return column.to_numpy().reshape((mb.getNumRows(), mb.getNumColumns()))
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Common benchmark state of all MatrixBlock kernel benchmarks, parameterized over
+ * the input shape, sparsity, sparse block type, and degree of parallelism. Dense
+ * inputs (sparsity above the sparse turn point) ignore the sparse block type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class AMatrixBenchmark {
+
+	@Param({"10000"})
+	public int rows;
+
+	@Param({"100", "1000"})
+	public int cols;
+
+	@Param({"1.0", "0.1", "0.001"})
+	public double sparsity;
+
+	@Param({"MCSR", "CSR", "COO"})
+	public SparseBlock.Type sparseType;
+
+	@Param({"1", "8"})
+	public int k;
+
+	/** main input matrix X of shape rows x cols */
+	protected MatrixBlock X;
+
+	@Setup(Level.Trial)
+	public void setupInput() {
+		X = generate(rows, cols, sparsity, 7);
+		setup();
+	}
+
+	/**
+	 * Additional benchmark-specific setup, called once per trial after the main input is generated.
+	 */
+	protected void setup() {
+		// do nothing by default
+	}
+
+	/**
+	 * Generates a random matrix with values in [-1,1] and converts sparse outputs into the configured
+	 * sparse block type.
+	 *
+	 * @param rows     number of rows
+	 * @param cols     number of columns
+	 * @param sparsity fraction of non-zero values
+	 * @param seed     random seed
+	 * @return generated matrix block
+	 */
+	protected MatrixBlock generate(int rows, int cols, double sparsity, long seed) {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", seed);
+		mb.examSparsity();
+		if(mb.isInSparseFormat() && !mb.isEmptyBlock(false))
+			mb = new MatrixBlock(mb, sparseType, true);
+		return mb;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.LibMatrixAgg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks of the LibMatrixAgg unary aggregates (full, row, and column aggregates)
+ * and cumulative aggregates (ucum* opcodes).
+ */
+public class AggregateBenchmark extends AMatrixBenchmark {
+
+	@Param({"uak+", "uark+", "uack+", "uamax", "uarmax", "uamean", "ucumk+"})
+	public String opcode;
+
+	private AggregateUnaryOperator aop;
+	private UnaryOperator cop;
+
+	@Override
+	protected void setup() {
+		if(opcode.startsWith("ucum"))
+			cop = InstructionUtils.parseUnaryOperator(opcode, k);
+		else
+			aop = InstructionUtils.parseBasicAggregateUnaryOperator(opcode, k);
+	}
+
+	@Benchmark
+	public MatrixBlock aggregate() {
+		if(cop != null)
+			return LibMatrixAgg.cumaggregateUnaryMatrix(X, new MatrixBlock(), cop, k);
+		return X.aggregateUnaryOperations(aop, new MatrixBlock(), Math.max(rows, cols), null, true);
+	}
+}
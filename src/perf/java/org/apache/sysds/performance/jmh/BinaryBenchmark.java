@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks of the LibMatrixBincell cellwise operations: matrix-matrix, matrix-row vector,
+ * and matrix-scalar operations.
+ */
+public class BinaryBenchmark extends AMatrixBenchmark {
+
+	@Param({"+", "*", ">"})
+	public String opcode;
+
+	private MatrixBlock Y;
+	private MatrixBlock v;
+	private BinaryOperator bop;
+	private ScalarOperator sop;
+
+	@Override
+	protected void setup() {
+		Y = generate(rows, cols, sparsity, 3);
+		v = MatrixBlock.randOperations(1, cols, 1.0, -1, 1, "uniform", 5);
+		bop = InstructionUtils.parseBinaryOperator(opcode);
+		bop.setNumThreads(k);
+		sop = InstructionUtils.parseScalarBinaryOperator(opcode, false).setConstant(0.5, k);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMatrix() {
+		return X.binaryOperations(bop, Y, null);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixRowVector() {
+		return X.binaryOperations(bop, v, null);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixScalar() {
+		return X.scalarOperations(sop, new MatrixBlock());
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.performance.jmh;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedData;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedWorker;
+import org.apache.sysds.runtime.controlprogram.federated.FederationUtils;
+import org.apache.sysds.runtime.instructions.cp.VariableCPInstruction;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the federated wire protocols (binary codec vs Java serialization), which
+ * starts two local federated workers in the benchmark JVM and transfers a matrix to and
+ * from both workers concurrently. The self-signed certificate of the worker requires
+ * access to sun.security.x509 on JDK 17+.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-exports", "java.base/sun.security.x509=ALL-UNNAMED"})
+public class FederatedCodecBenchmark {
+
+	@Param({"binary", "java"})
+	public String codec;
+
+	@Param({"1000", "100000"})
+	public int rows;
+
+	@Param({"100"})
+	public int cols;
+
+	@Param({"1.0", "0.01"})
+	public double sparsity;
+
+	private InetSocketAddress[] workers;
+	private MatrixBlock X;
+	private long id;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		// configure the codec of coordinator and workers (shared JVM)
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.FEDERATED_CODEC, codec);
+		ConfigurationManager.setGlobalConfig(conf);
+
+		X = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+		workers = new InetSocketAddress[2];
+		for(int i = 0; i < workers.length; i++)
+			workers[i] = startWorker();
+
+		// initial put for the get benchmark
+		id = FederationUtils.getNextFedDataID();
+		FederationUtils.waitFor(Arrays.asList(
+			FederatedData.executeFederatedOperation(workers[0], new FederatedRequest(RequestType.PUT_VAR, id, X)),
+			FederatedData.executeFederatedOperation(workers[1], new FederatedRequest(RequestType.PUT_VAR, id, X))));
+	}
+
+	@Benchmark
+	public void put() throws Exception {
+		// put a new variable and remove it within the same batch of requests
+		long tmp = FederationUtils.getNextFedDataID();
+		FederatedRequest put = new FederatedRequest(RequestType.PUT_VAR, tmp, X);
+		FederatedRequest rm = new FederatedRequest(RequestType.EXEC_INST, -1,
+			VariableCPInstruction.prepareRemoveInstruction(tmp).toString());
+		Future<FederatedResponse> f1 = FederatedData.executeFederatedOperation(workers[0], put, rm);
+		Future<FederatedResponse> f2 = FederatedData.executeFederatedOperation(workers[1], put, rm);
+		f1.get().getData();
+		f2.get().getData();
+	}
+
+	@Benchmark
+	public MatrixBlock[] get() throws Exception {
+		FederatedRequest get = new FederatedRequest(RequestType.GET_VAR, id);
+		Future<FederatedResponse> f1 = FederatedData.executeFederatedOperation(workers[0], get);
+		Future<FederatedResponse> f2 = FederatedData.executeFederatedOperation(workers[1], get);
+		return new MatrixBlock[] {(MatrixBlock) f1.get().getData()[0], (MatrixBlock) f2.get().getData()[0]};
+	}
+
+	private static InetSocketAddress startWorker() throws Exception {
+		final int port;
+		try(ServerSocket s = new ServerSocket(0)) {
+			port = s.getLocalPort();
+		}
+		Thread t = new Thread(() -> new FederatedWorker(port, false));
+		t.setDaemon(true);
+		t.start();
+		// wait until the worker accepts connections
+		for(int i = 0; i < 100; i++) {
+			try(Socket s = new Socket("localhost", port)) {
+				return new InetSocketAddress("localhost", port);
+			}
+			catch(IOException ex) {
+				Thread.sleep(100);
+			}
+		}
+		throw new IllegalStateException("Federated worker did not start on port " + port);
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.lops.MMTSJ.MMTSJType;
+import org.apache.sysds.lops.MapMultChain.ChainType;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks of the LibMatrixMult kernels: matrix multiplication with a dense right-hand side
+ * (matrix-vector and matrix-matrix), transpose-self matrix multiplication, and mmchain.
+ */
+public class MatrixMultBenchmark extends AMatrixBenchmark {
+
+	@Param({"1", "100"})
+	public int rhsCols;
+
+	private MatrixBlock Y;
+	private MatrixBlock v;
+
+	@Override
+	protected void setup() {
+		Y = MatrixBlock.randOperations(cols, rhsCols, 1.0, -1, 1, "uniform", 3);
+		v = MatrixBlock.randOperations(cols, 1, 1.0, -1, 1, "uniform", 5);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMult() {
+		return LibMatrixMult.matrixMult(X, Y, k);
+	}
+
+	@Benchmark
+	public MatrixBlock tsmmLeft() {
+		return X.transposeSelfMatrixMultOperations(null, MMTSJType.LEFT, k);
+	}
+
+	@Benchmark
+	public MatrixBlock mmchain() {
+		return X.chainMatrixMultOperations(v, null, null, ChainType.XtXv, k);
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks of the LibMatrixReorg reorganizations: transpose and order by column.
+ */
+public class ReorgBenchmark extends AMatrixBenchmark {
+
+	private static final int[] BY = new int[] {1};
+
+	@Benchmark
+	public MatrixBlock transpose() {
+		return LibMatrixReorg.transpose(X, k);
+	}
+
+	@Benchmark
+	public MatrixBlock sort() {
+		return LibMatrixReorg.sort(X, new MatrixBlock(rows, cols, X.isInSparseFormat()), BY, false, false, k);
+	}
+
+	@Benchmark
+	public MatrixBlock sortIndexes() {
+		return LibMatrixReorg.sort(X, new MatrixBlock(rows, 1, false), BY, true, true, k);
+	}
+}
@@ -20,10 +20,33 @@
 package org.apache.sysds.test.component.compress;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.lib.CLALibLeftMultBy;
+import org.apache.sysds.runtime.compress.lib.CLALibMatrixMult;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
+import org.apache.sysds.runtime.functionobjects.Builtin;
+import org.apache.sysds.runtime.functionobjects.Builtin.BuiltinCode;
+import org.apache.sysds.runtime.functionobjects.IfElse;
+import org.apache.sysds.runtime.functionobjects.Plus;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.TernaryOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.utils.DMLCompressionStatistics;
 import org.junit.Test;
 
 public class CompressedCustomTests {
@@ -49,4 +72,263 @@ public class CompressedCustomTests {
 			for(int j = 0; j < m.getNumColumns(); j++)
 				assertEquals(0.0, m2.quickGetValue(i, j), 0.0);
 	}
+
+	@Test
+	public void sortCompressedValueCounts() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 1, -3, 3, 0.5, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		MatrixBlock s1 = m.sortOperations();
+		MatrixBlock s2 = m2.sortOperations();
+		// one row per distinct value (incl. zero) instead of per non-zero value
+		assertTrue(s2.getNumRows() <= 7);
+		assertEquals(s1.sumWeightForQuantile(), s2.sumWeightForQuantile(), 0.0);
+		assertEquals(s1.median(), s2.median(), 0.0);
+		assertEquals(s1.interQuartileMean(), s2.interQuartileMean(), 1e-10);
+		for(double q : new double[] {0.05, 0.25, 0.5, 0.75, 0.95, 1.0})
+			assertEquals(s1.pickValue(q), s2.pickValue(q), 0.0);
+	}
+
+	@Test
+	public void ifElseScalarsCompressed() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 3, 0, 3, 0.5, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		TernaryOperator op = new TernaryOperator(IfElse.getFnObject(), 1);
+		MatrixBlock then = new MatrixBlock(1, 1, 7.0);
+		MatrixBlock els = new MatrixBlock(1, 1, -2.0);
+		MatrixBlock ret1 = m.ternaryOperations(op, then, els, new MatrixBlock());
+		MatrixBlock ret2 = m2.ternaryOperations(op, then, els, new MatrixBlock());
+		assertTrue(ret2 instanceof CompressedMatrixBlock);
+		TestUtils.compareMatrices(ret1, ret2, 0.0);
+	}
+
+	@Test
+	public void ctableScalarsCompressed() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 2, 1, 5, 1.0, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		MatrixBlock ret1 = new MatrixBlock(5, 2, false);
+		MatrixBlock ret2 = new MatrixBlock(5, 2, false);
+		m.ctableOperations(null, 2, 3, null, ret1);
+		m2.ctableOperations(null, 2, 3, null, ret2);
+		TestUtils.compareMatrices(ret1, ret2, 0.0);
+		assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+	}
+
+	@Test
+	public void decompressFallbackStatistics() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 1, 1, 5, 1.0, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		String op = "sortOperations with weights";
+		int before = DMLCompressionStatistics.getDecompressFallbackCount(op);
+		MatrixBlock w = new MatrixBlock(1000, 1, 1.0);
+		TestUtils.compareMatrices(m.sortOperations(w, new MatrixBlock()), m2.sortOperations(w, new MatrixBlock()), 0.0);
+		assertEquals(before + 1, DMLCompressionStatistics.getDecompressFallbackCount(op));
+	}
+
+	@Test
+	public void crossProductCompressedCompressed() {
+		MatrixBlock a = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 7, 0, 5, 0.7, 7));
+		MatrixBlock b = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 4, -2, 2, 0.4, 13));
+		MatrixBlock ca = CompressedMatrixBlockFactory.compress(a).getLeft();
+		MatrixBlock cb = CompressedMatrixBlockFactory.compress(b).getLeft();
+		assertTrue(ca instanceof CompressedMatrixBlock && cb instanceof CompressedMatrixBlock);
+
+		MatrixBlock expected = LibMatrixMult.matrixMult(LibMatrixReorg.transpose(a), b);
+		int before = DMLCompressionStatistics.getDecompressFallbackCount("Right side of compressed MM");
+		for(int k : new int[] {1, 4}) {
+			MatrixBlock ret1 = CLALibMatrixMult.matrixMultiply(ca, cb, null, k, true, false);
+			MatrixBlock ret2 = CLALibMatrixMult.matrixMultiply(cb, ca, null, k, true, false);
+			TestUtils.compareMatrices(expected, ret1, 1e-10);
+			TestUtils.compareMatrices(LibMatrixReorg.transpose(expected), ret2, 1e-10);
+		}
+		assertEquals(before, DMLCompressionStatistics.getDecompressFallbackCount("Right side of compressed MM"));
+	}
+
+	@Test
+	public void crossProductParallelNonOverlapping() {
+		// pairs of disjoint column groups are written directly into the output
+		MatrixBlock a = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 7, 0, 5, 0.7, 7));
+		MatrixBlock b = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 4, -2, 2, 0.4, 13));
+		crossProductParallel(a, b, compressPerColumn(a), compressPerColumn(b));
+	}
+
+	@Test
+	public void crossProductParallelOverlapping() {
+		// overlapping column groups are aggregated in temporary outputs per task
+		MatrixBlock a1 = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 7, 0, 5, 0.7, 7));
+		MatrixBlock a2 = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 7, -3, 3, 0.5, 8));
+		MatrixBlock b = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 4, -2, 2, 0.4, 13));
+		MatrixBlock a = a1.binaryOperations(new BinaryOperator(Plus.getPlusFnObject()), a2, new MatrixBlock());
+		CompressedMatrixBlock ca = compressPerColumn(a1, a2);
+		assertTrue(ca.isOverlapping());
+		crossProductParallel(a, b, ca, compressPerColumn(b));
+	}
+
+	private static void crossProductParallel(MatrixBlock a, MatrixBlock b, CompressedMatrixBlock ca,
+		CompressedMatrixBlock cb) {
+		// multiple pairs of column groups, and more pairs than threads
+		assertTrue(ca.getColGroups().size() * cb.getColGroups().size() > 4);
+		MatrixBlock expected = LibMatrixMult.matrixMult(LibMatrixReorg.transpose(a), b);
+		for(int k : new int[] {1, 2, 4}) {
+			MatrixBlock ret1 = CLALibLeftMultBy.leftMultByMatrixTransposed(cb, ca, null, k);
+			MatrixBlock ret2 = CLALibLeftMultBy.leftMultByMatrixTransposed(ca, cb, null, k);
+			TestUtils.compareMatrices(expected, ret1, 1e-10, "k=" + k);
+			TestUtils.compareMatrices(LibMatrixReorg.transpose(expected), ret2, 1e-10, "k=" + k);
+		}
+	}
+
+	private static CompressedMatrixBlock compressPerColumn(MatrixBlock... mbs) {
+		// one column group per column and input, where multiple inputs overlap in all columns
+		final int nRow = mbs[0].getNumRows();
+		final List<AColGroup> groups = new ArrayList<>();
+		for(MatrixBlock mb : mbs)
+			for(int c = 0; c < mb.getNumColumns(); c++) {
+				MatrixBlock col = CompressedMatrixBlockFactory.compress(mb.slice(0, nRow - 1, c, c)).getLeft();
+				assertTrue(col instanceof CompressedMatrixBlock);
+				for(AColGroup g : ((CompressedMatrixBlock) col).getColGroups())
+					groups.add(g.shiftColIndices(c));
+			}
+		CompressedMatrixBlock ret = new CompressedMatrixBlock(nRow, mbs[0].getNumColumns(), -1, mbs.length > 1,
+			groups);
+		ret.recomputeNonZeros();
+		return ret;
+	}
+
+	@Test
+	public void rbindCompressedUnseenValues() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 3, 1, 5, 1.0, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		int before = DMLCompressionStatistics.getDecompressFallbackCount("r-bind on overlapping state");
+		// append rows in a loop, where the later rows contain values not in the dictionaries
+		for(int i = 0; i < 5; i++) {
+			MatrixBlock rows = TestUtils.round(TestUtils.generateTestMatrixBlock(20, 3, 1, 5 + i * 50, 1.0, 8 + i));
+			m = m.append(rows, false);
+			m2 = m2.append(rows, false);
+			assertTrue(m2 instanceof CompressedMatrixBlock);
+			TestUtils.compareMatrices(m, m2, 0.0);
+			assertEquals(m.getNonZeros(), m2.getNonZeros());
+		}
+		assertEquals(before, DMLCompressionStatistics.getDecompressFallbackCount("r-bind on overlapping state"));
+	}
+
+	@Test
+	public void leftIndexingCompressedRows() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 4, 0, 5, 0.7, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		MatrixBlock rhs = TestUtils.round(TestUtils.generateTestMatrixBlock(50, 2, 0, 300, 0.7, 9));
+		MatrixBlock ret1 = m.leftIndexingOperations(rhs, 100, 149, 1, 2, null, UpdateType.COPY);
+		MatrixBlock ret2 = m2.leftIndexingOperations(rhs, 100, 149, 1, 2, null, UpdateType.COPY);
+		assertTrue(ret2 instanceof CompressedMatrixBlock);
+		TestUtils.compareMatrices(ret1, ret2, 0.0);
+		assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+		// the input is not modified
+		TestUtils.compareMatrices(m, m2, 0.0);
+
+		ScalarObject v = new DoubleObject(42);
+		ret1 = ret1.leftIndexingOperations(v, 999, 3, null, UpdateType.COPY);
+		ret2 = ret2.leftIndexingOperations(v, 999, 3, null, UpdateType.COPY);
+		TestUtils.compareMatrices(ret1, ret2, 0.0);
+		assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+	}
+
+	@Test
+	public void rbindCompressedKeepsCompressionBaseline() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 3, 1, 3, 1.0, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+		double ratio = ((CompressedMatrixBlock) m2).getCompressionRatio();
+		assertTrue(ratio > 1);
+
+		MatrixBlock rows = TestUtils.round(TestUtils.generateTestMatrixBlock(10, 3, 1, 3, 1.0, 8));
+		MatrixBlock ret = m2.append(rows, false);
+		assertTrue(ret instanceof CompressedMatrixBlock);
+		assertEquals(ratio, ((CompressedMatrixBlock) ret).getCompressionRatio(), 0.0);
+		TestUtils.compareMatrices(m.append(rows, false), ret, 0.0);
+	}
+
+	@Test
+	public void cumulativeAggregatesCompressed() {
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(3000, 4, -3, 5, 0.7, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		for(BuiltinCode code : new BuiltinCode[] {BuiltinCode.CUMSUM, BuiltinCode.CUMMIN, BuiltinCode.CUMMAX}) {
+			UnaryOperator op = new UnaryOperator(Builtin.getBuiltinFnObject(code));
+			int before = DMLCompressionStatistics.getDecompressFallbackCount("Unary Op not supported: Builtin");
+			MatrixBlock ret1 = m.unaryOperations(op, new MatrixBlock());
+			MatrixBlock ret2 = m2.unaryOperations(op, null);
+			TestUtils.compareMatrices(ret1, ret2, 0.0, code.toString());
+			assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+			assertEquals(before, DMLCompressionStatistics.getDecompressFallbackCount("Unary Op not supported: Builtin"));
+			// the running minimum and maximum only take few distinct values
+			if(code != BuiltinCode.CUMSUM)
+				assertTrue(ret2 instanceof CompressedMatrixBlock);
+		}
+	}
+
+	@Test
+	public void cumulativeProductsCompressed() {
+		// survival-like probabilities of zeros and ones
+		MatrixBlock m = TestUtils.round(TestUtils.generateTestMatrixBlock(3000, 2, 0, 1, 0.95, 7));
+		MatrixBlock m2 = CompressedMatrixBlockFactory.compress(m).getLeft();
+		assertTrue(m2 instanceof CompressedMatrixBlock);
+
+		for(BuiltinCode code : new BuiltinCode[] {BuiltinCode.CUMPROD, BuiltinCode.CUMSUMPROD}) {
+			UnaryOperator op = new UnaryOperator(Builtin.getBuiltinFnObject(code));
+			MatrixBlock ret1 = m.unaryOperations(op, new MatrixBlock());
+			MatrixBlock ret2 = m2.unaryOperations(op, null);
+			TestUtils.compareMatrices(ret1, ret2, 0.0, code.toString());
+		}
+	}
+
+	@Test
+	public void rexpandRowsCompressed() {
+		MatrixBlock v = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 1, 1, 20, 1.0, 7));
+		MatrixBlock v2 = CompressedMatrixBlockFactory.compress(v).getLeft();
+		assertTrue(v2 instanceof CompressedMatrixBlock);
+
+		String op = "Rexpand in rows direction (one hot encode)";
+		int before = DMLCompressionStatistics.getDecompressFallbackCount(op);
+		for(int max : new int[] {10, 20, 25}) {
+			MatrixBlock ret1 = v.rexpandOperations(new MatrixBlock(), max, true, true, true, 1);
+			MatrixBlock ret2 = v2.rexpandOperations(new MatrixBlock(), max, true, true, true, 1);
+			TestUtils.compareMatrices(ret1, ret2, 0.0);
+			assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+		}
+		assertEquals(before, DMLCompressionStatistics.getDecompressFallbackCount(op));
+	}
+
+	@Test
+	public void rexpandRowsSlicedCompressed() {
+		// invalid values (<= 0) only in rows outside the slice
+		MatrixBlock v = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 1, 1, 20, 1.0, 7));
+		for(int i = 990; i < 1000; i++)
+			v.quickSetValue(i, 0, -1);
+		MatrixBlock v2 = CompressedMatrixBlockFactory.compress(v).getLeft();
+		assertTrue(v2 instanceof CompressedMatrixBlock);
+
+		// the sliced column group retains the full dictionary incl. the invalid value
+		MatrixBlock s1 = v.slice(0, 99);
+		MatrixBlock s2 = v2.slice(0, 99);
+		assertTrue(s2 instanceof CompressedMatrixBlock);
+		MatrixBlock ret1 = s1.rexpandOperations(new MatrixBlock(), 20, true, true, false, 1);
+		MatrixBlock ret2 = s2.rexpandOperations(new MatrixBlock(), 20, true, true, false, 1);
+		TestUtils.compareMatrices(ret1, ret2, 0.0);
+		assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+
+		// referenced invalid values are still rejected
+		assertThrows(DMLRuntimeException.class,
+			() -> v2.slice(950, 999).rexpandOperations(new MatrixBlock(), 20, true, true, false, 1));
+	}
 }
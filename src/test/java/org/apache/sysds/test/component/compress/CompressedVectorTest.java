@@ -137,7 +137,10 @@ public class CompressedVectorTest extends CompressedTestBase {
 			MatrixBlock ret1 = mb.sortOperations();
 			MatrixBlock ret2 = cmb.sortOperations();
 
-			compareResultMatrices(ret1, ret2, 1);
+			if(((CompressedMatrixBlock) cmb).isOverlapping())
+				compareResultMatrices(ret1, ret2, 1);
+			else // compressed sort returns one row per distinct value
+				compareResultMatrices(compactSorted(ret1), compactSorted(ret2), 1);
 
 		}
 		catch(Exception e) {
@@ -146,6 +149,22 @@ public class CompressedVectorTest extends CompressedTestBase {
 		}
 	}
 
+	private static MatrixBlock compactSorted(MatrixBlock sorted) {
+		// merge consecutive rows of equal values by adding their weights
+		MatrixBlock ret = new MatrixBlock(sorted.getNumRows(), 2, false);
+		int n = 0;
+		for(int i = 0; i < sorted.getNumRows(); i++) {
+			double v = sorted.quickGetValue(i, 0);
+			if(n > 0 && ret.quickGetValue(n - 1, 0) == v)
+				ret.quickSetValue(n - 1, 1, ret.quickGetValue(n - 1, 1) + sorted.quickGetValue(i, 1));
+			else {
+				ret.quickSetValue(n, 0, v);
+				ret.quickSetValue(n++, 1, sorted.quickGetValue(i, 1));
+			}
+		}
+		return ret.slice(0, n - 1);
+	}
+
 	@Test
 	public void testReExpandRow() {
 		// does not make much sense since it would entail the compression was on a matrix with one row.
@@ -545,6 +545,11 @@ public class ColGroupNegativeTests {
 			return null;
 		}
 
+		@Override
+		public double[][] getValueCounts(int nRows) {
+			return null;
+		}
+
 		@Override
 		public AColGroup rexpandCols(int max, boolean ignore, boolean cast, int nRows) {
 			return null;
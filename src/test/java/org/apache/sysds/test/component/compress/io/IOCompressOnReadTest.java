@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.compress.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.plan.PanelCompressor;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixReaderFactory;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.ReaderTextCSVSinglePass;
+import org.apache.sysds.runtime.io.WriterBinaryBlockParallel;
+import org.apache.sysds.runtime.io.WriterTextCSV;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+public class IOCompressOnReadTest {
+
+	final static String nameBeginning = "src/test/java/org/apache/sysds/test/component/compress/io/files"
+		+ IOCompressOnReadTest.class.getSimpleName() + "/";
+
+	private static final int BLEN = 100;
+
+	public IOCompressOnReadTest() {
+		synchronized(IOCompressionTestUtils.lock) {
+			new File(nameBeginning).mkdirs();
+		}
+	}
+
+	@AfterClass
+	public static void cleanup() {
+		IOCompressionTestUtils.deleteDirectory(new File(nameBeginning));
+	}
+
+	public static String getName() {
+		return IOCompressionTestUtils.getName(nameBeginning);
+	}
+
+	@Test
+	public void testBinaryDense() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(5230, 13, 1, 5, 1.0, 231));
+		readBinary(mb, true);
+	}
+
+	@Test
+	public void testBinarySparse() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(5230, 13, 1, 5, 0.1, 232));
+		readBinary(mb, true);
+	}
+
+	@Test
+	public void testBinaryMultipleColumnBlocks() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(3100, 250, 1, 3, 0.7, 233));
+		readBinary(mb, true);
+	}
+
+	@Test
+	public void testBinaryNotCompressible() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(5230, 13, 1, 5, 1.0, 234);
+		readBinary(mb, false);
+	}
+
+	@Test
+	public void testCSVDense() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(5230, 13, 1, 5, 1.0, 235));
+		readCSV(mb, true);
+	}
+
+	@Test
+	public void testCSVSparse() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(5230, 13, 1, 5, 0.1, 236));
+		readCSV(mb, true);
+	}
+
+	@Test
+	public void testCSVNotCompressible() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(5230, 13, 1, 5, 1.0, 237);
+		readCSV(mb, false);
+	}
+
+	@Test
+	public void testPanelsUnseenValues() {
+		// the values of the last panel are not contained in the sample
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(6000, 5, 1, 3, 1.0, 238));
+		MatrixBlock last = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 5, 10, 20, 1.0, 239));
+		mb = mb.append(last, false);
+
+		PanelCompressor pc = new PanelCompressor(mb.getNumRows(), mb.getNumColumns(), 1);
+		// add panels out of order
+		for(int rl : new int[] {1000, 0, 3000, 2000, 5000, 4000, 6000})
+			pc.addPanel(rl, mb.slice(rl, rl + 999));
+		MatrixBlock ret = pc.finish();
+		assertTrue(ret instanceof CompressedMatrixBlock);
+		TestUtils.compareMatrices(mb, ret, 0, "panel compression");
+	}
+
+	private static void readBinary(MatrixBlock mb, boolean compressed) throws Exception {
+		final String name = getName();
+		MatrixWriter writer = new WriterBinaryBlockParallel(1);
+		writer.writeMatrixToHDFS(mb, name, mb.getNumRows(), mb.getNumColumns(), BLEN, mb.getNonZeros());
+		read(mb, FileFormat.BINARY, name, compressed);
+	}
+
+	private static void readCSV(MatrixBlock mb, boolean compressed) throws Exception {
+		final String name = getName();
+		MatrixWriter writer = new WriterTextCSV(new FileFormatPropertiesCSV());
+		writer.writeMatrixToHDFS(mb, name, mb.getNumRows(), mb.getNumColumns(), BLEN, mb.getNonZeros());
+		read(mb, FileFormat.CSV, name, compressed);
+	}
+
+	private static void read(MatrixBlock mb, FileFormat fmt, String name, boolean compressed) throws Exception {
+		DMLConfig old = ConfigurationManager.getDMLConfig();
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.COMPRESSED_ONREAD, "true");
+		// the single-pass csv reader does not compress, and must not be selected on compress-on-read
+		conf.setTextValue(DMLConfig.CP_CSV_SINGLEPASS, "true");
+		ConfigurationManager.setGlobalConfig(conf);
+		try {
+			MatrixReader reader = MatrixReaderFactory.createMatrixReader(fmt);
+			assertFalse(reader instanceof ReaderTextCSVSinglePass);
+			MatrixBlock ret = reader.readMatrixFromHDFS(name, mb.getNumRows(), mb.getNumColumns(), BLEN,
+				mb.getNonZeros());
+			if(compressed)
+				assertTrue(ret instanceof CompressedMatrixBlock);
+			else
+				assertFalse(ret instanceof CompressedMatrixBlock);
+			TestUtils.compareMatrices(mb, ret, 0, "compress on read");
+			assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		}
+		finally {
+			ConfigurationManager.setGlobalConfig(old);
+		}
+	}
+}
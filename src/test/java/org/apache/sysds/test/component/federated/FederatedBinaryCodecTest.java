@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.federated;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedBinaryCodec;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedWorkerHandlerException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.lineage.LineageCache;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineageItem;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+
+public class FederatedBinaryCodecTest {
+
+	@Test
+	public void testRequestsRoundtrip() throws Exception {
+		MatrixBlock dense = TestUtils.generateTestMatrixBlock(100, 50, -1, 1, 1.0, 7);
+		MatrixBlock sparse = TestUtils.generateTestMatrixBlock(200, 100, -1, 1, 0.05, 3);
+		FederatedRequest fr1 = new FederatedRequest(RequestType.PUT_VAR, 1, dense);
+		fr1.setTID(3);
+		FederatedRequest fr2 = new FederatedRequest(RequestType.EXEC_INST, 2,
+			"CP+r+_mVar1+_mVar2", sparse, 7L, 3, 2.5, true, null, new DoubleObject(3.5));
+
+		FederatedRequest[] ret = (FederatedRequest[]) roundtrip(new FederatedRequest[] {fr1, fr2});
+		assertEquals(2, ret.length);
+		assertEquals(RequestType.PUT_VAR, ret[0].getType());
+		assertEquals(1, ret[0].getID());
+		assertEquals(3, ret[0].getTID());
+		assertEquals(fr1.getPID(), ret[0].getPID());
+		assertEquals(fr1.checkPrivacy(), ret[0].checkPrivacy());
+		TestUtils.compareMatrices(dense, (MatrixBlock) ret[0].getParam(0), 0);
+
+		assertEquals(RequestType.EXEC_INST, ret[1].getType());
+		assertEquals(fr2.getNumParams(), ret[1].getNumParams());
+		assertEquals("CP+r+_mVar1+_mVar2", ret[1].getParam(0));
+		MatrixBlock sparse2 = (MatrixBlock) ret[1].getParam(1);
+		assertTrue(sparse2.isInSparseFormat());
+		assertEquals(sparse.getNonZeros(), sparse2.getNonZeros());
+		TestUtils.compareMatrices(sparse, sparse2, 0);
+		assertEquals(7L, ret[1].getParam(2));
+		assertEquals(3, ret[1].getParam(3));
+		assertEquals(2.5, ret[1].getParam(4));
+		assertEquals(true, ret[1].getParam(5));
+		assertNull(ret[1].getParam(6));
+		assertEquals(3.5, ((ScalarObject) ret[1].getParam(7)).getDoubleValue(), 0);
+	}
+
+	@Test
+	public void testResponseMultiBlock() throws Exception {
+		MatrixBlock mb1 = TestUtils.generateTestMatrixBlock(300, 20, 0, 10, 0.7, 11);
+		MatrixBlock mb2 = TestUtils.generateTestMatrixBlock(10, 500, 0, 10, 0.01, 12);
+		FederatedResponse fr = new FederatedResponse(ResponseType.SUCCESS, new Object[] {mb1, mb2, 42L});
+
+		ByteBuf buf = FederatedBinaryCodec.Encoder.encode(ByteBufAllocator.DEFAULT, fr);
+		try {
+			//header segments and exactly sized block buffers
+			assertTrue(buf instanceof CompositeByteBuf);
+			assertEquals(5, ((CompositeByteBuf) buf).numComponents());
+		}
+		finally {
+			buf.release();
+		}
+
+		FederatedResponse ret = (FederatedResponse) roundtrip(fr);
+		assertTrue(ret.isSuccessful());
+		Object[] data = ret.getData();
+		assertEquals(3, data.length);
+		TestUtils.compareMatrices(mb1, (MatrixBlock) data[0], 0);
+		TestUtils.compareMatrices(mb2, (MatrixBlock) data[1], 0);
+		assertEquals(42L, data[2]);
+	}
+
+	@Test
+	public void testResponseFrame() throws Exception {
+		FrameBlock fb = new FrameBlock(new ValueType[] {ValueType.STRING, ValueType.FP64});
+		fb.appendRow(new Object[] {"a", 1.5});
+		fb.appendRow(new Object[] {"ä中", 2.5});
+		fb.appendRow(new Object[] {null, 3.5});
+		FederatedResponse ret = (FederatedResponse) roundtrip(new FederatedResponse(ResponseType.SUCCESS, fb));
+		FrameBlock fb2 = (FrameBlock) ret.getData()[0];
+		assertEquals(3, fb2.getNumRows());
+		for(int i = 0; i < 3; i++)
+			for(int j = 0; j < 2; j++)
+				assertEquals(fb.get(i, j), fb2.get(i, j));
+	}
+
+	@Test
+	public void testResponseEmptyAndError() throws Exception {
+		FederatedResponse ret = (FederatedResponse) roundtrip(new FederatedResponse(ResponseType.SUCCESS_EMPTY));
+		assertTrue(ret.isSuccessful());
+		assertNull(ret.getData());
+
+		ret = (FederatedResponse) roundtrip(
+			new FederatedResponse(ResponseType.ERROR, new FederatedWorkerHandlerException("test error")));
+		assertFalse(ret.isSuccessful());
+		assertTrue(ret.getErrorMessage().contains("test error"));
+	}
+
+	@Test
+	public void testJavaFallbackRejectsUnlistedClasses() throws Exception {
+		FederatedResponse fr = new FederatedResponse(ResponseType.SUCCESS, new java.net.URI("http://localhost"));
+		EmbeddedChannel ch = new EmbeddedChannel(FederatedBinaryCodec.decoder(), FederatedBinaryCodec.encoder());
+		assertTrue(ch.writeOutbound(fr));
+		ByteBuf buf = ch.readOutbound();
+		assertThrows(DecoderException.class, () -> ch.writeInbound(buf));
+		ch.finishAndReleaseAll();
+	}
+
+	@Test
+	public void testResponseLineageReuse() throws Exception {
+		ReuseCacheType oldReuse = DMLScript.LINEAGE_REUSE;
+		ReuseCacheType oldType = LineageCacheConfig.getCacheType();
+		DMLScript.LINEAGE_REUSE = ReuseCacheType.REUSE_FULL;
+		LineageCacheConfig.setConfig(ReuseCacheType.REUSE_FULL);
+		LineageCache.resetCache();
+		try {
+			MatrixBlock mb = TestUtils.generateTestMatrixBlock(100, 20, -1, 1, 0.5, 13);
+			LineageItem li = new LineageItem("rand", new LineageItem[] {new LineageItem("13")});
+			EmbeddedChannel ch = new EmbeddedChannel(FederatedBinaryCodec.encoder());
+			assertTrue(ch.writeOutbound(new FederatedResponse(ResponseType.SUCCESS, mb, li)));
+			ByteBuf buf1 = ch.readOutbound();
+			byte[] bytes1 = ByteBufUtil.getBytes(buf1);
+			buf1.release();
+			assertEquals(1, LineageCache.getLineageCache().size());
+
+			//second response of the same lineage item is served from the cached bytes
+			assertTrue(ch.writeOutbound(new FederatedResponse(ResponseType.SUCCESS, mb, li)));
+			ByteBuf buf2 = ch.readOutbound();
+			assertFalse(buf2 instanceof CompositeByteBuf);
+			assertArrayEquals(bytes1, ByteBufUtil.getBytes(buf2));
+			buf2.release();
+			assertFalse(ch.finish());
+
+			FederatedResponse ret = (FederatedResponse) FederatedBinaryCodec.Decoder
+				.decodeFrame(Unpooled.wrappedBuffer(bytes1, 4, bytes1.length - 4));
+			TestUtils.compareMatrices(mb, (MatrixBlock) ret.getData()[0], 0);
+		}
+		finally {
+			LineageCache.resetCache();
+			LineageCacheConfig.setConfig(oldType);
+			DMLScript.LINEAGE_REUSE = oldReuse;
+		}
+	}
+
+	private static Object roundtrip(Object msg) {
+		EmbeddedChannel ch = new EmbeddedChannel(FederatedBinaryCodec.decoder(), FederatedBinaryCodec.encoder());
+		assertTrue(ch.writeOutbound(msg));
+		ByteBuf buf = ch.readOutbound();
+		//feed the encoded message in small chunks to exercise the framing
+		while(buf.isReadable())
+			ch.writeInbound(buf.readRetainedSlice(Math.min(buf.readableBytes(), 1000)));
+		buf.release();
+		Object ret = ch.readInbound();
+		assertFalse(ch.finish());
+		return ret;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.lib.FrameLibApplySchema;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.FrameReaderJSONL;
+import org.apache.sysds.runtime.io.FrameReaderJSONLParallel;
+import org.apache.sysds.runtime.io.FrameReaderTextCSV;
+import org.apache.sysds.runtime.io.FrameReaderTextCSVParallel;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.UtilFunctions;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class FrameReaderDetectSchemaTest {
+	private static final int ROWS = 3000;
+	private static final ValueType[] SCHEMA = {ValueType.FP32, ValueType.STRING, ValueType.BOOLEAN,
+		ValueType.FP64, ValueType.STRING, ValueType.INT64};
+
+	@Test
+	public void testCSVDetectSchema() throws Exception {
+		runCSVTest(new FrameReaderTextCSV(getProperties()));
+	}
+
+	@Test
+	public void testCSVDetectSchemaParallel() throws Exception {
+		runCSVTest(new FrameReaderTextCSVParallel(getProperties()));
+	}
+
+	@Test
+	public void testJSONLDetectSchema() throws Exception {
+		runJSONLTest(new FrameReaderJSONL());
+	}
+
+	@Test
+	public void testJSONLDetectSchemaParallel() throws Exception {
+		runJSONLTest(new FrameReaderJSONLParallel());
+	}
+
+	@Test
+	public void testCSVDetectSchemaNumericNulls() throws Exception {
+		runCSVNullsTest(new FrameReaderTextCSV(getProperties()));
+	}
+
+	@Test
+	public void testCSVDetectSchemaNumericNullsParallel() throws Exception {
+		runCSVNullsTest(new FrameReaderTextCSVParallel(getProperties()));
+	}
+
+	private static void runCSVNullsTest(FrameReader reader) throws Exception {
+		File f = File.createTempFile("detect", ".csv");
+		try {
+			try(BufferedWriter writer = new BufferedWriter(new FileWriter(f))) {
+				for(int i = 0; i < ROWS; i++)
+					writer.write(((i == 11) ? "" : String.valueOf(i % 17)) + ","
+						+ ((i % 100 == 5) ? "" : String.valueOf(i + 0.5)) + "\n");
+			}
+			FrameBlock ret = reader.readFrameFromHDFS(f.getAbsolutePath(),
+				new ValueType[] {ValueType.UNKNOWN}, ROWS, 2);
+			// empty cells of numeric columns are read back as nulls
+			assertEquals(ValueType.INT32, ret.getSchema()[0]);
+			assertTrue(ret.getSchema()[1].isNumeric());
+			assertTrue(ret.getColumn(0).containsNull());
+			assertTrue(ret.getColumn(1).containsNull());
+			assertNull(ret.get(11, 0));
+			assertEquals(12, ((Number) ret.get(12, 0)).intValue());
+			assertNull(ret.get(5, 1));
+			assertNull(ret.get(2905, 1));
+			assertEquals(6.5, ((Number) ret.get(6, 1)).doubleValue(), 0);
+		}
+		finally {
+			HDFSTool.deleteFileIfExistOnHDFS(f.getAbsolutePath());
+		}
+	}
+
+	private static void runCSVTest(FrameReader reader) throws Exception {
+		File f = File.createTempFile("detect", ".csv");
+		try {
+			try(BufferedWriter writer = new BufferedWriter(new FileWriter(f))) {
+				for(int i = 0; i < ROWS; i++)
+					writer.write(String.join(",", getRow(i)) + "\n");
+			}
+			FrameBlock expected = new FrameReaderTextCSV(getProperties())
+				.readFrameFromHDFS(f.getAbsolutePath(), ROWS, SCHEMA.length);
+			FrameBlock ret = reader.readFrameFromHDFS(f.getAbsolutePath(),
+				new ValueType[] {ValueType.UNKNOWN}, ROWS, SCHEMA.length);
+			compare(expected, ret);
+		}
+		finally {
+			HDFSTool.deleteFileIfExistOnHDFS(f.getAbsolutePath());
+		}
+	}
+
+	private static void runJSONLTest(FrameReaderJSONL reader) throws Exception {
+		File f = File.createTempFile("detect", ".json");
+		Map<String, Integer> schemaMap = new HashMap<>();
+		for(int j = 0; j < SCHEMA.length; j++)
+			schemaMap.put("/c" + j, j);
+		try {
+			try(BufferedWriter writer = new BufferedWriter(new FileWriter(f))) {
+				for(int i = 0; i < ROWS; i++) {
+					String[] row = getRow(i);
+					StringBuilder sb = new StringBuilder("{");
+					for(int j = 0; j < row.length; j++)
+						if(!row[j].isEmpty())
+							sb.append(sb.length() > 1 ? "," : "").append("\"c" + j + "\":\"" + row[j] + "\"");
+					writer.write(sb.append("}\n").toString());
+				}
+			}
+			FrameBlock expected = new FrameReaderJSONL().readFrameFromHDFS(f.getAbsolutePath(),
+				UtilFunctions.nCopies(SCHEMA.length, ValueType.STRING), schemaMap, ROWS, SCHEMA.length);
+			FrameBlock ret = reader.readFrameFromHDFS(f.getAbsolutePath(),
+				UtilFunctions.nCopies(SCHEMA.length, ValueType.UNKNOWN), schemaMap, ROWS, SCHEMA.length);
+			compare(expected, ret);
+		}
+		finally {
+			HDFSTool.deleteFileIfExistOnHDFS(f.getAbsolutePath());
+		}
+	}
+
+	private static String[] getRow(int i) {
+		return new String[] {
+			// ints promoted to FP32 late in the file
+			(i == 2500) ? "2.5" : String.valueOf(i),
+			// ints (w/ empty value) promoted to STRING late in the file
+			(i == 7) ? "" : (i == 2700) ? "abc" : String.valueOf(i % 17),
+			// booleans
+			String.valueOf(i % 3 == 0),
+			// floats promoted to FP64
+			(i < 1000) ? "0.1" : "0.123456789123",
+			// empty column
+			"",
+			// ints promoted to INT64
+			(i == 1500) ? "3000000000" : String.valueOf(i)};
+	}
+
+	private static void compare(FrameBlock expected, FrameBlock ret) {
+		assertArrayEquals(SCHEMA, ret.getSchema());
+		for(int j = 0; j < SCHEMA.length; j++)
+			assertEquals(SCHEMA[j], ret.getColumn(j).getValueType());
+		// equivalent to string read, followed by schema application
+		FrameBlock expected2 = FrameLibApplySchema.applySchema(expected, SCHEMA);
+		TestUtils.compareFrames(expected2, ret, false);
+		assertEquals(0.1, (double) ret.get(0, 3), 0);
+		assertEquals("0", ret.get(0, 1));
+		assertNull(ret.get(7, 1));
+		assertNull(ret.get(0, 4));
+	}
+
+	private static FileFormatPropertiesCSV getProperties() {
+		return new FileFormatPropertiesCSV(false, ",", true, 0, "");
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.ColumnEncoderRecode;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.MultiColumnEncoder;
+import org.apache.sysds.runtime.util.DoubleIntHashMap;
+import org.apache.sysds.runtime.util.LongIntHashMap;
+import org.apache.sysds.runtime.util.StringIntHashMap;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class transformRecodeTypedTest {
+
+	@Test
+	public void testLongIntHashMap() {
+		LongIntHashMap map = new LongIntHashMap();
+		for(int i = 0; i < 10000; i++)
+			assertEquals(-1, map.putIfAbsent(i * 31L - 5000, i));
+		assertEquals(10000, map.size());
+		for(int i = 0; i < 10000; i++) {
+			assertEquals(i, map.get(i * 31L - 5000));
+			assertEquals(i, map.putIfAbsent(i * 31L - 5000, -7));
+			assertEquals(i * 31L - 5000, map.getKey(i));
+		}
+		assertEquals(-1, map.get(1));
+		assertFalse(map.containsKey(Long.MAX_VALUE));
+		map.put(Long.MAX_VALUE, 3);
+		assertEquals(3, map.get(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testDoubleIntHashMap() {
+		DoubleIntHashMap map = new DoubleIntHashMap(4);
+		double[] keys = new double[] {0.0, -0.0, Double.NaN, 1.5, Double.NEGATIVE_INFINITY, 1e-300};
+		for(int i = 0; i < keys.length; i++)
+			map.putIfAbsent(keys[i], i);
+		assertEquals(keys.length, map.size());
+		for(int i = 0; i < keys.length; i++) {
+			assertEquals(i, map.get(keys[i]));
+			assertEquals(Double.doubleToLongBits(keys[i]), Double.doubleToLongBits(map.getKey(i)));
+		}
+		assertEquals(-1, map.get(2.5));
+	}
+
+	@Test
+	public void testStringIntHashMap() {
+		StringIntHashMap map = new StringIntHashMap();
+		int len = 0;
+		for(int i = 0; i < 5000; i++) {
+			String key = "key_" + i + (i % 7 == 0 ? "ä中" : "");
+			assertEquals(-1, map.putIfAbsent(key, i));
+			len += key.length();
+		}
+		assertEquals(5000, map.size());
+		assertEquals(len, map.getArenaSize());
+		for(int i = 0; i < 5000; i++) {
+			String key = "key_" + i + (i % 7 == 0 ? "ä中" : "");
+			assertEquals(i, map.get(new String(key)));
+			assertEquals(key, map.getKey(i));
+		}
+		assertEquals(-1, map.get("key_"));
+		assertTrue(map.containsKey("key_0ä中"));
+		assertEquals(-1, map.putIfAbsent("", 5000));
+		assertEquals(5000, map.get(""));
+	}
+
+	@Test
+	public void testRecodeFP64() {
+		testRecode(ValueType.FP64);
+	}
+
+	@Test
+	public void testRecodeINT64() {
+		testRecode(ValueType.INT64);
+	}
+
+	@Test
+	public void testRecodeINT32() {
+		testRecode(ValueType.INT32);
+	}
+
+	@Test
+	public void testRecodeMatrix() {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(1000, 2, -10, 10, 0.7, 7));
+		mb.quickSetValue(3, 1, Double.NaN);
+		FrameBlock fb = new FrameBlock(new ValueType[] {ValueType.STRING, ValueType.STRING});
+		for(int i = 0; i < mb.getNumRows(); i++) {
+			double v1 = mb.quickGetValue(i, 0), v2 = mb.quickGetValue(i, 1);
+			fb.appendRow(new Object[] {String.valueOf(v1), Double.isNaN(v2) ? null : String.valueOf(v2)});
+		}
+		String spec = "{ids:true, recode:[1,2]}";
+		MultiColumnEncoder enc1 = EncoderFactory.createEncoder(spec, null, 2, null);
+		MatrixBlock out1 = enc1.encode(mb);
+		MultiColumnEncoder enc2 = EncoderFactory.createEncoder(spec, null, 2, null);
+		MatrixBlock out2 = enc2.encode(fb);
+		TestUtils.compareMatrices(out2, out1, 0);
+		MatrixBlock out3 = enc1.apply(mb);
+		TestUtils.compareMatrices(out2, out3, 0);
+	}
+
+	@Test
+	public void testRecodeApplyAfterInPlaceSort() {
+		FrameBlock typed = new FrameBlock(new ValueType[] {ValueType.INT64});
+		FrameBlock strings = new FrameBlock(new ValueType[] {ValueType.STRING});
+		for(int i = 0; i < 100; i++) {
+			long v = (i * 37) % 23;
+			typed.appendRow(new Object[] {v});
+			strings.appendRow(new Object[] {Long.toString(v)});
+		}
+		String spec = "{ids:true, recode:[1]}";
+		MultiColumnEncoder enc1 = EncoderFactory.createEncoder(spec, typed.getColumnNames(), 1, null);
+		MatrixBlock out1 = enc1.encode(typed);
+		TestUtils.compareMatrices(out1, enc1.apply(typed), 0);
+
+		// sorting the recode map in place retains its size but changes the codes
+		for(ColumnEncoderRecode rc : enc1.getColumnEncoders(ColumnEncoderRecode.class))
+			rc.sortCPRecodeMaps();
+		MultiColumnEncoder enc2 = EncoderFactory.createEncoder(spec, strings.getColumnNames(), 1, null);
+		enc2.encode(strings);
+		for(ColumnEncoderRecode rc : enc2.getColumnEncoders(ColumnEncoderRecode.class))
+			rc.sortCPRecodeMaps();
+		TestUtils.compareMatrices(enc2.apply(strings), enc1.apply(typed), 0);
+	}
+
+	private static void testRecode(ValueType vt) {
+		// typed input and string input of the same values have to produce equal encodings
+		Random rand = new Random(13);
+		FrameBlock typed = new FrameBlock(new ValueType[] {vt, vt});
+		FrameBlock strings = new FrameBlock(new ValueType[] {ValueType.STRING, ValueType.STRING});
+		for(int i = 0; i < 2000; i++) {
+			Object[] row = new Object[2];
+			for(int j = 0; j < 2; j++) {
+				int v = rand.nextInt(100) - 50;
+				row[j] = (vt == ValueType.FP64) ? (Object) (v * 0.5) :
+					(vt == ValueType.INT64) ? (Object) (v * 1000000000000L) : (Object) v;
+			}
+			typed.appendRow(row);
+			strings.appendRow(new Object[] {row[0].toString(), row[1].toString()});
+		}
+		String spec = "{ids:true, recode:[1,2]}";
+
+		MultiColumnEncoder enc1 = EncoderFactory.createEncoder(spec, typed.getColumnNames(), 2, null);
+		MatrixBlock out1 = enc1.encode(typed);
+		FrameBlock meta = enc1.getMetaData(new FrameBlock(2, ValueType.STRING));
+		MultiColumnEncoder enc2 = EncoderFactory.createEncoder(spec, strings.getColumnNames(), 2, null);
+		MatrixBlock out2 = enc2.encode(strings);
+		TestUtils.compareMatrices(out2, out1, 0);
+
+		// repeated apply w/ the same meta data (reuse of primitive lookup maps)
+		for(int i = 0; i < 3; i++) {
+			MultiColumnEncoder enc3 = EncoderFactory.createEncoder(spec, typed.getColumnNames(), 2, meta);
+			MatrixBlock out3 = enc3.apply(typed);
+			TestUtils.compareMatrices(out1, out3, 0);
+			MultiColumnEncoder enc4 = EncoderFactory.createEncoder(spec, strings.getColumnNames(), 2, meta);
+			MatrixBlock out4 = enc4.apply(strings);
+			TestUtils.compareMatrices(out1, out4, 0);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.matrix;
+
+import org.apache.commons.math3.linear.CholeskyDecomposition;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.QRDecomposition;
+import org.apache.sysds.runtime.matrix.data.LibMatrixDenseLA;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class DenseLATest {
+
+	private static final int N = 150; // > blocksize to cover multiple panels
+	private static final double TOL = 1e-8;
+
+	@Test
+	public void testCholesky() {
+		testCholesky(1);
+	}
+
+	@Test
+	public void testCholeskyMT() {
+		testCholesky(8);
+	}
+
+	@Test
+	public void testLU() {
+		testLU(1);
+	}
+
+	@Test
+	public void testLUMT() {
+		testLU(8);
+	}
+
+	@Test
+	public void testSolveMT() {
+		MatrixBlock A = TestUtils.generateTestMatrixBlock(N, N, -1, 1, 1.0, 7);
+		MatrixBlock b = TestUtils.generateTestMatrixBlock(N, 3, -1, 1, 1.0, 8);
+		MatrixBlock X = LibMatrixDenseLA.solve(A, b, 8);
+		TestUtils.compareMatrices(b, mult(A, X), TOL, "solve");
+	}
+
+	@Test
+	public void testInverseMT() {
+		MatrixBlock A = TestUtils.generateTestMatrixBlock(N, N, -1, 1, 1.0, 9);
+		MatrixBlock Ainv = LibMatrixDenseLA.inverse(A, 8);
+		TestUtils.compareMatrices(identity(N), mult(A, Ainv), TOL, "inverse");
+	}
+
+	@Test
+	public void testQR() {
+		testQR(N + 20, N, 1);
+	}
+
+	@Test
+	public void testQRMT() {
+		testQR(N + 20, N, 8);
+	}
+
+	@Test
+	public void testQRWideMT() {
+		testQR(N - 20, N, 8);
+	}
+
+	@Test
+	public void testEigenSymmetricMT() {
+		MatrixBlock A = TestUtils.generateTestMatrixBlockSym(N, N, 0, 1, 1.0, 11);
+		MatrixBlock[] ret = LibMatrixDenseLA.eigenSymmetric(A, 8);
+		MatrixBlock D = LibMatrixReorg.diag(ret[0], new MatrixBlock(N, N, false));
+		MatrixBlock VDtV = mult(mult(ret[1], D), LibMatrixReorg.transpose(ret[1]));
+		TestUtils.compareMatrices(A, VDtV, TOL, "eigen");
+	}
+
+	@Test
+	public void testSvdMT() {
+		testSvd(N + 30, N, 8);
+	}
+
+	@Test
+	public void testSvdWideMT() {
+		testSvd(N - 30, N, 8);
+	}
+
+	private static void testCholesky(int k) {
+		MatrixBlock A = spd(N, 3);
+		MatrixBlock L = LibMatrixDenseLA.cholesky(A, 1e-14, 1e-10, k);
+		CholeskyDecomposition ref = new CholeskyDecomposition(DataConverter.convertToArray2DRowRealMatrix(A));
+		TestUtils.compareMatrices(L, ref.getL().getData(), TOL, "cholesky");
+	}
+
+	private static void testLU(int k) {
+		MatrixBlock A = TestUtils.generateTestMatrixBlock(N, N, -1, 1, 1.0, 5);
+		MatrixBlock[] ret = LibMatrixDenseLA.lu(A, k);
+		LUDecomposition ref = new LUDecomposition(DataConverter.convertToArray2DRowRealMatrix(A));
+		TestUtils.compareMatrices(ret[0], ref.getP().getData(), 0, "lu P");
+		TestUtils.compareMatrices(ret[1], ref.getL().getData(), TOL, "lu L");
+		TestUtils.compareMatrices(ret[2], ref.getU().getData(), TOL, "lu U");
+	}
+
+	private static void testQR(int m, int n, int k) {
+		MatrixBlock A = TestUtils.generateTestMatrixBlock(m, n, -1, 1, 1.0, 13);
+		MatrixBlock[] ret = LibMatrixDenseLA.qr(A, k);
+		QRDecomposition ref = new QRDecomposition(DataConverter.convertToArray2DRowRealMatrix(A));
+		TestUtils.compareMatrices(ret[0], ref.getH().getData(), TOL, "qr H");
+		TestUtils.compareMatrices(ret[1], ref.getR().getData(), TOL, "qr R");
+	}
+
+	private static void testSvd(int m, int n, int k) {
+		MatrixBlock A = TestUtils.generateTestMatrixBlock(m, n, -1, 1, 1.0, 17);
+		MatrixBlock[] ret = LibMatrixDenseLA.svd(A, k);
+		MatrixBlock USVt = mult(mult(ret[0], ret[1]), LibMatrixReorg.transpose(ret[2]));
+		TestUtils.compareMatrices(A, USVt, TOL, "svd");
+	}
+
+	private static MatrixBlock spd(int n, long seed) {
+		MatrixBlock X = TestUtils.generateTestMatrixBlock(n, n, -1, 1, 1.0, seed);
+		MatrixBlock XtX = mult(LibMatrixReorg.transpose(X), X);
+		for(int i = 0; i < n; i++)
+			XtX.quickSetValue(i, i, XtX.quickGetValue(i, i) + n);
+		return XtX;
+	}
+
+	private static MatrixBlock identity(int n) {
+		return LibMatrixReorg.diag(new MatrixBlock(n, 1, 1.0), new MatrixBlock(n, n, false));
+	}
+
+	private static MatrixBlock mult(MatrixBlock m1, MatrixBlock m2) {
+		return LibMatrixMult.matrixMult(m1, m2);
+	}
+}
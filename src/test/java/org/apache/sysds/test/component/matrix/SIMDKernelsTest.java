@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.LibMatrixSIMD;
+import org.apache.sysds.runtime.matrix.data.LibMatrixSIMD.VectorKernels;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Compares the Vector API kernels against the scalar kernels of LibMatrixMult
+ * (which are used as long as the SIMD backend is not enabled globally).
+ */
+@RunWith(value = Parameterized.class)
+public class SIMDKernelsTest {
+
+	@Parameterized.Parameter
+	public int len;
+	@Parameterized.Parameter(1)
+	public int offset;
+
+	private VectorKernels simd;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		for(int len : new int[] {1, 7, 16, 33, 128, 1001})
+			for(int offset : new int[] {0, 3})
+				tests.add(new Object[] {len, offset});
+		return tests;
+	}
+
+	@Before
+	public void setup() {
+		simd = LibMatrixSIMD.getAvailable();
+		Assume.assumeTrue("Vector API kernels not available", simd != null);
+	}
+
+	@Test
+	public void testDotProduct() {
+		double[] a = vector(1), b = vector(2);
+		double expected = LibMatrixMult.dotProduct(a, b, offset, offset, len);
+		assertEquals(expected, simd.dotProduct(a, b, offset, offset, len), 1e-10);
+	}
+
+	@Test
+	public void testVectMultiplyAdd() {
+		double[] b = vector(1), c1 = vector(2), c2 = vector(2);
+		LibMatrixMult.vectMultiplyAdd(0.7, b, c1, offset, 0, len);
+		simd.vectMultiplyAdd(0.7, b, c2, offset, 0, len);
+		TestUtils.compareMatrices(c1, c2, 1e-14);
+	}
+
+	@Test
+	public void testVectMultiplyAdd4() {
+		double[] b = vector(1, 4 * len + offset), c1 = vector(2), c2 = vector(2);
+		for(int j = 0; j < len; j++)
+			c1[j] += 0.1 * b[offset + j] + 0.2 * b[offset + len + j]
+				+ 0.3 * b[offset + 2 * len + j] + 0.4 * b[offset + 3 * len + j];
+		simd.vectMultiplyAdd4(0.1, 0.2, 0.3, 0.4, b, c2, offset, offset + len, offset + 2 * len, offset + 3 * len, 0,
+			len);
+		TestUtils.compareMatrices(c1, c2, 1e-14);
+	}
+
+	@Test
+	public void testVectMultiplyWrite() {
+		double[] a = vector(1), b = vector(2), c1 = new double[a.length], c2 = new double[a.length];
+		LibMatrixMult.vectMultiplyWrite(a, b, c1, offset, offset, 0, len);
+		simd.vectMultiplyWrite(a, b, c2, offset, offset, 0, len);
+		TestUtils.compareMatrices(c1, c2, 0);
+		LibMatrixMult.vectMultiplyWrite(1.3, b, c1, offset, 0, len);
+		simd.vectMultiplyWrite(1.3, b, c2, offset, 0, len);
+		TestUtils.compareMatrices(c1, c2, 0);
+	}
+
+	@Test
+	public void testVectAddMinusWrite() {
+		double[] a = vector(1), b = vector(2), c = new double[a.length];
+		simd.vectAddWrite(a, b, c, offset, offset, 0, len);
+		for(int j = 0; j < len; j++)
+			assertEquals(a[offset + j] + b[offset + j], c[j], 0);
+		simd.vectMinusWrite(a, b, c, offset, offset, 0, len);
+		for(int j = 0; j < len; j++)
+			assertEquals(a[offset + j] - b[offset + j], c[j], 0);
+	}
+
+	@Test
+	public void testVectAdd() {
+		double[] a = vector(1), c1 = vector(2), c2 = vector(2);
+		LibMatrixMult.vectAdd(a, c1, offset, 0, len);
+		simd.vectAdd(a, c2, offset, 0, len);
+		TestUtils.compareMatrices(c1, c2, 0);
+	}
+
+	private double[] vector(int seed) {
+		return vector(seed, len + offset);
+	}
+
+	private static double[] vector(int seed, int n) {
+		return TestUtils.generateTestMatrix(1, n, -1, 1, 1.0, seed)[0];
+	}
+}
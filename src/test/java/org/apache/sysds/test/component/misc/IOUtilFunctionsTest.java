@@ -20,6 +20,11 @@
 package org.apache.sysds.test.component.misc;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
 
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.junit.Test;
@@ -218,4 +223,40 @@ public class IOUtilFunctionsTest {
 		String[] ret = IOUtilFunctions.splitCSV(in, ",", null);
 		assertArrayEquals(new String[] {"aaa", "\"\"\",,,b,,\"", "\"c,c,c\""}, ret);
 	}
+
+	@Test
+	public void parseDoubleBytes() {
+		String[] in = {"0", "-0", "1", "+1", "-1.5", "3.14159", ".5", "5.", "0.000123", "1e10", "1E-5",
+			"-2.5e+3", "7.275636800328681", "-3.756323061556275", "0.1", "123456789012345678",
+			"1234567890123456789", "9007199254740993", "1.7976931348623157E308", "4.9E-324", "1e400",
+			"1e-400", "NaN", "Infinity", "-Infinity", "1.0d", "0x1p3"};
+		for(String s : in)
+			assertEquals(s, Double.doubleToLongBits(Double.parseDouble(s)),
+				Double.doubleToLongBits(parse(s)));
+	}
+
+	@Test
+	public void parseDoubleBytesRandom() {
+		Random rand = new Random(7);
+		for(int i = 0; i < 100000; i++) {
+			double v = (rand.nextDouble() - 0.5) * Math.pow(10, rand.nextInt(40) - 20);
+			String s = (i % 2 == 0) ? Double.toString(v) : String.format(Locale.US, "%.6f", v);
+			assertEquals(s, Double.parseDouble(s), parse(s), 0);
+		}
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseDoubleBytesInvalid() {
+		parse("1.2.3");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parseDoubleBytesInvalidExponent() {
+		parse("1e");
+	}
+
+	private static double parse(String s) {
+		byte[] buf = (" " + s + ",").getBytes(StandardCharsets.UTF_8);
+		return IOUtilFunctions.parseDouble(buf, 1, buf.length - 1);
+	}
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.parfor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueueWorkStealing;
+import org.junit.Test;
+
+public class LocalTaskQueueTest {
+
+	private static final int NUM_TASKS = 10000;
+
+	@Test
+	public void testFifoQueue() throws InterruptedException {
+		runQueue(new LocalTaskQueue<>(), 8, false);
+	}
+
+	@Test
+	public void testWorkStealingQueue() throws InterruptedException {
+		runQueue(new LocalTaskQueueWorkStealing<>(8), 8, false);
+	}
+
+	@Test
+	public void testWorkStealingQueueStreaming() throws InterruptedException {
+		runQueue(new LocalTaskQueueWorkStealing<>(8), 8, true);
+	}
+
+	@Test
+	public void testWorkStealingQueueSteals() throws InterruptedException {
+		//a single reader has to steal all tasks of the other deques
+		LocalTaskQueueWorkStealing<Integer> q = new LocalTaskQueueWorkStealing<>(4);
+		for(int i = 0; i < 8; i++)
+			q.enqueueTask(i);
+		q.closeInput();
+		int count = 0;
+		while(q.dequeueTask(0) != LocalTaskQueue.NO_MORE_TASKS)
+			count++;
+		assertEquals(8, count);
+		assertEquals(6, q.getNumSteals());
+	}
+
+	private static void runQueue(LocalTaskQueue<Integer> q, int k, boolean streaming) throws InterruptedException {
+		if(!streaming)
+			enqueueAll(q);
+		ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+		AtomicInteger count = new AtomicInteger();
+		Thread[] threads = new Thread[k];
+		for(int i = 0; i < k; i++) {
+			final int wix = i;
+			threads[i] = new Thread(() -> {
+				try {
+					Integer t;
+					while((t = q.dequeueTask(wix)) != LocalTaskQueue.NO_MORE_TASKS) {
+						assertTrue(seen.putIfAbsent(t, true) == null);
+						count.incrementAndGet();
+					}
+				}
+				catch(InterruptedException ex) {
+					throw new RuntimeException(ex);
+				}
+			});
+			threads[i].start();
+		}
+		if(streaming)
+			enqueueAll(q);
+		for(Thread t : threads)
+			t.join();
+		assertEquals(NUM_TASKS, count.get());
+		assertEquals(NUM_TASKS, seen.size());
+	}
+
+	private static void enqueueAll(LocalTaskQueue<Integer> q) throws InterruptedException {
+		for(int i = 0; i < NUM_TASKS; i++)
+			q.enqueueTask(i);
+		q.closeInput();
+	}
+}
@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCOO;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.DataConverter;
@@ -139,6 +140,36 @@ public class SparseBlockAlignment extends AutomatedTestBase
 		runSparseBlockScanTest(SparseBlock.Type.COO, sparsity3, false);
 	}
 	
+	@Test
+	public void testSparseBlockDCSR1Pos()  {
+		runSparseBlockScanTest(SparseBlock.Type.DCSR, sparsity1, true);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR2Pos()  {
+		runSparseBlockScanTest(SparseBlock.Type.DCSR, sparsity2, true);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR3Pos()  {
+		runSparseBlockScanTest(SparseBlock.Type.DCSR, sparsity3, true);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR1Neg()  {
+		runSparseBlockScanTest(SparseBlock.Type.DCSR, sparsity1, false);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR2Neg()  {
+		runSparseBlockScanTest(SparseBlock.Type.DCSR, sparsity2, false);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR3Neg()  {
+		runSparseBlockScanTest(SparseBlock.Type.DCSR, sparsity3, false);
+	}
+	
 	private void runSparseBlockScanTest( SparseBlock.Type btype, double sparsity, boolean positive)
 	{
 		try
@@ -154,6 +185,7 @@ public class SparseBlockAlignment extends AutomatedTestBase
 				case MCSR: sblock = new SparseBlockMCSR(srtmp); break;
 				case CSR: sblock = new SparseBlockCSR(srtmp); break;
 				case COO: sblock = new SparseBlockCOO(srtmp); break;
+				case DCSR: sblock = new SparseBlockDCSR(srtmp); break;
 			}
 			
 			//init second sparse block and deep copy
@@ -162,6 +194,7 @@ public class SparseBlockAlignment extends AutomatedTestBase
 				case MCSR: sblock2 = new SparseBlockMCSR(sblock); break;
 				case CSR: sblock2 = new SparseBlockCSR(sblock); break;
 				case COO: sblock2 = new SparseBlockCOO(sblock); break;
+				case DCSR: sblock2 = new SparseBlockDCSR(sblock); break;
 			}
 			
 			//modify second block if necessary
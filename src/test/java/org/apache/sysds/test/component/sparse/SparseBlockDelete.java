@@ -26,6 +26,7 @@ import org.junit.Test;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCOO;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.matrix.data.IJV;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -99,6 +100,21 @@ public class SparseBlockDelete extends AutomatedTestBase
 		runSparseBlockDeleteTest(SparseBlock.Type.COO, sparsity3);
 	}
 	
+	@Test
+	public void testSparseBlockDCSR1()  {
+		runSparseBlockDeleteTest(SparseBlock.Type.DCSR, sparsity1);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR2()  {
+		runSparseBlockDeleteTest(SparseBlock.Type.DCSR, sparsity2);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR3()  {
+		runSparseBlockDeleteTest(SparseBlock.Type.DCSR, sparsity3);
+	}
+	
 	private void runSparseBlockDeleteTest( SparseBlock.Type btype, double sparsity)
 	{
 		try
@@ -114,6 +130,7 @@ public class SparseBlockDelete extends AutomatedTestBase
 				case MCSR: sblock = new SparseBlockMCSR(srtmp); break;
 				case CSR: sblock = new SparseBlockCSR(srtmp); break;
 				case COO: sblock = new SparseBlockCOO(srtmp); break;
+				case DCSR: sblock = new SparseBlockDCSR(srtmp); break;
 			}
 			
 			//delete range per row via set
@@ -27,6 +27,7 @@ import org.junit.Test;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCOO;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
 import org.apache.sysds.runtime.data.SparseBlockMCSR;
 import org.apache.sysds.runtime.matrix.data.IJV;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -150,6 +151,36 @@ public class SparseBlockIndexRange extends AutomatedTestBase
 		runSparseBlockIndexRangeTest(SparseBlock.Type.COO, sparsity3, UpdateType.INSERT);
 	}
 	
+	@Test
+	public void testSparseBlockDCSR1Delete()  {
+		runSparseBlockIndexRangeTest(SparseBlock.Type.DCSR, sparsity1, UpdateType.DELETE);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR2Delete()  {
+		runSparseBlockIndexRangeTest(SparseBlock.Type.DCSR, sparsity2, UpdateType.DELETE);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR3Delete()  {
+		runSparseBlockIndexRangeTest(SparseBlock.Type.DCSR, sparsity3, UpdateType.DELETE);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR1Insert()  {
+		runSparseBlockIndexRangeTest(SparseBlock.Type.DCSR, sparsity1, UpdateType.INSERT);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR2Insert()  {
+		runSparseBlockIndexRangeTest(SparseBlock.Type.DCSR, sparsity2, UpdateType.INSERT);
+	}
+	
+	@Test
+	public void testSparseBlockDCSR3Insert()  {
+		runSparseBlockIndexRangeTest(SparseBlock.Type.DCSR, sparsity3, UpdateType.INSERT);
+	}
+	
 	private void runSparseBlockIndexRangeTest( SparseBlock.Type btype, double sparsity, UpdateType utype)
 	{
 		try
@@ -165,6 +196,7 @@ public class SparseBlockIndexRange extends AutomatedTestBase
 				case MCSR: sblock = new SparseBlockMCSR(srtmp); break;
 				case CSR: sblock = new SparseBlockCSR(srtmp); break;
 				case COO: sblock = new SparseBlockCOO(srtmp); break;
+				case DCSR: sblock = new SparseBlockDCSR(srtmp); break;
 			}
 			
 			//delete range per row via set
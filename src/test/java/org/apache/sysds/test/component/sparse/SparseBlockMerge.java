@@ -222,6 +222,66 @@ public class SparseBlockMerge extends AutomatedTestBase
 		runSparseBlockMergeTest(SparseBlock.Type.COO, SparseBlock.Type.CSR, sparsity3);
 	}
 	
+	@Test
+	public void testMergeMCSR_DCSR_0()  {
+		runSparseBlockMergeTest(SparseBlock.Type.MCSR, SparseBlock.Type.DCSR, sparsity0);
+	}
+	
+	@Test
+	public void testMergeMCSR_DCSR_1()  {
+		runSparseBlockMergeTest(SparseBlock.Type.MCSR, SparseBlock.Type.DCSR, sparsity1);
+	}
+	
+	@Test
+	public void testMergeMCSR_DCSR_2()  {
+		runSparseBlockMergeTest(SparseBlock.Type.MCSR, SparseBlock.Type.DCSR, sparsity2);
+	}
+	
+	@Test
+	public void testMergeMCSR_DCSR_3()  {
+		runSparseBlockMergeTest(SparseBlock.Type.MCSR, SparseBlock.Type.DCSR, sparsity3);
+	}
+	
+	@Test
+	public void testMergeDCSR_DCSR_0()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.DCSR, sparsity0);
+	}
+	
+	@Test
+	public void testMergeDCSR_DCSR_1()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.DCSR, sparsity1);
+	}
+	
+	@Test
+	public void testMergeDCSR_DCSR_2()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.DCSR, sparsity2);
+	}
+	
+	@Test
+	public void testMergeDCSR_DCSR_3()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.DCSR, sparsity3);
+	}
+	
+	@Test
+	public void testMergeDCSR_CSR_0()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.CSR, sparsity0);
+	}
+	
+	@Test
+	public void testMergeDCSR_CSR_1()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.CSR, sparsity1);
+	}
+	
+	@Test
+	public void testMergeDCSR_CSR_2()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.CSR, sparsity2);
+	}
+	
+	@Test
+	public void testMergeDCSR_CSR_3()  {
+		runSparseBlockMergeTest(SparseBlock.Type.DCSR, SparseBlock.Type.CSR, sparsity3);
+	}
+	
 	private void runSparseBlockMergeTest( SparseBlock.Type btype1, SparseBlock.Type btype2, double sparsity)
 	{
 		try
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.sparse;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.data.SparseBlockDCSR;
+import org.apache.sysds.runtime.data.SparseBlockFactory;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.IJV;
+import org.apache.sysds.runtime.matrix.data.LibMatrixAgg;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestUtils;
+
+/**
+ * This is a sparse matrix block component test for the DCSR sparse block
+ * on ultra-sparse, tall matrices with a tiny ratio of non-empty rows, and
+ * its selection in transpose, matrix multiplication, and row aggregates.
+ * 
+ */
+public class SparseBlockUltraSparseRows extends AutomatedTestBase 
+{
+	private final static int rows = 10000;
+	private final static int cols = 100;
+	private final static double sparsity1 = 0.00002;
+	private final static double sparsity2 = 0.00003;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testSparseBlockDCSRUpdates1()  {
+		runSparseBlockUpdateTest(sparsity1);
+	}
+	
+	@Test
+	public void testSparseBlockDCSRUpdates2()  {
+		runSparseBlockUpdateTest(sparsity2);
+	}
+	
+	@Test
+	public void testTransposeDCSR1()  {
+		runTransposeTest(sparsity1);
+	}
+	
+	@Test
+	public void testTransposeDCSR2()  {
+		runTransposeTest(sparsity2);
+	}
+	
+	@Test
+	public void testMatrixMultDCSR1()  {
+		runMatrixMultRowSumsTest(sparsity1);
+	}
+	
+	@Test
+	public void testMatrixMultDCSR2()  {
+		runMatrixMultRowSumsTest(sparsity2);
+	}
+	
+	private static void runSparseBlockUpdateTest(double sparsity) {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -10, 10, "uniform", 7);
+		SparseBlock ref = SparseBlockFactory.copySparseBlock(SparseBlock.Type.MCSR, mb.getSparseBlock(), true);
+		SparseBlock sblock = SparseBlockFactory.copySparseBlock(SparseBlock.Type.DCSR, mb.getSparseBlock(), true);
+		Assert.assertTrue(SparseBlockFactory.isUltraSparseRows(rows, mb.getNonZeros()));
+		checkEquals(ref, sblock);
+		
+		//random cell updates incl deletes, appends, and row/range updates
+		for( int i=0; i<rows; i+=97 ) {
+			int c = (i * 7) % cols;
+			double v = (i % 3 == 0) ? 0 : i;
+			ref.set(i, c, v);
+			sblock.set(i, c, v);
+		}
+		for( int i=rows-1; i>=0; i-=311 ) {
+			if( !ref.isEmpty(i) ) {
+				ref.deleteIndexRange(i, 10, 60);
+				sblock.deleteIndexRange(i, 10, 60);
+			}
+			ref.allocate(i);
+			ref.setIndexRange(i, 20, 23, new double[]{1, 0, 3}, 0, 3);
+			sblock.setIndexRange(i, 20, 23, new double[]{1, 0, 3}, 0, 3);
+		}
+		for( int i=0; i<rows; i+=1013 ) {
+			ref.reset(i, -1, -1);
+			sblock.reset(i, -1, -1);
+		}
+		ref.append(rows-1, cols-1, 7);
+		sblock.append(rows-1, cols-1, 7);
+		checkEquals(ref, sblock);
+		Assert.assertTrue(sblock.checkValidity(rows, cols, sblock.size(), false));
+	}
+	
+	private static void runTransposeTest(double sparsity) {
+		MatrixBlock mb = MatrixBlock.randOperations(cols, rows, sparsity, -10, 10, "uniform", 3);
+		MatrixBlock ret = LibMatrixReorg.transpose(mb);
+		Assert.assertTrue(ret.getSparseBlock() instanceof SparseBlockDCSR);
+		Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		for( int i=0; i<cols; i++ )
+			for( int j=0; j<rows; j++ )
+				if( mb.quickGetValue(i, j) != ret.quickGetValue(j, i) )
+					Assert.fail("Wrong transpose value at ("+i+","+j+").");
+		Assert.assertTrue(ret.getSparseBlock().checkValidity(rows, cols, ret.getNonZeros(), false));
+	}
+	
+	private static void runMatrixMultRowSumsTest(double sparsity) {
+		MatrixBlock X = MatrixBlock.randOperations(rows, cols, sparsity, -10, 10, "uniform", 5);
+		MatrixBlock Y = MatrixBlock.randOperations(cols, 10, 1.0, -1, 1, "uniform", 6);
+		MatrixBlock Xd = new MatrixBlock(X, SparseBlock.Type.DCSR, true);
+		
+		//matrix multiplication w/ DCSR output
+		MatrixBlock ret1 = LibMatrixMult.matrixMult(X, Y);
+		MatrixBlock ret2 = LibMatrixMult.matrixMult(Xd, Y);
+		Assert.assertTrue(ret1.getSparseBlock() instanceof SparseBlockDCSR);
+		TestUtils.compareMatrices(ret1, ret2, 1e-10);
+		MatrixBlock Xdense = new MatrixBlock(X, SparseBlock.Type.MCSR, true);
+		Xdense.sparseToDense();
+		TestUtils.compareMatrices(LibMatrixMult.matrixMult(Xdense, Y), ret1, 1e-10);
+		
+		//row aggregates over DCSR input
+		AggregateUnaryOperator op = InstructionUtils.parseBasicAggregateUnaryOperator("uark+", 1);
+		MatrixBlock rs1 = new MatrixBlock(rows, 1, false);
+		MatrixBlock rs2 = new MatrixBlock(rows, 1, false);
+		LibMatrixAgg.aggregateUnaryMatrix(X, rs1, op);
+		LibMatrixAgg.aggregateUnaryMatrix(Xd, rs2, op);
+		TestUtils.compareMatrices(rs1, rs2, 1e-10);
+	}
+	
+	private static void checkEquals(SparseBlock ref, SparseBlock sblock) {
+		Assert.assertEquals(ref.size(), sblock.size());
+		for( int i=0; i<rows; i++ ) {
+			Assert.assertEquals(ref.isEmpty(i), sblock.isEmpty(i));
+			Assert.assertEquals(ref.size(i), sblock.size(i));
+			for( int j=0; j<cols; j++ )
+				if( ref.get(i, j) != sblock.get(i, j) )
+					Assert.fail("Wrong value at ("+i+","+j+"): "+sblock.get(i, j)+", expected: "+ref.get(i, j));
+		}
+		Iterator<IJV> iter1 = ref.getIterator();
+		Iterator<IJV> iter2 = sblock.getIterator();
+		while( iter1.hasNext() ) {
+			IJV cell1 = iter1.next();
+			IJV cell2 = iter2.next();
+			Assert.assertEquals(cell1.getI(), cell2.getI());
+			Assert.assertEquals(cell1.getJ(), cell2.getJ());
+			Assert.assertEquals(cell1.getV(), cell2.getV(), 0);
+		}
+		Assert.assertFalse(iter2.hasNext());
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.caching;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.caching.AsyncWriteManager;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.io.FileFormatProperties;
+import org.apache.sysds.runtime.io.MatrixReaderFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class AsyncWriteTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "AsyncWrite";
+	private final static String TEST_DIR = "functions/caching/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + AsyncWriteTest.class.getSimpleName() + "/";
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"X"}));
+	}
+
+	@Test
+	public void testAsyncWriteBinary() throws Exception {
+		runAsyncWriteTest(TestUtils.generateTestMatrixBlock(2500, 37, -1, 1, 0.7, 7), FileFormat.BINARY, 1);
+	}
+
+	@Test
+	public void testAsyncWriteText() throws Exception {
+		runAsyncWriteTest(TestUtils.generateTestMatrixBlock(1200, 23, -1, 1, 0.05, 3), FileFormat.TEXT, 1);
+	}
+
+	@Test
+	public void testAsyncWriteMultiple() throws Exception {
+		runAsyncWriteTest(TestUtils.generateTestMatrixBlock(1500, 41, -1, 1, 0.3, 5), FileFormat.BINARY, 5);
+	}
+
+	private void runAsyncWriteTest(MatrixBlock mb, FileFormat fmt, int numWrites) throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		MatrixObject mo = new MatrixObject(ValueType.FP64, input("X"),
+			new MetaDataFormat(new MatrixCharacteristics(mb.getNumRows(), mb.getNumColumns(), 1000), fmt));
+		mo.acquireModify(mb);
+		mo.release();
+		for( int i = 0; i < numWrites; i++ )
+			AsyncWriteManager.exportData(mo, output("X" + i), fmt.toString(), new FileFormatProperties(1000));
+		// barrier for all pending writes
+		AsyncWriteManager.waitForAllWrites();
+		assertEquals(0, AsyncWriteManager.getNumPendingWrites());
+		for( int i = 0; i < numWrites; i++ ) {
+			MatrixBlock ret = MatrixReaderFactory.createMatrixReader(fmt)
+				.readMatrixFromHDFS(output("X" + i), mb.getNumRows(), mb.getNumColumns(), 1000, -1);
+			TestUtils.compareMatrices(mb, ret, 0, "async write " + i);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.caching;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+
+public class BufferpoolRawDenseTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME = "BufferpoolRawDense";
+	private final static String TEST_DIR = "functions/caching/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + BufferpoolRawDenseTest.class.getSimpleName() + "/";
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME,
+			new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "X" }) ); 
+	}
+	
+	@Test
+	public void testDenseRawRoundtrip() throws IOException {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1234, 77, -10, 10, 0.9, 7);
+		String fname = writeBlock(mb);
+		MatrixBlock ret = LocalFileUtils.readDenseMatrixBlockFromLocal(fname);
+		Assert.assertNotNull(ret);
+		Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+	
+	@Test
+	public void testDenseRawRoundtripCacheBlock() throws IOException {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1, 5000, -10, 10, 1.0, 3);
+		String fname = writeBlock(mb);
+		MatrixBlock ret = (MatrixBlock) LocalFileUtils.readCacheBlockFromLocal(fname, true);
+		Assert.assertFalse(ret.isInSparseFormat());
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+	
+	@Test
+	public void testSparseRoundtrip() throws IOException {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 1000, -10, 10, 0.01, 7);
+		String fname = writeBlock(mb);
+		Assert.assertNull(LocalFileUtils.readDenseMatrixBlockFromLocal(fname));
+		MatrixBlock ret = (MatrixBlock) LocalFileUtils.readCacheBlockFromLocal(fname, true);
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+	
+	@Test
+	public void testEmptyRoundtrip() throws IOException {
+		MatrixBlock mb = new MatrixBlock(10, 10, false);
+		String fname = writeBlock(mb);
+		MatrixBlock ret = (MatrixBlock) LocalFileUtils.readCacheBlockFromLocal(fname, true);
+		Assert.assertEquals(0, ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testTruncatedRawFails() throws IOException {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(100, 10, -10, 10, 1.0, 7);
+		String fname = writeBlock(mb);
+		try( RandomAccessFile raf = new RandomAccessFile(fname, "rw") ) {
+			raf.setLength(raf.length() - 8);
+		}
+		LocalFileUtils.readDenseMatrixBlockFromLocal(fname);
+	}
+	
+	private String writeBlock(MatrixBlock mb) throws IOException {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		String fname = output("X");
+		new File(fname).getParentFile().mkdirs();
+		LocalFileUtils.writeCacheBlockToLocal(fname, mb);
+		return fname;
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.arrow;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.ArrowFrameStreamReader;
+import org.apache.sysds.runtime.io.ArrowUtils;
+import org.apache.sysds.runtime.io.FrameReaderArrow;
+import org.apache.sysds.runtime.io.FrameWriterArrow;
+import org.apache.sysds.runtime.io.ReaderArrow;
+import org.apache.sysds.runtime.io.WriterArrow;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.Py4jConverterUtils;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class ArrowReadWriteTest extends AutomatedTestBase {
+	private final static String TEST_NAME = "ArrowReadWriteTest";
+	private final static String TEST_DIR = "functions/io/arrow/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ArrowReadWriteTest.class.getSimpleName() + "/";
+
+	private static final ValueType[] SCHEMA = {ValueType.FP64, ValueType.INT64,
+		ValueType.STRING, ValueType.BOOLEAN, ValueType.INT32, ValueType.FP32};
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"X"}));
+	}
+
+	@Test
+	public void testFrameFile() throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(3000, SCHEMA, 7);
+		String fname = output("X");
+		int oldBatch = ArrowUtils.BATCH_SIZE;
+		try {
+			ArrowUtils.BATCH_SIZE = 1000;
+			new FrameWriterArrow().writeFrameToHDFS(fb, fname, fb.getNumRows(), fb.getNumColumns());
+			FrameBlock ret = new FrameReaderArrow()
+				.readFrameFromHDFS(fname, fb.getNumRows(), fb.getNumColumns());
+			assertArrayEquals(fb.getSchema(), ret.getSchema());
+			TestUtils.compareFrames(fb, ret, false);
+		}
+		finally {
+			ArrowUtils.BATCH_SIZE = oldBatch;
+		}
+	}
+
+	@Test
+	public void testFrameStreamBatches() throws Exception {
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(2500, SCHEMA, 3);
+		int oldBatch = ArrowUtils.BATCH_SIZE;
+		try {
+			ArrowUtils.BATCH_SIZE = 1000;
+			byte[] data = Py4jConverterUtils.convertFBToArrow(fb);
+			try( ArrowFrameStreamReader reader = new ArrowFrameStreamReader(new ByteArrayInputStream(data)) ) {
+				int[] nrows = {1000, 1000, 500};
+				for( int k = 0; k < nrows.length; k++ ) {
+					FrameBlock batch = reader.readNextBatch();
+					assertEquals(nrows[k], batch.getNumRows());
+					TestUtils.compareFrames(fb.slice(k * 1000, k * 1000 + nrows[k] - 1), batch, false);
+				}
+				assertEquals(null, reader.readNextBatch());
+			}
+			TestUtils.compareFrames(fb, Py4jConverterUtils.convertArrowToFB(data), false);
+		}
+		finally {
+			ArrowUtils.BATCH_SIZE = oldBatch;
+		}
+	}
+
+	@Test
+	public void testMatrixDenseFile() throws Exception {
+		runMatrixFileTest(TestUtils.generateTestMatrixBlock(3000, 17, -10, 10, 0.9, 7));
+	}
+
+	@Test
+	public void testMatrixSparseFile() throws Exception {
+		runMatrixFileTest(TestUtils.generateTestMatrixBlock(3000, 17, -10, 10, 0.05, 7));
+	}
+
+	@Test
+	public void testMatrixEmptyFile() throws Exception {
+		runMatrixFileTest(new MatrixBlock(100, 10, true));
+	}
+
+	@Test
+	public void testMatrixStream() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1500, 33, -1, 1, 0.7, 11);
+		MatrixBlock ret = Py4jConverterUtils.convertArrowToMB(Py4jConverterUtils.convertMBToArrow(mb));
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0, "arrow stream");
+	}
+
+	@Test
+	public void testMatrixFromFrameTable() {
+		// generic arrow tables are read with one matrix column per arrow column
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(200, 5, -1, 1, 0.7, 11);
+		FrameBlock fb = new FrameBlock(new ValueType[] {ValueType.FP64, ValueType.FP64,
+			ValueType.FP64, ValueType.FP64, ValueType.FP64});
+		fb.ensureAllocatedColumns(200);
+		for( int i = 0; i < 200; i++ )
+			for( int j = 0; j < 5; j++ )
+				fb.set(i, j, mb.quickGetValue(i, j));
+		MatrixBlock ret = Py4jConverterUtils.convertArrowToMB(Py4jConverterUtils.convertFBToArrow(fb));
+		TestUtils.compareMatrices(mb, ret, 0, "arrow table");
+	}
+
+	private void runMatrixFileTest(MatrixBlock mb) throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		String fname = output("X");
+		int oldBatch = ArrowUtils.BATCH_SIZE;
+		try {
+			ArrowUtils.BATCH_SIZE = 1000;
+			new WriterArrow().writeMatrixToHDFS(mb, fname,
+				mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros());
+			MatrixBlock ret = new ReaderArrow()
+				.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), 1000, -1);
+			assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(mb, ret, 0, "arrow file");
+		}
+		finally {
+			ArrowUtils.BATCH_SIZE = oldBatch;
+		}
+	}
+}
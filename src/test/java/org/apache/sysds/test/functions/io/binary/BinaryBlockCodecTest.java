@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.binary;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.parser.DataExpression;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.BinaryBlockCodec;
+import org.apache.sysds.runtime.io.FrameReaderBinaryBlock;
+import org.apache.sysds.runtime.io.FrameWriterBinaryBlock;
+import org.apache.sysds.runtime.io.ReaderBinaryBlockParallel;
+import org.apache.sysds.runtime.io.WriterBinaryBlockParallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.apache.wink.json4j.JSONObject;
+
+public class BinaryBlockCodecTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME = "BinaryBlockCodecTest";
+	private final static String TEST_DIR = "functions/io/binary/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + BinaryBlockCodecTest.class.getSimpleName() + "/";
+	
+	private final static int blen = 100;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "X" }) );
+	}
+	
+	@Test
+	public void testDenseFP64Xor() {
+		runMatrixCodecTest(BinaryBlockCodec.FP64XOR, TestUtils.round(
+			TestUtils.generateTestMatrixBlock(450, 230, 0, 100, 0.9, 7)));
+	}
+	
+	@Test
+	public void testSparseFP64Xor() {
+		runMatrixCodecTest(BinaryBlockCodec.FP64XOR, TestUtils.generateTestMatrixBlock(450, 230, -1, 1, 0.05, 7));
+	}
+	
+	@Test
+	public void testDenseLZ4() {
+		runMatrixCodecTest(BinaryBlockCodec.LZ4, TestUtils.generateTestMatrixBlock(450, 230, -1, 1, 0.9, 3));
+	}
+	
+	@Test
+	public void testSparseDeflate() {
+		runMatrixCodecTest(BinaryBlockCodec.DEFLATE, TestUtils.generateTestMatrixBlock(450, 230, -1, 1, 0.05, 3));
+	}
+	
+	@Test
+	public void testDenseAuto() {
+		runMatrixCodecTest(BinaryBlockCodec.AUTO, TestUtils.generateTestMatrixBlock(450, 230, -1, 1, 0.9, 11));
+	}
+	
+	@Test
+	public void testConstantAuto() {
+		runMatrixCodecTest(BinaryBlockCodec.AUTO, new MatrixBlock(450, 230, 7.0));
+	}
+	
+	@Test
+	public void testAutoSelectConstant() {
+		MatrixBlock mb = new MatrixBlock(blen, blen, 7.0);
+		Assert.assertNotEquals(BinaryBlockCodec.NONE, BinaryBlockCodec.selectCodec(new JobConf(), mb));
+	}
+	
+	@Test
+	public void testFrameFP64Xor() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(450, 13, -1, 1, 0.9, 5);
+		DMLConfig old = setCodec(BinaryBlockCodec.FP64XOR);
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String fname = output("X");
+			FrameBlock fb = DataConverter.convertToFrameBlock(mb);
+			new FrameWriterBinaryBlock().writeFrameToHDFS(fb, fname, mb.getNumRows(), mb.getNumColumns());
+			FrameBlock ret = new FrameReaderBinaryBlock()
+				.readFrameFromHDFS(fname, fb.getSchema(), mb.getNumRows(), mb.getNumColumns());
+			TestUtils.compareMatrices(mb, DataConverter.convertToMatrixBlock(ret), 0, "frame");
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.setGlobalConfig(old);
+		}
+	}
+	
+	private void runMatrixCodecTest(BinaryBlockCodec codec, MatrixBlock mb) {
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Assume.assumeTrue(codec == BinaryBlockCodec.AUTO || codec.isAvailable(job));
+		DMLConfig old = setCodec(codec);
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String fname = output("X");
+			new WriterBinaryBlockParallel(1).writeMatrixToHDFS(mb, fname,
+				mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+			HDFSTool.writeMetaDataFile(fname + ".mtd", ValueType.FP64, new MatrixCharacteristics(
+				mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros()), FileFormat.BINARY);
+			MatrixBlock ret = new ReaderBinaryBlockParallel(false)
+				.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+			TestUtils.compareMatrices(mb, ret, 0, codec.name());
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			
+			//check the codec is recorded in the sequence file header
+			Path path = new Path(fname);
+			File f = new File(fname);
+			if( f.isDirectory() )
+				path = new Path(f.listFiles((d, n) -> !n.startsWith(".") && !n.startsWith("_"))[0].getAbsolutePath());
+			String applied = null;
+			try( SequenceFile.Reader reader = new SequenceFile.Reader(job, SequenceFile.Reader.file(path)) ) {
+				if( codec != BinaryBlockCodec.AUTO )
+					Assert.assertEquals(SequenceFile.CompressionType.RECORD, reader.getCompressionType());
+				if( reader.isCompressed() )
+					applied = BinaryBlockCodec.getAppliedCodecs(path, job);
+			}
+			
+			//check the applied (not configured) codec is recorded in the meta data
+			JSONObject mtd = new JSONObject(HDFSTool.readStringFromHDFSFile(fname + ".mtd"));
+			Object mtdCodec = mtd.containsKey(DataExpression.CODECPARAM) ? mtd.get(DataExpression.CODECPARAM) : null;
+			Assert.assertEquals(applied, mtdCodec);
+			if( codec != BinaryBlockCodec.AUTO )
+				Assert.assertEquals(codec.name().toLowerCase(), mtdCodec);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.setGlobalConfig(old);
+		}
+	}
+	
+	private static DMLConfig setCodec(BinaryBlockCodec codec) {
+		DMLConfig old = ConfigurationManager.getDMLConfig();
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CP_BINARY_CODEC, codec.name().toLowerCase());
+		ConfigurationManager.setGlobalConfig(conf);
+		return old;
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.io.BinaryBlockIndex;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.ReaderBinaryBlock;
+import org.apache.sysds.runtime.io.ReaderBinaryBlockParallel;
+import org.apache.sysds.runtime.io.WriterBinaryBlock;
+import org.apache.sysds.runtime.io.WriterBinaryBlockParallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class BinaryBlockMappedReadTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "BinaryBlockMappedReadTest";
+	private final static String TEST_DIR = "functions/io/binary/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + BinaryBlockMappedReadTest.class.getSimpleName() + "/";
+
+	private final static int blen = 100;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "X" }) );
+	}
+
+	@Test
+	public void testDense() {
+		runMappedReadTest(TestUtils.generateTestMatrixBlock(1250, 730, -1, 1, 0.9, 7), false);
+	}
+
+	@Test
+	public void testDenseParallel() {
+		runMappedReadTest(TestUtils.generateTestMatrixBlock(1250, 730, -1, 1, 0.9, 7), true);
+	}
+
+	@Test
+	public void testSparse() {
+		runMappedReadTest(TestUtils.generateTestMatrixBlock(1250, 730, -1, 1, 0.05, 3), false);
+	}
+
+	@Test
+	public void testSparseParallel() {
+		runMappedReadTest(TestUtils.generateTestMatrixBlock(1250, 730, -1, 1, 0.05, 3), true);
+	}
+
+	@Test
+	public void testUltraSparseParallel() {
+		runMappedReadTest(TestUtils.generateTestMatrixBlock(1250, 730, -1, 1, 0.0005, 5), true);
+	}
+
+	@Test
+	public void testVectorParallel() {
+		runMappedReadTest(TestUtils.generateTestMatrixBlock(1250, 1, -1, 1, 0.5, 9), true);
+	}
+
+	@Test
+	public void testSparseWithDenseBlocksParallel() {
+		// dense blocks decoded into the sparse output
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1250, 730, -1, 1, 0.02, 11);
+		mb.copy(0, 99, 100, 199, TestUtils.generateTestMatrixBlock(100, 100, 1, 2, 1.0, 12), true);
+		mb.recomputeNonZeros();
+		runMappedReadTest(mb, true);
+	}
+
+	@Test
+	public void testStaleIndexSameLength() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(250, 130, -1, 1, 0.9, 7);
+		DMLConfig old = setMappedReads();
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String fname = output("X");
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path);
+			new WriterBinaryBlock(1).writeMatrixToHDFS(mb, fname, mb.getNumRows(), mb.getNumColumns(), blen,
+				mb.getNonZeros());
+			File data = new File(fname);
+			File index = new File(BinaryBlockIndex.getIndexPath(path).toString());
+			File tmp = new File(fname + "_tmp");
+			assertTrue(index.renameTo(tmp));
+
+			// rewrite with the same length and mtime, but a new sync marker
+			long mtime = data.lastModified();
+			long flen = data.length();
+			new WriterBinaryBlock(1).writeMatrixToHDFS(mb, fname, mb.getNumRows(), mb.getNumColumns(), blen,
+				mb.getNonZeros());
+			assertNotNull(BinaryBlockIndex.read(fs, path));
+			assertTrue(index.delete());
+			assertTrue(tmp.renameTo(index));
+			assertTrue(data.setLastModified(mtime));
+			assertEquals(flen, data.length());
+			assertNull(BinaryBlockIndex.read(fs, path));
+
+			// the index side file is removed with the data file
+			HDFSTool.deleteFileIfExistOnHDFS(fname);
+			assertFalse(index.exists());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.setGlobalConfig(old);
+		}
+	}
+
+	private void runMappedReadTest(MatrixBlock mb, boolean parallel) {
+		DMLConfig old = setMappedReads();
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String fname = output("X");
+			MatrixWriter writer = parallel ? new WriterBinaryBlockParallel(1) : new WriterBinaryBlock(1);
+			writer.writeMatrixToHDFS(mb, fname, mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+
+			// check the block index was written next to the (part) file(s)
+			File f = new File(fname);
+			File data = f.isDirectory() ? f.listFiles((d, n) -> !n.startsWith(".") && !n.startsWith("_"))[0] : f;
+			Path index = BinaryBlockIndex.getIndexPath(new Path(data.getAbsolutePath()));
+			assertTrue(new File(index.toString()).exists());
+
+			MatrixReader reader = parallel ? new ReaderBinaryBlockParallel(false) : new ReaderBinaryBlock(false);
+			MatrixBlock ret = reader.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(),
+				blen, mb.getNonZeros());
+			TestUtils.compareMatrices(mb, ret, 0, "mapped read");
+			if(ret.isInSparseFormat())
+				assertTrue(ret.getSparseBlock() instanceof SparseBlockCSR);
+			assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			ConfigurationManager.setGlobalConfig(old);
+		}
+	}
+
+	private static DMLConfig setMappedReads() {
+		DMLConfig old = ConfigurationManager.getDMLConfig();
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CP_BINARY_MMAP, "true");
+		ConfigurationManager.setGlobalConfig(conf);
+		return old;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.csv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.ReaderTextCSV;
+import org.apache.sysds.runtime.io.ReaderTextCSVSinglePass;
+import org.apache.sysds.runtime.io.WriterTextCSV;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class ReaderTextCSVSinglePassTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "ReaderTextCSVSinglePassTest";
+	private final static String TEST_DIR = "functions/io/csv/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ReaderTextCSVSinglePassTest.class.getSimpleName() + "/";
+
+	// small byte ranges to force lines spanning range boundaries
+	private final static long rangeSize = 997;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "X" }) );
+	}
+
+	@Test
+	public void testDense() {
+		runReadTest(TestUtils.generateTestMatrixBlock(1000, 17, -10, 10, 0.9, 7), false);
+	}
+
+	@Test
+	public void testDenseHeader() {
+		runReadTest(TestUtils.generateTestMatrixBlock(1000, 17, -10, 10, 0.9, 7), true);
+	}
+
+	@Test
+	public void testSparse() {
+		runReadTest(TestUtils.generateTestMatrixBlock(2000, 100, -10, 10, 0.02, 3), false);
+	}
+
+	@Test
+	public void testSingleColumn() {
+		runReadTest(TestUtils.generateTestMatrixBlock(5000, 1, 0, 1, 0.5, 11), true);
+	}
+
+	@Test
+	public void testFillAndNAStrings() {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String fname = output("X");
+			new File(fname).getParentFile().mkdirs();
+			Files.write(new File(fname).toPath(), "1, ,3\r\nNA,5.5,\n-7e1,8,9\n".getBytes(StandardCharsets.UTF_8));
+			FileFormatPropertiesCSV props = new FileFormatPropertiesCSV(false, ",", true, 2, "NA");
+			MatrixBlock ret = new ReaderTextCSVSinglePass(props, 2).readMatrixFromHDFS(fname, 3, 3, 1000, -1);
+			TestUtils.compareMatrices(ret, new double[][] {{1, 2, 3}, {Double.NaN, 5.5, 2}, {-70, 8, 9}}, 0, "fill/na");
+			assertTrue(Double.isNaN(ret.quickGetValue(1, 0)));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private void runReadTest(MatrixBlock mb, boolean header) {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String fname = output("X");
+			FileFormatPropertiesCSV props = new FileFormatPropertiesCSV(header, ",", false);
+			new WriterTextCSV(props).writeMatrixToHDFS(mb, fname,
+				mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros());
+
+			MatrixBlock ret = new ReaderTextCSVSinglePass(props, 4, rangeSize)
+				.readMatrixFromHDFS(fname, -1, -1, 1000, -1);
+			MatrixBlock ref = new ReaderTextCSV(props)
+				.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), 1000, -1);
+
+			assertEquals(mb.getNumRows(), ret.getNumRows());
+			assertEquals(mb.getNumColumns(), ret.getNumColumns());
+			assertEquals(ref.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(ref, ret, 0, "single-pass read");
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
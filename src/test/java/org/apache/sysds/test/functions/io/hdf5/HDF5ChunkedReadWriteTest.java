@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.hdf5;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+
+import org.apache.sysds.runtime.io.FileFormatPropertiesHDF5;
+import org.apache.sysds.runtime.io.ReaderHDF5;
+import org.apache.sysds.runtime.io.ReaderHDF5Parallel;
+import org.apache.sysds.runtime.io.WriterHDF5;
+import org.apache.sysds.runtime.io.WriterHDF5Parallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class HDF5ChunkedReadWriteTest extends AutomatedTestBase {
+	private final static String TEST_NAME = "HDF5ChunkedReadWriteTest";
+	private final static String TEST_DIR = "functions/io/hdf5/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + HDF5ChunkedReadWriteTest.class.getSimpleName() + "/";
+
+	private static final String DATASET = "DATASET_1";
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"X"}));
+	}
+
+	@Test
+	public void testChunkedDenseParallel() throws Exception {
+		runChunkedTest(TestUtils.generateTestMatrixBlock(3001, 17, -10, 10, 0.9, 7), 1024, 1, true);
+	}
+
+	@Test
+	public void testChunkedSparseParallel() throws Exception {
+		runChunkedTest(TestUtils.generateTestMatrixBlock(3001, 17, -10, 10, 0.05, 7), 1024, 1, true);
+	}
+
+	@Test
+	public void testChunkedUncompressedParallel() throws Exception {
+		runChunkedTest(TestUtils.generateTestMatrixBlock(3001, 17, -10, 10, 0.5, 3), 1024, 0, true);
+	}
+
+	@Test
+	public void testChunkedSequential() throws Exception {
+		runChunkedTest(TestUtils.generateTestMatrixBlock(1000, 23, -10, 10, 0.5, 3), 2048, 6, false);
+	}
+
+	@Test
+	public void testChunkedWideRows() throws Exception {
+		// rows exceed the chunk size, which results in 2D chunks
+		runChunkedTest(TestUtils.generateTestMatrixBlock(50, 300, -10, 10, 0.7, 5), 1000, 1, true);
+	}
+
+	@Test
+	public void testContiguous() throws Exception {
+		runChunkedTest(TestUtils.generateTestMatrixBlock(100, 13, -10, 10, 0.9, 7), 0, 1, false);
+	}
+
+	@Test
+	public void testDefaultContiguous() throws Exception {
+		// without sysds.cp.hdf5.chunksize, datasets are written contiguous and uncompressed
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(100, 13, -10, 10, 0.9, 7);
+		String fname = output("X");
+		new WriterHDF5(new FileFormatPropertiesHDF5(DATASET))
+			.writeMatrixToHDFS(mb, fname, mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros());
+		assertEquals(2048 + 8L * mb.getNumRows() * mb.getNumColumns(), new File(fname).length());
+	}
+
+	private void runChunkedTest(MatrixBlock mb, int chunkSize, int level, boolean parallel)
+		throws Exception
+	{
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		String fname = output("X");
+		FileFormatPropertiesHDF5 props = new FileFormatPropertiesHDF5(DATASET);
+		WriterHDF5 writer = parallel ? new WriterHDF5Parallel(props, chunkSize, level) :
+			new WriterHDF5(props, chunkSize, level);
+		writer.writeMatrixToHDFS(mb, fname, mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros());
+		ReaderHDF5 reader = parallel ? new ReaderHDF5Parallel(props) : new ReaderHDF5(props);
+		MatrixBlock ret = reader.readMatrixFromHDFS(fname, -1, -1, 1000, -1);
+		assertEquals(mb.getNumRows(), ret.getNumRows());
+		assertEquals(mb.getNumColumns(), ret.getNumColumns());
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0, "hdf5");
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.libsvm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.io.FileFormatPropertiesLIBSVM;
+import org.apache.sysds.runtime.io.ReaderTextLIBSVM;
+import org.apache.sysds.runtime.io.ReaderTextLIBSVMParallel;
+import org.apache.sysds.runtime.io.WriterTextLIBSVM;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class ReaderTextLIBSVMCSRTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "ReaderTextLIBSVMCSRTest";
+	private final static String TEST_DIR = "functions/io/libsvm/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ReaderTextLIBSVMCSRTest.class.getSimpleName() + "/";
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "X" }) );
+	}
+
+	@Test
+	public void testSparse() {
+		MatrixBlock ret = runReadTest(TestUtils.generateTestMatrixBlock(3000, 200, -1, 1, 0.05, 7));
+		assertTrue(ret.getSparseBlock() instanceof SparseBlockCSR);
+	}
+
+	@Test
+	public void testUltraSparse() {
+		runReadTest(TestUtils.generateTestMatrixBlock(3000, 500, -1, 1, 0.0005, 3));
+	}
+
+	@Test
+	public void testDense() {
+		MatrixBlock ret = runReadTest(TestUtils.generateTestMatrixBlock(700, 20, -1, 1, 0.9, 11));
+		assertTrue(!ret.isInSparseFormat());
+	}
+
+	private MatrixBlock runReadTest(MatrixBlock mb) {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			String fname = output("X");
+			FileFormatPropertiesLIBSVM props = new FileFormatPropertiesLIBSVM(" ", ":");
+			new WriterTextLIBSVM(props).writeMatrixToHDFS(mb, fname,
+				mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros());
+
+			// single-pass csr read (default) vs sequential reader
+			MatrixBlock ret = new ReaderTextLIBSVMParallel(props)
+				.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), 1000, -1);
+			MatrixBlock ref = new ReaderTextLIBSVM(props)
+				.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), 1000, -1);
+
+			assertEquals(mb.getNumRows(), ret.getNumRows());
+			assertEquals(ref.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatrices(ref, ret, 0, "csr read");
+			TestUtils.compareMatrices(mb, ret, 0, "csr read");
+			return ret;
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.parquet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FrameReaderParquet;
+import org.apache.sysds.runtime.io.FrameWriterParquet;
+import org.apache.sysds.runtime.io.ParquetUtils;
+import org.apache.sysds.runtime.io.ReaderParquet;
+import org.apache.sysds.runtime.io.WriterParquet;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class ParquetReadWriteTest extends AutomatedTestBase {
+	private final static String TEST_NAME = "ParquetReadWriteTest";
+	private final static String TEST_DIR = "functions/io/parquet/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ParquetReadWriteTest.class.getSimpleName() + "/";
+
+	private static final ValueType[] SCHEMA = {ValueType.FP64, ValueType.INT64,
+		ValueType.STRING, ValueType.BOOLEAN, ValueType.INT32, ValueType.FP32};
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"X"}));
+	}
+
+	@Test
+	public void testFrameSingleRowGroup() throws Exception {
+		runFrameTest(TestUtils.generateRandomFrameBlock(500, SCHEMA, 7), 1);
+	}
+
+	@Test
+	public void testFrameParallelRowGroups() throws Exception {
+		runFrameTest(TestUtils.generateRandomFrameBlock(5000, SCHEMA, 7), 4);
+	}
+
+	@Test
+	public void testFrameProjection() throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(3000, SCHEMA, 3);
+		String fname = output("X");
+		int oldSize = ParquetUtils.ROW_GROUP_SIZE;
+		try {
+			ParquetUtils.ROW_GROUP_SIZE = 4096;
+			new FrameWriterParquet().writeFrameToHDFS(fb, fname, fb.getNumRows(), fb.getNumColumns());
+			String[] names = fb.getColumnNames();
+			FrameBlock ret = new FrameReaderParquet(new String[] {names[2], names[0]}, 4)
+				.readFrameFromHDFS(fname, -1, -1);
+			assertArrayEquals(new ValueType[] {ValueType.STRING, ValueType.FP64}, ret.getSchema());
+			assertArrayEquals(new String[] {names[2], names[0]}, ret.getColumnNames());
+			for( int i = 0; i < fb.getNumRows(); i++ ) {
+				assertEquals(fb.get(i, 2), ret.get(i, 0));
+				assertEquals(fb.get(i, 0), ret.get(i, 1));
+			}
+		}
+		finally {
+			ParquetUtils.ROW_GROUP_SIZE = oldSize;
+		}
+	}
+
+	@Test
+	public void testFramePartFilesSchemaMismatch() throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		String fname = output("X");
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+		FrameBlock fb1 = TestUtils.generateRandomFrameBlock(100, SCHEMA, 7);
+		FrameBlock fb2 = TestUtils.generateRandomFrameBlock(100,
+			new ValueType[] {ValueType.STRING, ValueType.INT64}, 7);
+		new FrameWriterParquet().writeFrameToHDFS(fb1, fname + "/0-m-00000", 100, fb1.getNumColumns());
+		new FrameWriterParquet().writeFrameToHDFS(fb2, fname + "/0-m-00001", 100, fb2.getNumColumns());
+		IOException ex = assertThrows(IOException.class,
+			() -> new FrameReaderParquet(null, 1).readFrameFromHDFS(fname, -1, -1));
+		assertTrue(ex.getMessage().contains("0-m-00001"));
+	}
+
+	@Test
+	public void testMatrixDense() throws Exception {
+		runMatrixTest(TestUtils.generateTestMatrixBlock(4000, 23, -10, 10, 0.9, 7), 4);
+	}
+
+	@Test
+	public void testMatrixSparse() throws Exception {
+		runMatrixTest(TestUtils.generateTestMatrixBlock(4000, 23, -10, 10, 0.05, 7), 4);
+	}
+
+	@Test
+	public void testMatrixSequential() throws Exception {
+		runMatrixTest(TestUtils.generateTestMatrixBlock(1000, 7, -10, 10, 0.5, 3), 1);
+	}
+
+	@Test(expected = IOException.class)
+	public void testMatrixStringColumn() throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(10, SCHEMA, 7);
+		String fname = output("X");
+		new FrameWriterParquet().writeFrameToHDFS(fb, fname, fb.getNumRows(), fb.getNumColumns());
+		new ReaderParquet().readMatrixFromHDFS(fname, -1, -1, 1000, -1);
+	}
+
+	private void runFrameTest(FrameBlock fb, int k) throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		String fname = output("X");
+		int oldSize = ParquetUtils.ROW_GROUP_SIZE;
+		try {
+			// small row groups to force parallel row group reads
+			ParquetUtils.ROW_GROUP_SIZE = 4096;
+			new FrameWriterParquet().writeFrameToHDFS(fb, fname, fb.getNumRows(), fb.getNumColumns());
+			FrameBlock ret = new FrameReaderParquet(null, k)
+				.readFrameFromHDFS(fname, fb.getNumRows(), fb.getNumColumns());
+			assertArrayEquals(fb.getSchema(), ret.getSchema());
+			assertArrayEquals(fb.getColumnNames(), ret.getColumnNames());
+			TestUtils.compareFrames(fb, ret, false);
+		}
+		finally {
+			ParquetUtils.ROW_GROUP_SIZE = oldSize;
+		}
+	}
+
+	private void runMatrixTest(MatrixBlock mb, int k) throws Exception {
+		loadTestConfiguration(getTestConfiguration(TEST_NAME));
+		String fname = output("X");
+		int oldSize = ParquetUtils.ROW_GROUP_SIZE;
+		try {
+			ParquetUtils.ROW_GROUP_SIZE = 4096;
+			new WriterParquet().writeMatrixToHDFS(mb, fname,
+				mb.getNumRows(), mb.getNumColumns(), 1000, mb.getNonZeros());
+			MatrixBlock ret = new ReaderParquet(null, k)
+				.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), 1000, -1);
+			assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			assertTrue(mb.getNumRows() == ret.getNumRows() && mb.getNumColumns() == ret.getNumColumns());
+			TestUtils.compareMatrices(mb, ret, 0, "parquet");
+		}
+		finally {
+			ParquetUtils.ROW_GROUP_SIZE = oldSize;
+		}
+	}
+}
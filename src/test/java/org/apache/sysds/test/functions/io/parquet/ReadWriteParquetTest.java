@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.io.parquet;
+
+import java.util.HashMap;
+
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.parser.DataExpression;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.apache.wink.json4j.JSONObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReadWriteParquetTest extends AutomatedTestBase {
+	private final static String TEST_NAME1 = "WriteParquetTest";
+	private final static String TEST_NAME2 = "ReadParquetTest";
+	private final static String TEST_NAME3 = "ReadParquetColumnsTest";
+	private final static String TEST_DIR = "functions/io/parquet/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ReadWriteParquetTest.class.getSimpleName() + "/";
+
+	private final static int rows = 1200;
+	private final static int cols = 7;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] {"B", "F"}));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] {"R", "S"}));
+		addTestConfiguration(TEST_NAME3, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME3, new String[] {"R"}));
+	}
+
+	@Test
+	public void testReadWriteDense() {
+		runReadWriteParquetTest(0.9, false);
+	}
+
+	@Test
+	public void testReadWriteSparse() {
+		runReadWriteParquetTest(0.05, false);
+	}
+
+	@Test
+	public void testReadWithoutMetaData() {
+		runReadWriteParquetTest(0.9, true);
+	}
+
+	@Test
+	public void testReadColumnProjection() {
+		ExecMode oldMode = setExecMode(ExecMode.SINGLE_NODE);
+		try {
+			double[][] A = writeParquet(0.9);
+
+			getAndLoadTestConfiguration(TEST_NAME3);
+			fullDMLScriptName = SCRIPT_DIR + TEST_DIR + TEST_NAME3 + ".dml";
+			programArgs = new String[] {"-args", output("B"), "C3,C1", output("R")};
+			runTest(true, false, null, -1);
+
+			HashMap<CellIndex, Double> R = readDMLMatrixFromOutputDir("R");
+			for( int i = 0; i < rows; i++ ) {
+				Assert.assertEquals(A[i][2], R.getOrDefault(new CellIndex(i + 1, 1), 0d), 0);
+				Assert.assertEquals(A[i][0], R.getOrDefault(new CellIndex(i + 1, 2), 0d), 0);
+				Assert.assertFalse(R.containsKey(new CellIndex(i + 1, 3)));
+			}
+		}
+		finally {
+			resetExecMode(oldMode);
+		}
+	}
+
+	private void runReadWriteParquetTest(double sparsity, boolean deleteMtd) {
+		ExecMode oldMode = setExecMode(ExecMode.SINGLE_NODE);
+		try {
+			double[][] A = writeParquet(sparsity);
+			if( deleteMtd ) {
+				HDFSTool.deleteFileIfExistOnHDFS(output("B") + ".mtd");
+				HDFSTool.deleteFileIfExistOnHDFS(output("F") + ".mtd");
+			}
+
+			getAndLoadTestConfiguration(TEST_NAME2);
+			fullDMLScriptName = SCRIPT_DIR + TEST_DIR + TEST_NAME2 + ".dml";
+			programArgs = new String[] {"-args", output("B"), output("F"), output("R"), output("S")};
+			runTest(true, false, null, -1);
+
+			HashMap<CellIndex, Double> R = readDMLMatrixFromOutputDir("R");
+			HashMap<CellIndex, Double> S = readDMLMatrixFromOutputDir("S");
+			double[][] RA = TestUtils.convertHashMapToDoubleArray(R, rows, cols);
+			double[][] SA = TestUtils.convertHashMapToDoubleArray(S, rows, cols);
+			TestUtils.compareMatrices(A, RA, rows, cols, 0);
+			TestUtils.compareMatrices(A, SA, rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			resetExecMode(oldMode);
+		}
+	}
+
+	private double[][] writeParquet(double sparsity) {
+		getAndLoadTestConfiguration(TEST_NAME1);
+		double[][] A = getRandomMatrix(rows, cols, -10, 10, sparsity, 7);
+		writeInputMatrixWithMTD("A", A, false);
+
+		fullDMLScriptName = SCRIPT_DIR + TEST_DIR + TEST_NAME1 + ".dml";
+		programArgs = new String[] {"-args", input("A"), output("B"), output("F")};
+		runTest(true, false, null, -1);
+
+		// check written meta data files
+		try {
+			for( String name : new String[] {"B", "F"} ) {
+				JSONObject mtd = new JSONObject(HDFSTool.readStringFromHDFSFile(output(name) + ".mtd"));
+				Assert.assertEquals(FileFormat.PARQUET.toString().toLowerCase(),
+					mtd.get(DataExpression.FORMAT_TYPE).toString().toLowerCase());
+				Assert.assertEquals(rows, ((Number) mtd.get(DataExpression.READROWPARAM)).intValue());
+				Assert.assertEquals(cols, ((Number) mtd.get(DataExpression.READCOLPARAM)).intValue());
+			}
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		return A;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.iogen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Files;
+
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.iogen.CustomProperties;
+import org.apache.sysds.runtime.iogen.GenerateReader;
+import org.apache.sysds.runtime.iogen.GenerateReaderCache;
+import org.apache.sysds.runtime.iogen.MatrixGenerateReader;
+import org.apache.sysds.runtime.iogen.SampleProperties;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class GenerateReaderCacheParallelTest {
+	private static final String SAMPLE_RAW = "1,2,3,4,5\n" + "6,7,8,9,10\n" + "11,12,13,14,15";
+	private static final double[][] SAMPLE = {{1, 2, 3, 4, 5}, {6, 7, 8, 9, 10}, {11, 12, 13, 14, 15}};
+
+	@Test
+	public void testCachedProperties() throws Exception {
+		MatrixBlock sample = DataConverter.convertToMatrixBlock(SAMPLE);
+		GenerateReaderCache.clear();
+		new GenerateReader.GenerateReaderMatrix(SAMPLE_RAW, sample).getReader();
+		assertEquals(1, GenerateReaderCache.size());
+		// second reader generation with the same sample reuses the inferred properties
+		new GenerateReader.GenerateReaderMatrix(SAMPLE_RAW, sample).getReader();
+		assertEquals(1, GenerateReaderCache.size());
+		assertNotNull(GenerateReaderCache.get(
+			GenerateReaderCache.getFingerprint(new SampleProperties(SAMPLE_RAW, sample))));
+	}
+
+	@Test
+	public void testPersistedProperties() throws Exception {
+		MatrixBlock sample = DataConverter.convertToMatrixBlock(SAMPLE);
+		File dir = Files.createTempDirectory("iogen").toFile();
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String oldDir = conf.getTextValue(DMLConfig.IOGEN_CACHEDIR);
+		try {
+			conf.setTextValue(DMLConfig.IOGEN_CACHEDIR, dir.getAbsolutePath());
+			GenerateReaderCache.clear();
+			new GenerateReader.GenerateReaderMatrix(SAMPLE_RAW, sample);
+			// simulate a new script invocation w/o in-memory entries
+			GenerateReaderCache.clear();
+			String key = GenerateReaderCache.getFingerprint(new SampleProperties(SAMPLE_RAW, sample));
+			CustomProperties props = GenerateReaderCache.get(key);
+			assertNotNull(props);
+			assertEquals(",", props.getDelim());
+		}
+		finally {
+			conf.setTextValue(DMLConfig.IOGEN_CACHEDIR, oldDir);
+			GenerateReaderCache.clear();
+			HDFSTool.deleteFileIfExistOnHDFS(dir.getAbsolutePath());
+		}
+	}
+
+	@Test
+	public void testParallelSplitRead() throws Exception {
+		MatrixBlock sample = DataConverter.convertToMatrixBlock(SAMPLE);
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(5000, 5, 1, 100, 0.7, 7);
+		File f = File.createTempFile("iogen", ".raw");
+		try {
+			try(BufferedWriter writer = new BufferedWriter(new FileWriter(f))) {
+				for(int i = 0; i < mb.getNumRows(); i++) {
+					for(int j = 0; j < mb.getNumColumns(); j++)
+						writer.write((j > 0 ? "," : "") + mb.quickGetValue(i, j));
+					writer.write("\n");
+				}
+			}
+			GenerateReaderCache.clear();
+			new GenerateReader.GenerateReaderMatrix(SAMPLE_RAW, sample);
+			CustomProperties props = GenerateReaderCache.get(
+				GenerateReaderCache.getFingerprint(new SampleProperties(SAMPLE_RAW, sample)));
+			MatrixBlock ret1 = new MatrixGenerateReader.MatrixReaderRowRegularColRegular(props, 1)
+				.readMatrixFromHDFS(f.getAbsolutePath(), -1, 5, -1, -1);
+			MatrixBlock ret2 = new MatrixGenerateReader.MatrixReaderRowRegularColRegular(props, 4)
+				.readMatrixFromHDFS(f.getAbsolutePath(), -1, 5, -1, -1);
+			assertEquals(mb.getNonZeros(), ret2.getNonZeros());
+			TestUtils.compareMatrices(mb, ret1, 1e-10, "sequential");
+			TestUtils.compareMatrices(mb, ret2, 1e-10, "parallel");
+		}
+		finally {
+			GenerateReaderCache.clear();
+			HDFSTool.deleteFileIfExistOnHDFS(f.getAbsolutePath());
+		}
+	}
+}
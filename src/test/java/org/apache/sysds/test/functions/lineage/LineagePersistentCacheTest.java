@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.lineage;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.apache.sysds.runtime.lineage.Lineage;
+import org.apache.sysds.runtime.lineage.LineageCache;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineageCacheStatistics;
+import org.apache.sysds.runtime.matrix.data.MatrixValue;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class LineagePersistentCacheTest extends LineageBase {
+
+	protected static final String TEST_DIR = "functions/lineage/";
+	protected static final String TEST_NAME1 = "PersistentReuse1";
+
+	protected String TEST_CLASS_DIR = TEST_DIR + LineagePersistentCacheTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemDS-config-persist.xml";
+	private final static File   TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+	private final static String PERSIST_DIR = "target/testTemp/" + TEST_DIR
+		+ LineagePersistentCacheTest.class.getSimpleName() + "/persist";
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+	}
+
+	@Test
+	public void testReuseAcrossInvocations() {
+		runTest(TEST_NAME1);
+	}
+
+	public void runTest(String testname) {
+		try {
+			getAndLoadTestConfiguration(testname);
+			fullDMLScriptName = getScript();
+			LocalFileUtils.deleteFileIfExists(PERSIST_DIR);
+			programArgs = new String[] {"-stats", "-lineage", 
+				ReuseCacheType.REUSE_FULL.name().toLowerCase(), "-args", input("X"), output("R")};
+			
+			// first invocation populates the persistent cache
+			writeInputMatrixWithMTD("X", getRandomMatrix(2000, 1000, -1, 1, 1.0, 7), true);
+			runInvocation();
+			HashMap<MatrixValue.CellIndex, Double> R1 = readDMLMatrixFromOutputDir("R");
+			Assert.assertTrue(LineageCacheStatistics.getPersistWrites() > 0);
+			Assert.assertEquals(0, LineageCacheStatistics.getPersistHits());
+			
+			// second invocation reuses the persisted intermediates
+			runInvocation();
+			HashMap<MatrixValue.CellIndex, Double> R2 = readDMLMatrixFromOutputDir("R");
+			Assert.assertTrue(LineageCacheStatistics.getPersistHits() > 0);
+			TestUtils.compareMatrices(R1, R2, 1e-10, "R1", "R2");
+			
+			// modified inputs invalidate the persisted intermediates
+			writeInputMatrixWithMTD("X", getRandomMatrix(2000, 1000, -1, 1, 1.0, 8), true);
+			runInvocation();
+			Assert.assertEquals(0, LineageCacheStatistics.getPersistHits());
+		}
+		finally {
+			Lineage.setLinReuseNone();
+			LineageCache.resetCache();
+			LocalFileUtils.deleteFileIfExists(PERSIST_DIR);
+		}
+	}
+
+	private void runInvocation() {
+		// reset all in-memory state, as in a new script invocation
+		Lineage.resetInternalState();
+		LineageCache.resetCache();
+		runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+	}
+
+	@Override
+	protected File getConfigTemplateFile() {
+		return TEST_CONF_FILE;
+	}
+}
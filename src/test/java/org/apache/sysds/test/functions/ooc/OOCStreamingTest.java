@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.ooc;
+
+import java.util.HashMap;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OOCStreamingTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME1 = "OOCTsmm";
+	private final static String TEST_NAME2 = "OOCMatMult";
+	private final static String TEST_NAME3 = "OOCRowAgg";
+	private final static String TEST_NAME4 = "OOCColAgg";
+	private final static String TEST_NAME5 = "OOCFullAgg";
+	private final static String TEST_DIR = "functions/ooc/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + OOCStreamingTest.class.getSimpleName() + "/";
+
+	private final static int rows = 10021;
+	private final static int cols = 150;
+	private final static int blen = 1000;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.05;
+	private final static double eps = 1e-8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] {"R"}));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] {"R"}));
+		addTestConfiguration(TEST_NAME3, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME3, new String[] {"R"}));
+		addTestConfiguration(TEST_NAME4, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME4, new String[] {"R"}));
+		addTestConfiguration(TEST_NAME5, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME5, new String[] {"R"}));
+	}
+
+	@Test
+	public void testTsmmDense() {
+		runOOCTest(TEST_NAME1, false, "ooc_tsmm");
+	}
+
+	@Test
+	public void testTsmmSparse() {
+		runOOCTest(TEST_NAME1, true, "ooc_tsmm");
+	}
+
+	@Test
+	public void testMatMultDense() {
+		runOOCTest(TEST_NAME2, false, "ooc_ba+*");
+	}
+
+	@Test
+	public void testRowAggDense() {
+		runOOCTest(TEST_NAME3, false, "ooc_uark+");
+	}
+
+	@Test
+	public void testRowAggSparse() {
+		runOOCTest(TEST_NAME3, true, "ooc_uark+");
+	}
+
+	@Test
+	public void testColAggDense() {
+		runOOCTest(TEST_NAME4, false, "ooc_uacmean");
+	}
+
+	@Test
+	public void testFullAggSparse() {
+		runOOCTest(TEST_NAME5, true, "ooc_uamax");
+	}
+
+	private void runOOCTest(String testname, boolean sparse, String heavyHitter) {
+		ExecMode platformOld = setExecMode(ExecMode.SINGLE_NODE);
+		//modify memory budget to force streaming of the input
+		long oldmem = InfrastructureAnalyzer.getLocalMaxMemory();
+		InfrastructureAnalyzer.setLocalMaxMemory(12 * 1024 * 1024); //12MB
+
+		try {
+			loadTestConfiguration(getTestConfiguration(testname));
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + testname + ".dml";
+			programArgs = new String[] {"-ooc", "-stats", "-args", input("X"), output("R")};
+
+			double[][] X = getRandomMatrix(rows, cols, 0, 1, sparse ? sparsity2 : sparsity1, 7);
+			writeInputBinaryMatrixWithMTD("X", X, blen, blen, sparse,
+				new MatrixCharacteristics(rows, cols, blen, -1));
+
+			runTest(true, false, null, -1);
+
+			double[][] expected = computeExpected(testname, X);
+			HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromOutputDir("R");
+			double[][] actual = TestUtils.convertHashMapToDoubleArray(dmlfile, expected.length, expected[0].length);
+			TestUtils.compareMatrices(expected, actual, eps);
+			Assert.assertTrue("Missing OOC instruction " + heavyHitter, heavyHittersContainsString(heavyHitter));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = platformOld;
+			InfrastructureAnalyzer.setLocalMaxMemory(oldmem);
+			DMLScript.USE_OOC = false;
+		}
+	}
+
+	private static double[][] computeExpected(String testname, double[][] X) {
+		switch(testname) {
+			case TEST_NAME1: {
+				double[][] R = new double[cols][cols];
+				for(int i = 0; i < rows; i++)
+					for(int j = 0; j < cols; j++)
+						for(int k = 0; k < cols; k++)
+							R[j][k] += X[i][j] * X[i][k];
+				return R;
+			}
+			case TEST_NAME2: {
+				double[][] R = new double[rows][1];
+				for(int i = 0; i < rows; i++)
+					for(int j = 0; j < cols; j++)
+						R[i][0] += X[i][j] * (j + 1);
+				return R;
+			}
+			case TEST_NAME3: {
+				double[][] R = new double[rows][1];
+				for(int i = 0; i < rows; i++)
+					for(int j = 0; j < cols; j++)
+						R[i][0] += Math.exp(X[i][j] * 0.5);
+				return R;
+			}
+			case TEST_NAME4: {
+				double[][] R = new double[1][cols];
+				for(int i = 0; i < rows; i++)
+					for(int j = 0; j < cols; j++)
+						R[0][j] += Math.abs(X[i][j] - 0.5) / rows;
+				return R;
+			}
+			case TEST_NAME5: {
+				double max = Double.NEGATIVE_INFINITY, sum = 0;
+				for(int i = 0; i < rows; i++)
+					for(int j = 0; j < cols; j++) {
+						max = Math.max(max, Math.sqrt(X[i][j] + 1));
+						sum += X[i][j] * X[i][j];
+					}
+				return new double[][] {{max + sum}};
+			}
+			default:
+				throw new RuntimeException("Unsupported test: " + testname);
+		}
+	}
+}
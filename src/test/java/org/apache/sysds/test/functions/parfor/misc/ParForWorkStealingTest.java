@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.functions.parfor.misc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+
+public class ParForWorkStealingTest extends AutomatedTestBase 
+{
+	private final static String TEST_DIR = "functions/parfor/";
+	private final static String TEST_NAME = "parfor_workstealing";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ParForWorkStealingTest.class.getSimpleName() + "/";
+	private final static String TEST_CONF = "SystemDS-config-workstealing.xml";
+	
+	private final static int rows = 1000;
+	private final static int cols = 50;
+	
+	private boolean _workStealing = false;
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "R", "S" }) );
+	}
+
+	@Test
+	public void testParForSharedTaskQueue() {
+		runParForWorkStealingTest(false);
+	}
+	
+	@Test
+	public void testParForWorkStealingTaskQueue() {
+		runParForWorkStealingTest(true);
+	}
+	
+	private void runParForWorkStealingTest( boolean workStealing ) {
+		_workStealing = workStealing;
+		TestConfiguration config = getTestConfiguration(TEST_NAME);
+		loadTestConfiguration(config);
+		
+		String HOME = SCRIPT_DIR + TEST_DIR;
+		fullDMLScriptName = HOME + TEST_NAME + ".dml";
+		programArgs = new String[]{"-stats", "-args", String.valueOf(rows),
+			String.valueOf(cols), output("R"), output("S") };
+
+		setOutputBuffering(true);
+		String out = runTest(true, false, null, -1).toString();
+		
+		//compare parfor and for results
+		HashMap<CellIndex, Double> R = readDMLMatrixFromOutputDir("R");
+		HashMap<CellIndex, Double> S = readDMLMatrixFromOutputDir("S");
+		TestUtils.compareMatrices(R, S, 1e-10, "ParFor", "For");
+		
+		//task queue statistics only for work stealing
+		Assert.assertEquals(workStealing, out.contains("ParFor task queue steals"));
+	}
+	
+	@Override
+	protected File getConfigTemplateFile() {
+		return _workStealing ? new File(SCRIPT_DIR + TEST_DIR, TEST_CONF) :
+			super.getConfigTemplateFile();
+	}
+}